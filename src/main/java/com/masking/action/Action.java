@@ -3,7 +3,10 @@ package com.masking.action;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Counter;
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,6 +19,29 @@ public interface Action {
      * @param record 처리할 레코드
      */
     void apply(Map<String, String> record);
+
+    /**
+     * 여러 레코드에 Action을 한 번에 적용합니다.
+     * 기본 구현은 레코드마다 {@link #apply(Map)}를 호출하며,
+     * 내장 Action은 배치 단위로 전략 초기화 비용을 한 번만 치르도록 재정의합니다.
+     * @param records 처리할 레코드 목록
+     */
+    default void applyBatch(List<Map<String, String>> records) {
+        for (Map<String, String> record : records) {
+            apply(record);
+        }
+    }
+
+    /**
+     * 스키마에 맞춰 Action을 컴파일합니다.
+     * 기본 구현은 슬롯 레코드의 Map 뷰에 {@link #apply(Map)}를 위임하며,
+     * 내장 Action은 필드명을 슬롯 인덱스로 미리 해석하도록 재정의합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    default SlotAction compile(RecordSchema schema) {
+        return record -> apply(record.asMap());
+    }
     
     /**
      * 메트릭을 포함하여 Action을 적용합니다.
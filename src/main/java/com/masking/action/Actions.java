@@ -1,6 +1,9 @@
 package com.masking.action;
 
 
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
+
 import java.util.*;
 import java.util.Map;
 
@@ -31,4 +34,31 @@ public class Actions implements Action {
     public void apply(Map<String, String> record) {
         actions.forEach(a -> a.apply(record));
     }
+
+    /**
+     * 모든 Action을 순차적으로 배치 전체에 적용합니다.
+     * @param records 처리할 레코드 목록
+     */
+    @Override
+    public void applyBatch(List<Map<String, String>> records) {
+        actions.forEach(a -> a.applyBatch(records));
+    }
+
+    /**
+     * 모든 Action을 스키마에 맞춰 컴파일하여 하나의 SlotAction으로 합성합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    @Override
+    public SlotAction compile(RecordSchema schema) {
+        final SlotAction[] plan = new SlotAction[actions.size()];
+        for (int i = 0; i < plan.length; i++) {
+            plan[i] = actions.get(i).compile(schema);
+        }
+        return record -> {
+            for (SlotAction step : plan) {
+                step.apply(record);
+            }
+        };
+    }
 }
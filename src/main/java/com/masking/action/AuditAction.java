@@ -1,6 +1,8 @@
 package com.masking.action;
 
 import com.masking.audit.AuditEventHandler;
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
 
 import java.io.IOException;
 import java.util.Map;
@@ -62,6 +64,23 @@ public class AuditAction implements Action {
             throw new RuntimeException("Audit handler failed", e);
         }
     }
+
+    /**
+     * 필드를 슬롯 인덱스로 해석하여 감사 처리를 컴파일합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    @Override
+    public SlotAction compile(RecordSchema schema) {
+        final int slot = schema.slotOf(field);
+        return record -> {
+            try {
+                handler.handle(field, record.get(slot), null);
+            } catch (IOException e) {
+                throw new RuntimeException("Audit handler failed", e);
+            }
+        };
+    }
     
     /**
      * 감사 대상 필드명을 반환합니다.
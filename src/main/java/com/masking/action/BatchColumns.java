@@ -0,0 +1,93 @@
+package com.masking.action;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 배치 레코드에서 단일 필드 값을 열(column) 단위로 읽고 쓰는 내부 유틸리티
+ */
+final class BatchColumns {
+
+    private BatchColumns() {}
+
+    /**
+     * 배치의 모든 레코드에서 필드 값을 읽습니다.
+     * @param records 배치 레코드
+     * @param field 필드명
+     * @return 레코드 순서대로 정렬된 값 배열 (값이 없으면 null)
+     */
+    static String[] read(List<Map<String, String>> records, String field) {
+        String[] values = new String[records.size()];
+        int i = 0;
+        for (Map<String, String> record : records) {
+            values[i++] = record.get(field);
+        }
+        return values;
+    }
+
+    /**
+     * 원래 값이 있던 레코드에만 변환 결과를 기록합니다.
+     * @param records 배치 레코드
+     * @param field 필드명
+     * @param before 변환 전 값
+     * @param after 변환 후 값
+     */
+    static void write(List<Map<String, String>> records, String field, String[] before, String[] after) {
+        Iterator<Map<String, String>> it = records.iterator();
+        for (int i = 0; i < before.length; i++) {
+            Map<String, String> record = it.next();
+            if (before[i] != null) {
+                record.put(field, after[i]);
+            }
+        }
+    }
+
+    /**
+     * 결정적 변환이면 배치 안의 서로 다른 값만 한 번씩 변환하고 결과를 같은 값을 가진 모든 행에 나눠 줍니다. (사전 인코딩)
+     * 중복이 없거나 결정적이지 않은 변환이면 전체 값을 그대로 전달합니다.
+     * @param values 변환 전 값 (null 허용)
+     * @param deterministic 같은 입력에 항상 같은 결과를 내는 변환인지 여부
+     * @param batch 배치 변환 함수 (null은 null로 유지해야 함)
+     * @return 입력과 같은 순서의 변환 결과
+     */
+    static String[] transformDistinct(String[] values, boolean deterministic, UnaryOperator<String[]> batch) {
+        if (!deterministic || values.length < 2) {
+            return batch.apply(values);
+        }
+        Map<String, Integer> ids = new HashMap<>();
+        int[] codes = new int[values.length];
+        String[] distinct = new String[values.length];
+        int distinctCount = 0;
+        int nonNull = 0;
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (value == null) {
+                codes[i] = -1;
+                continue;
+            }
+            nonNull++;
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = distinctCount;
+                ids.put(value, id);
+                distinct[distinctCount++] = value;
+            }
+            codes[i] = id;
+        }
+        if (distinctCount == nonNull) {
+            return batch.apply(values);
+        }
+        String[] transformed = batch.apply(Arrays.copyOf(distinct, distinctCount));
+        String[] results = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (codes[i] >= 0) {
+                results[i] = transformed[codes[i]];
+            }
+        }
+        return results;
+    }
+}
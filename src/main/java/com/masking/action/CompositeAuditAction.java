@@ -1,8 +1,13 @@
 package com.masking.action;
 
+import com.masking.audit.AuditEvent;
 import com.masking.audit.AuditEventHandler;
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -52,4 +57,44 @@ public class CompositeAuditAction implements Action {
             throw new RuntimeException("Audit handler failed", e);
         }
     }
+
+    /**
+     * 타겟 액션을 배치 단위로 실행하고, 레코드별 전후 값을 감사 이벤트 배치로 기록합니다.
+     * @param records 처리할 레코드 목록
+     */
+    @Override
+    public void applyBatch(List<Map<String, String>> records) {
+        String[] before = BatchColumns.read(records, field);
+        targetAction.applyBatch(records);
+        String[] after = BatchColumns.read(records, field);
+        List<AuditEvent> events = new ArrayList<>(before.length);
+        for (int i = 0; i < before.length; i++) {
+            events.add(AuditEvent.of(field, before[i], after[i]));
+        }
+        try {
+            handler.handleBatch(events);
+        } catch (IOException e) {
+            throw new RuntimeException("Audit handler failed", e);
+        }
+    }
+
+    /**
+     * 필드를 슬롯 인덱스로 해석하고 타겟 액션도 함께 컴파일합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    @Override
+    public SlotAction compile(RecordSchema schema) {
+        final int slot = schema.slotOf(field);
+        final SlotAction target = targetAction.compile(schema);
+        return record -> {
+            String before = record.get(slot);
+            target.apply(record);
+            try {
+                handler.handle(field, before, record.get(slot));
+            } catch (IOException e) {
+                throw new RuntimeException("Audit handler failed", e);
+            }
+        };
+    }
 } 
\ No newline at end of file
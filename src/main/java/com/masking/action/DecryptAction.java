@@ -0,0 +1,89 @@
+package com.masking.action;
+
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
+import com.masking.strategy.encrypt.DecryptionStrategy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 경로에서 암호화된 필드를 복호화하는 액션
+ *
+ * 같은 암호문은 항상 같은 평문이 되므로 전략의 결정성과 관계없이 배치 안의 중복 암호문은 한 번만 복호화합니다.
+ * 자주 읽히는 행은 {@link com.masking.cache.CachingDecryptionStrategy}로 감싸 평문을 캐시할 수 있습니다.
+ */
+public class DecryptAction implements Action {
+    private final String field;
+    private final DecryptionStrategy strategy;
+
+    private DecryptAction(String field, DecryptionStrategy strategy) {
+        this.field = field;
+        this.strategy = strategy;
+    }
+
+    /**
+     * DecryptAction 인스턴스를 생성합니다.
+     * @param field 복호화할 필드명
+     * @param strategy 암호화에 사용한 전략
+     * @return DecryptAction 인스턴스
+     */
+    public static DecryptAction of(String field, DecryptionStrategy strategy) {
+        return new DecryptAction(field, strategy);
+    }
+
+    /**
+     * 레코드에 복호화를 적용합니다.
+     * @param record 처리할 레코드
+     */
+    @Override
+    public void apply(Map<String, String> record) {
+        String value = record.get(field);
+        if (value != null) {
+            record.put(field, strategy.decrypt(value));
+        }
+    }
+
+    /**
+     * 배치 전체의 필드 값을 모아 전략에 한 번에 전달하여 복호화합니다.
+     * @param records 처리할 레코드 목록
+     */
+    @Override
+    public void applyBatch(List<Map<String, String>> records) {
+        String[] values = BatchColumns.read(records, field);
+        String[] results = BatchColumns.transformDistinct(values, true, strategy::decryptBatch);
+        BatchColumns.write(records, field, values, results);
+    }
+
+    /**
+     * 필드를 슬롯 인덱스로 해석하여 복호화를 컴파일합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    @Override
+    public SlotAction compile(RecordSchema schema) {
+        final int slot = schema.slotOf(field);
+        return record -> {
+            String value = record.get(slot);
+            if (value != null) {
+                record.set(slot, strategy.decrypt(value));
+            }
+        };
+    }
+
+    /**
+     * 복호화 대상 필드명을 반환합니다.
+     * @return 필드명
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * 복호화 전략을 반환합니다.
+     * @return 복호화 전략
+     */
+    public DecryptionStrategy getStrategy() {
+        return strategy;
+    }
+}
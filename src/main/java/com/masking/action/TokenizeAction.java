@@ -1,7 +1,10 @@
 package com.masking.action;
 
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
 import com.masking.strategy.tokenize.TokenizationStrategy;
 
+import java.util.List;
 import java.util.Map;
 
 public class TokenizeAction implements Action {
@@ -34,6 +37,34 @@ public class TokenizeAction implements Action {
             record.put(field, strategy.tokenize(value));
         }
     }
+
+    /**
+     * 배치 전체의 필드 값을 모아 전략에 한 번에 전달하여 토큰화를 적용합니다.
+     * 결정적 전략이면 배치 안에서 중복된 값은 한 번만 변환합니다.
+     * @param records 처리할 레코드 목록
+     */
+    @Override
+    public void applyBatch(List<Map<String, String>> records) {
+        String[] values = BatchColumns.read(records, field);
+        String[] results = BatchColumns.transformDistinct(values, strategy.isDeterministic(), strategy::tokenizeBatch);
+        BatchColumns.write(records, field, values, results);
+    }
+
+    /**
+     * 필드를 슬롯 인덱스로 해석하여 토큰화를 컴파일합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    @Override
+    public SlotAction compile(RecordSchema schema) {
+        final int slot = schema.slotOf(field);
+        return record -> {
+            String value = record.get(slot);
+            if (value != null) {
+                record.set(slot, strategy.tokenize(value));
+            }
+        };
+    }
     
     /**
      * 토큰화 대상 필드명을 반환합니다.
@@ -0,0 +1,762 @@
+package com.masking.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 이벤트를 비동기로 전달하는 디스패처
+ *
+ * 싱크(핸들러)마다 제한된 크기의 lock-free 큐와 전용 소비자 스레드를 두고, 소비자는 큐를 배치 단위로
+ * 비워 {@link AuditEventHandler#handleBatch(List)}로 전달합니다. handle()은 큐에 넣기만 하므로
+ * 느린 SMTP/Slack/DB 싱크가 마스킹 스레드를 지연시키지 않고, 한 싱크의 지연이 다른 싱크에 전파되지도 않습니다.
+ *
+ * 큐가 가득 차면 {@link OverflowPolicy}에 따라 대기, 가장 오래된 이벤트 폐기, 디스크 임시 저장 중 하나를 수행합니다.
+ * 디스크에 저장된 이벤트는 큐가 비었을 때 소비자가 다시 읽어 전달합니다. 저장 파일에는 마스킹 전 값이 들어가므로
+ * 디렉터리는 명시적으로 지정해야 하고, 파일은 소유자만 읽고 쓸 수 있게 만들며(POSIX), 싱크별로 고정된 이름을 써서
+ * 비정상 종료 뒤 다시 시작하면 남아 있던 이벤트를 이어서 전달합니다. 저장은 건마다 fsync하며,
+ * 다시 전달하다 싱크가 실패하면 전달하지 못한 이벤트를 파일에 되돌려 두고 잠시 뒤 다시 시도합니다.
+ *
+ * 사용법:
+ * <pre>
+ * AsyncAuditEventHandler async = AsyncAuditEventHandler.newBuilder()
+ *     .sinks(new CompositeAuditEventHandler())
+ *     .overflowPolicy(OverflowPolicy.DROP_OLDEST)
+ *     .build();
+ * CompositeAuditAction.of("email", async, maskAction);
+ * </pre>
+ */
+public class AsyncAuditEventHandler implements AuditEventHandler, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncAuditEventHandler.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long DEFAULT_CLOSE_TIMEOUT_SECONDS = 30;
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        /** 큐에 자리가 날 때까지 호출 스레드를 대기시킵니다. */
+        BLOCK,
+        /** 가장 오래된 이벤트를 버리고 새 이벤트를 넣습니다. */
+        DROP_OLDEST,
+        /** 새 이벤트를 디스크에 임시 저장했다가 큐가 비면 다시 전달합니다. */
+        SPILL_TO_DISK
+    }
+
+    private final List<SinkWorker> workers;
+    private final OverflowPolicy overflowPolicy;
+    private volatile boolean running = true;
+
+    private AsyncAuditEventHandler(Builder builder) {
+        this.overflowPolicy = builder.overflowPolicy;
+        List<SinkWorker> list = new ArrayList<>();
+        for (int i = 0; i < builder.sinks.size(); i++) {
+            list.add(new SinkWorker(builder.sinks.get(i), i, builder));
+        }
+        this.workers = Collections.unmodifiableList(list);
+        for (SinkWorker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    /**
+     * AsyncAuditEventHandler 빌더를 생성합니다.
+     * @return Builder 인스턴스
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * 기본 설정(BLOCK 정책)으로 싱크들을 비동기 디스패처로 감쌉니다.
+     * @param sinks 감사 이벤트 싱크
+     * @return AsyncAuditEventHandler 인스턴스
+     */
+    public static AsyncAuditEventHandler of(AuditEventHandler... sinks) {
+        Builder builder = newBuilder();
+        for (AuditEventHandler sink : sinks) {
+            builder.sink(sink);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 감사 이벤트를 모든 싱크 큐에 넣습니다. 싱크 호출은 소비자 스레드에서 이루어집니다.
+     * @param field 대상 필드 이름
+     * @param before 액션 적용 전 값
+     * @param after 액션 적용 후 값
+     */
+    @Override
+    public void handle(String field, String before, String after) {
+        AuditEvent event = AuditEvent.of(field, before, after);
+        for (SinkWorker worker : workers) {
+            worker.enqueue(event);
+        }
+    }
+
+    /**
+     * 감사 이벤트 목록을 모든 싱크 큐에 넣습니다.
+     * @param events 감사 이벤트 목록
+     */
+    @Override
+    public void handleBatch(List<AuditEvent> events) {
+        for (SinkWorker worker : workers) {
+            for (AuditEvent event : events) {
+                worker.enqueue(event);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 넣은 이벤트가 모든 싱크에 전달될 때까지 기다립니다.
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 제한 시간 내에 모두 전달되었으면 true
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (SinkWorker worker : workers) {
+            LockSupport.unpark(worker.thread);
+            while (!worker.isIdle()) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 새 이벤트 수신을 중단하고, 큐와 디스크에 남은 이벤트를 모두 전달한 뒤 소비자 스레드를 종료합니다.
+     * 싱크가 멈춰 있으면 30초까지만 기다립니다. ({@link #close(long, TimeUnit)})
+     */
+    @Override
+    public void close() {
+        close(DEFAULT_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 새 이벤트 수신을 중단하고, 남은 이벤트를 전달하는 소비자 스레드를 최대 timeout까지 기다립니다.
+     * 시간 안에 끝나지 않은 소비자 스레드(데몬)는 계속 전달을 시도하며, 남은 이벤트 수를 경고로 남깁니다.
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 모든 소비자 스레드가 시간 안에 종료되었으면 true
+     */
+    public boolean close(long timeout, TimeUnit unit) {
+        running = false;
+        for (SinkWorker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (SinkWorker worker : workers) {
+            try {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining > 0) {
+                    worker.thread.join(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            if (worker.thread.isAlive()) {
+                logger.warn("비동기 감사 싱크 종료 대기 시간 초과: {} (남은 이벤트 {}건)", worker.name, worker.size.get());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 모든 싱크 큐에 쌓여 있는 이벤트 수를 반환합니다.
+     * @return 큐 깊이 합계
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (SinkWorker worker : workers) {
+            depth += worker.size.get();
+        }
+        return depth;
+    }
+
+    /**
+     * 큐 초과로 버려진 이벤트 수를 반환합니다.
+     * @return 폐기 건수 합계
+     */
+    public long getDroppedCount() {
+        long total = 0;
+        for (SinkWorker worker : workers) {
+            total += worker.dropped.get();
+        }
+        return total;
+    }
+
+    /**
+     * 큐 초과로 디스크에 임시 저장된 이벤트 수를 반환합니다.
+     * @return 디스크 저장 건수 합계
+     */
+    public long getSpilledCount() {
+        long total = 0;
+        for (SinkWorker worker : workers) {
+            total += worker.spilled.get();
+        }
+        return total;
+    }
+
+    /**
+     * 싱크에 전달 완료된 이벤트 수를 반환합니다.
+     * @return 전달 건수 합계
+     */
+    public long getProcessedCount() {
+        long total = 0;
+        for (SinkWorker worker : workers) {
+            total += worker.processed.get();
+        }
+        return total;
+    }
+
+    /**
+     * 싱크 오류로 전달에 실패한 이벤트 수를 반환합니다.
+     * @return 실패 건수 합계
+     */
+    public long getFailedCount() {
+        long total = 0;
+        for (SinkWorker worker : workers) {
+            total += worker.failed.get();
+        }
+        return total;
+    }
+
+    /**
+     * 싱크별 큐 깊이와 폐기/디스크 저장/전달/실패 건수를 메트릭 레지스트리에 등록합니다.
+     * 메트릭 이름: masking.audit.queue.depth, masking.audit.dropped, masking.audit.spilled,
+     * masking.audit.processed, masking.audit.failed (태그: sink)
+     * @param registry 메트릭 레지스트리
+     */
+    public void bindTo(MeterRegistry registry) {
+        for (SinkWorker worker : workers) {
+            Gauge.builder("masking.audit.queue.depth", worker.size, AtomicInteger::get)
+                .tag("sink", worker.name)
+                .description("비동기 감사 큐에 대기 중인 이벤트 수")
+                .register(registry);
+            FunctionCounter.builder("masking.audit.dropped", worker.dropped, AtomicLong::get)
+                .tag("sink", worker.name)
+                .description("큐 초과로 버려진 감사 이벤트 수")
+                .register(registry);
+            FunctionCounter.builder("masking.audit.spilled", worker.spilled, AtomicLong::get)
+                .tag("sink", worker.name)
+                .description("큐 초과로 디스크에 저장된 감사 이벤트 수")
+                .register(registry);
+            FunctionCounter.builder("masking.audit.processed", worker.processed, AtomicLong::get)
+                .tag("sink", worker.name)
+                .description("싱크에 전달된 감사 이벤트 수")
+                .register(registry);
+            FunctionCounter.builder("masking.audit.failed", worker.failed, AtomicLong::get)
+                .tag("sink", worker.name)
+                .description("싱크 오류로 전달에 실패한 감사 이벤트 수")
+                .register(registry);
+        }
+    }
+
+    /**
+     * 큐 초과 처리 방식을 반환합니다.
+     * @return OverflowPolicy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * 소유자만 읽고 쓸 수 있는 파일을 만듭니다. POSIX 권한을 지원하지 않는 파일 시스템에서는 기본 권한으로 만듭니다.
+     */
+    static void createOwnerOnly(Path file) throws IOException {
+        if (Files.exists(file)) {
+            return;
+        }
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(file);
+        }
+    }
+
+    /**
+     * 싱크 하나에 대한 큐와 소비자 스레드
+     */
+    private final class SinkWorker implements Runnable {
+        final AuditEventHandler sink;
+        final String name;
+        final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicLong dropped = new AtomicLong();
+        final AtomicLong spilled = new AtomicLong();
+        final AtomicLong processed = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final int capacity;
+        final int batchSize;
+        final Path spillFile;
+        final Thread thread;
+        private final Object spillLock = new Object();
+        private BufferedWriter spillWriter;
+        private FileChannel spillChannel;
+        private long spillPending;
+        private volatile boolean busy;
+        private volatile boolean waiting;
+
+        SinkWorker(AuditEventHandler sink, int index, Builder builder) {
+            this.sink = sink;
+            this.name = sink.getClass().getSimpleName() + "-" + index;
+            this.capacity = builder.queueCapacity;
+            this.batchSize = builder.batchSize;
+            // 재시작 후에도 같은 싱크가 같은 파일을 찾도록 이름을 고정
+            this.spillFile = builder.spillDirectory == null ? null
+                : builder.spillDirectory.resolve("audit-spill-" + name + ".log");
+            this.thread = new Thread(this, "masking-audit-" + name);
+            this.thread.setDaemon(true);
+            if (spillFile != null) {
+                recoverSpill();
+            }
+        }
+
+        void enqueue(AuditEvent event) {
+            checkRunning();
+            while (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                checkRunning();
+                switch (overflowPolicy) {
+                    case DROP_OLDEST:
+                        if (queue.poll() != null) {
+                            size.decrementAndGet();
+                            dropped.incrementAndGet();
+                        }
+                        break;
+                    case SPILL_TO_DISK:
+                        spill(event);
+                        return;
+                    default:
+                        signal();
+                        LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+            // size를 늘린 뒤에 종료 여부를 다시 확인: 종료 중인 소비자는 size가 0이 될 때까지 멈추지 않으므로
+            // 여기서 running이 true였다면 이 이벤트는 반드시 전달됨
+            if (!running) {
+                size.decrementAndGet();
+                throw new IllegalStateException("AsyncAuditEventHandler가 이미 종료되었습니다");
+            }
+            queue.offer(event);
+            signal();
+        }
+
+        private void checkRunning() {
+            if (!running) {
+                throw new IllegalStateException("AsyncAuditEventHandler가 이미 종료되었습니다");
+            }
+        }
+
+        private void signal() {
+            if (waiting) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        boolean isIdle() {
+            // size를 먼저 확인해야 소비자가 꺼내 간 이벤트를 처리 중인지(busy) 놓치지 않음
+            if (size.get() != 0 || busy) {
+                return false;
+            }
+            synchronized (spillLock) {
+                return spillPending == 0;
+            }
+        }
+
+        @Override
+        public void run() {
+            List<AuditEvent> batch = new ArrayList<>(batchSize);
+            while (true) {
+                busy = true;
+                AuditEvent event;
+                while (batch.size() < batchSize && (event = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    batch.add(event);
+                }
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                    batch.clear();
+                    busy = false;
+                    continue;
+                }
+                if (replaySpill(batch)) {
+                    busy = false;
+                    continue;
+                }
+                busy = false;
+                if (!running && size.get() == 0) {
+                    closeSpillWriter();
+                    return;
+                }
+                waiting = true;
+                if (size.get() == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                waiting = false;
+            }
+        }
+
+        private void deliver(List<AuditEvent> batch) {
+            if (!tryDeliver(batch)) {
+                failed.addAndGet(batch.size());
+            }
+        }
+
+        private boolean tryDeliver(List<AuditEvent> batch) {
+            try {
+                sink.handleBatch(batch);
+                processed.addAndGet(batch.size());
+                return true;
+            } catch (Exception e) {
+                logger.error("비동기 감사 싱크 실행 중 오류 발생: {} - {}", name, e.getMessage());
+                return false;
+            }
+        }
+
+        private void spill(AuditEvent event) {
+            Map<String, Object> line = new HashMap<>();
+            line.put("field", event.getField());
+            line.put("before", event.getBefore());
+            line.put("after", event.getAfter());
+            line.put("timestamp", event.getTimestamp());
+            synchronized (spillLock) {
+                try {
+                    if (spillWriter == null) {
+                        createOwnerOnly(spillFile);
+                        spillChannel = FileChannel.open(spillFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                        spillWriter = new BufferedWriter(Channels.newWriter(spillChannel, StandardCharsets.UTF_8.newEncoder(), -1));
+                    }
+                    spillWriter.write(MAPPER.writeValueAsString(line));
+                    spillWriter.newLine();
+                    // 큐 대신 디스크를 택한 이벤트이므로 비정상 종료에도 남도록 건마다 디스크에 내림
+                    spillWriter.flush();
+                    spillChannel.force(false);
+                    spillPending++;
+                    spilled.incrementAndGet();
+                } catch (IOException e) {
+                    dropped.incrementAndGet();
+                    logger.error("감사 이벤트 디스크 저장 실패: {} - {}", spillFile, e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * 디스크에 저장된 이벤트를 읽어 배치로 전달합니다.
+         * 싱크 오류나 읽기 오류로 중단되면 전달하지 못한 줄을 임시 파일 앞쪽에 되돌리고 다음 라운드에 다시 시도합니다.
+         * @return 모든 이벤트를 전달했으면 true
+         */
+        private boolean replaySpill(List<AuditEvent> batch) {
+            Path replayFile = replayFile();
+            synchronized (spillLock) {
+                if (spillPending == 0) {
+                    return false;
+                }
+                try {
+                    closeSpillWriter();
+                    // 이전 라운드에서 되돌리지 못한 .replay 파일이 있으면 덮어쓰지 않고 뒤에 이어 붙임
+                    mergeInto(spillFile, replayFile);
+                } catch (IOException e) {
+                    logger.error("감사 이벤트 임시 파일 이동 실패: {} - {}", spillFile, e.getMessage());
+                    return false;
+                }
+            }
+            long consumed = 0; // 전달을 마쳤거나 손상되어 건너뛴 줄 수
+            int lines = 0;     // batch에 담긴 줄 수 (손상된 줄 포함)
+            boolean completed = false;
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                boolean delivered = true;
+                while (delivered && (line = reader.readLine()) != null) {
+                    lines++;
+                    AuditEvent event = parseSpilled(line);
+                    if (event != null) {
+                        batch.add(event);
+                    }
+                    if (batch.size() >= batchSize) {
+                        delivered = tryDeliver(batch);
+                        batch.clear();
+                        if (delivered) {
+                            consumed += lines;
+                            lines = 0;
+                        }
+                    }
+                }
+                if (delivered && !batch.isEmpty()) {
+                    delivered = tryDeliver(batch);
+                }
+                if (delivered) {
+                    consumed += lines;
+                    completed = true;
+                }
+            } catch (IOException e) {
+                logger.error("감사 이벤트 임시 파일 읽기 실패: {} - {}", replayFile, e.getMessage());
+            } finally {
+                batch.clear();
+            }
+            synchronized (spillLock) {
+                spillPending -= consumed;
+                try {
+                    if (completed) {
+                        Files.delete(replayFile);
+                    } else {
+                        requeue(replayFile, consumed);
+                    }
+                } catch (IOException e) {
+                    // .replay 파일이 남아 있으면 다음 라운드나 재시작 때 이어서 전달 (일부 중복 가능)
+                    logger.error("감사 이벤트 임시 파일 정리 실패: {} - {}", replayFile, e.getMessage());
+                }
+            }
+            return completed;
+        }
+
+        /**
+         * 전달하지 못한 .replay 파일의 나머지 줄을 임시 파일 앞에 되돌립니다. spillLock 안에서 호출.
+         */
+        private void requeue(Path replayFile, long skip) throws IOException {
+            closeSpillWriter();
+            Path temp = Paths.get(spillFile + ".tmp");
+            Files.deleteIfExists(temp);
+            createOwnerOnly(temp);
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+                copyLines(replayFile, skip, writer);
+                if (Files.exists(spillFile)) {
+                    copyLines(spillFile, 0, writer);
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, spillFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.delete(replayFile);
+        }
+
+        /**
+         * 이전 실행에서 남은 임시 파일을 이어받아 소비자가 다시 전달하도록 합니다.
+         * 전달 도중 종료되어 남은 .replay 파일은 새 임시 파일 앞에 붙입니다.
+         */
+        private void recoverSpill() {
+            try {
+                Path replayFile = replayFile();
+                if (Files.exists(replayFile)) {
+                    mergeInto(spillFile, replayFile);
+                    Files.move(replayFile, spillFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                if (Files.exists(spillFile)) {
+                    try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+                        while (reader.readLine() != null) {
+                            spillPending++;
+                        }
+                    }
+                    if (spillPending > 0) {
+                        logger.info("이전 실행에서 남은 감사 이벤트 {}건을 다시 전달합니다: {}", spillPending, spillFile);
+                    }
+                }
+            } catch (IOException e) {
+                logger.error("감사 이벤트 임시 파일 복구 실패: {} - {}", spillFile, e.getMessage());
+            }
+        }
+
+        private Path replayFile() {
+            return Paths.get(spillFile + ".replay");
+        }
+
+        /** 임시 파일 한 줄을 이벤트로 읽습니다. 비정상 종료로 잘린 줄이면 null. */
+        private AuditEvent parseSpilled(String line) {
+            try {
+                Map<?, ?> map = MAPPER.readValue(line, Map.class);
+                return AuditEvent.of((String) map.get("field"), (String) map.get("before"),
+                    (String) map.get("after"), ((Number) map.get("timestamp")).longValue());
+            } catch (IOException | RuntimeException e) {
+                failed.incrementAndGet();
+                logger.warn("감사 이벤트 임시 파일의 손상된 줄을 건너뜁니다: {}", spillFile);
+                return null;
+            }
+        }
+
+        private void closeSpillWriter() {
+            synchronized (spillLock) {
+                if (spillWriter != null) {
+                    try {
+                        spillWriter.close(); // spillChannel도 함께 닫힘
+                    } catch (IOException e) {
+                        logger.warn("감사 이벤트 임시 파일 닫기 실패: {}", e.getMessage());
+                    }
+                    spillWriter = null;
+                    spillChannel = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * source 파일을 target 뒤에 붙이고 source를 지웁니다. target이 없으면 이름만 바꿉니다.
+     */
+    static void mergeInto(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) {
+            return;
+        }
+        if (!Files.exists(target)) {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long position = 0;
+            long size = in.size();
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            out.force(true);
+        }
+        Files.delete(source);
+    }
+
+    private static void copyLines(Path file, long skip, BufferedWriter writer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            for (long n = 0; (line = reader.readLine()) != null; n++) {
+                if (n >= skip) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * AsyncAuditEventHandler 빌더
+     */
+    public static class Builder {
+        private final List<AuditEventHandler> sinks = new ArrayList<>();
+        private int queueCapacity = 10_000;
+        private int batchSize = 256;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private Path spillDirectory;
+
+        private Builder() {
+        }
+
+        /**
+         * 싱크를 추가합니다. 싱크마다 별도의 큐와 소비자 스레드가 생성됩니다.
+         * @param sink 감사 이벤트 핸들러
+         * @return Builder
+         */
+        public Builder sink(AuditEventHandler sink) {
+            if (sink == null) {
+                throw new IllegalArgumentException("sink는 null일 수 없습니다");
+            }
+            sinks.add(sink);
+            return this;
+        }
+
+        /**
+         * 복합 핸들러에 등록된 핸들러들을 각각 별도 싱크로 추가합니다.
+         * @param composite 복합 감사 핸들러
+         * @return Builder
+         */
+        public Builder sinks(CompositeAuditEventHandler composite) {
+            for (AuditEventHandler handler : composite.getHandlers()) {
+                sink(handler);
+            }
+            return this;
+        }
+
+        /**
+         * 싱크별 큐 최대 크기를 지정합니다. (기본값 10,000)
+         * @param queueCapacity 큐 최대 크기
+         * @return Builder
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("queueCapacity는 0보다 커야 합니다");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * 소비자가 한 번에 싱크로 전달할 최대 이벤트 수를 지정합니다. (기본값 256)
+         * @param batchSize 배치 크기
+         * @return Builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize는 0보다 커야 합니다");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * 큐가 가득 찼을 때의 처리 방식을 지정합니다. (기본값 BLOCK)
+         * @param overflowPolicy 초과 처리 방식
+         * @return Builder
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * 임시 파일을 저장할 디렉터리를 지정합니다. (SPILL_TO_DISK 정책에서 필수)
+         * 마스킹 전 값이 기록되므로 공용 임시 디렉터리가 아닌 애플리케이션 전용 디렉터리를 쓰세요.
+         * 지정하면 정책과 관계없이 이전 실행에서 남은 임시 파일을 시작할 때 다시 전달합니다.
+         * @param spillDirectory 임시 파일 디렉터리
+         * @return Builder
+         */
+        public Builder spillDirectory(Path spillDirectory) {
+            this.spillDirectory = spillDirectory;
+            return this;
+        }
+
+        /**
+         * 소비자 스레드를 시작하고 AsyncAuditEventHandler를 생성합니다.
+         * @return AsyncAuditEventHandler 인스턴스
+         */
+        public AsyncAuditEventHandler build() {
+            if (sinks.isEmpty()) {
+                throw new IllegalArgumentException("최소 하나의 sink가 필요합니다");
+            }
+            if (overflowPolicy == OverflowPolicy.SPILL_TO_DISK && spillDirectory == null) {
+                throw new IllegalArgumentException("SPILL_TO_DISK 정책에는 spillDirectory가 필요합니다");
+            }
+            return new AsyncAuditEventHandler(this);
+        }
+    }
+}
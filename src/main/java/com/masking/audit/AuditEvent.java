@@ -0,0 +1,64 @@
+package com.masking.audit;
+
+/**
+ * 필드 하나에 대한 감사 이벤트 (적용 전후 값)
+ *
+ * 비동기 디스패처의 큐와 배치 처리({@link AuditEventHandler#handleBatch(java.util.List)})에서 사용합니다.
+ */
+public final class AuditEvent {
+    private final String field;
+    private final String before;
+    private final String after;
+    private final long timestamp;
+
+    private AuditEvent(String field, String before, String after, long timestamp) {
+        this.field = field;
+        this.before = before;
+        this.after = after;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * 현재 시각으로 감사 이벤트를 생성합니다.
+     * @param field 대상 필드 이름
+     * @param before 액션 적용 전 값
+     * @param after 액션 적용 후 값
+     * @return AuditEvent 인스턴스
+     */
+    public static AuditEvent of(String field, String before, String after) {
+        return new AuditEvent(field, before, after, System.currentTimeMillis());
+    }
+
+    /**
+     * 발생 시각을 지정하여 감사 이벤트를 생성합니다.
+     * @param field 대상 필드 이름
+     * @param before 액션 적용 전 값
+     * @param after 액션 적용 후 값
+     * @param timestamp 발생 시각(epoch 밀리초)
+     * @return AuditEvent 인스턴스
+     */
+    public static AuditEvent of(String field, String before, String after, long timestamp) {
+        return new AuditEvent(field, before, after, timestamp);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getBefore() {
+        return before;
+    }
+
+    public String getAfter() {
+        return after;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "AuditEvent{field=" + field + ", before=" + before + ", after=" + after + ", timestamp=" + timestamp + "}";
+    }
+}
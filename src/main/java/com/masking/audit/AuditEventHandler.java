@@ -1,6 +1,7 @@
 package com.masking.audit;
 
 import java.io.IOException;
+import java.util.List;
 
 public interface AuditEventHandler {
     /**
@@ -11,4 +12,17 @@ public interface AuditEventHandler {
      * @throws IOException 처리 중 I/O 오류가 발생한 경우
      */
     void handle(String field, String before, String after) throws IOException;
+
+    /**
+     * 여러 감사 이벤트를 한 번에 처리합니다.
+     * 기본 구현은 이벤트마다 {@link #handle(String, String, String)}를 호출하며,
+     * 일괄 전송이 가능한 핸들러(DB 배치 INSERT 등)는 이 메서드를 재정의합니다.
+     * @param events 감사 이벤트 목록
+     * @throws IOException 처리 중 I/O 오류가 발생한 경우
+     */
+    default void handleBatch(List<AuditEvent> events) throws IOException {
+        for (AuditEvent event : events) {
+            handle(event.getField(), event.getBefore(), event.getAfter());
+        }
+    }
 }
@@ -0,0 +1,506 @@
+package com.masking.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+
+/**
+ * 감사 이벤트를 로컬 디스크에 먼저 기록하는 선기록(write-ahead) 저널
+ *
+ * 이벤트는 미리 크기를 잡아 둔 메모리 매핑 세그먼트 파일에 추가만 되며, 기록은 메모리 복사 한 번이므로
+ * Slack/SMTP/DB가 느리거나 내려가 있어도 마스킹 스레드가 기다리지 않고 이벤트도 잃지 않습니다.
+ * 실제 싱크로의 전달은 {@link AuditJournalReplayer}가 체크포인트를 남기며 별도로 수행합니다.
+ *
+ * <h3>파일 형식</h3>
+ * 세그먼트 파일 이름은 {@code audit-<세그먼트 번호 20자리>.journal}이고, 헤더(매직 4B | 버전 4B) 뒤에
+ * 레코드(페이로드 길이 4B | 페이로드 CRC32 4B | 페이로드)가 이어집니다.
+ * 페이로드는 시각 8B와 필드/전/후 값(각각 길이 4B, null이면 -1 | UTF-8)입니다.
+ * 길이 0은 기록된 데이터의 끝이고, 다음 레코드가 들어가지 않으면 새 세그먼트로 넘어갑니다.
+ * 저널을 다시 열면 항상 새 세그먼트부터 쓰므로, 비정상 종료로 끝이 깨진 세그먼트는 리플레이어가 건너뜁니다.
+ *
+ * <h3>내구성</h3>
+ * 기록은 페이지 캐시까지만 반영되고, 백그라운드 스레드가 syncInterval마다 모아서 디스크에 강제 기록(fsync)합니다.
+ * 프로세스가 죽어도 페이지 캐시의 이벤트는 남으며, 전원 장애 시에는 마지막 syncInterval 동안의 이벤트를 잃을 수 있습니다.
+ * 즉시 내구성이 필요하면 {@link #sync()}를 호출하세요.
+ *
+ * 사용법:
+ * <pre>
+ * AuditJournal journal = AuditJournal.of(Paths.get("/var/lib/masking/audit"));
+ * CompositeAuditAction.of("email", journal, maskAction);
+ * AuditJournalReplayer.newBuilder()
+ *     .directory(Paths.get("/var/lib/masking/audit"))
+ *     .sink(new CompositeAuditEventHandler())
+ *     .maxEventsPerSecond(500)
+ *     .build()
+ *     .start();
+ * </pre>
+ */
+public class AuditJournal implements AuditEventHandler, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournal.class);
+
+    static final int MAGIC = 0x4D534B4A; // "MSKJ"
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER = 8;
+    static final int RECORD_HEADER = 8;
+    static final String PREFIX = "audit-";
+    static final String SUFFIX = ".journal";
+    private static final String PREPARED_PREFIX = "audit-prepared-";
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long syncIntervalNanos;
+    private final Object lock = new Object();
+    private final List<MappedByteBuffer> unsynced = new ArrayList<>(); // 교체된 뒤 아직 fsync하지 않은 세그먼트
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong synced = new AtomicLong();
+    private final AtomicLong preparedFiles = new AtomicLong();
+    private final Thread syncer;
+    private MappedByteBuffer segment;
+    private long segmentId;
+    private MappedByteBuffer prepared; // fsync 스레드가 미리 만들어 둔 다음 세그먼트
+    private Path preparedFile;
+    private volatile boolean running = true;
+
+    private AuditJournal(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.syncIntervalNanos = builder.syncIntervalNanos;
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, PREPARED_PREFIX + "*.tmp")) {
+            for (Path file : stale) {
+                Files.deleteIfExists(file);
+            }
+        }
+        long last = 0;
+        for (long id : segmentIds(directory)) {
+            last = Math.max(last, id);
+        }
+        this.segmentId = last;
+        Path first = nextPreparedFile();
+        this.segment = publish(allocate(first), first, ++segmentId);
+        this.syncer = new Thread(this::syncLoop, "masking-audit-journal-sync");
+        this.syncer.setDaemon(true);
+        this.syncer.start();
+    }
+
+    /**
+     * AuditJournal 빌더를 생성합니다.
+     * @return Builder 인스턴스
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * 기본 설정(세그먼트 64MB, 100ms마다 fsync)으로 저널을 엽니다.
+     * @param directory 세그먼트 파일을 둘 디렉터리 (없으면 생성)
+     * @return AuditJournal 인스턴스
+     * @throws IOException 디렉터리나 세그먼트 파일을 만들 수 없는 경우
+     */
+    public static AuditJournal of(Path directory) throws IOException {
+        return newBuilder().directory(directory).build();
+    }
+
+    /**
+     * 감사 이벤트를 현재 시각으로 저널에 추가합니다.
+     * @param field 대상 필드 이름
+     * @param before 액션 적용 전 값
+     * @param after 액션 적용 후 값
+     * @throws IOException 새 세그먼트를 만들 수 없는 경우
+     */
+    @Override
+    public void handle(String field, String before, String after) throws IOException {
+        append(System.currentTimeMillis(), field, before, after);
+    }
+
+    /**
+     * 감사 이벤트 목록을 순서대로 저널에 추가합니다.
+     * @param events 감사 이벤트 목록
+     * @throws IOException 새 세그먼트를 만들 수 없는 경우
+     */
+    @Override
+    public void handleBatch(List<AuditEvent> events) throws IOException {
+        for (AuditEvent event : events) {
+            append(event.getTimestamp(), event.getField(), event.getBefore(), event.getAfter());
+        }
+    }
+
+    /**
+     * 지금까지 추가한 이벤트를 디스크에 강제 기록합니다.
+     * @throws IOException 세그먼트를 기록할 수 없는 경우
+     */
+    public void sync() throws IOException {
+        List<MappedByteBuffer> buffers;
+        long target;
+        synchronized (lock) {
+            target = appended.get();
+            buffers = new ArrayList<>(unsynced);
+            unsynced.clear();
+            buffers.add(segment);
+        }
+        try {
+            for (MappedByteBuffer buffer : buffers) {
+                buffer.force();
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("감사 저널 fsync 실패: " + directory, e);
+        }
+        synced.accumulateAndGet(target, Math::max);
+    }
+
+    /**
+     * 새 이벤트 기록을 중단하고 남은 이벤트를 디스크에 기록한 뒤 fsync 스레드를 종료합니다.
+     * @throws IOException 마지막 fsync에 실패한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+        LockSupport.unpark(syncer);
+        try {
+            syncer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (preparedFile != null) {
+            Files.deleteIfExists(preparedFile);
+            prepared = null;
+            preparedFile = null;
+        }
+        sync();
+    }
+
+    /**
+     * 저널에 추가한 이벤트 수를 반환합니다.
+     * @return 추가 건수
+     */
+    public long getAppendedCount() {
+        return appended.get();
+    }
+
+    /**
+     * 디스크에 강제 기록까지 끝난 이벤트 수를 반환합니다.
+     * @return fsync된 건수
+     */
+    public long getSyncedCount() {
+        return synced.get();
+    }
+
+    /**
+     * 세그먼트 파일 디렉터리를 반환합니다.
+     * @return 디렉터리
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void append(long timestamp, String field, String before, String after) throws IOException {
+        // 인코딩과 CRC는 잠금 밖에서 스레드별 버퍼에 만들고, 잠금 안에서는 복사만 함
+        Scratch scratch = SCRATCH.get();
+        byte[] b = scratch.ensure(RECORD_HEADER + 20
+            + 3 * (length(field) + length(before) + length(after)));
+        int n = RECORD_HEADER;
+        n = putLong(b, n, timestamp);
+        n = putString(b, n, field);
+        n = putString(b, n, before);
+        n = putString(b, n, after);
+        int payload = n - RECORD_HEADER;
+        CRC32 crc = scratch.crc;
+        crc.reset();
+        crc.update(b, RECORD_HEADER, payload);
+        putInt(b, 0, payload);
+        putInt(b, 4, (int) crc.getValue());
+        if (n > segmentSize - SEGMENT_HEADER) {
+            throw new IllegalArgumentException("감사 이벤트가 세그먼트 크기보다 큽니다: " + n + "B");
+        }
+        MappedByteBuffer spare = null;
+        Path spareFile = null;
+        try {
+            while (true) {
+                synchronized (lock) {
+                    if (!running) {
+                        throw new IllegalStateException("AuditJournal이 이미 종료되었습니다");
+                    }
+                    if (segment.remaining() < n) {
+                        if (prepared == null && spare != null) {
+                            prepared = spare;
+                            preparedFile = spareFile;
+                            spare = null;
+                        }
+                        if (prepared != null) {
+                            roll();
+                        }
+                    }
+                    if (segment.remaining() >= n) {
+                        segment.put(b, 0, n);
+                        appended.incrementAndGet();
+                        return;
+                    }
+                }
+                // fsync 스레드가 아직 다음 세그먼트를 준비하지 못했으면 잠금 밖에서 직접 만듦:
+                // 파일 할당 동안 현재 세그먼트에 들어가는 다른 스레드의 기록은 기다리지 않음
+                spareFile = nextPreparedFile();
+                spare = allocate(spareFile);
+            }
+        } finally {
+            if (spare != null) {
+                Files.deleteIfExists(spareFile); // 다른 스레드가 먼저 교체해 쓰이지 않은 세그먼트
+            }
+        }
+    }
+
+    /** 잠금 안에서 호출: 미리 만든 세그먼트의 이름만 바꿔 교체 */
+    private void roll() throws IOException {
+        unsynced.add(segment);
+        MappedByteBuffer next = prepared;
+        Path file = preparedFile;
+        prepared = null;
+        preparedFile = null;
+        try {
+            segment = publish(next, file, ++segmentId);
+        } finally {
+            LockSupport.unpark(syncer);
+        }
+    }
+
+    private Path nextPreparedFile() {
+        return directory.resolve(PREPARED_PREFIX + preparedFiles.incrementAndGet() + ".tmp");
+    }
+
+    /**
+     * 세그먼트 파일을 0으로 채워 만들고 헤더를 기록합니다.
+     * 희소 파일을 그대로 매핑하면 처음 쓰는 페이지마다 디스크 블록 할당이 기록 스레드에서 일어나므로,
+     * 블록을 미리 할당하고 페이지 캐시에 올려 둡니다.
+     */
+    private MappedByteBuffer allocate(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer zeros = ByteBuffer.allocateDirect(64 * 1024);
+            for (long position = 0; position < segmentSize; ) {
+                zeros.clear();
+                zeros.limit((int) Math.min(zeros.capacity(), segmentSize - position));
+                position += channel.write(zeros, position);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            buffer.putInt(MAGIC).putInt(VERSION);
+            return buffer;
+        }
+    }
+
+    /** 준비된 파일을 세그먼트 이름으로 바꿉니다. 이름이 바뀐 뒤에야 리플레이어가 다음 세그먼트로 인식 */
+    private MappedByteBuffer publish(MappedByteBuffer buffer, Path file, long id) throws IOException {
+        Files.move(file, directory.resolve(segmentName(id)), StandardCopyOption.ATOMIC_MOVE);
+        return buffer;
+    }
+
+    private void prepareNext() {
+        Path file = nextPreparedFile();
+        try {
+            MappedByteBuffer buffer = allocate(file);
+            synchronized (lock) {
+                if (running && prepared == null) {
+                    prepared = buffer;
+                    preparedFile = file;
+                    return;
+                }
+            }
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.error("감사 저널 다음 세그먼트 준비 실패: {} - {}", file, e.getMessage());
+        }
+    }
+
+    private void syncLoop() {
+        while (running) {
+            boolean needsSegment;
+            synchronized (lock) {
+                needsSegment = prepared == null;
+            }
+            if (needsSegment) {
+                prepareNext();
+            }
+            LockSupport.parkNanos(this, syncIntervalNanos);
+            if (running && synced.get() != appended.get()) {
+                try {
+                    sync();
+                } catch (IOException e) {
+                    logger.error("감사 저널 fsync 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    static String segmentName(long id) {
+        return String.format("%s%020d%s", PREFIX, id, SUFFIX);
+    }
+
+    /**
+     * 디렉터리의 세그먼트 번호를 오름차순으로 반환합니다.
+     */
+    static long[] segmentIds(Path directory) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    ids.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    logger.warn("감사 저널 세그먼트 이름이 아닌 파일을 무시합니다: {}", name);
+                }
+            }
+        }
+        long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
+    }
+
+    private static int putInt(byte[] b, int n, int v) {
+        b[n] = (byte) (v >>> 24);
+        b[n + 1] = (byte) (v >>> 16);
+        b[n + 2] = (byte) (v >>> 8);
+        b[n + 3] = (byte) v;
+        return n + 4;
+    }
+
+    private static int putLong(byte[] b, int n, long v) {
+        putInt(b, n, (int) (v >>> 32));
+        return putInt(b, n + 4, (int) v);
+    }
+
+    /** 길이(4B, null이면 -1)와 UTF-8 바이트를 기록. 짝이 맞지 않는 서로게이트는 '?'로 바꿈 */
+    private static int putString(byte[] b, int n, String s) {
+        if (s == null) {
+            return putInt(b, n, -1);
+        }
+        int start = n + 4;
+        int p = start;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                b[p++] = (byte) c;
+            } else if (c < 0x800) {
+                b[p++] = (byte) (0xC0 | (c >> 6));
+                b[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                b[p++] = (byte) (0xF0 | (cp >> 18));
+                b[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[p++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                b[p++] = '?';
+            } else {
+                b[p++] = (byte) (0xE0 | (c >> 12));
+                b[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[p++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        putInt(b, n, p - start);
+        return p;
+    }
+
+    /** 스레드별 인코딩 버퍼와 CRC 계산기 */
+    private static final class Scratch {
+        final CRC32 crc = new CRC32();
+        byte[] bytes = new byte[512];
+
+        byte[] ensure(int length) {
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * AuditJournal 빌더
+     */
+    public static class Builder {
+        private Path directory;
+        private int segmentSize = 64 * 1024 * 1024;
+        private long syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(100);
+
+        private Builder() {
+        }
+
+        /**
+         * 세그먼트 파일을 둘 디렉터리를 지정합니다. (필수, 없으면 생성)
+         * @param directory 디렉터리
+         * @return Builder
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * 세그먼트 파일 크기를 지정합니다. (기본값 64MB, 4KB ~ 1GB)
+         * @param segmentSize 바이트 수
+         * @return Builder
+         */
+        public Builder segmentSize(int segmentSize) {
+            if (segmentSize < 4096 || segmentSize > (1 << 30)) {
+                throw new IllegalArgumentException("segmentSize는 4KB 이상 1GB 이하여야 합니다: " + segmentSize);
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * 모아서 fsync하는 주기를 지정합니다. (기본값 100ms)
+         * @param interval 주기
+         * @param unit 시간 단위
+         * @return Builder
+         */
+        public Builder syncInterval(long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("syncInterval은 0보다 커야 합니다");
+            }
+            this.syncIntervalNanos = unit.toNanos(interval);
+            return this;
+        }
+
+        /**
+         * 새 세그먼트를 만들고 fsync 스레드를 시작하여 저널을 엽니다.
+         * @return AuditJournal 인스턴스
+         * @throws IOException 디렉터리나 세그먼트 파일을 만들 수 없는 경우
+         */
+        public AuditJournal build() throws IOException {
+            if (directory == null) {
+                throw new IllegalArgumentException("directory는 필수입니다");
+            }
+            return new AuditJournal(this);
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package com.masking.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+
+/**
+ * {@link AuditJournal} 세그먼트를 읽어 실제 싱크로 전달하는 리플레이어
+ *
+ * 이벤트를 배치로 모아 {@link AuditEventHandler#handleBatch(List)}로 전달하고, 성공하면 다음에 읽을 위치
+ * (세그먼트 번호, 위치)를 체크포인트 파일에 원자적으로 기록합니다. 싱크가 실패하면 체크포인트를 옮기지 않고
+ * 다음 라운드에 같은 배치부터 다시 보내므로 전달은 최소 한 번(at-least-once)입니다.
+ * maxEventsPerSecond로 전달 속도를 제한해 장애에서 돌아온 싱크에 밀린 이벤트가 한꺼번에 몰리지 않게 합니다.
+ *
+ * 저널과 다른 프로세스에서 실행해도 됩니다. 하나의 저널을 여러 리플레이어가 읽을 때는 체크포인트 파일을
+ * 각각 지정하고, 가장 느린 리플레이어가 읽기 전에 세그먼트가 지워지지 않도록 deleteConsumedSegments(false)로 두세요.
+ */
+public class AuditJournalReplayer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditJournalReplayer.class);
+
+    private final Path directory;
+    private final AuditEventHandler sink;
+    private final Path checkpointFile;
+    private final int batchSize;
+    private final long nanosPerEvent;
+    private final long pollIntervalNanos;
+    private final boolean deleteConsumedSegments;
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong corrupted = new AtomicLong();
+    private final CRC32 crc = new CRC32();
+    private byte[] payload = new byte[512];
+    private long segmentId;
+    private long position;
+    private ByteBuffer mapped;
+    private long mappedId = -1;
+    private long nextDeliveryNanos = System.nanoTime();
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    private AuditJournalReplayer(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.sink = builder.sink;
+        this.checkpointFile = builder.checkpointFile != null
+            ? builder.checkpointFile : directory.resolve("audit-replay.checkpoint");
+        this.batchSize = builder.batchSize;
+        this.nanosPerEvent = builder.maxEventsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / builder.maxEventsPerSecond : 0;
+        this.pollIntervalNanos = builder.pollIntervalNanos;
+        this.deleteConsumedSegments = builder.deleteConsumedSegments;
+        readCheckpoint();
+    }
+
+    /**
+     * AuditJournalReplayer 빌더를 생성합니다.
+     * @return Builder 인스턴스
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * 지금 저널에 있는 이벤트를 체크포인트 이후부터 모두 전달합니다. (속도 제한 적용)
+     * 싱크가 실패하면 그 배치에서 멈추고, 다음 호출에서 같은 배치부터 다시 전달합니다.
+     * @return 이번 호출에서 전달한 이벤트 수
+     * @throws IOException 세그먼트나 체크포인트 파일을 읽고 쓸 수 없는 경우
+     */
+    public synchronized int replayAvailable() throws IOException {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        int delivered = 0;
+        while (true) {
+            long batchEndId = segmentId;
+            long batchEndPosition = position;
+            while (batch.size() < batchSize) {
+                AuditEvent event = readNext();
+                if (event == null) {
+                    break;
+                }
+                batch.add(event);
+                batchEndId = segmentId;
+                batchEndPosition = position;
+            }
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+            pace(batch.size());
+            try {
+                sink.handleBatch(batch);
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                logger.error("감사 저널 재전송 실패, 다음 라운드에 다시 시도합니다: {} - {}",
+                    sink.getClass().getSimpleName(), e.getMessage());
+                readCheckpoint(); // 읽기 위치를 마지막 체크포인트로 되돌림
+                return delivered;
+            }
+            writeCheckpoint(batchEndId, batchEndPosition);
+            replayed.addAndGet(batch.size());
+            delivered += batch.size();
+            batch.clear();
+        }
+    }
+
+    /**
+     * pollInterval마다 {@link #replayAvailable()}을 실행하는 백그라운드 스레드를 시작합니다.
+     * @return this
+     */
+    public synchronized AuditJournalReplayer start() {
+        if (thread != null) {
+            throw new IllegalStateException("AuditJournalReplayer가 이미 시작되었습니다");
+        }
+        running = true;
+        thread = new Thread(this::run, "masking-audit-journal-replay");
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    /**
+     * 백그라운드 스레드를 종료합니다. 전달 중인 배치는 끝까지 보내고 체크포인트를 남깁니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 싱크에 전달 완료된 이벤트 수를 반환합니다.
+     * @return 전달 건수
+     */
+    public long getReplayedCount() {
+        return replayed.get();
+    }
+
+    /**
+     * 싱크 오류로 전달에 실패한 이벤트 수를 반환합니다. (다시 시도한 이벤트는 중복 집계)
+     * @return 실패 건수
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * CRC가 맞지 않아 건너뛴 세그먼트 끝부분과 해석할 수 없어 건너뛴 레코드의 수를 반환합니다.
+     * @return 건너뛴 횟수
+     */
+    public long getCorruptedCount() {
+        return corrupted.get();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                replayAvailable();
+            } catch (IOException e) {
+                logger.error("감사 저널 읽기 실패: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                // 스레드가 조용히 죽으면 이후 이벤트가 전달되지 않으므로 기록하고 다음 라운드에 다시 시도
+                logger.error("감사 저널 재전송 중 예외", e);
+            }
+            if (running) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * 다음 이벤트를 읽고 위치를 옮깁니다. 아직 기록되지 않았으면 null.
+     */
+    private AuditEvent readNext() throws IOException {
+        // 다음 세그먼트를 본 뒤 같은 위치를 한 번 더 읽었는지 여부
+        boolean rechecked = false;
+        while (true) {
+            ByteBuffer buffer = map(segmentId);
+            if (buffer == null) {
+                // 체크포인트 세그먼트가 없으면 (처음 실행, 또는 저널이 아직 안 열림) 가장 오래된 세그먼트부터
+                long[] ids = AuditJournal.segmentIds(directory);
+                long next = nextAfter(ids, segmentId);
+                if (next < 0) {
+                    return null;
+                }
+                moveTo(next);
+                continue;
+            }
+            int limit = buffer.capacity();
+            int length = position + AuditJournal.RECORD_HEADER <= limit ? buffer.getInt((int) position) : 0;
+            if (length == 0) {
+                // 기록된 끝: 다음 세그먼트가 있으면 이 세그먼트는 더 이상 쓰이지 않음
+                long next = nextAfter(AuditJournal.segmentIds(directory), segmentId);
+                if (next < 0) {
+                    return null;
+                }
+                if (!rechecked) {
+                    // 저널은 이 세그먼트에 레코드를 다 쓴 뒤에 다음 세그먼트 이름을 공개하므로,
+                    // 처음 읽은 뒤 마지막 레코드가 기록되었을 수 있어 같은 위치를 다시 읽음
+                    rechecked = true;
+                    continue;
+                }
+                moveTo(next);
+                rechecked = false;
+                continue;
+            }
+            int start = (int) position + AuditJournal.RECORD_HEADER;
+            boolean valid = length > 0 && length <= limit - start;
+            if (valid) {
+                if (payload.length < length) {
+                    payload = new byte[Math.max(length, payload.length * 2)];
+                }
+                ByteBuffer view = buffer.duplicate();
+                view.position(start);
+                view.get(payload, 0, length);
+                crc.reset();
+                crc.update(payload, 0, length);
+                valid = (int) crc.getValue() == buffer.getInt((int) position + 4);
+            }
+            if (!valid) {
+                long next = nextAfter(AuditJournal.segmentIds(directory), segmentId);
+                if (next < 0) {
+                    return null; // 기록 중인 레코드일 수 있으므로 다음 라운드에 다시 읽음
+                }
+                if (!rechecked) {
+                    rechecked = true; // 다음 세그먼트가 공개되기 전에 기록을 마친 레코드일 수 있음
+                    continue;
+                }
+                corrupted.incrementAndGet();
+                logger.warn("감사 저널 세그먼트 {}의 {} 이후가 손상되어 건너뜁니다", segmentId, position);
+                moveTo(next);
+                rechecked = false;
+                continue;
+            }
+            position = start + length;
+            try {
+                return decode(length);
+            } catch (RuntimeException e) {
+                // CRC는 맞지만 페이로드 형식이 다른 레코드 (다른 버전이 쓴 레코드 등): 이 레코드만 건너뜀
+                corrupted.incrementAndGet();
+                logger.warn("감사 저널 세그먼트 {}의 {} 레코드를 해석할 수 없어 건너뜁니다: {}",
+                    segmentId, start - AuditJournal.RECORD_HEADER, e.getMessage());
+            }
+        }
+    }
+
+    private AuditEvent decode(int length) {
+        long timestamp = getLong(payload, 0);
+        int[] cursor = {8};
+        String field = getString(cursor);
+        String before = getString(cursor);
+        String after = getString(cursor);
+        if (cursor[0] != length) {
+            throw new IllegalStateException("감사 저널 레코드 형식이 맞지 않습니다");
+        }
+        return AuditEvent.of(field, before, after, timestamp);
+    }
+
+    private String getString(int[] cursor) {
+        int n = cursor[0];
+        int length = getInt(payload, n);
+        n += 4;
+        if (length < 0) {
+            cursor[0] = n;
+            return null;
+        }
+        cursor[0] = n + length;
+        return new String(payload, n, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 세그먼트를 읽기 전용으로 매핑합니다. 파일이 없으면 null.
+     */
+    private ByteBuffer map(long id) throws IOException {
+        if (id == mappedId) {
+            return mapped;
+        }
+        if (position < AuditJournal.SEGMENT_HEADER) {
+            position = AuditJournal.SEGMENT_HEADER;
+        }
+        Path file = directory.resolve(AuditJournal.segmentName(id));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < AuditJournal.SEGMENT_HEADER) {
+                return ByteBuffer.allocate(0); // 저널이 막 만든 파일, 다음에 다시 매핑
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int magic = buffer.getInt(0);
+            // 헤더가 아직 0이면 만들어지는 중인 세그먼트 (레코드 길이도 0으로 읽힘)
+            if ((magic != 0 || buffer.getInt(4) != 0)
+                && (magic != AuditJournal.MAGIC || buffer.getInt(4) != AuditJournal.VERSION)) {
+                throw new IOException("감사 저널 세그먼트 형식이 아닙니다: " + file);
+            }
+            mapped = buffer;
+            mappedId = id;
+            return buffer;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void moveTo(long next) {
+        segmentId = next;
+        position = AuditJournal.SEGMENT_HEADER;
+    }
+
+    private static long nextAfter(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate > id) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private void pace(int events) {
+        if (nanosPerEvent == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (nextDeliveryNanos - now > 0) {
+            LockSupport.parkNanos(this, nextDeliveryNanos - now);
+        } else {
+            nextDeliveryNanos = now; // 쉬는 동안 쌓인 여유분은 몰아 쓰지 않음
+        }
+        nextDeliveryNanos += events * nanosPerEvent;
+    }
+
+    private void readCheckpoint() throws IOException {
+        mappedId = -1;
+        mapped = null;
+        if (!Files.exists(checkpointFile)) {
+            segmentId = 0;
+            position = AuditJournal.SEGMENT_HEADER;
+            return;
+        }
+        String[] parts = new String(Files.readAllBytes(checkpointFile), StandardCharsets.US_ASCII).trim().split(" ");
+        try {
+            segmentId = Long.parseLong(parts[0]);
+            position = Long.parseLong(parts[1]);
+        } catch (RuntimeException e) {
+            throw new IOException("감사 저널 체크포인트 형식이 아닙니다: " + checkpointFile, e);
+        }
+    }
+
+    private void writeCheckpoint(long id, long pos) throws IOException {
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer data = ByteBuffer.wrap((id + " " + pos + "\n").getBytes(StandardCharsets.US_ASCII));
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            // 이름을 바꾸기 전에 내용을 디스크에 내려야 장애 후 빈 체크포인트 파일이 남지 않음
+            channel.force(true);
+        }
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (deleteConsumedSegments) {
+            for (long old : AuditJournal.segmentIds(directory)) {
+                if (old < id) {
+                    Files.deleteIfExists(directory.resolve(AuditJournal.segmentName(old)));
+                }
+            }
+        }
+    }
+
+    private static int getInt(byte[] b, int n) {
+        return (b[n] & 0xff) << 24 | (b[n + 1] & 0xff) << 16 | (b[n + 2] & 0xff) << 8 | (b[n + 3] & 0xff);
+    }
+
+    private static long getLong(byte[] b, int n) {
+        return (long) getInt(b, n) << 32 | (getInt(b, n + 4) & 0xffffffffL);
+    }
+
+    /**
+     * AuditJournalReplayer 빌더
+     */
+    public static class Builder {
+        private Path directory;
+        private AuditEventHandler sink;
+        private Path checkpointFile;
+        private int batchSize = 256;
+        private int maxEventsPerSecond;
+        private long pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(200);
+        private boolean deleteConsumedSegments = true;
+
+        private Builder() {
+        }
+
+        /**
+         * 저널 세그먼트 디렉터리를 지정합니다. (필수)
+         * @param directory {@link AuditJournal}의 디렉터리
+         * @return Builder
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * 이벤트를 전달할 싱크를 지정합니다. (필수)
+         * 여러 채널로 보내면서 채널별 실패를 재시도하려면 채널마다 리플레이어를 두세요.
+         * @param sink 감사 이벤트 핸들러
+         * @return Builder
+         */
+        public Builder sink(AuditEventHandler sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * 체크포인트 파일을 지정합니다. (기본값 디렉터리/audit-replay.checkpoint)
+         * @param checkpointFile 체크포인트 파일
+         * @return Builder
+         */
+        public Builder checkpointFile(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        /**
+         * 한 번에 싱크로 전달할 최대 이벤트 수를 지정합니다. (기본값 256)
+         * @param batchSize 배치 크기
+         * @return Builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize는 0보다 커야 합니다");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * 초당 최대 전달 이벤트 수를 지정합니다. (기본값 0, 제한 없음)
+         * @param maxEventsPerSecond 초당 이벤트 수
+         * @return Builder
+         */
+        public Builder maxEventsPerSecond(int maxEventsPerSecond) {
+            if (maxEventsPerSecond < 0) {
+                throw new IllegalArgumentException("maxEventsPerSecond는 0 이상이어야 합니다");
+            }
+            this.maxEventsPerSecond = maxEventsPerSecond;
+            return this;
+        }
+
+        /**
+         * 백그라운드 스레드가 새 이벤트를 확인하는 주기를 지정합니다. (기본값 200ms)
+         * @param interval 주기
+         * @param unit 시간 단위
+         * @return Builder
+         */
+        public Builder pollInterval(long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("pollInterval은 0보다 커야 합니다");
+            }
+            this.pollIntervalNanos = unit.toNanos(interval);
+            return this;
+        }
+
+        /**
+         * 체크포인트가 지나간 세그먼트 파일을 삭제할지 지정합니다. (기본값 true)
+         * @param deleteConsumedSegments 삭제 여부
+         * @return Builder
+         */
+        public Builder deleteConsumedSegments(boolean deleteConsumedSegments) {
+            this.deleteConsumedSegments = deleteConsumedSegments;
+            return this;
+        }
+
+        /**
+         * 체크포인트를 읽어 리플레이어를 생성합니다. 백그라운드 전달은 {@link AuditJournalReplayer#start()}로 시작합니다.
+         * @return AuditJournalReplayer 인스턴스
+         * @throws IOException 체크포인트 파일을 읽을 수 없는 경우
+         */
+        public AuditJournalReplayer build() throws IOException {
+            if (directory == null || sink == null) {
+                throw new IllegalArgumentException("directory와 sink는 필수입니다");
+            }
+            return new AuditJournalReplayer(this);
+        }
+    }
+}
@@ -90,6 +90,28 @@ public class CompositeAuditEventHandler implements AuditEventHandler {
         }
     }
     
+    /**
+     * 감사 이벤트 목록을 모든 활성화된 핸들러에 배치로 전달합니다.
+     * 
+     * @param events 감사 이벤트 목록
+     */
+    @Override
+    public void handleBatch(List<AuditEvent> events) {
+        if (handlers.isEmpty()) {
+            logger.warn("활성화된 감사 핸들러가 없습니다.");
+            return;
+        }
+        
+        for (AuditEventHandler handler : handlers) {
+            try {
+                handler.handleBatch(events);
+            } catch (Exception e) {
+                logger.error("감사 핸들러 실행 중 오류 발생: {} - {}", 
+                    handler.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+    
     /**
      * 등록된 핸들러 수를 반환합니다.
      * 
@@ -1,8 +1,17 @@
 package com.masking.audit;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 감사 로그를 DB 테이블에 저장합니다.
@@ -17,40 +26,289 @@ import java.sql.PreparedStatement;
  *
  *
  *   H2에 넣으로 쓸거야
+ *
+ * 버퍼 모드({@link #buffered(DataSource, int, long)})에서는 이벤트를 모아 두었다가 건수 또는 시간 기준으로
+ * 재사용하는 PreparedStatement에 addBatch/executeBatch 후 한 번에 커밋합니다(그룹 커밋).
+ * 기록에 실패한 이벤트는 버퍼 앞쪽에 되돌려 다음 flush에서 다시 기록하며, batchSize의 10배까지만 보관하고
+ * 넘치는 만큼 가장 오래된 이벤트부터 버립니다. ({@link #getDroppedCount()})
+ * {@link #close()} 뒤에는 기록할 스레드가 없으므로 새 이벤트를 받지 않고 IllegalStateException을 던집니다.
+ * DataSource는 {@link com.masking.config.DataSourceConfig}의 HikariCP 풀 사용을 권장합니다.
  */
-public class DatabaseAuditEventHandler implements AuditEventHandler {
+public class DatabaseAuditEventHandler implements AuditEventHandler, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseAuditEventHandler.class);
+    private static final String INSERT_SQL = "INSERT INTO audit_log(field, before_val, after_val) VALUES (?,?,?)";
+    private static final String DEFAULT_MESSAGE = "field=${field}, before=${before}, after=${after}";
+    private static final int MAX_RETAINED_BATCHES = 10;
+
     private final DataSource dataSource;
+    private final String messageTpl;
+    private final int batchSize;
+    private final ScheduledExecutorService flusher;
+
+    private final Object bufferLock = new Object();
+    private List<AuditEvent> buffer;
+    private long dropped;
+    private boolean closed;
+
+    // 버퍼 모드에서 재사용하는 연결과 statement (writeLock으로 보호)
+    private final Object writeLock = new Object();
+    private Connection connection;
+    private PreparedStatement statement;
 
     public DatabaseAuditEventHandler(DataSource dataSource) {
+        this(dataSource, 0, 0);
+    }
+
+    private DatabaseAuditEventHandler(DataSource dataSource, int batchSize, long flushIntervalMillis) {
         this.dataSource = dataSource;
+        this.messageTpl = loadMessageTemplate();
+        this.batchSize = batchSize;
+        if (batchSize > 0) {
+            this.buffer = new ArrayList<>(batchSize);
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "masking-audit-db-flusher");
+                t.setDaemon(true);
+                return t;
+            });
+            this.flusher.scheduleWithFixedDelay(this::flushQuietly,
+                flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
     }
 
-    @Override
-    public void handle(String field, String before, String after) {
-        // 메시지 템플릿 적용 (yml에서 읽어옴)
-        String messageTpl = null;
+    /**
+     * 이벤트를 모아 배치 INSERT하는 버퍼 모드 핸들러를 생성합니다.
+     * 버퍼가 batchSize에 도달하거나 flushIntervalMillis가 지나면 한 트랜잭션으로 기록합니다.
+     * 종료 시 {@link #close()}를 호출해야 남은 이벤트가 기록됩니다.
+     * @param dataSource 데이터소스
+     * @param batchSize 한 번에 기록할 최대 이벤트 수
+     * @param flushIntervalMillis 버퍼를 비우는 주기(밀리초)
+     * @return DatabaseAuditEventHandler 인스턴스
+     */
+    public static DatabaseAuditEventHandler buffered(DataSource dataSource, int batchSize, long flushIntervalMillis) {
+        if (batchSize <= 0 || flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("batchSize와 flushIntervalMillis는 0보다 커야 합니다");
+        }
+        return new DatabaseAuditEventHandler(dataSource, batchSize, flushIntervalMillis);
+    }
+
+    private static String loadMessageTemplate() {
+        // 메시지 템플릿 적용 (yml에서 한 번만 읽어옴)
         try {
             com.masking.config.DatabaseConfig dbCfg = com.masking.config.TemplateConfig.getTemplates().database;
             if (dbCfg != null && dbCfg.message != null) {
-                messageTpl = dbCfg.message;
+                return dbCfg.message;
             }
         } catch (Exception ignored) {}
-        if (messageTpl == null) {
-            messageTpl = "field=${field}, before=${before}, after=${after}";
-        }
-        String message = messageTpl.replace("${field}", field)
-                                  .replace("${before}", before)
-                                  .replace("${after}", after);
+        return DEFAULT_MESSAGE;
+    }
 
-        String sql = "INSERT INTO audit_log(field, before_val, after_val) VALUES (?,?,?)";
+    @Override
+    public void handle(String field, String before, String after) {
+        if (batchSize > 0) {
+            enqueue(AuditEvent.of(field, before, after));
+            return;
+        }
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, field);
-            ps.setString(2, message); // 템플릿 메시지를 before_val에 저장
-            ps.setString(3, after);   // after_val은 그대로
+             PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            bind(ps, field, before, after);
             ps.executeUpdate();
         } catch (Exception e) {
             throw new RuntimeException("DB 감사로그 쓰기 실패", e);
         }
     }
+
+    /**
+     * 감사 이벤트 목록을 JDBC 배치로 기록합니다. 버퍼 모드에서는 버퍼에 추가합니다.
+     * @param events 감사 이벤트 목록
+     */
+    @Override
+    public void handleBatch(List<AuditEvent> events) {
+        if (batchSize > 0) {
+            for (AuditEvent event : events) {
+                enqueue(event);
+            }
+            return;
+        }
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                executeBatch(conn, ps, events);
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("DB 감사로그 쓰기 실패", e);
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 즉시 기록합니다.
+     * 실패하면 이벤트를 버퍼에 되돌린 뒤 예외를 던집니다.
+     */
+    public void flush() {
+        if (batchSize <= 0) {
+            return;
+        }
+        List<AuditEvent> events;
+        synchronized (bufferLock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            events = buffer;
+            buffer = new ArrayList<>(batchSize);
+        }
+        synchronized (writeLock) {
+            try {
+                Connection conn = connection();
+                executeBatch(conn, statement, events);
+            } catch (SQLException e) {
+                // 연결 상태를 알 수 없으므로 다음 flush에서 새로 연결
+                closeConnection();
+                retain(events);
+                throw new RuntimeException("DB 감사로그 배치 쓰기 실패 (" + events.size() + "건)", e);
+            }
+        }
+    }
+
+    /**
+     * 새 이벤트를 더 받지 않고, 남은 이벤트를 기록하고 주기적 flush를 중단한 뒤 연결을 반환합니다.
+     */
+    @Override
+    public void close() {
+        if (flusher == null) {
+            return;
+        }
+        synchronized (bufferLock) {
+            closed = true;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } finally {
+            synchronized (writeLock) {
+                closeConnection();
+            }
+        }
+    }
+
+    /**
+     * 보관 한도를 넘어 버린 이벤트 수를 반환합니다.
+     * @return 버린 이벤트 수
+     */
+    public long getDroppedCount() {
+        synchronized (bufferLock) {
+            return dropped;
+        }
+    }
+
+    private void enqueue(AuditEvent event) {
+        boolean full;
+        synchronized (bufferLock) {
+            if (closed) {
+                throw new IllegalStateException("DatabaseAuditEventHandler가 이미 종료되었습니다");
+            }
+            buffer.add(event);
+            // 실패한 이벤트가 남아 있어도 batchSize건마다 한 번만 재시도
+            full = buffer.size() % batchSize == 0;
+        }
+        if (full) {
+            // 실패한 이벤트는 버퍼에 남아 다시 기록되므로 호출자에게 예외를 넘기지 않음 (재전송 시 중복 방지)
+            flushQuietly();
+        }
+    }
+
+    /**
+     * 기록에 실패한 이벤트를 그 사이 쌓인 이벤트보다 앞에 되돌립니다.
+     */
+    private void retain(List<AuditEvent> events) {
+        synchronized (bufferLock) {
+            List<AuditEvent> merged = new ArrayList<>(events.size() + buffer.size());
+            merged.addAll(events);
+            merged.addAll(buffer);
+            int overflow = merged.size() - batchSize * MAX_RETAINED_BATCHES;
+            if (overflow > 0) {
+                dropped += overflow;
+                logger.error("DB 감사로그 보관 한도 초과로 오래된 이벤트 {}건을 버립니다", overflow);
+                merged = new ArrayList<>(merged.subList(overflow, merged.size()));
+            }
+            buffer = merged;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error("DB 감사로그 flush 실패 (다음 flush에서 재시도): {}", e.getMessage());
+        }
+    }
+
+    private void executeBatch(Connection conn, PreparedStatement ps, List<AuditEvent> events) throws SQLException {
+        try {
+            for (AuditEvent event : events) {
+                bind(ps, event.getField(), event.getBefore(), event.getAfter());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            try {
+                ps.clearBatch();
+                conn.rollback();
+            } catch (SQLException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private void bind(PreparedStatement ps, String field, String before, String after) throws SQLException {
+        ps.setString(1, field);
+        ps.setString(2, format(field, before, after)); // 템플릿 메시지를 before_val에 저장
+        ps.setString(3, after);                        // after_val은 그대로
+    }
+
+    private String format(String field, String before, String after) {
+        return messageTpl.replace("${field}", String.valueOf(field))
+                         .replace("${before}", String.valueOf(before))
+                         .replace("${after}", String.valueOf(after));
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            closeConnection();
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(INSERT_SQL);
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            logger.warn("PreparedStatement 닫기 실패: {}", e.getMessage());
+        }
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            logger.warn("DB 연결 닫기 실패: {}", e.getMessage());
+        }
+        statement = null;
+        connection = null;
+    }
 }
@@ -0,0 +1,448 @@
+package com.masking.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * 크기가 제한된 동시성 캐시 (W-TinyLFU 방식 빈도 기반 제거)
+ *
+ * 새 항목은 작은 LRU 윈도(전체의 1%)에 먼저 들어가고, 윈도에서 밀려난 항목은 본 영역(SLRU: probation 20% + protected 80%)의
+ * 제거 후보와 접근 빈도(Count-Min 스케치 추정치)를 비교해 더 자주 쓰인 쪽만 남깁니다.
+ * 한 번만 등장하는 값이 대량으로 들어와도 자주 쓰는 값이 밀려나지 않습니다.
+ *
+ * 조회는 ConcurrentHashMap에서 잠금 없이 수행하고, 순서 갱신은 잠금을 바로 얻을 수 있을 때만 반영합니다. (경합 시 생략)
+ * 크기는 항목 수와 추정 바이트 수로 제한할 수 있으며, 둘 다 지정하면 둘 중 먼저 넘는 기준으로 제거합니다.
+ *
+ * 사용법:
+ * <pre>
+ * BoundedCache&lt;String, String&gt; cache = BoundedCache.&lt;String, String&gt;newBuilder()
+ *     .maximumWeightBytes(64 * 1024 * 1024)
+ *     .build();
+ * String token = cache.get(input, strategy::tokenize);
+ * </pre>
+ */
+public final class BoundedCache<K, V> {
+    /** 항목당 맵 노드·큐 노드 오버헤드 추정치 (바이트) */
+    static final int ENTRY_OVERHEAD = 96;
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    /** 어느 큐에도 연결되지 않은 상태 (추가 직전 또는 제거됨) */
+    private static final int REMOVED = 3;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final boolean weighted;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final FrequencySketch sketch;
+
+    // evictionLock으로 보호
+    private final Node<K, V>[] heads;
+    private final long[] queueWeights = new long[3];
+    private long totalWeight;
+    private long totalCount;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private BoundedCache(Builder<K, V> builder) {
+        this.weigher = builder.weigher;
+        this.maximumSize = builder.maximumSize > 0 ? builder.maximumSize : Long.MAX_VALUE;
+        this.maximumWeight = builder.maximumWeightBytes > 0 ? builder.maximumWeightBytes : Long.MAX_VALUE;
+        // 영역 크기는 바이트 한도가 있으면 바이트 기준, 없으면 항목 수 기준
+        this.weighted = builder.maximumWeightBytes > 0;
+        long budget = weighted ? builder.maximumWeightBytes : builder.maximumSize;
+        this.windowMaximum = Math.max(1, budget / 100);
+        this.protectedMaximum = (long) ((budget - windowMaximum) * 0.8);
+        long expectedEntries = builder.maximumSize > 0
+            ? builder.maximumSize : builder.maximumWeightBytes / (ENTRY_OVERHEAD + 64);
+        this.sketch = new FrequencySketch(expectedEntries);
+        @SuppressWarnings("unchecked")
+        Node<K, V>[] queues = (Node<K, V>[]) new Node<?, ?>[3];
+        for (int q = 0; q < queues.length; q++) {
+            Node<K, V> sentinel = new Node<>(null, null, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            queues[q] = sentinel;
+        }
+        this.heads = queues;
+    }
+
+    /**
+     * BoundedCache 빌더를 생성합니다.
+     * @return Builder 인스턴스
+     */
+    public static <K, V> Builder<K, V> newBuilder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader로 계산해 저장한 뒤 반환합니다.
+     * 같은 키를 동시에 처음 조회하면 loader가 여러 번 호출될 수 있으며, 먼저 저장된 값이 반환됩니다.
+     * @param key 키
+     * @param loader 값 계산 함수 (null을 반환하면 저장하지 않음)
+     * @return 캐시된 값 또는 새로 계산한 값
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        return put(key, value);
+    }
+
+    /**
+     * 캐시된 값을 반환합니다. 조회 결과는 적중/미스 통계에 반영됩니다.
+     * @param key 키
+     * @return 캐시된 값, 없으면 null
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (evictionLock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * 값을 저장합니다. 이미 값이 있으면 기존 값을 유지하고 반환합니다.
+     * @param key 키
+     * @param value 값
+     * @return 캐시에 남은 값
+     */
+    public V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value, Math.max(1, weigher.applyAsLong(key, value)));
+        Node<K, V> existing = data.putIfAbsent(key, node);
+        if (existing != null) {
+            return existing.value;
+        }
+        evictionLock.lock();
+        try {
+            sketch.increment(key.hashCode());
+            if (data.get(key) == node) {
+                link(node, WINDOW);
+                totalWeight += node.weight;
+                totalCount++;
+                evict();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * 모든 항목을 제거합니다. 통계는 유지됩니다.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                if (node.queue != REMOVED) {
+                    unlink(node);
+                }
+            }
+            data.clear();
+            totalWeight = 0;
+            totalCount = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 키의 항목을 모두 제거합니다. 제거 통계에는 포함하지 않습니다.
+     * @param filter 제거할 키 조건
+     */
+    public void invalidateIf(Predicate<? super K> filter) {
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                if (filter.test(node.key) && data.remove(node.key, node) && node.queue != REMOVED) {
+                    // 아직 연결되지 않은 항목은 put이 data에서 빠진 것을 보고 연결하지 않음
+                    unlink(node);
+                    totalWeight -= node.weight;
+                    totalCount--;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == REMOVED) {
+            return;
+        }
+        sketch.increment(node.key.hashCode());
+        if (node.queue == PROBATION) {
+            // 본 영역에서 다시 쓰인 항목은 protected로 승격하고, 넘치면 가장 오래된 항목을 probation으로 강등
+            unlink(node);
+            link(node, PROTECTED);
+            while (queueWeights[PROTECTED] > protectedMaximum) {
+                Node<K, V> demoted = heads[PROTECTED].next;
+                unlink(demoted);
+                link(demoted, PROBATION);
+            }
+        } else {
+            int queue = node.queue;
+            unlink(node);
+            link(node, queue);
+        }
+    }
+
+    private void evict() {
+        // 윈도에서 밀려난 항목은 probation의 가장 최근 위치로 이동해 입장 후보가 됨
+        while (queueWeights[WINDOW] > windowMaximum && heads[WINDOW].next != heads[WINDOW]) {
+            Node<K, V> candidate = heads[WINDOW].next;
+            unlink(candidate);
+            link(candidate, PROBATION);
+        }
+        while (totalWeight > maximumWeight || totalCount > maximumSize) {
+            Node<K, V> victim = heads[PROBATION].next;
+            Node<K, V> candidate = heads[PROBATION].prev;
+            if (victim == heads[PROBATION]) {
+                victim = heads[PROTECTED].next != heads[PROTECTED] ? heads[PROTECTED].next : heads[WINDOW].next;
+                remove(victim);
+            } else if (victim == candidate) {
+                remove(victim);
+            } else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                remove(victim);
+            } else {
+                remove(candidate);
+            }
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        unlink(node);
+        data.remove(node.key, node);
+        totalWeight -= node.weight;
+        totalCount--;
+        evictions.increment();
+    }
+
+    private void link(Node<K, V> node, int queue) {
+        Node<K, V> head = heads[queue];
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+        node.queue = queue;
+        queueWeights[queue] += units(node);
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        queueWeights[node.queue] -= units(node);
+        node.queue = REMOVED;
+    }
+
+    /** 영역 크기 계산 단위: 바이트 한도가 있으면 추정 바이트, 없으면 항목 1개 */
+    private long units(Node<K, V> node) {
+        return weighted ? node.weight : 1;
+    }
+
+    /**
+     * 현재 항목 수를 반환합니다.
+     * @return 항목 수
+     */
+    public long size() {
+        return data.size();
+    }
+
+    /**
+     * 현재 항목들의 추정 크기를 반환합니다.
+     * @return 추정 바이트 수
+     */
+    public long weightedSize() {
+        evictionLock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 적중 수를 반환합니다.
+     * @return 적중 수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 캐시 미스 수를 반환합니다.
+     * @return 미스 수
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 용량 초과로 제거된 항목 수를 반환합니다.
+     * @return 제거 수
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 적중률을 반환합니다.
+     * @return 0.0 ~ 1.0, 조회가 없었으면 0.0
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /**
+     * 캐시 지표를 Micrometer 레지스트리에 등록합니다.
+     * @param registry 메트릭 레지스트리
+     * @param name 캐시 이름 (cache 태그)
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("masking.cache.hits", hits, LongAdder::sum)
+            .tag("cache", name)
+            .description("캐시 적중 수")
+            .register(registry);
+        FunctionCounter.builder("masking.cache.misses", misses, LongAdder::sum)
+            .tag("cache", name)
+            .description("캐시 미스 수")
+            .register(registry);
+        FunctionCounter.builder("masking.cache.evictions", evictions, LongAdder::sum)
+            .tag("cache", name)
+            .description("용량 초과로 제거된 항목 수")
+            .register(registry);
+        Gauge.builder("masking.cache.size", data, ConcurrentHashMap::size)
+            .tag("cache", name)
+            .description("캐시 항목 수")
+            .register(registry);
+        Gauge.builder("masking.cache.weight.bytes", this, BoundedCache::weightedSize)
+            .tag("cache", name)
+            .description("캐시 항목의 추정 바이트 수")
+            .register(registry);
+    }
+
+    /**
+     * 키와 값의 힙 사용량을 추정합니다. 문자열은 UTF-16 기준으로 계산합니다.
+     */
+    static long estimateBytes(Object key, Object value) {
+        return ENTRY_OVERHEAD + estimateBytes(key) + estimateBytes(value);
+    }
+
+    private static long estimateBytes(Object o) {
+        if (o instanceof CharSequence) {
+            return 40 + 2L * ((CharSequence) o).length();
+        }
+        if (o instanceof byte[]) {
+            return 16 + ((byte[]) o).length;
+        }
+        return 16;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        // evictionLock으로 보호
+        Node<K, V> prev;
+        Node<K, V> next;
+        int queue;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.queue = REMOVED;
+        }
+    }
+
+    /**
+     * BoundedCache 빌더
+     */
+    public static final class Builder<K, V> {
+        private long maximumSize;
+        private long maximumWeightBytes;
+        private ToLongBiFunction<? super K, ? super V> weigher = BoundedCache::estimateBytes;
+
+        private Builder() {
+        }
+
+        /**
+         * 최대 항목 수를 지정합니다.
+         * @param maximumSize 최대 항목 수
+         * @return Builder
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * 캐시가 차지할 최대 추정 바이트 수를 지정합니다.
+         * @param maximumWeightBytes 최대 바이트 수
+         * @return Builder
+         */
+        public Builder<K, V> maximumWeightBytes(long maximumWeightBytes) {
+            this.maximumWeightBytes = maximumWeightBytes;
+            return this;
+        }
+
+        /**
+         * 항목 크기 추정 함수를 지정합니다. 기본값은 문자열 길이 기반 추정입니다.
+         * @param weigher (키, 값) → 바이트 수
+         * @return Builder
+         */
+        public Builder<K, V> weigher(ToLongBiFunction<? super K, ? super V> weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * BoundedCache를 생성합니다.
+         * @return BoundedCache 인스턴스
+         */
+        public BoundedCache<K, V> build() {
+            if (maximumSize <= 0 && maximumWeightBytes <= 0) {
+                throw new IllegalArgumentException("maximumSize 또는 maximumWeightBytes 중 하나는 0보다 커야 합니다");
+            }
+            if (weigher == null) {
+                throw new IllegalArgumentException("weigher는 null일 수 없습니다");
+            }
+            return new BoundedCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.masking.cache;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * 캐싱 데코레이터들이 공유하는 배치 처리: 캐시에 없는 값만 모아 원본 전략의 배치 메서드로 한 번에 계산합니다.
+ */
+final class CachedBatch {
+
+    private CachedBatch() {
+    }
+
+    static String[] apply(String[] inputs, BoundedCache<String, String> cache, UnaryOperator<String[]> batchLoader) {
+        String[] results = new String[inputs.length];
+        int[] missing = new int[inputs.length];
+        int missCount = 0;
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] == null) continue;
+            String cached = cache.getIfPresent(inputs[i]);
+            if (cached != null) {
+                results[i] = cached;
+            } else {
+                missing[missCount++] = i;
+            }
+        }
+        if (missCount == 0) {
+            return results;
+        }
+        String[] misses = new String[missCount];
+        for (int k = 0; k < missCount; k++) {
+            misses[k] = inputs[missing[k]];
+        }
+        String[] loaded = batchLoader.apply(misses);
+        for (int k = 0; k < missCount; k++) {
+            results[missing[k]] = loaded[k] == null ? null : cache.put(misses[k], loaded[k]);
+        }
+        return results;
+    }
+
+    static BoundedCache<String, String> newCache(long maximumWeightBytes) {
+        return BoundedCache.<String, String>newBuilder()
+            .maximumWeightBytes(maximumWeightBytes)
+            .build();
+    }
+
+    static void requireDeterministic(boolean deterministic, Object strategy) {
+        if (!deterministic) {
+            throw new IllegalArgumentException(
+                "결정적이지 않은 전략은 캐시할 수 없습니다: " + strategy.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.masking.cache;
+
+import com.masking.strategy.encrypt.DecryptionStrategy;
+import com.masking.strategy.encrypt.EnvelopeEncryptionStrategy;
+
+/**
+ * 복호화 결과(암호문 → 평문)를 {@link BoundedCache}에 저장해 재사용하는 데코레이터
+ *
+ * 같은 행을 반복해서 읽는 읽기 경로에서 복호화를 건너뜁니다. 암호문 하나는 항상 같은 평문이 되므로
+ * AES-GCM처럼 결정적이지 않은 전략도 감쌀 수 있습니다. 암호화는 캐시 없이 원본 전략에 위임합니다.
+ * 평문이 캐시 값으로 힙에 남으므로, 평문 보존이 허용되는 환경에서만 사용하세요.
+ * {@link EnvelopeEncryptionStrategy}를 감싸면 키링에서 키를 제거할 때 그 키의 암호문으로 캐시한 평문도 함께 지웁니다.
+ *
+ * 사용법:
+ * <pre>
+ * DecryptionStrategy hot = CachingDecryptionStrategy.of(envelope, 16 * 1024 * 1024);
+ * Action decrypt = DecryptAction.of("ssn", hot);
+ * </pre>
+ */
+public class CachingDecryptionStrategy implements DecryptionStrategy {
+    private final DecryptionStrategy delegate;
+    private final BoundedCache<String, String> cache;
+
+    private CachingDecryptionStrategy(DecryptionStrategy delegate, BoundedCache<String, String> cache) {
+        if (delegate == null || cache == null) {
+            throw new IllegalArgumentException("delegate와 cache는 필수입니다");
+        }
+        this.delegate = delegate;
+        this.cache = cache;
+        if (delegate instanceof EnvelopeEncryptionStrategy) {
+            ((EnvelopeEncryptionStrategy) delegate).getKeyring().addEvictionListener(
+                keyId -> cache.invalidateIf(cipherText -> keyId.equals(keyIdOf(cipherText))));
+        }
+    }
+
+    private static String keyIdOf(String cipherText) {
+        try {
+            return EnvelopeEncryptionStrategy.keyIdOf(cipherText);
+        } catch (RuntimeException e) {
+            return null; // 엔벨로프 형식이 아닌 값은 복호화에 실패해 캐시되지 않았음
+        }
+    }
+
+    /**
+     * 추정 바이트 수로 크기를 제한한 평문 캐시로 전략을 감쌉니다.
+     * @param delegate 원본 전략
+     * @param maximumWeightBytes 캐시 최대 추정 바이트 수
+     * @return CachingDecryptionStrategy 인스턴스
+     */
+    public static CachingDecryptionStrategy of(DecryptionStrategy delegate, long maximumWeightBytes) {
+        return new CachingDecryptionStrategy(delegate, CachedBatch.newCache(maximumWeightBytes));
+    }
+
+    /**
+     * 지정한 캐시로 전략을 감쌉니다. 캐시를 다른 전략과 공유하면 안 됩니다.
+     * @param delegate 원본 전략
+     * @param cache 평문 캐시
+     * @return CachingDecryptionStrategy 인스턴스
+     */
+    public static CachingDecryptionStrategy of(DecryptionStrategy delegate, BoundedCache<String, String> cache) {
+        return new CachingDecryptionStrategy(delegate, cache);
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return delegate.isDeterministic();
+    }
+
+    @Override
+    public String encrypt(String input) {
+        return delegate.encrypt(input);
+    }
+
+    @Override
+    public String[] encryptBatch(String[] inputs) {
+        return delegate.encryptBatch(inputs);
+    }
+
+    @Override
+    public String decrypt(String input) {
+        if (input == null) return null;
+        return cache.get(input, delegate::decrypt);
+    }
+
+    /**
+     * 캐시에 없는 암호문만 모아 원본 전략의 배치 메서드로 복호화합니다.
+     * @param inputs 암호문 배열
+     * @return 입력과 같은 순서의 평문 배열
+     */
+    @Override
+    public String[] decryptBatch(String[] inputs) {
+        return CachedBatch.apply(inputs, cache, delegate::decryptBatch);
+    }
+
+    /**
+     * 원본 전략을 반환합니다.
+     * @return 원본 전략
+     */
+    public DecryptionStrategy getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 평문 캐시를 반환합니다. (적중률 등 통계 조회용)
+     * @return 캐시
+     */
+    public BoundedCache<String, String> getCache() {
+        return cache;
+    }
+}
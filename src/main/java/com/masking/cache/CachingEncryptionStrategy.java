@@ -0,0 +1,90 @@
+package com.masking.cache;
+
+import com.masking.strategy.encrypt.EncryptionStrategy;
+
+/**
+ * 결정적인 EncryptionStrategy의 결과를 {@link BoundedCache}에 저장해 재사용하는 데코레이터
+ *
+ * AES/ECB처럼 결정적인 암호화에서 자주 반복되는 평문의 암호문을 재사용합니다.
+ * {@link EncryptionStrategy#isDeterministic()}이 false인 전략은 감쌀 수 없습니다.
+ * 캐시 키로 평문이 힙에 남으므로, 평문 보존이 허용되는 환경에서만 사용하세요.
+ *
+ * 사용법:
+ * <pre>
+ * EncryptionStrategy cached = CachingEncryptionStrategy.of(AesEncryptionStrategy.of(key), 32 * 1024 * 1024);
+ * </pre>
+ */
+public class CachingEncryptionStrategy implements EncryptionStrategy {
+    private final EncryptionStrategy delegate;
+    private final BoundedCache<String, String> cache;
+
+    private CachingEncryptionStrategy(EncryptionStrategy delegate, BoundedCache<String, String> cache) {
+        if (delegate == null || cache == null) {
+            throw new IllegalArgumentException("delegate와 cache는 필수입니다");
+        }
+        CachedBatch.requireDeterministic(delegate.isDeterministic(), delegate);
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * 추정 바이트 수로 크기를 제한한 캐시로 전략을 감쌉니다.
+     * @param delegate 원본 전략 (결정적이어야 함)
+     * @param maximumWeightBytes 캐시 최대 추정 바이트 수
+     * @return CachingEncryptionStrategy 인스턴스
+     */
+    public static CachingEncryptionStrategy of(EncryptionStrategy delegate, long maximumWeightBytes) {
+        return new CachingEncryptionStrategy(delegate, CachedBatch.newCache(maximumWeightBytes));
+    }
+
+    /**
+     * 지정한 캐시로 전략을 감쌉니다. 캐시를 다른 전략과 공유하면 안 됩니다.
+     * @param delegate 원본 전략 (결정적이어야 함)
+     * @param cache 결과 캐시
+     * @return CachingEncryptionStrategy 인스턴스
+     */
+    public static CachingEncryptionStrategy of(EncryptionStrategy delegate, BoundedCache<String, String> cache) {
+        return new CachingEncryptionStrategy(delegate, cache);
+    }
+
+    @Override
+    public String encrypt(String input) {
+        if (input == null) return null;
+        return cache.get(input, delegate::encrypt);
+    }
+
+    /**
+     * 결정적 전략만 감쌀 수 있으므로 항상 결정적입니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    /**
+     * 캐시에 없는 값만 모아 원본 전략의 배치 메서드로 처리합니다.
+     * @param inputs 원본 값 배열
+     * @return 입력과 같은 순서의 결과 배열
+     */
+    @Override
+    public String[] encryptBatch(String[] inputs) {
+        return CachedBatch.apply(inputs, cache, delegate::encryptBatch);
+    }
+
+    /**
+     * 원본 전략을 반환합니다.
+     * @return 원본 전략
+     */
+    public EncryptionStrategy getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 결과 캐시를 반환합니다. (적중률 등 통계 조회용)
+     * @return 캐시
+     */
+    public BoundedCache<String, String> getCache() {
+        return cache;
+    }
+}
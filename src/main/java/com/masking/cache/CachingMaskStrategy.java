@@ -0,0 +1,89 @@
+package com.masking.cache;
+
+import com.masking.strategy.mask.MaskStrategy;
+
+/**
+ * 결정적인 MaskStrategy의 결과를 {@link BoundedCache}에 저장해 재사용하는 데코레이터
+ *
+ * 도시명, 회사명처럼 같은 값이 반복되는 컬럼에서 정규식 재검사를 건너뜁니다.
+ * {@link MaskStrategy#isDeterministic()}이 false인 전략은 감쌀 수 없습니다.
+ *
+ * 사용법:
+ * <pre>
+ * MaskStrategy cached = CachingMaskStrategy.of(RegexMaskStrategy.of("(?<=.).(?=[^@]+@)", '*'), 32 * 1024 * 1024);
+ * </pre>
+ */
+public class CachingMaskStrategy implements MaskStrategy {
+    private final MaskStrategy delegate;
+    private final BoundedCache<String, String> cache;
+
+    private CachingMaskStrategy(MaskStrategy delegate, BoundedCache<String, String> cache) {
+        if (delegate == null || cache == null) {
+            throw new IllegalArgumentException("delegate와 cache는 필수입니다");
+        }
+        CachedBatch.requireDeterministic(delegate.isDeterministic(), delegate);
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * 추정 바이트 수로 크기를 제한한 캐시로 전략을 감쌉니다.
+     * @param delegate 원본 전략 (결정적이어야 함)
+     * @param maximumWeightBytes 캐시 최대 추정 바이트 수
+     * @return CachingMaskStrategy 인스턴스
+     */
+    public static CachingMaskStrategy of(MaskStrategy delegate, long maximumWeightBytes) {
+        return new CachingMaskStrategy(delegate, CachedBatch.newCache(maximumWeightBytes));
+    }
+
+    /**
+     * 지정한 캐시로 전략을 감쌉니다. 캐시를 다른 전략과 공유하면 안 됩니다.
+     * @param delegate 원본 전략 (결정적이어야 함)
+     * @param cache 결과 캐시
+     * @return CachingMaskStrategy 인스턴스
+     */
+    public static CachingMaskStrategy of(MaskStrategy delegate, BoundedCache<String, String> cache) {
+        return new CachingMaskStrategy(delegate, cache);
+    }
+
+    @Override
+    public String mask(String input) {
+        if (input == null) return null;
+        return cache.get(input, delegate::mask);
+    }
+
+    /**
+     * 결정적 전략만 감쌀 수 있으므로 항상 결정적입니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    /**
+     * 캐시에 없는 값만 모아 원본 전략의 배치 메서드로 처리합니다.
+     * @param inputs 원본 값 배열
+     * @return 입력과 같은 순서의 결과 배열
+     */
+    @Override
+    public String[] maskBatch(String[] inputs) {
+        return CachedBatch.apply(inputs, cache, delegate::maskBatch);
+    }
+
+    /**
+     * 원본 전략을 반환합니다.
+     * @return 원본 전략
+     */
+    public MaskStrategy getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 결과 캐시를 반환합니다. (적중률 등 통계 조회용)
+     * @return 캐시
+     */
+    public BoundedCache<String, String> getCache() {
+        return cache;
+    }
+}
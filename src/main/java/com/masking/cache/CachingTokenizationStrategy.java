@@ -0,0 +1,89 @@
+package com.masking.cache;
+
+import com.masking.strategy.tokenize.TokenizationStrategy;
+
+/**
+ * 결정적인 TokenizationStrategy의 결과를 {@link BoundedCache}에 저장해 재사용하는 데코레이터
+ *
+ * 반복되는 값(도시, 이메일 도메인 등)은 해시를 다시 계산하지 않고 캐시된 토큰을 돌려줍니다.
+ * {@link TokenizationStrategy#isDeterministic()}이 false인 전략은 감쌀 수 없습니다.
+ *
+ * 사용법:
+ * <pre>
+ * TokenizationStrategy cached = CachingTokenizationStrategy.of(HashTokenizationStrategy.of("salt"), 32 * 1024 * 1024);
+ * </pre>
+ */
+public class CachingTokenizationStrategy implements TokenizationStrategy {
+    private final TokenizationStrategy delegate;
+    private final BoundedCache<String, String> cache;
+
+    private CachingTokenizationStrategy(TokenizationStrategy delegate, BoundedCache<String, String> cache) {
+        if (delegate == null || cache == null) {
+            throw new IllegalArgumentException("delegate와 cache는 필수입니다");
+        }
+        CachedBatch.requireDeterministic(delegate.isDeterministic(), delegate);
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * 추정 바이트 수로 크기를 제한한 캐시로 전략을 감쌉니다.
+     * @param delegate 원본 전략 (결정적이어야 함)
+     * @param maximumWeightBytes 캐시 최대 추정 바이트 수
+     * @return CachingTokenizationStrategy 인스턴스
+     */
+    public static CachingTokenizationStrategy of(TokenizationStrategy delegate, long maximumWeightBytes) {
+        return new CachingTokenizationStrategy(delegate, CachedBatch.newCache(maximumWeightBytes));
+    }
+
+    /**
+     * 지정한 캐시로 전략을 감쌉니다. 캐시를 다른 전략과 공유하면 안 됩니다.
+     * @param delegate 원본 전략 (결정적이어야 함)
+     * @param cache 결과 캐시
+     * @return CachingTokenizationStrategy 인스턴스
+     */
+    public static CachingTokenizationStrategy of(TokenizationStrategy delegate, BoundedCache<String, String> cache) {
+        return new CachingTokenizationStrategy(delegate, cache);
+    }
+
+    @Override
+    public String tokenize(String input) {
+        if (input == null) return null;
+        return cache.get(input, delegate::tokenize);
+    }
+
+    /**
+     * 결정적 전략만 감쌀 수 있으므로 항상 결정적입니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    /**
+     * 캐시에 없는 값만 모아 원본 전략의 배치 메서드로 처리합니다.
+     * @param inputs 원본 값 배열
+     * @return 입력과 같은 순서의 결과 배열
+     */
+    @Override
+    public String[] tokenizeBatch(String[] inputs) {
+        return CachedBatch.apply(inputs, cache, delegate::tokenizeBatch);
+    }
+
+    /**
+     * 원본 전략을 반환합니다.
+     * @return 원본 전략
+     */
+    public TokenizationStrategy getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 결과 캐시를 반환합니다. (적중률 등 통계 조회용)
+     * @return 캐시
+     */
+    public BoundedCache<String, String> getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,66 @@
+package com.masking.cache;
+
+/**
+ * 키별 접근 빈도를 근사하는 Count-Min 스케치 (4비트 카운터 x 4행)
+ *
+ * 카운터는 최대 15까지 세고, 증가 횟수가 표본 크기에 도달하면 모든 카운터를 절반으로 줄여
+ * 오래전 인기 항목의 빈도가 점차 잊히도록 합니다. (TinyLFU 에이징)
+ * 호출자(BoundedCache)의 잠금 안에서만 사용합니다.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_TABLE_SIZE = 1 << 24;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(long expectedEntries) {
+        long size = Math.max(16, Math.min(expectedEntries, MAX_TABLE_SIZE));
+        int capacity = Integer.highestOneBit((int) size - 1) << 1;
+        this.table = new long[capacity];
+        this.tableMask = capacity - 1;
+        this.sampleSize = 10 * capacity;
+    }
+
+    /**
+     * 추정 빈도를 반환합니다. (0 ~ 15)
+     */
+    int frequency(int hashCode) {
+        int min = 15;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hashCode, i);
+            int shift = (int) ((h >>> 32) & 15) << 2;
+            min = Math.min(min, (int) ((table[(int) h & tableMask] >>> shift) & 15));
+        }
+        return min;
+    }
+
+    void increment(int hashCode) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long h = rehash(hashCode, i);
+            int index = (int) h & tableMask;
+            int shift = (int) ((h >>> 32) & 15) << 2;
+            if (((table[index] >>> shift) & 15) < 15) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions >>>= 1;
+        }
+    }
+
+    private static long rehash(int hashCode, int row) {
+        long h = (hashCode + SEEDS[row]) * SEEDS[row];
+        return h ^ (h >>> 29);
+    }
+}
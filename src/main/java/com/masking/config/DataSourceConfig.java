@@ -13,4 +13,24 @@ public class DataSourceConfig {
         cfg.setPassword("");
         return new HikariDataSource(cfg);
     }
+
+    /**
+     * audit-templates.yml의 database 설정으로 HikariCP 커넥션 풀을 생성합니다.
+     * @param cfg DB 설정 (url, username, password, driver)
+     * @return HikariCP DataSource
+     */
+    public static DataSource createDataSource(DatabaseConfig cfg) {
+        if (cfg == null || cfg.url == null) {
+            throw new IllegalArgumentException("database.url 설정이 필요합니다");
+        }
+        HikariConfig hikari = new HikariConfig();
+        hikari.setJdbcUrl(cfg.url);
+        hikari.setUsername(cfg.username);
+        hikari.setPassword(cfg.password == null ? "" : cfg.password);
+        if (cfg.driver != null) {
+            hikari.setDriverClassName(cfg.driver);
+        }
+        hikari.setPoolName("masking-audit");
+        return new HikariDataSource(hikari);
+    }
 }
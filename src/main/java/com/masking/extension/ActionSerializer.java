@@ -9,6 +9,8 @@ import com.masking.action.Action;
 import com.masking.action.MaskAction;
 import com.masking.action.TokenizeAction;
 import com.masking.action.EncryptAction;
+import com.masking.action.DecryptAction;
+import com.masking.action.ColumnEncryptAction;
 import com.masking.action.AuditAction;
 
 import java.io.IOException;
@@ -45,6 +47,16 @@ public class ActionSerializer extends JsonSerializer<Action> {
             node.put("field", encryptAction.getField());
             node.put("strategy", encryptAction.getStrategy().getClass().getSimpleName());
             
+        } else if (action instanceof ColumnEncryptAction) {
+            ColumnEncryptAction columnEncryptAction = (ColumnEncryptAction) action;
+            node.put("field", columnEncryptAction.getField());
+            node.put("strategy", columnEncryptAction.getEncryptor().getStrategy().getClass().getSimpleName());
+            
+        } else if (action instanceof DecryptAction) {
+            DecryptAction decryptAction = (DecryptAction) action;
+            node.put("field", decryptAction.getField());
+            node.put("strategy", decryptAction.getStrategy().getClass().getSimpleName());
+            
         } else if (action instanceof AuditAction) {
             AuditAction auditAction = (AuditAction) action;
             node.put("field", auditAction.getField());
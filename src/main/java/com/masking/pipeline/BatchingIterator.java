@@ -0,0 +1,57 @@
+package com.masking.pipeline;
+
+import com.masking.action.Action;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 원본 Iterator에서 최대 batchSize개씩 읽어 배치 단위로 Action을 적용한 뒤 하나씩 내보내는 Iterator
+ *
+ * 메모리에는 한 번에 배치 하나만 유지합니다.
+ */
+final class BatchingIterator implements Iterator<Map<String, String>> {
+    private final Action action;
+    private final Iterator<Map<String, String>> source;
+    private final List<Map<String, String>> buffer;
+    private final int batchSize;
+    private int position;
+
+    BatchingIterator(Action action, Iterator<Map<String, String>> source, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.action = action;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.buffer = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < buffer.size()) {
+            return true;
+        }
+        buffer.clear();
+        position = 0;
+        while (buffer.size() < batchSize && source.hasNext()) {
+            buffer.add(source.next());
+        }
+        if (buffer.isEmpty()) {
+            return false;
+        }
+        action.applyBatch(buffer);
+        return true;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(position++);
+    }
+}
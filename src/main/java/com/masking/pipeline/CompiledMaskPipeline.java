@@ -0,0 +1,97 @@
+package com.masking.pipeline;
+
+import com.masking.action.Action;
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
+import com.masking.record.SlotRecord;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필드명을 슬롯 인덱스로 미리 해석해 둔 컴파일된 파이프라인
+ *
+ * {@link SlotRecord}에 대해 실행하면 레코드당 필드명 해싱 없이 배열 접근만 수행합니다.
+ * Map 레코드도 그대로 받을 수 있으며, 이 경우 슬롯 레코드로 한 번 복사한 뒤 결과를 되돌려 씁니다.
+ */
+public class CompiledMaskPipeline implements Action {
+    private final RecordSchema schema;
+    private final SlotAction plan;
+
+    private CompiledMaskPipeline(RecordSchema schema, SlotAction plan) {
+        this.schema = schema;
+        this.plan = plan;
+    }
+
+    /**
+     * Action을 주어진 스키마로 컴파일합니다.
+     * @param pipeline 컴파일할 Action
+     * @param schema 레코드 스키마
+     * @return CompiledMaskPipeline 인스턴스
+     */
+    public static CompiledMaskPipeline of(Action pipeline, RecordSchema schema) {
+        return new CompiledMaskPipeline(schema, pipeline.compile(schema));
+    }
+
+    /**
+     * 이 파이프라인의 스키마로 빈 슬롯 레코드를 생성합니다.
+     * @return SlotRecord 인스턴스
+     */
+    public SlotRecord newRecord() {
+        return SlotRecord.of(schema);
+    }
+
+    /**
+     * 슬롯 레코드에 파이프라인을 실행합니다.
+     * @param record 처리할 슬롯 레코드 (같은 스키마여야 함)
+     */
+    public void apply(SlotRecord record) {
+        if (record.getSchema() != schema) {
+            throw new IllegalArgumentException("파이프라인 스키마와 다른 레코드입니다: " + record.getSchema());
+        }
+        plan.apply(record);
+    }
+
+    /**
+     * Map 레코드에 파이프라인을 실행합니다.
+     * @param record 처리할 레코드
+     */
+    @Override
+    public void apply(Map<String, String> record) {
+        SlotRecord slots = SlotRecord.from(schema, record);
+        plan.apply(slots);
+        slots.copyTo(record);
+    }
+
+    /**
+     * Map 레코드 배치에 파이프라인을 실행합니다. 슬롯 레코드 하나를 배치 전체에 재사용합니다.
+     * @param records 처리할 레코드 목록
+     */
+    @Override
+    public void applyBatch(List<Map<String, String>> records) {
+        SlotRecord slots = SlotRecord.of(schema);
+        for (Map<String, String> record : records) {
+            slots.load(record);
+            plan.apply(slots);
+            slots.copyTo(record);
+        }
+    }
+
+    /**
+     * 컴파일된 실행 계획을 반환합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    @Override
+    public SlotAction compile(RecordSchema schema) {
+        return schema == this.schema ? plan : Action.super.compile(schema);
+    }
+
+    /**
+     * 파이프라인 스키마를 반환합니다.
+     * @return RecordSchema
+     */
+    public RecordSchema getSchema() {
+        return schema;
+    }
+}
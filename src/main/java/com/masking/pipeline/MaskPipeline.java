@@ -1,9 +1,19 @@
 package com.masking.pipeline;
 
 import com.masking.action.Action;
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotAction;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class MaskPipeline implements Action {
     private final Action pipeline;
@@ -33,5 +43,96 @@ public class MaskPipeline implements Action {
     public void apply(Map<String, String> record) {
         pipeline.apply(record);
     }
-}
 
+    /**
+     * 파이프라인을 배치 단위로 실행합니다.
+     * @param records 처리할 레코드 목록
+     */
+    @Override
+    public void applyBatch(List<Map<String, String>> records) {
+        pipeline.applyBatch(records);
+    }
+
+    /**
+     * 스트림의 각 레코드에 파이프라인을 지연 적용하는 스트림을 반환합니다.
+     * 최종 연산이 레코드를 소비할 때 비로소 처리되므로 JDBC 커서나 파일처럼 큰 원본도 일정한 메모리로 처리할 수 있습니다.
+     * @param records 원본 레코드 스트림 (null 요소 불가)
+     * @return 마스킹된 레코드 스트림
+     */
+    public Stream<Map<String, String>> stream(Stream<Map<String, String>> records) {
+        return records.map(record -> {
+            apply(record);
+            return record;
+        });
+    }
+
+    /**
+     * 레코드를 batchSize개씩 묶어 {@link #applyBatch(List)}로 지연 처리하는 스트림을 반환합니다.
+     * 메모리에는 배치 하나만 유지되며, 반환된 스트림을 닫으면 원본 스트림도 닫힙니다.
+     * @param records 원본 레코드 스트림 (null 요소 불가)
+     * @param batchSize 배치 크기
+     * @return 마스킹된 레코드 스트림 (순차 스트림)
+     */
+    public Stream<Map<String, String>> stream(Stream<Map<String, String>> records, int batchSize) {
+        Iterator<Map<String, String>> batched = iterator(records.iterator(), batchSize);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(batched, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(records::close);
+    }
+
+    /**
+     * 다음 요소를 꺼낼 때마다 파이프라인을 적용하는 Iterator를 반환합니다.
+     * @param records 원본 레코드 Iterator (null 요소 불가)
+     * @return 마스킹된 레코드 Iterator
+     */
+    public Iterator<Map<String, String>> iterator(Iterator<Map<String, String>> records) {
+        return new Iterator<Map<String, String>>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public Map<String, String> next() {
+                Map<String, String> record = records.next();
+                apply(record);
+                return record;
+            }
+        };
+    }
+
+    /**
+     * 레코드를 batchSize개씩 미리 읽어 배치 단위로 처리하는 Iterator를 반환합니다.
+     * @param records 원본 레코드 Iterator (null 요소 불가)
+     * @param batchSize 배치 크기
+     * @return 마스킹된 레코드 Iterator
+     */
+    public Iterator<Map<String, String>> iterator(Iterator<Map<String, String>> records, int batchSize) {
+        return new BatchingIterator(this, records, batchSize);
+    }
+
+    /**
+     * 지정한 병렬도의 ForkJoinPool을 만들어 레코드를 병렬 처리한 뒤 풀을 종료합니다.
+     * 반복 호출하는 경우에는 풀을 재사용하는 {@link ParallelMaskPipeline}을 사용하세요.
+     * @param records 처리할 레코드 컬렉션
+     * @param parallelism 워커 스레드 수
+     */
+    public void applyParallel(Collection<Map<String, String>> records, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ParallelMaskPipeline.of(this, pool, ParallelMaskPipeline.DEFAULT_CHUNK_SIZE).apply(records);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 파이프라인을 스키마에 맞춰 컴파일합니다.
+     * @param schema 레코드 스키마
+     * @return 컴파일된 SlotAction
+     */
+    @Override
+    public SlotAction compile(RecordSchema schema) {
+        return pipeline.compile(schema);
+    }
+}
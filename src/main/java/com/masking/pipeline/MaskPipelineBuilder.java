@@ -5,12 +5,17 @@ import com.masking.strategy.mask.*;
 import com.masking.strategy.tokenize.*;
 import com.masking.strategy.encrypt.*;
 import com.masking.audit.AuditEventHandler;
+import com.masking.record.RecordSchema;
 import java.security.PublicKey;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class MaskPipelineBuilder {
     private final List<Action> actions = new ArrayList<>();
+    private final Set<String> fields = new LinkedHashSet<>();
 
     /**
      * MaskPipelineBuilder 인스턴스를 생성합니다.
@@ -28,6 +33,7 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder mask(String field, MaskStrategy strategy) {
         actions.add(MaskAction.of(field, strategy));
+        fields.add(field);
         return this;
     }
 
@@ -39,6 +45,7 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder tokenize(String field, TokenizationStrategy strategy) {
         actions.add(TokenizeAction.of(field, strategy));
+        fields.add(field);
         return this;
     }
 
@@ -50,6 +57,62 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder encryptAes(String field, byte[] key) {
         actions.add(EncryptAction.of(field, AesEncryptionStrategy.of(key)));
+        fields.add(field);
+        return this;
+    }
+
+    /**
+     * AES-GCM 인증 암호화 액션을 추가합니다. 같은 값도 매번 다른 암호문이 됩니다.
+     * @param field 암호화할 필드명
+     * @param key AES 키 (16, 24, 32바이트)
+     * @return MaskPipelineBuilder
+     */
+    public MaskPipelineBuilder encryptAesGcm(String field, byte[] key) {
+        return encrypt(field, AesGcmEncryptionStrategy.of(key));
+    }
+
+    /**
+     * AES-SIV 결정적 인증 암호화 액션을 추가합니다. 같은 값은 같은 암호문이 되어 조인/동등 검색이 가능합니다.
+     * @param field 암호화할 필드명
+     * @param key AES-SIV 키 (32, 48, 64바이트)
+     * @return MaskPipelineBuilder
+     */
+    public MaskPipelineBuilder encryptAesSiv(String field, byte[] key) {
+        return encrypt(field, AesSivEncryptionStrategy.of(key));
+    }
+
+    /**
+     * 키 ID 헤더가 붙는 엔벨로프 암호화 액션을 추가합니다. 키링의 primary 키를 바꿔도 기존 값을 복호화할 수 있습니다.
+     * @param field 암호화할 필드명
+     * @param keyring 키링
+     * @param algorithm 암호화 알고리즘
+     * @return MaskPipelineBuilder
+     */
+    public MaskPipelineBuilder encryptEnvelope(String field, Keyring keyring, EnvelopeAlgorithm algorithm) {
+        return encrypt(field, EnvelopeEncryptionStrategy.of(keyring, algorithm));
+    }
+
+    /**
+     * 배치의 필드 값을 컬럼 단위로 병렬 암호화하는 액션을 추가합니다. (큰 배치의 컬럼 내보내기용)
+     * @param field 암호화할 필드명
+     * @param strategy AES-GCM, AES-SIV 등 바이트 출력을 지원하는 전략
+     * @return MaskPipelineBuilder
+     */
+    public MaskPipelineBuilder encryptColumn(String field, BinaryEncryptionStrategy strategy) {
+        actions.add(ColumnEncryptAction.of(field, strategy));
+        fields.add(field);
+        return this;
+    }
+
+    /**
+     * 복호화 액션을 추가합니다. (읽기 경로용)
+     * @param field 복호화할 필드명
+     * @param strategy 암호화에 사용한 전략
+     * @return MaskPipelineBuilder
+     */
+    public MaskPipelineBuilder decrypt(String field, DecryptionStrategy strategy) {
+        actions.add(DecryptAction.of(field, strategy));
+        fields.add(field);
         return this;
     }
 
@@ -61,6 +124,31 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder encryptRsa(String field, PublicKey publicKey) {
         actions.add(EncryptAction.of(field, RsaEncryptionStrategy.of(publicKey)));
+        fields.add(field);
+        return this;
+    }
+
+    /**
+     * RSA 엔벨로프 암호화 액션을 추가합니다.
+     * 대량 데이터용으로, 값마다 RSA 연산을 하지 않고 래핑된 AES 데이터 키로 암호화합니다.
+     * @param field 암호화할 필드명
+     * @param publicKey RSA 공개키
+     * @param keyListener 새 데이터 키를 사용하기 전에 호출되는 리스너 (필수, 복호화를 위해 영구 보관해야 함)
+     * @return MaskPipelineBuilder
+     */
+    public MaskPipelineBuilder encryptRsaEnvelope(String field, PublicKey publicKey, Consumer<WrappedDataKey> keyListener) {
+        return encrypt(field, RsaEnvelopeEncryptionStrategy.of(publicKey, keyListener));
+    }
+
+    /**
+     * 임의의 암호화 전략으로 암호화 액션을 추가합니다.
+     * @param field 암호화할 필드명
+     * @param strategy 암호화 전략
+     * @return MaskPipelineBuilder
+     */
+    public MaskPipelineBuilder encrypt(String field, EncryptionStrategy strategy) {
+        actions.add(EncryptAction.of(field, strategy));
+        fields.add(field);
         return this;
     }
 
@@ -72,6 +160,7 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder audit(String field, AuditEventHandler handler) {
         actions.add(AuditAction.of(field, handler));
+        fields.add(field);
         return this;
     }
 
@@ -84,6 +173,7 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder maskWithAudit(String field, MaskStrategy strategy, AuditEventHandler handler) {
         actions.add(CompositeAuditAction.of(field, handler, MaskAction.of(field, strategy)));
+        fields.add(field);
         return this;
     }
 
@@ -96,6 +186,7 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder tokenizeWithAudit(String field, TokenizationStrategy strategy, AuditEventHandler handler) {
         actions.add(CompositeAuditAction.of(field, handler, TokenizeAction.of(field, strategy)));
+        fields.add(field);
         return this;
     }
 
@@ -108,6 +199,7 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder encryptAesWithAudit(String field, byte[] key, AuditEventHandler handler) {
         actions.add(CompositeAuditAction.of(field, handler, EncryptAction.of(field, AesEncryptionStrategy.of(key))));
+        fields.add(field);
         return this;
     }
 
@@ -120,6 +212,7 @@ public class MaskPipelineBuilder {
      */
     public MaskPipelineBuilder encryptRsaWithAudit(String field, PublicKey publicKey, AuditEventHandler handler) {
         actions.add(CompositeAuditAction.of(field, handler, EncryptAction.of(field, RsaEncryptionStrategy.of(publicKey))));
+        fields.add(field);
         return this;
     }
 
@@ -130,4 +223,22 @@ public class MaskPipelineBuilder {
     public MaskPipeline build() {
         return MaskPipeline.of(Actions.of(actions.toArray(new Action[0])));
     }
+
+    /**
+     * 추가된 Action들이 참조하는 필드로 스키마를 구성하여 컴파일된 파이프라인을 빌드합니다.
+     * @return CompiledMaskPipeline 인스턴스
+     */
+    public CompiledMaskPipeline buildCompiled() {
+        return buildCompiled(RecordSchema.of(fields));
+    }
+
+    /**
+     * 주어진 스키마로 컴파일된 파이프라인을 빌드합니다.
+     * 스키마에는 Action들이 참조하는 모든 필드가 포함되어야 합니다.
+     * @param schema 레코드 스키마 (예: CSV 헤더 순서)
+     * @return CompiledMaskPipeline 인스턴스
+     */
+    public CompiledMaskPipeline buildCompiled(RecordSchema schema) {
+        return CompiledMaskPipeline.of(build(), schema);
+    }
 }
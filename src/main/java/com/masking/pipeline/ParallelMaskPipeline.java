@@ -0,0 +1,116 @@
+package com.masking.pipeline;
+
+import com.masking.action.Action;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 대량 레코드를 ForkJoinPool 위에서 병렬로 처리하는 파이프라인 실행기
+ *
+ * 레코드 목록을 절반씩 재귀 분할하여 work-stealing 방식으로 코어에 분배하고,
+ * 분할된 각 청크는 {@link Action#applyBatch(List)}로 처리하여 배치 최적화를 그대로 활용합니다.
+ *
+ * <h3>스레드 안전성</h3>
+ * 하나의 파이프라인 인스턴스가 여러 워커 스레드에서 동시에 실행되므로 모든 Action과 전략은 스레드 안전해야 합니다.
+ * 레코드(Map) 자체는 한 번에 하나의 워커만 처리합니다.
+ * <ul>
+ *   <li>공유 가능: PartialMaskStrategy, RegexMaskStrategy, CharClassMaskStrategy (불변 상태)</li>
+ *   <li>공유 가능: HashTokenizationStrategy, AesEncryptionStrategy, RsaEncryptionStrategy (호출마다 MessageDigest/Cipher 사용)</li>
+ *   <li>공유 가능: UUIDTokenizationStrategy (스레드별 난수 생성기 사용)</li>
+ *   <li>공유 가능: NumericTokenizationStrategy (스레드별 난수 생성기 사용, unique 모드의 발급 집합은 세그먼트별 잠금)</li>
+ *   <li>공유 가능: Console/Email/Slack 감사 핸들러 (호출마다 연결 생성, 감사 이벤트 순서는 보장되지 않음)</li>
+ *   <li>공유 가능: DatabaseAuditEventHandler (기본 모드는 풀에서 호출마다 연결을 빌리고,
+ *       버퍼 모드는 공유 버퍼와 재사용 연결을 잠금으로 보호, 감사 이벤트 순서는 보장되지 않음)</li>
+ *   <li>사용자 정의 Action/전략: 가변 필드를 공유한다면 호출 측에서 동기화해야 합니다.</li>
+ * </ul>
+ */
+public class ParallelMaskPipeline {
+    /** 청크 크기 기본값 */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final Action pipeline;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    private ParallelMaskPipeline(Action pipeline, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.pipeline = pipeline;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 공용 ForkJoinPool을 사용하는 병렬 파이프라인을 생성합니다.
+     * @param pipeline 실행할 파이프라인 (스레드 안전해야 함)
+     * @return ParallelMaskPipeline 인스턴스
+     */
+    public static ParallelMaskPipeline of(Action pipeline) {
+        return new ParallelMaskPipeline(pipeline, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 지정한 ForkJoinPool과 청크 크기를 사용하는 병렬 파이프라인을 생성합니다.
+     * @param pipeline 실행할 파이프라인 (스레드 안전해야 함)
+     * @param pool 작업을 실행할 ForkJoinPool
+     * @param chunkSize 한 워커가 분할 없이 처리할 최대 레코드 수
+     * @return ParallelMaskPipeline 인스턴스
+     */
+    public static ParallelMaskPipeline of(Action pipeline, ForkJoinPool pool, int chunkSize) {
+        return new ParallelMaskPipeline(pipeline, pool, chunkSize);
+    }
+
+    /**
+     * 모든 레코드에 파이프라인을 병렬로 적용하고 완료될 때까지 대기합니다.
+     * 처리 중 발생한 예외는 호출 스레드로 다시 던져집니다.
+     * @param records 처리할 레코드 컬렉션
+     */
+    public void apply(Collection<Map<String, String>> records) {
+        List<Map<String, String>> list = (records instanceof List && records instanceof RandomAccess)
+                ? (List<Map<String, String>>) records
+                : new ArrayList<>(records);
+        if (list.isEmpty()) {
+            return;
+        }
+        pool.invoke(new ChunkTask(list, 0, list.size()));
+    }
+
+    /**
+     * 작업을 실행하는 ForkJoinPool을 반환합니다.
+     * @return ForkJoinPool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Map<String, String>> records;
+        private final int from;
+        private final int to;
+
+        ChunkTask(List<Map<String, String>> records, int from, int to) {
+            this.records = records;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                pipeline.applyBatch(records.subList(from, to));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(records, from, mid), new ChunkTask(records, mid, to));
+        }
+    }
+}
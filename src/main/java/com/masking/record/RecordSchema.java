@@ -0,0 +1,104 @@
+package com.masking.record;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필드명을 고정된 슬롯 인덱스로 매핑하는 레코드 스키마
+ *
+ * 파이프라인 컴파일 시점에 필드명을 한 번만 해석해 두고,
+ * 실행 시에는 {@link SlotRecord}의 배열 인덱스로만 접근합니다.
+ */
+public final class RecordSchema {
+    private final String[] fields;
+    private final Map<String, Integer> slots;
+
+    private RecordSchema(String[] fields) {
+        this.fields = fields;
+        this.slots = new HashMap<>(fields.length * 2);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                throw new IllegalArgumentException("필드명은 null일 수 없습니다.");
+            }
+            if (slots.put(fields[i], i) != null) {
+                throw new IllegalArgumentException("중복된 필드명: " + fields[i]);
+            }
+        }
+    }
+
+    /**
+     * 주어진 필드 순서대로 슬롯을 할당한 스키마를 생성합니다.
+     * @param fields 필드명 목록
+     * @return RecordSchema 인스턴스
+     */
+    public static RecordSchema of(String... fields) {
+        return new RecordSchema(fields.clone());
+    }
+
+    /**
+     * 주어진 필드 순서대로 슬롯을 할당한 스키마를 생성합니다.
+     * @param fields 필드명 목록
+     * @return RecordSchema 인스턴스
+     */
+    public static RecordSchema of(Collection<String> fields) {
+        return new RecordSchema(fields.toArray(new String[0]));
+    }
+
+    /**
+     * 필드명에 해당하는 슬롯 인덱스를 반환합니다.
+     * @param field 필드명
+     * @return 슬롯 인덱스
+     * @throws IllegalArgumentException 스키마에 없는 필드인 경우
+     */
+    public int slotOf(String field) {
+        Integer slot = slots.get(field);
+        if (slot == null) {
+            throw new IllegalArgumentException("스키마에 없는 필드: " + field);
+        }
+        return slot;
+    }
+
+    /**
+     * 필드명에 해당하는 슬롯 인덱스를 반환합니다.
+     * @param field 필드명
+     * @return 슬롯 인덱스 (없으면 -1)
+     */
+    public int indexOf(Object field) {
+        Integer slot = slots.get(field);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * 슬롯에 해당하는 필드명을 반환합니다.
+     * @param slot 슬롯 인덱스
+     * @return 필드명
+     */
+    public String field(int slot) {
+        return fields[slot];
+    }
+
+    /**
+     * 슬롯 개수를 반환합니다.
+     * @return 필드 수
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * 슬롯 순서대로 정렬된 필드명 목록을 반환합니다.
+     * @return 필드명 목록
+     */
+    public List<String> getFields() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    @Override
+    public String toString() {
+        return "RecordSchema" + Arrays.toString(fields);
+    }
+}
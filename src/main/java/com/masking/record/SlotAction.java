@@ -0,0 +1,16 @@
+package com.masking.record;
+
+/**
+ * 스키마에 맞춰 컴파일된 Action
+ *
+ * 필드명 해석이 끝난 상태이므로 실행 시에는 슬롯 인덱스로만 레코드에 접근합니다.
+ */
+@FunctionalInterface
+public interface SlotAction {
+
+    /**
+     * 슬롯 레코드에 컴파일된 Action을 적용합니다.
+     * @param record 처리할 슬롯 레코드
+     */
+    void apply(SlotRecord record);
+}
@@ -0,0 +1,233 @@
+package com.masking.record;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 고정 스키마의 슬롯 배열로 값을 보관하는 레코드
+ *
+ * 필드명 해싱 없이 인덱스로 값을 읽고 쓰며, 레코드 하나를 여러 행에 재사용할 수 있습니다.
+ * 기존 Map 기반 Action과의 호환을 위해 {@link #asMap()} 뷰를 제공합니다.
+ */
+public final class SlotRecord {
+    private final RecordSchema schema;
+    private final String[] values;
+
+    private SlotRecord(RecordSchema schema) {
+        this.schema = schema;
+        this.values = new String[schema.size()];
+    }
+
+    /**
+     * 빈 슬롯 레코드를 생성합니다.
+     * @param schema 레코드 스키마
+     * @return SlotRecord 인스턴스
+     */
+    public static SlotRecord of(RecordSchema schema) {
+        return new SlotRecord(schema);
+    }
+
+    /**
+     * Map 레코드의 값을 복사한 슬롯 레코드를 생성합니다.
+     * @param schema 레코드 스키마
+     * @param record 원본 Map 레코드
+     * @return SlotRecord 인스턴스
+     */
+    public static SlotRecord from(RecordSchema schema, Map<String, String> record) {
+        SlotRecord slots = new SlotRecord(schema);
+        slots.load(record);
+        return slots;
+    }
+
+    /**
+     * Map 레코드의 값으로 모든 슬롯을 다시 채웁니다. (스키마에 없는 필드는 무시)
+     * @param record 원본 Map 레코드
+     */
+    public void load(Map<String, String> record) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = record.get(schema.field(i));
+        }
+    }
+
+    /**
+     * 슬롯 값을 Map 레코드에 기록합니다.
+     * 비어 있는 슬롯의 필드가 Map에 값으로 남아 있으면 제거합니다. (Action이 지우거나 null로 바꾼 원본 값이 남지 않도록)
+     * @param record 대상 Map 레코드
+     */
+    public void copyTo(Map<String, String> record) {
+        for (int i = 0; i < values.length; i++) {
+            String field = schema.field(i);
+            if (values[i] != null) {
+                record.put(field, values[i]);
+            } else if (record.get(field) != null) {
+                record.remove(field);
+            }
+        }
+    }
+
+    /**
+     * 슬롯 값을 반환합니다.
+     * @param slot 슬롯 인덱스
+     * @return 값 (없으면 null)
+     */
+    public String get(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * 슬롯 값을 설정합니다.
+     * @param slot 슬롯 인덱스
+     * @param value 값
+     */
+    public void set(int slot, String value) {
+        values[slot] = value;
+    }
+
+    /**
+     * 필드명으로 값을 반환합니다.
+     * @param field 필드명
+     * @return 값 (없으면 null)
+     */
+    public String get(String field) {
+        int slot = schema.indexOf(field);
+        return slot < 0 ? null : values[slot];
+    }
+
+    /**
+     * 필드명으로 값을 설정합니다.
+     * @param field 필드명
+     * @param value 값
+     * @throws IllegalArgumentException 스키마에 없는 필드인 경우
+     */
+    public void set(String field, String value) {
+        values[schema.slotOf(field)] = value;
+    }
+
+    /**
+     * 모든 슬롯을 비웁니다.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * 레코드 스키마를 반환합니다.
+     * @return RecordSchema
+     */
+    public RecordSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * 슬롯 값을 새 HashMap으로 복사합니다.
+     * @return Map 레코드
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>(values.length * 2);
+        copyTo(map);
+        return map;
+    }
+
+    /**
+     * 슬롯 배열을 그대로 반영하는 Map 뷰를 반환합니다.
+     * 값이 null인 슬롯은 뷰에 나타나지 않으며, 스키마에 없는 필드를 put하면 예외가 발생합니다.
+     * @return Map 뷰
+     */
+    public Map<String, String> asMap() {
+        return new MapView();
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    private final class MapView extends AbstractMap<String, String> {
+
+        @Override
+        public String get(Object key) {
+            int slot = schema.indexOf(key);
+            return slot < 0 ? null : values[slot];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public String put(String key, String value) {
+            int slot = schema.slotOf(key);
+            String old = values[slot];
+            values[slot] = value;
+            return old;
+        }
+
+        @Override
+        public String remove(Object key) {
+            int slot = schema.indexOf(key);
+            if (slot < 0) return null;
+            String old = values[slot];
+            values[slot] = null;
+            return old;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int next = advance(0);
+                        private int last = -1;
+
+                        private int advance(int from) {
+                            while (from < values.length && values[from] == null) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            last = next;
+                            next = advance(next + 1);
+                            final int slot = last;
+                            return new SimpleEntry<String, String>(schema.field(slot), values[slot]) {
+                                @Override
+                                public String setValue(String value) {
+                                    values[slot] = value;
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last < 0) throw new IllegalStateException();
+                            values[last] = null;
+                            last = -1;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int n = 0;
+                    for (String v : values) if (v != null) n++;
+                    return n;
+                }
+            };
+        }
+    }
+}
@@ -2,30 +2,89 @@ package com.masking.strategy.encrypt;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
-public class AesEncryptionStrategy implements EncryptionStrategy {
+/**
+ * AES/ECB 암호화 전략
+ *
+ * 스레드마다 키가 확장된 Cipher를 한 번만 만들어 재사용하므로 여러 스레드에서 공유해도 안전합니다.
+ */
+public class AesEncryptionStrategy implements DecryptionStrategy {
     //비밀키를 만드는 데 사용
     private final SecretKeySpec keySpec;
     private static final String ALGORITHM = "AES/ECB/PKCS5Padding";
+    private final ThreadLocalCipher cipher;
+    private final ThreadLocalCipher decipher;
 
     private AesEncryptionStrategy(byte[] key) {
         this.keySpec = new SecretKeySpec(key, "AES");
+        this.cipher = new ThreadLocalCipher(ALGORITHM, Cipher.ENCRYPT_MODE, keySpec);
+        this.decipher = new ThreadLocalCipher(ALGORITHM, Cipher.DECRYPT_MODE, keySpec);
     }
 
     public static AesEncryptionStrategy of(byte[] key) {
         return new AesEncryptionStrategy(key);
     }
 
+    /**
+     * 같은 키로 대용량 값/파일을 분할 AES-GCM으로 암호화하는 스트리밍 암호화기를 반환합니다.
+     * 스트림마다 유도한 키를 쓰므로 이 전략의 ECB 암호문과 키 공유로 인한 간섭이 없습니다.
+     * @return StreamingAesGcm 인스턴스
+     */
+    public StreamingAesGcm streaming() {
+        return StreamingAesGcm.of(keySpec.getEncoded());
+    }
+
     @Override
     public String encrypt(String input) {
         try {
-            //cipher 암호화, 복호화 도와줌
-            Cipher cipher = Cipher.getInstance(ALGORITHM); // Cipher 객체 생성
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);    // 암호화 모드 및 키 초기화
-            byte[] encrypted = cipher.doFinal(input.getBytes("UTF-8")); // 암호화 수행
-            return Base64.getEncoder().encodeToString(encrypted);        // Base64 인코딩
+            byte[] encrypted = cipher.doFinal(input.getBytes(StandardCharsets.UTF_8)); // 스레드 로컬 Cipher로 암호화 수행
+            return Base64.getEncoder().encodeToString(encrypted);                     // Base64 인코딩
+        } catch (Exception e) {
+            throw new RuntimeException("AES encryption failed", e);
+        }
+    }
+
+    /**
+     * ECB 모드는 IV가 없으므로 같은 평문이 항상 같은 암호문이 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public String decrypt(String input) {
+        if (input == null) return null;
+        try {
+            return new String(decipher.doFinal(Base64.getDecoder().decode(input)), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new RuntimeException("AES decryption failed", e);
+        }
+    }
+
+    /**
+     * 스레드 로컬 Cipher를 배치 전체에 재사용하여 여러 값을 암호화합니다.
+     * @param inputs 평문 배열
+     * @return 입력과 같은 순서의 암호문 배열
+     */
+    @Override
+    public String[] encryptBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        try {
+            Cipher c = cipher.get();
+            Base64.Encoder encoder = Base64.getEncoder();
+            for (int i = 0; i < inputs.length; i++) {
+                if (inputs[i] != null) {
+                    // ECB는 doFinal 이후 초기 상태로 돌아가므로 재초기화가 필요 없음
+                    results[i] = encoder.encodeToString(c.doFinal(inputs[i].getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            return results;
         } catch (Exception e) {
+            cipher.reset();
             throw new RuntimeException("AES encryption failed", e);
         }
     }
@@ -0,0 +1,162 @@
+package com.masking.strategy.encrypt;
+
+import com.masking.util.ThreadLocalDrbg;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * AES-GCM 인증 암호화 전략 (무작위화)
+ *
+ * 같은 평문도 매번 다른 암호문이 되고, 암호문이나 연관 데이터를 바꾸면 복호화가 실패합니다.
+ * 출력은 nonce 12B | 암호문 | 태그 16B 이며, {@link #encrypt(String)}는 이를 Base64로,
+ * {@link #encryptBytes(byte[], int, int, byte[], int)}는 원시 바이트로 내보냅니다.
+ *
+ * nonce는 SP 800-38D 8.2.1의 결정적 구성(고정 필드 8B + 호출 카운터 4B)을 스레드마다 따로 둡니다.
+ * 고정 필드는 스레드별 난수 생성기에서 받아 2^32번 사용하면 새로 뽑으므로 값마다 SecureRandom을 호출하지 않고,
+ * 같은 키 안에서 카운터가 겹치지 않는 한 nonce가 반복되지 않습니다.
+ */
+public class AesGcmEncryptionStrategy implements BinaryEncryptionStrategy {
+    static final String ALGORITHM = "AES/GCM/NoPadding";
+    static final int NONCE_LENGTH = 12;
+    static final int TAG_LENGTH = 16;
+
+    private final SecretKeySpec key;
+    private final byte[] associatedData;
+    private final ThreadLocal<Work> works = ThreadLocal.withInitial(this::newWork);
+
+    private AesGcmEncryptionStrategy(byte[] key, byte[] associatedData) {
+        if (key == null || (key.length != 16 && key.length != 24 && key.length != 32)) {
+            throw new IllegalArgumentException("AES 키는 16, 24, 32바이트여야 합니다");
+        }
+        this.key = new SecretKeySpec(key, "AES");
+        this.associatedData = associatedData == null || associatedData.length == 0 ? null : associatedData.clone();
+    }
+
+    /**
+     * AES-GCM 전략을 생성합니다.
+     * @param key AES 키 (16, 24, 32바이트)
+     * @return AesGcmEncryptionStrategy 인스턴스
+     */
+    public static AesGcmEncryptionStrategy of(byte[] key) {
+        return new AesGcmEncryptionStrategy(key, null);
+    }
+
+    /**
+     * 연관 데이터(AAD)를 지정하여 AES-GCM 전략을 생성합니다.
+     * 컬럼명 등을 주면 다른 컬럼의 암호문을 옮겨 넣었을 때 복호화가 실패합니다.
+     * @param key AES 키 (16, 24, 32바이트)
+     * @param associatedData 인증에만 쓰이고 암호문에는 포함되지 않는 데이터
+     * @return AesGcmEncryptionStrategy 인스턴스
+     */
+    public static AesGcmEncryptionStrategy of(byte[] key, byte[] associatedData) {
+        return new AesGcmEncryptionStrategy(key, associatedData);
+    }
+
+    /**
+     * nonce가 값마다 바뀌므로 같은 평문도 매번 다른 암호문이 됩니다.
+     * @return false
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
+    @Override
+    public int ciphertextLength(int plainLength) {
+        return NONCE_LENGTH + plainLength + TAG_LENGTH;
+    }
+
+    @Override
+    public String encrypt(String input) {
+        if (input == null) return null;
+        CipherBuffers buffers = CipherBuffers.current();
+        int length = buffers.utf8(input);
+        byte[] out = buffers.out(ciphertextLength(length));
+        return buffers.base64(encryptBytes(buffers.plain, 0, length, out, 0));
+    }
+
+    @Override
+    public int encryptBytes(byte[] in, int off, int len, byte[] out, int outOff) {
+        Work w = works.get();
+        try {
+            w.nextNonce(out, outOff);
+            w.cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, out, outOff, NONCE_LENGTH));
+            if (associatedData != null) {
+                w.cipher.updateAAD(associatedData);
+            }
+            return NONCE_LENGTH + w.cipher.doFinal(in, off, len, out, outOff + NONCE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            works.remove();
+            throw new RuntimeException("AES-GCM 암호화 실패", e);
+        }
+    }
+
+    /**
+     * {@link #encrypt(String)}로 만든 Base64 암호문을 복호화합니다.
+     * @param cipherText Base64 암호문
+     * @return 평문
+     */
+    @Override
+    public String decrypt(String cipherText) {
+        if (cipherText == null) return null;
+        return new String(decryptBytes(Base64.getDecoder().decode(cipherText)), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] decryptBytes(byte[] cipherText) {
+        if (cipherText.length < NONCE_LENGTH + TAG_LENGTH) {
+            throw new IllegalArgumentException("AES-GCM 암호문 형식이 아닙니다");
+        }
+        Work w = works.get();
+        try {
+            w.cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, cipherText, 0, NONCE_LENGTH));
+            if (associatedData != null) {
+                w.cipher.updateAAD(associatedData);
+            }
+            return w.cipher.doFinal(cipherText, NONCE_LENGTH, cipherText.length - NONCE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            works.remove();
+            throw new RuntimeException("AES-GCM 복호화 실패", e);
+        }
+    }
+
+    private Work newWork() {
+        try {
+            return new Work(Cipher.getInstance(ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " Cipher 생성 실패", e);
+        }
+    }
+
+    private static final class Work {
+        final Cipher cipher;
+        long fixed;
+        int counter;
+
+        Work(Cipher cipher) {
+            this.cipher = cipher;
+            this.fixed = ThreadLocalDrbg.current().nextLong();
+        }
+
+        void nextNonce(byte[] out, int off) {
+            if (counter == -1) {
+                // 카운터 2^32개를 다 쓰면 새 고정 필드로 넘어감
+                fixed = ThreadLocalDrbg.current().nextLong();
+                counter = 0;
+            }
+            int c = counter++;
+            for (int i = 7; i >= 0; i--) {
+                out[off + i] = (byte) (fixed >>> (8 * (7 - i)));
+            }
+            out[off + 8] = (byte) (c >>> 24);
+            out[off + 9] = (byte) (c >>> 16);
+            out[off + 10] = (byte) (c >>> 8);
+            out[off + 11] = (byte) c;
+        }
+    }
+}
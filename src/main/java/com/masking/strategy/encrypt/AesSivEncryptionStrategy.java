@@ -0,0 +1,297 @@
+package com.masking.strategy.encrypt;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * AES-SIV 결정적 인증 암호화 전략 (RFC 5297)
+ *
+ * 같은 키/연관 데이터에서 같은 평문은 항상 같은 암호문이 되므로 암호화된 컬럼끼리 조인하거나 동등 검색할 수 있고,
+ * ECB와 달리 암호문 변조를 탐지하며 같은 블록이 반복되어도 패턴이 드러나지 않습니다. (같은 값인지 여부만 노출)
+ * 출력은 합성 IV 16B | 암호문(평문과 같은 길이) 입니다.
+ *
+ * 키 절반(K1)은 S2V(AES-CMAC), 나머지(K2)는 CTR 암호화에 씁니다.
+ * 연관 데이터는 전략마다 고정이므로 S2V의 앞부분은 생성 시 한 번만 계산하고,
+ * 값마다 CMAC은 키가 설정된 AES/CBC Cipher의 doFinal 한 번, CTR은 카운터 블록을 모아 AES/ECB doFinal 한 번으로 처리합니다.
+ */
+public class AesSivEncryptionStrategy implements BinaryEncryptionStrategy {
+    static final int BLOCK = 16;
+    private static final byte[] ZERO_IV = new byte[BLOCK];
+
+    private final SecretKeySpec macKey;
+    private final SecretKeySpec ctrKey;
+    private final byte[] k1 = new byte[BLOCK]; // CMAC 서브키 (완전한 마지막 블록)
+    private final byte[] k2 = new byte[BLOCK]; // CMAC 서브키 (패딩한 마지막 블록)
+    private final byte[] d;                    // 연관 데이터까지 처리한 S2V 중간값
+    private final byte[] dd;                   // dbl(d), 16바이트 미만 평문용
+    private final ThreadLocal<Work> works = ThreadLocal.withInitial(this::newWork);
+
+    private AesSivEncryptionStrategy(byte[] key, byte[][] associatedData) {
+        if (key == null || (key.length != 32 && key.length != 48 && key.length != 64)) {
+            throw new IllegalArgumentException("AES-SIV 키는 32, 48, 64바이트여야 합니다");
+        }
+        int half = key.length / 2;
+        this.macKey = new SecretKeySpec(key, 0, half, "AES");
+        this.ctrKey = new SecretKeySpec(key, half, half, "AES");
+        if (associatedData.length > 126) {
+            throw new IllegalArgumentException("연관 데이터는 126개 이하여야 합니다");
+        }
+        Work w = works.get();
+        try {
+            byte[] l = w.mac.doFinal(new byte[BLOCK]);
+            dbl(l, k1);
+            dbl(k1, k2);
+            byte[] state = cmac(w, new byte[BLOCK], 0, BLOCK);
+            for (byte[] ad : associatedData) {
+                dbl(state, state);
+                xor(state, cmac(w, ad, 0, ad.length), state);
+            }
+            this.d = state;
+            this.dd = new byte[BLOCK];
+            dbl(state, dd);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-SIV 초기화 실패", e);
+        }
+    }
+
+    /**
+     * AES-SIV 전략을 생성합니다.
+     * @param key 64바이트(AES-256-SIV), 48바이트, 32바이트 키
+     * @return AesSivEncryptionStrategy 인스턴스
+     */
+    public static AesSivEncryptionStrategy of(byte[] key) {
+        return new AesSivEncryptionStrategy(key, new byte[0][]);
+    }
+
+    /**
+     * 연관 데이터를 지정하여 AES-SIV 전략을 생성합니다.
+     * 컬럼명을 주면 컬럼마다 같은 값이 다른 암호문이 되므로, 조인할 컬럼끼리는 같은 연관 데이터를 써야 합니다.
+     * @param key 64바이트(AES-256-SIV), 48바이트, 32바이트 키
+     * @param associatedData S2V에 순서대로 들어가는 연관 데이터 (RFC 5297의 AD1..ADn, 논스를 쓰려면 마지막에 추가)
+     * @return AesSivEncryptionStrategy 인스턴스
+     */
+    public static AesSivEncryptionStrategy of(byte[] key, byte[]... associatedData) {
+        return new AesSivEncryptionStrategy(key, associatedData);
+    }
+
+    @Override
+    public int ciphertextLength(int plainLength) {
+        return BLOCK + plainLength;
+    }
+
+    @Override
+    public String encrypt(String input) {
+        if (input == null) return null;
+        CipherBuffers buffers = CipherBuffers.current();
+        int length = buffers.utf8(input);
+        byte[] out = buffers.out(ciphertextLength(length));
+        return buffers.base64(encryptBytes(buffers.plain, 0, length, out, 0));
+    }
+
+    /**
+     * 합성 IV를 평문에서 유도하므로 같은 평문은 항상 같은 암호문이 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public int encryptBytes(byte[] in, int off, int len, byte[] out, int outOff) {
+        Work w = works.get();
+        try {
+            s2v(w, in, off, len, out, outOff);
+            ctr(w, out, outOff, in, off, len, out, outOff + BLOCK);
+            return BLOCK + len;
+        } catch (GeneralSecurityException e) {
+            works.remove();
+            throw new RuntimeException("AES-SIV 암호화 실패", e);
+        }
+    }
+
+    /**
+     * {@link #encrypt(String)}로 만든 Base64 암호문을 복호화합니다.
+     * @param cipherText Base64 암호문
+     * @return 평문
+     */
+    @Override
+    public String decrypt(String cipherText) {
+        if (cipherText == null) return null;
+        return new String(decryptBytes(Base64.getDecoder().decode(cipherText)), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] decryptBytes(byte[] cipherText) {
+        if (cipherText.length < BLOCK) {
+            throw new IllegalArgumentException("AES-SIV 암호문 형식이 아닙니다");
+        }
+        Work w = works.get();
+        try {
+            int len = cipherText.length - BLOCK;
+            byte[] plain = new byte[len];
+            ctr(w, cipherText, 0, cipherText, BLOCK, len, plain, 0);
+            s2v(w, plain, 0, len, w.v, 0);
+            if (!MessageDigest.isEqual(Arrays.copyOf(cipherText, BLOCK), w.v)) {
+                throw new AEADBadTagException("합성 IV가 일치하지 않습니다");
+            }
+            return plain;
+        } catch (GeneralSecurityException e) {
+            works.remove();
+            throw new RuntimeException("AES-SIV 복호화 실패", e);
+        }
+    }
+
+    /** 평문에 대한 S2V 결과(합성 IV)를 out[outOff..outOff+16)에 기록 */
+    private void s2v(Work w, byte[] in, int off, int len, byte[] out, int outOff) throws GeneralSecurityException {
+        byte[] t;
+        int tLength;
+        if (len >= BLOCK) {
+            // T = 평문 xorend D
+            t = w.buffer(len);
+            System.arraycopy(in, off, t, 0, len);
+            for (int i = 0; i < BLOCK; i++) {
+                t[len - BLOCK + i] ^= d[i];
+            }
+            tLength = len;
+        } else {
+            // T = dbl(D) xor pad(평문)
+            t = w.buffer(BLOCK);
+            for (int i = 0; i < BLOCK; i++) {
+                t[i] = (byte) (dd[i] ^ (i < len ? in[off + i] : i == len ? (byte) 0x80 : 0));
+            }
+            tLength = BLOCK;
+        }
+        int macLength = prepareLastBlock(t, tLength);
+        byte[] macOut = w.macOut(macLength);
+        w.mac.doFinal(t, 0, macLength, macOut, 0);
+        System.arraycopy(macOut, macLength - BLOCK, out, outOff, BLOCK);
+    }
+
+    /** iv[ivOff..ivOff+16)로 만든 카운터로 in을 CTR 암호화/복호화하여 out에 기록 */
+    private void ctr(Work w, byte[] iv, int ivOff, byte[] in, int off, int len, byte[] out, int outOff)
+        throws GeneralSecurityException {
+        if (len == 0) {
+            return;
+        }
+        int blocks = (len + BLOCK - 1) / BLOCK;
+        byte[] counters = w.counters(blocks * BLOCK);
+        System.arraycopy(iv, ivOff, counters, 0, BLOCK);
+        counters[8] &= 0x7f;  // Q = V & 1^64 0^1 1^31 0^1 1^31
+        counters[12] &= 0x7f;
+        for (int b = 1; b < blocks; b++) {
+            int p = b * BLOCK;
+            System.arraycopy(counters, p - BLOCK, counters, p, BLOCK);
+            for (int i = p + BLOCK - 1; i >= p && ++counters[i] == 0; i--) {
+                // 128비트 빅엔디언 증가
+            }
+        }
+        w.ctr.doFinal(counters, 0, blocks * BLOCK, counters, 0);
+        for (int i = 0; i < len; i++) {
+            out[outOff + i] = (byte) (in[off + i] ^ counters[i]);
+        }
+    }
+
+    /** 생성 시 S2V 앞부분 계산용 CMAC */
+    private byte[] cmac(Work w, byte[] message, int off, int len) throws GeneralSecurityException {
+        byte[] t = w.buffer(Math.max(len, BLOCK) + BLOCK);
+        System.arraycopy(message, off, t, 0, len);
+        int macLength = len == 0 ? padLastBlock(t, 0) : prepareLastBlock(t, len);
+        byte[] macOut = w.macOut(macLength);
+        w.mac.doFinal(t, 0, macLength, macOut, 0);
+        return Arrays.copyOfRange(macOut, macLength - BLOCK, macLength);
+    }
+
+    /** CMAC 마지막 블록 처리: 완전한 블록이면 K1, 아니면 10* 패딩 후 K2를 XOR. 처리할 길이를 반환 */
+    private int prepareLastBlock(byte[] t, int len) {
+        if (len % BLOCK == 0) {
+            for (int i = 0; i < BLOCK; i++) {
+                t[len - BLOCK + i] ^= k1[i];
+            }
+            return len;
+        }
+        return padLastBlock(t, len);
+    }
+
+    private int padLastBlock(byte[] t, int len) {
+        int padded = (len / BLOCK + 1) * BLOCK;
+        t[len] = (byte) 0x80;
+        Arrays.fill(t, len + 1, padded, (byte) 0);
+        for (int i = 0; i < BLOCK; i++) {
+            t[padded - BLOCK + i] ^= k2[i];
+        }
+        return padded;
+    }
+
+    /** GF(2^128)에서 x를 곱함 (out은 in과 같아도 됨) */
+    private static void dbl(byte[] in, byte[] out) {
+        int carry = (in[0] & 0x80) != 0 ? 0x87 : 0;
+        for (int i = 0; i < BLOCK - 1; i++) {
+            out[i] = (byte) ((in[i] << 1) | ((in[i + 1] & 0xff) >>> 7));
+        }
+        out[BLOCK - 1] = (byte) ((in[BLOCK - 1] << 1) ^ carry);
+    }
+
+    private static void xor(byte[] a, byte[] b, byte[] out) {
+        for (int i = 0; i < BLOCK; i++) {
+            out[i] = (byte) (a[i] ^ b[i]);
+        }
+    }
+
+    private Work newWork() {
+        try {
+            Cipher mac = Cipher.getInstance("AES/CBC/NoPadding");
+            mac.init(Cipher.ENCRYPT_MODE, macKey, new IvParameterSpec(ZERO_IV));
+            Cipher ctr = Cipher.getInstance("AES/ECB/NoPadding");
+            ctr.init(Cipher.ENCRYPT_MODE, ctrKey);
+            return new Work(mac, ctr);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-SIV Cipher 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 스레드별 Cipher와 작업 버퍼. CBC는 doFinal 이후 영 IV 상태로 돌아가므로 CMAC(CBC-MAC)에 재초기화 없이 재사용합니다.
+     */
+    private static final class Work {
+        final Cipher mac;
+        final Cipher ctr;
+        final byte[] v = new byte[BLOCK];
+        private byte[] buffer = new byte[256];
+        private byte[] macOut = new byte[256];
+        private byte[] counters = new byte[256];
+
+        Work(Cipher mac, Cipher ctr) {
+            this.mac = mac;
+            this.ctr = ctr;
+        }
+
+        byte[] buffer(int length) {
+            if (buffer.length < length + BLOCK) {
+                buffer = new byte[Math.max(length + BLOCK, buffer.length * 2)];
+            }
+            return buffer;
+        }
+
+        byte[] macOut(int length) {
+            if (macOut.length < length) {
+                macOut = new byte[Math.max(length, macOut.length * 2)];
+            }
+            return macOut;
+        }
+
+        byte[] counters(int length) {
+            if (counters.length < length) {
+                counters = new byte[Math.max(length, counters.length * 2)];
+            }
+            return counters;
+        }
+    }
+}
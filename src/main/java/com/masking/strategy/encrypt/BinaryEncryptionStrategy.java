@@ -0,0 +1,47 @@
+package com.masking.strategy.encrypt;
+
+/**
+ * Base64 문자열 대신 원시 바이트로도 암호문을 내보낼 수 있는 암호화 전략
+ *
+ * BINARY/BLOB 컬럼이나 바이너리 파일에 쓸 때 Base64 인코딩(약 33% 증가)과 String 생성을 건너뜁니다.
+ * {@link #encryptBytes(byte[], int, int, byte[], int)}는 호출자가 준 버퍼에 바로 기록하므로
+ * 버퍼를 재사용하면 값마다 할당이 생기지 않습니다.
+ */
+public interface BinaryEncryptionStrategy extends DecryptionStrategy {
+
+    /**
+     * 평문 길이에 대한 암호문 바이트 수를 반환합니다.
+     * @param plainLength 평문 바이트 수
+     * @return 암호문 바이트 수
+     */
+    int ciphertextLength(int plainLength);
+
+    /**
+     * in[off..off+len)을 암호화하여 out[outOff..)에 기록합니다.
+     * @param in 평문 버퍼
+     * @param off 평문 시작 위치
+     * @param len 평문 바이트 수
+     * @param out 출력 버퍼 (outOff부터 {@link #ciphertextLength(int)}바이트 이상 남아 있어야 함)
+     * @param outOff 출력 시작 위치
+     * @return 기록한 바이트 수
+     */
+    int encryptBytes(byte[] in, int off, int len, byte[] out, int outOff);
+
+    /**
+     * 평문 바이트를 암호화합니다.
+     * @param plain 평문
+     * @return 암호문 바이트
+     */
+    default byte[] encryptBytes(byte[] plain) {
+        byte[] out = new byte[ciphertextLength(plain.length)];
+        encryptBytes(plain, 0, plain.length, out, 0);
+        return out;
+    }
+
+    /**
+     * {@link #encryptBytes(byte[])}로 만든 암호문을 복호화합니다.
+     * @param cipherText 암호문 바이트
+     * @return 평문 바이트
+     */
+    byte[] decryptBytes(byte[] cipherText);
+}
@@ -0,0 +1,103 @@
+package com.masking.strategy.encrypt;
+
+/**
+ * 문자열 암호화 경로에서 값마다 새로 만들던 바이트/문자 배열을 스레드별로 재사용하는 내부 헬퍼
+ *
+ * 평문은 UTF-8로 {@link #plain}에 직접 인코딩하고, 암호문은 {@link #out}에 받은 뒤
+ * {@link #base64(int)}로 char 버퍼에 인코딩하여 결과 String 하나만 새로 만듭니다.
+ * 버퍼는 필요한 만큼만 커지며, 반환값을 다른 스레드에 넘기거나 호출을 중첩하면 안 됩니다.
+ */
+final class CipherBuffers {
+    private static final char[] BASE64 =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final ThreadLocal<CipherBuffers> LOCAL = ThreadLocal.withInitial(CipherBuffers::new);
+
+    byte[] plain = new byte[256];
+    byte[] out = new byte[256];
+    private char[] chars = new char[344];
+
+    static CipherBuffers current() {
+        return LOCAL.get();
+    }
+
+    /**
+     * s를 UTF-8로 {@link #plain}에 인코딩합니다. 짝이 맞지 않는 서로게이트는 String.getBytes처럼 '?'로 바꿉니다.
+     * @return 인코딩한 바이트 수
+     */
+    int utf8(String s) {
+        int length = s.length();
+        if (plain.length < length * 3) {
+            plain = new byte[length * 3];
+        }
+        byte[] b = plain;
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                b[n++] = (byte) c;
+            } else if (c < 0x800) {
+                b[n++] = (byte) (0xC0 | (c >> 6));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                b[n++] = (byte) (0xF0 | (cp >> 18));
+                b[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                b[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                b[n++] = '?';
+            } else {
+                b[n++] = (byte) (0xE0 | (c >> 12));
+                b[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                b[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return n;
+    }
+
+    /**
+     * {@link #out}이 최소 length바이트가 되도록 늘립니다.
+     * @return out 버퍼
+     */
+    byte[] out(int length) {
+        if (out.length < length) {
+            out = new byte[Math.max(length, out.length * 2)];
+        }
+        return out;
+    }
+
+    /**
+     * out[0..length)를 패딩 있는 표준 Base64 문자열로 인코딩합니다. (Base64.getEncoder()와 같은 결과)
+     */
+    String base64(int length) {
+        int encoded = (length + 2) / 3 * 4;
+        if (chars.length < encoded) {
+            chars = new char[Math.max(encoded, chars.length * 2)];
+        }
+        byte[] src = out;
+        char[] dst = chars;
+        int i = 0;
+        int j = 0;
+        for (int end = length - length % 3; i < end; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[j++] = BASE64[bits >>> 18];
+            dst[j++] = BASE64[(bits >>> 12) & 0x3F];
+            dst[j++] = BASE64[(bits >>> 6) & 0x3F];
+            dst[j++] = BASE64[bits & 0x3F];
+        }
+        if (i < length) {
+            int b0 = src[i] & 0xff;
+            dst[j++] = BASE64[b0 >> 2];
+            if (i + 1 == length) {
+                dst[j++] = BASE64[(b0 << 4) & 0x3F];
+                dst[j++] = '=';
+            } else {
+                int b1 = src[i + 1] & 0xff;
+                dst[j++] = BASE64[(b0 << 4 | b1 >> 4) & 0x3F];
+                dst[j++] = BASE64[(b1 << 2) & 0x3F];
+            }
+            dst[j++] = '=';
+        }
+        return new String(dst, 0, j);
+    }
+}
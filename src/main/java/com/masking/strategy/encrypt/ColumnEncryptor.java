@@ -0,0 +1,210 @@
+package com.masking.strategy.encrypt;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 한 컬럼의 값 전체를 ForkJoinPool 위에서 병렬로 암호화하는 대량 암호화기
+ *
+ * 값 배열을 chunkSize 이하 구간으로 재귀 분할하고 각 워커가 자기 구간을 암호화합니다.
+ * AES-GCM/AES-SIV 전략은 Cipher와 작업 버퍼를 스레드별로 두므로 워커마다 독립된 Cipher를 쓰고,
+ * 바이트 컬럼은 평문 길이로 각 값의 출력 위치를 먼저 계산한 뒤 워커들이 하나의 {@link EncryptedColumn}
+ * 배열의 겹치지 않는 구간에 바로 기록합니다.
+ *
+ * 사용법:
+ * <pre>
+ * ColumnEncryptor encryptor = ColumnEncryptor.of(AesGcmEncryptionStrategy.of(key));
+ * String[] encrypted = encryptor.encrypt(ssnColumn);
+ * EncryptedColumn blobs = encryptor.encrypt(imageColumn, null);
+ * blobs = encryptor.encrypt(nextImageColumn, blobs); // 배열 재사용
+ * </pre>
+ */
+public class ColumnEncryptor {
+    /** 청크 크기 기본값 */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final BinaryEncryptionStrategy strategy;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    private ColumnEncryptor(BinaryEncryptionStrategy strategy, ForkJoinPool pool, int chunkSize) {
+        if (strategy == null || pool == null) {
+            throw new IllegalArgumentException("strategy와 pool은 필수입니다");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.strategy = strategy;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 공용 ForkJoinPool을 사용하는 컬럼 암호화기를 생성합니다.
+     * @param strategy 암호화 전략 (스레드 안전해야 함)
+     * @return ColumnEncryptor 인스턴스
+     */
+    public static ColumnEncryptor of(BinaryEncryptionStrategy strategy) {
+        return new ColumnEncryptor(strategy, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 지정한 ForkJoinPool과 청크 크기를 사용하는 컬럼 암호화기를 생성합니다.
+     * @param strategy 암호화 전략 (스레드 안전해야 함)
+     * @param pool 작업을 실행할 ForkJoinPool
+     * @param chunkSize 한 워커가 분할 없이 처리할 최대 값 수
+     * @return ColumnEncryptor 인스턴스
+     */
+    public static ColumnEncryptor of(BinaryEncryptionStrategy strategy, ForkJoinPool pool, int chunkSize) {
+        return new ColumnEncryptor(strategy, pool, chunkSize);
+    }
+
+    /**
+     * 문자열 컬럼을 병렬로 암호화합니다. 결과는 전략의 {@link EncryptionStrategy#encrypt(String)}와 같습니다.
+     * @param values 평문 배열 (null 허용)
+     * @return 입력과 같은 순서의 암호문 배열
+     */
+    public String[] encrypt(String[] values) {
+        String[] results = new String[values.length];
+        run(new StringTask(values, results, 0, values.length));
+        return results;
+    }
+
+    /**
+     * 바이트 컬럼을 병렬로 암호화하여 하나의 배열에 이어 붙입니다.
+     * @param values 평문 배열 (null 허용)
+     * @param reuse 재사용할 이전 결과 (없으면 null), 이 호출 이후 이전 내용은 덮어씀
+     * @return 암호문 컬럼
+     */
+    public EncryptedColumn encrypt(byte[][] values, EncryptedColumn reuse) {
+        EncryptedColumn column = reuse != null ? reuse : new EncryptedColumn();
+        long total = 0;
+        for (byte[] value : values) {
+            if (value != null) {
+                total += strategy.ciphertextLength(value.length);
+            }
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("컬럼 암호문이 2GB를 넘습니다. 더 작게 나눠 호출하세요: " + total);
+        }
+        int[] offsets = column.reset(values.length, (int) total);
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            offsets[i] = position;
+            if (values[i] != null) {
+                position += strategy.ciphertextLength(values[i].length);
+            }
+        }
+        offsets[values.length] = position;
+        run(new BytesTask(values, column.arena(), offsets, 0, values.length));
+        return column;
+    }
+
+    /**
+     * 암호화 전략을 반환합니다.
+     * @return 암호화 전략
+     */
+    public BinaryEncryptionStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 작업을 실행하는 ForkJoinPool을 반환합니다.
+     * @return ForkJoinPool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    private void run(Range task) {
+        // 작은 컬럼은 풀에 넘기는 비용이 더 크므로 호출 스레드에서 바로 처리
+        if (task.to <= chunkSize) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    private abstract class Range extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int from;
+        final int to;
+
+        Range(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                encryptRange();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(split(from, mid), split(mid, to));
+        }
+
+        abstract Range split(int from, int to);
+
+        abstract void encryptRange();
+    }
+
+    private final class StringTask extends Range {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] values;
+        private final String[] results;
+
+        StringTask(String[] values, String[] results, int from, int to) {
+            super(from, to);
+            this.values = values;
+            this.results = results;
+        }
+
+        @Override
+        Range split(int from, int to) {
+            return new StringTask(values, results, from, to);
+        }
+
+        @Override
+        void encryptRange() {
+            for (int i = from; i < to; i++) {
+                if (values[i] != null) {
+                    results[i] = strategy.encrypt(values[i]);
+                }
+            }
+        }
+    }
+
+    private final class BytesTask extends Range {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[][] values;
+        private final byte[] arena;
+        private final int[] offsets;
+
+        BytesTask(byte[][] values, byte[] arena, int[] offsets, int from, int to) {
+            super(from, to);
+            this.values = values;
+            this.arena = arena;
+            this.offsets = offsets;
+        }
+
+        @Override
+        Range split(int from, int to) {
+            return new BytesTask(values, arena, offsets, from, to);
+        }
+
+        @Override
+        void encryptRange() {
+            for (int i = from; i < to; i++) {
+                byte[] value = values[i];
+                if (value != null) {
+                    strategy.encryptBytes(value, 0, value.length, arena, offsets[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.masking.strategy.encrypt;
+
+/**
+ * 암호문을 원래 평문으로 되돌릴 수 있는 암호화 전략 (읽기 경로의 복호화용)
+ *
+ * 공개키만 가진 RSA 전략처럼 복호화할 수 없는 전략은 이 인터페이스를 구현하지 않으므로,
+ * {@link com.masking.action.DecryptAction} 등에 넘기면 실행 시점이 아니라 컴파일 시점에 걸러집니다.
+ */
+public interface DecryptionStrategy extends EncryptionStrategy {
+    /**
+     * {@link #encrypt(String)}로 만든 암호문을 복호화합니다.
+     * @param input 암호문
+     * @return 평문
+     */
+    String decrypt(String input);
+
+    /**
+     * 여러 값을 한 번에 복호화합니다. null 값은 그대로 null로 남습니다.
+     * @param inputs 암호문 배열
+     * @return 입력과 같은 순서의 평문 배열
+     */
+    default String[] decryptBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null) {
+                results[i] = decrypt(inputs[i]);
+            }
+        }
+        return results;
+    }
+}
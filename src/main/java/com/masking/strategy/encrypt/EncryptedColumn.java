@@ -0,0 +1,102 @@
+package com.masking.strategy.encrypt;
+
+import java.util.Arrays;
+
+/**
+ * 한 컬럼의 암호문을 하나의 바이트 배열(arena)에 이어 붙여 담는 결과 컨테이너
+ *
+ * i번째 값의 암호문은 {@code arena()[offset(i) .. offset(i) + length(i))} 입니다.
+ * 값마다 byte[]를 만들지 않으므로 수백만 행을 암호화해도 배열 두 개만 할당되고,
+ * {@link ColumnEncryptor#encrypt(byte[][], EncryptedColumn)}에 다시 넘기면 배열을 재사용합니다.
+ * 암호문은 빈 평문이어도 1바이트 이상이므로 길이 0은 null 값을 뜻합니다.
+ */
+public final class EncryptedColumn {
+    private byte[] arena = new byte[0];
+    private int[] offsets = new int[1];
+    private int size;
+
+    EncryptedColumn() {}
+
+    /**
+     * size개 값과 전체 암호문 byteSize바이트를 담을 수 있도록 배열을 준비합니다. (모자랄 때만 새로 할당)
+     * @return 오프셋 배열 (호출자가 채움)
+     */
+    int[] reset(int size, int byteSize) {
+        if (offsets.length < size + 1) {
+            offsets = new int[size + 1];
+        }
+        if (arena.length < byteSize) {
+            arena = new byte[byteSize];
+        }
+        this.size = size;
+        return offsets;
+    }
+
+    /**
+     * 값 개수를 반환합니다.
+     * @return 값 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 암호문 전체 바이트 수를 반환합니다.
+     * @return 바이트 수
+     */
+    public int byteSize() {
+        return offsets[size];
+    }
+
+    /**
+     * 암호문이 담긴 배열을 복사 없이 반환합니다. {@link #byteSize()} 이후 영역은 이전 사용의 잔여 데이터입니다.
+     * @return arena 배열
+     */
+    public byte[] arena() {
+        return arena;
+    }
+
+    /**
+     * i번째 암호문의 시작 위치를 반환합니다.
+     * @param i 값 인덱스
+     * @return arena 안의 시작 위치
+     */
+    public int offset(int i) {
+        checkIndex(i);
+        return offsets[i];
+    }
+
+    /**
+     * i번째 암호문의 길이를 반환합니다.
+     * @param i 값 인덱스
+     * @return 바이트 수 (원래 값이 null이면 0)
+     */
+    public int length(int i) {
+        checkIndex(i);
+        return offsets[i + 1] - offsets[i];
+    }
+
+    /**
+     * i번째 원래 값이 null이었는지 확인합니다.
+     * @param i 값 인덱스
+     * @return null이었으면 true
+     */
+    public boolean isNull(int i) {
+        return length(i) == 0;
+    }
+
+    /**
+     * i번째 암호문을 새 배열로 복사해 반환합니다.
+     * @param i 값 인덱스
+     * @return 암호문 (원래 값이 null이면 null)
+     */
+    public byte[] get(int i) {
+        return isNull(i) ? null : Arrays.copyOfRange(arena, offsets[i], offsets[i + 1]);
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index: " + i + ", size: " + size);
+        }
+    }
+}
@@ -5,4 +5,31 @@ package com.masking.strategy.encrypt;
  */
 public interface EncryptionStrategy {
     String encrypt(String input);
+
+    /**
+     * 같은 입력에 항상 같은 결과를 내는지 여부를 반환합니다.
+     * 결정적 전략만 캐시({@link com.masking.cache.CachingEncryptionStrategy})로 감쌀 수 있습니다.
+     * 기본값은 false이며, 같은 입력에 같은 결과를 보장하는 구현체만 true로 재정의합니다.
+     * (false이면 배치의 중복 값 제거와 캐시가 꺼질 뿐 결과는 같습니다)
+     * @return 결정적이면 true
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
+
+    /**
+     * 여러 값을 한 번에 암호화합니다. null 값은 그대로 null로 남습니다.
+     * 배치 단위로 Cipher 초기화 비용을 줄일 수 있는 구현체는 이 메서드를 재정의합니다.
+     * @param inputs 평문 배열
+     * @return 입력과 같은 순서의 암호문 배열
+     */
+    default String[] encryptBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null) {
+                results[i] = encrypt(inputs[i]);
+            }
+        }
+        return results;
+    }
 }
@@ -0,0 +1,51 @@
+package com.masking.strategy.encrypt;
+
+/**
+ * {@link EnvelopeEncryptionStrategy} 암호문 헤더에 기록되는 알고리즘
+ *
+ * 식별 바이트는 저장된 암호문에 남으므로 기존 값을 바꾸거나 재사용하면 안 됩니다.
+ */
+public enum EnvelopeAlgorithm {
+    /** AES-GCM, 무작위화 (키 16/24/32바이트) */
+    AES_GCM((byte) 1) {
+        @Override
+        BinaryEncryptionStrategy create(byte[] key, byte[] associatedData) {
+            return AesGcmEncryptionStrategy.of(key, associatedData);
+        }
+    },
+    /** AES-SIV, 결정적 (키 32/48/64바이트) */
+    AES_SIV((byte) 2) {
+        @Override
+        BinaryEncryptionStrategy create(byte[] key, byte[] associatedData) {
+            return AesSivEncryptionStrategy.of(key, associatedData);
+        }
+    };
+
+    private final byte id;
+
+    EnvelopeAlgorithm(byte id) {
+        this.id = id;
+    }
+
+    /**
+     * 헤더에 기록되는 식별 바이트를 반환합니다.
+     * @return 식별 바이트
+     */
+    public byte id() {
+        return id;
+    }
+
+    /**
+     * 키와 연관 데이터로 초기화된 전략을 생성합니다.
+     */
+    abstract BinaryEncryptionStrategy create(byte[] key, byte[] associatedData);
+
+    static EnvelopeAlgorithm fromId(byte id) {
+        for (EnvelopeAlgorithm algorithm : values()) {
+            if (algorithm.id == id) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 암호화 알고리즘 ID: " + id);
+    }
+}
@@ -0,0 +1,163 @@
+package com.masking.strategy.encrypt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 키 ID와 알고리즘을 암호문 헤더에 기록하는 버전 관리 암호화 전략
+ *
+ * 출력은 Base64(버전 1B | 알고리즘 1B | 키 ID 길이 1B | 키 ID | 알고리즘별 암호문) 입니다.
+ * 암호화는 {@link Keyring}의 primary 키로, 복호화는 헤더의 키 ID로 하므로
+ * 키를 교체해도 기존 값을 계속 읽을 수 있고 값별로 재암호화할 수 있습니다. ({@link #keyIdOf(String)})
+ * 헤더는 연관 데이터로 인증되므로 키 ID나 알고리즘을 바꾼 암호문은 복호화되지 않습니다.
+ *
+ * AES_SIV는 같은 키 안에서만 결정적입니다. primary 키를 바꾸면 같은 값도 다른 암호문이 되므로,
+ * 조인할 컬럼은 재암호화가 끝날 때까지 키 교체 시점을 맞춰야 합니다.
+ *
+ * 사용법:
+ * <pre>
+ * Keyring keyring = Keyring.of(FileKeyProvider.of(Paths.get("keys.properties")));
+ * EnvelopeEncryptionStrategy ssn = EnvelopeEncryptionStrategy.of(keyring, EnvelopeAlgorithm.AES_GCM);
+ * String encrypted = ssn.encrypt("123-45-6789");
+ * String plain = ssn.decrypt(encrypted); // primary 키가 바뀐 뒤에도 가능
+ * </pre>
+ */
+public class EnvelopeEncryptionStrategy implements DecryptionStrategy {
+    static final byte VERSION = 1;
+    private static final int FIXED_HEADER = 3;
+    private static final Pattern KEY_ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    private final Keyring keyring;
+    private final EnvelopeAlgorithm algorithm;
+    private volatile Keyring.Entry current; // 마지막으로 쓴 primary 키
+
+    private EnvelopeEncryptionStrategy(Keyring keyring, EnvelopeAlgorithm algorithm) {
+        if (keyring == null || algorithm == null) {
+            throw new IllegalArgumentException("keyring과 algorithm은 필수입니다");
+        }
+        this.keyring = keyring;
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * 엔벨로프 암호화 전략을 생성합니다.
+     * @param keyring 키링
+     * @param algorithm 새 값을 암호화할 알고리즘 (복호화는 헤더의 알고리즘을 따름)
+     * @return EnvelopeEncryptionStrategy 인스턴스
+     */
+    public static EnvelopeEncryptionStrategy of(Keyring keyring, EnvelopeAlgorithm algorithm) {
+        return new EnvelopeEncryptionStrategy(keyring, algorithm);
+    }
+
+    /**
+     * AES_SIV이면 true. (같은 primary 키 안에서만 결정적)
+     * @return 결정적이면 true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return algorithm == EnvelopeAlgorithm.AES_SIV;
+    }
+
+    @Override
+    public String encrypt(String input) {
+        if (input == null) return null;
+        return seal(primary(), input);
+    }
+
+    /**
+     * primary 키를 배치 전체에 한 번만 확인하여 여러 값을 암호화합니다.
+     * @param inputs 평문 배열
+     * @return 입력과 같은 순서의 암호문 배열
+     */
+    @Override
+    public String[] encryptBatch(String[] inputs) {
+        Keyring.Entry entry = primary();
+        String[] results = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null) {
+                results[i] = seal(entry, inputs[i]);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public String decrypt(String input) {
+        if (input == null) return null;
+        byte[] data = decode(input);
+        int headerLength = FIXED_HEADER + data[2];
+        Keyring.Entry entry = keyring.entry(EnvelopeAlgorithm.fromId(data[1]),
+            new String(data, FIXED_HEADER, data[2], StandardCharsets.US_ASCII));
+        byte[] plain = entry.strategy.decryptBytes(Arrays.copyOfRange(data, headerLength, data.length));
+        return new String(plain, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 암호문 헤더에서 키 ID를 읽습니다. 이전 키로 암호화된 값을 찾아 재암호화할 때 사용합니다.
+     * @param cipherText 이 전략이 만든 암호문
+     * @return 키 ID
+     */
+    public static String keyIdOf(String cipherText) {
+        byte[] data = decode(cipherText);
+        return new String(data, FIXED_HEADER, data[2], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 키링을 반환합니다.
+     * @return 키링
+     */
+    public Keyring getKeyring() {
+        return keyring;
+    }
+
+    /**
+     * 암호화 알고리즘을 반환합니다.
+     * @return 알고리즘
+     */
+    public EnvelopeAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    private Keyring.Entry primary() {
+        Keyring.Entry entry = current;
+        String keyId = keyring.primaryKeyId();
+        if (entry == null || !entry.keyId.equals(keyId)) {
+            entry = keyring.entry(algorithm, keyId);
+            current = entry;
+        }
+        return entry;
+    }
+
+    private static String seal(Keyring.Entry entry, String input) {
+        CipherBuffers buffers = CipherBuffers.current();
+        int length = buffers.utf8(input);
+        byte[] header = entry.header;
+        byte[] out = buffers.out(header.length + entry.strategy.ciphertextLength(length));
+        System.arraycopy(header, 0, out, 0, header.length);
+        int written = entry.strategy.encryptBytes(buffers.plain, 0, length, out, header.length);
+        return buffers.base64(header.length + written);
+    }
+
+    private static byte[] decode(String cipherText) {
+        byte[] data = Base64.getDecoder().decode(cipherText);
+        if (data.length < FIXED_HEADER || data[0] != VERSION || data[2] <= 0 || data.length < FIXED_HEADER + data[2]) {
+            throw new IllegalArgumentException("엔벨로프 암호문 형식이 아닙니다");
+        }
+        return data;
+    }
+
+    static byte[] header(EnvelopeAlgorithm algorithm, String keyId) {
+        if (keyId == null || !KEY_ID.matcher(keyId).matches()) {
+            throw new IllegalArgumentException("키 ID는 영문, 숫자, '.', '_', ':', '-'로 된 64자 이하여야 합니다: " + keyId);
+        }
+        byte[] id = keyId.getBytes(StandardCharsets.US_ASCII);
+        byte[] header = new byte[FIXED_HEADER + id.length];
+        header[0] = VERSION;
+        header[1] = algorithm.id();
+        header[2] = (byte) id.length;
+        System.arraycopy(id, 0, header, FIXED_HEADER, id.length);
+        return header;
+    }
+}
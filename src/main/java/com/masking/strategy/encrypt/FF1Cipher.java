@@ -0,0 +1,159 @@
+package com.masking.strategy.encrypt;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * NIST SP 800-38G FF1 (10라운드 Feistel, PRF = AES CBC-MAC)
+ *
+ * 라운드마다 바뀌는 것은 Q의 마지막 블록(라운드 번호와 NUM(B))뿐이므로,
+ * 길이별로 P와 트윅의 완전한 블록까지 CBC-MAC 상태를 스레드 버퍼에 미리 계산해 둡니다.
+ */
+final class FF1Cipher extends FpeCipher {
+    private static final int ROUNDS = 10;
+
+    private final byte[] tweak;
+    private final int[] byteLengths = new int[129]; // v → b (0이면 아직 계산하지 않음)
+
+    FF1Cipher(byte[] key, byte[] tweak, int radix) {
+        super(key, radix);
+        this.tweak = tweak == null ? new byte[0] : tweak.clone();
+    }
+
+    @Override
+    int maxLength() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    void transform(Work w, int[] x, int n, boolean encrypt) throws GeneralSecurityException {
+        int u = n / 2;
+        int v = n - u;
+        int b = byteLength(v);
+        int d = 4 * ((b + 3) / 4) + 4;
+        int t = tweak.length;
+        int full = t / 16 * 16;
+        int tailLength = t - full + Math.floorMod(-t - b - 1, 16) + 1 + b;
+        if (w.cachedLength != n) {
+            prepare(w, u, n, full, tailLength);
+        }
+        byte[] tail = w.bytes;
+        int numOffset = tailLength - b;
+
+        if (fits(v)) {
+            long a = numBE(x, 0, u);
+            long c = numBE(x, u, v);
+            if (encrypt) {
+                for (int i = 0; i < ROUNDS; i++) {
+                    tail[numOffset - 1] = (byte) i;
+                    putLong(c, tail, numOffset, b);
+                    prf(w, tail, tailLength);
+                    long modulus = pow((i & 1) == 0 ? u : v);
+                    long next = (a + mod(w.y, 0, d, modulus)) % modulus;
+                    a = c;
+                    c = next;
+                }
+            } else {
+                for (int i = ROUNDS - 1; i >= 0; i--) {
+                    tail[numOffset - 1] = (byte) i;
+                    putLong(a, tail, numOffset, b);
+                    prf(w, tail, tailLength);
+                    long modulus = pow((i & 1) == 0 ? u : v);
+                    long next = c - mod(w.y, 0, d, modulus);
+                    c = a;
+                    a = next < 0 ? next + modulus : next;
+                }
+            }
+            strBE(a, x, 0, u);
+            strBE(c, x, u, v);
+            return;
+        }
+
+        BigInteger[] moduli = {bigRadix.pow(u), bigRadix.pow(v)};
+        BigInteger a = bigNumBE(x, 0, u);
+        BigInteger c = bigNumBE(x, u, v);
+        for (int k = 0; k < ROUNDS; k++) {
+            int i = encrypt ? k : ROUNDS - 1 - k;
+            tail[numOffset - 1] = (byte) i;
+            putBig(encrypt ? c : a, tail, numOffset, b);
+            prf(w, tail, tailLength);
+            BigInteger y = new BigInteger(1, expand(w, d));
+            BigInteger modulus = moduli[i & 1];
+            if (encrypt) {
+                BigInteger next = a.add(y).mod(modulus);
+                a = c;
+                c = next;
+            } else {
+                BigInteger next = c.subtract(y).mod(modulus);
+                c = a;
+                a = next;
+            }
+        }
+        bigStrBE(a, x, 0, u);
+        bigStrBE(c, x, u, v);
+    }
+
+    // b = ⌈⌈v·log2(radix)⌉ / 8⌉ : radix^v - 1의 비트 수로 정확히 계산
+    private int byteLength(int v) {
+        if (v < byteLengths.length && byteLengths[v] != 0) {
+            return byteLengths[v];
+        }
+        int b = (bigRadix.pow(v).subtract(BigInteger.ONE).bitLength() + 7) / 8;
+        if (v < byteLengths.length) {
+            byteLengths[v] = b;
+        }
+        return b;
+    }
+
+    // CIPH(P)와 트윅으로만 채워진 Q 블록까지의 CBC-MAC 상태, 그리고 Q 나머지 블록의 고정 부분을 준비
+    private void prepare(Work w, int u, int n, int full, int tailLength) throws GeneralSecurityException {
+        byte[] p = w.block;
+        p[0] = 1;
+        p[1] = 2;
+        p[2] = 1;
+        putLong(radix, p, 3, 3);
+        p[6] = 10;
+        p[7] = (byte) u;
+        putLong(n, p, 8, 4);
+        putLong(tweak.length, p, 12, 4);
+        w.encryptBlock(p, w.prefix);
+        for (int k = 0; k < full; k += 16) {
+            for (int j = 0; j < 16; j++) {
+                p[j] = (byte) (w.prefix[j] ^ tweak[k + j]);
+            }
+            w.encryptBlock(p, w.prefix);
+        }
+        byte[] tail = w.bytes(tailLength);
+        Arrays.fill(tail, 0, tailLength, (byte) 0);
+        System.arraycopy(tweak, full, tail, 0, tweak.length - full);
+        w.cachedLength = n;
+    }
+
+    // R = PRF(P || Q): 미리 계산한 상태에서 Q의 나머지 블록만 CBC로 이어서 w.y에 기록
+    private void prf(Work w, byte[] tail, int tailLength) throws GeneralSecurityException {
+        System.arraycopy(w.prefix, 0, w.y, 0, 16);
+        for (int k = 0; k < tailLength; k += 16) {
+            for (int j = 0; j < 16; j++) {
+                w.block[j] = (byte) (w.y[j] ^ tail[k + j]);
+            }
+            w.encryptBlock(w.block, w.y);
+        }
+    }
+
+    // S = R || CIPH(R ⊕ [1]^16) || CIPH(R ⊕ [2]^16) ... 의 앞 d바이트
+    private static byte[] expand(Work w, int d) throws GeneralSecurityException {
+        byte[] s = new byte[(d + 15) / 16 * 16];
+        System.arraycopy(w.y, 0, s, 0, 16);
+        byte[] out = new byte[16];
+        for (int j = 1; j * 16 < d; j++) {
+            System.arraycopy(w.y, 0, w.block, 0, 16);
+            for (int k = 0; k < 4; k++) {
+                w.block[15 - k] ^= (byte) (j >>> (8 * k));
+            }
+            w.encryptBlock(w.block, out);
+            System.arraycopy(out, 0, s, j * 16, 16);
+        }
+        return d == s.length ? s : Arrays.copyOf(s, d);
+    }
+}
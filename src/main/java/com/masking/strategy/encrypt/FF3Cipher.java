@@ -0,0 +1,146 @@
+package com.masking.strategy.encrypt;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+
+/**
+ * NIST SP 800-38G Rev.1 FF3-1 (8라운드 Feistel, 라운드 함수 = 바이트 순서를 뒤집은 AES 한 블록)
+ *
+ * 56비트 트윅을 32비트 T_L/T_R로 나눠 라운드마다 번갈아 씁니다.
+ * 키는 생성 시 한 번 뒤집어(REVB) 스레드별 Cipher에 확장해 둡니다.
+ */
+final class FF3Cipher extends FpeCipher {
+    private static final int ROUNDS = 8;
+
+    private final byte[] tweakLeft = new byte[4];
+    private final byte[] tweakRight = new byte[4];
+    private final int maxLength;
+
+    /**
+     * @param key AES 키
+     * @param tweak 7바이트(56비트) 트윅
+     * @param radix 기수
+     */
+    FF3Cipher(byte[] key, byte[] tweak, int radix) {
+        super(reverse(key), radix);
+        if (tweak == null || tweak.length != 7) {
+            throw new IllegalArgumentException("FF3-1 트윅은 7바이트(56비트)여야 합니다");
+        }
+        // T_L = T[0..27] || 0^4, T_R = T[32..55] || T[28..31] || 0^4
+        System.arraycopy(tweak, 0, tweakLeft, 0, 3);
+        tweakLeft[3] = (byte) (tweak[3] & 0xF0);
+        System.arraycopy(tweak, 4, tweakRight, 0, 3);
+        tweakRight[3] = (byte) ((tweak[3] & 0x0F) << 4);
+        // maxlen = 2⌊log_radix(2^96)⌋
+        int half = 0;
+        BigInteger limit = BigInteger.ONE.shiftLeft(96);
+        for (BigInteger p = bigRadix; p.compareTo(limit) <= 0; p = p.multiply(bigRadix)) {
+            half++;
+        }
+        this.maxLength = 2 * half;
+    }
+
+    @Override
+    int maxLength() {
+        return maxLength;
+    }
+
+    @Override
+    void transform(Work w, int[] x, int n, boolean encrypt) throws GeneralSecurityException {
+        int u = (n + 1) / 2;
+        int v = n - u;
+
+        if (fits(u)) {
+            long a = numLE(x, 0, u);
+            long c = numLE(x, u, v);
+            if (encrypt) {
+                for (int i = 0; i < ROUNDS; i++) {
+                    round(w, i, c);
+                    long modulus = pow((i & 1) == 0 ? u : v);
+                    long next = (a + reversedMod(w.y, modulus)) % modulus;
+                    a = c;
+                    c = next;
+                }
+            } else {
+                for (int i = ROUNDS - 1; i >= 0; i--) {
+                    round(w, i, a);
+                    long modulus = pow((i & 1) == 0 ? u : v);
+                    long next = c - reversedMod(w.y, modulus);
+                    c = a;
+                    a = next < 0 ? next + modulus : next;
+                }
+            }
+            strLE(a, x, 0, u);
+            strLE(c, x, u, v);
+            return;
+        }
+
+        BigInteger[] moduli = {bigRadix.pow(u), bigRadix.pow(v)};
+        BigInteger a = bigNumLE(x, 0, u);
+        BigInteger c = bigNumLE(x, u, v);
+        byte[] s = new byte[16];
+        for (int k = 0; k < ROUNDS; k++) {
+            int i = encrypt ? k : ROUNDS - 1 - k;
+            prepareRound(w, i);
+            putBig(encrypt ? c : a, w.y, 4, 12);
+            cipherReversed(w);
+            for (int j = 0; j < 16; j++) {
+                s[j] = w.y[15 - j];
+            }
+            BigInteger y = new BigInteger(1, s);
+            BigInteger modulus = moduli[i & 1];
+            if (encrypt) {
+                BigInteger next = a.add(y).mod(modulus);
+                a = c;
+                c = next;
+            } else {
+                BigInteger next = c.subtract(y).mod(modulus);
+                c = a;
+                a = next;
+            }
+        }
+        bigStrLE(a, x, 0, u);
+        bigStrLE(c, x, u, v);
+    }
+
+    // P = (W ⊕ [i]^4) || [NUM]^12 를 w.y에 만들고 REVB(CIPH(REVB(P)))의 역순 바이트를 w.y에 남김
+    private void round(Work w, int i, long num) throws GeneralSecurityException {
+        prepareRound(w, i);
+        putLong(num, w.y, 4, 12);
+        cipherReversed(w);
+    }
+
+    private void prepareRound(Work w, int i) {
+        byte[] tw = (i & 1) == 0 ? tweakRight : tweakLeft;
+        System.arraycopy(tw, 0, w.y, 0, 4);
+        w.y[3] ^= (byte) i;
+    }
+
+    // w.y의 P를 뒤집어 암호화: 결과 w.y는 S를 거꾸로 담고 있음 (S[k] = w.y[15 - k])
+    private static void cipherReversed(Work w) throws GeneralSecurityException {
+        for (int k = 0; k < 16; k++) {
+            w.block[15 - k] = w.y[k];
+        }
+        w.encryptBlock(w.block, w.y);
+    }
+
+    // NUM(S) mod modulus, S = REVB(out)
+    private static long reversedMod(byte[] out, long modulus) {
+        long acc = 0;
+        for (int i = 15; i >= 0; i--) {
+            acc = ((acc << 8) | (out[i] & 0xff)) % modulus;
+        }
+        return acc;
+    }
+
+    private static byte[] reverse(byte[] key) {
+        if (key == null) {
+            return null;
+        }
+        byte[] reversed = new byte[key.length];
+        for (int i = 0; i < key.length; i++) {
+            reversed[i] = key[key.length - 1 - i];
+        }
+        return reversed;
+    }
+}
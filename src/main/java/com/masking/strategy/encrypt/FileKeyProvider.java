@@ -0,0 +1,106 @@
+package com.masking.strategy.encrypt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 속성 파일에서 키를 읽는 {@link KeyProvider} (로컬 KMS 대용)
+ *
+ * 파일 형식:
+ * <pre>
+ * primary=2024-10
+ * key.2024-09=Base64 키
+ * key.2024-10=Base64 키
+ * </pre>
+ * 키를 교체하려면 새 key.ID 줄을 추가하고 primary를 바꾼 뒤 {@link Keyring#refresh()}를 호출합니다.
+ * 이전 키는 기존 암호문을 복호화하는 데 필요하므로 재암호화가 끝날 때까지 지우면 안 됩니다.
+ * 키가 평문으로 저장되므로 파일 권한을 제한하고, 운영 환경에서는 KMS 연동 구현을 사용하세요.
+ */
+public class FileKeyProvider implements KeyProvider {
+    private static final String PRIMARY = "primary";
+    private static final String KEY_PREFIX = "key.";
+
+    private final Path path;
+    private volatile Snapshot snapshot;
+
+    private FileKeyProvider(Path path) {
+        this.path = path;
+        this.snapshot = load(path);
+    }
+
+    /**
+     * 키 파일을 읽어 FileKeyProvider를 생성합니다.
+     * @param path 키 속성 파일 경로
+     * @return FileKeyProvider 인스턴스
+     */
+    public static FileKeyProvider of(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("path는 필수입니다");
+        }
+        return new FileKeyProvider(path);
+    }
+
+    @Override
+    public String primaryKeyId() {
+        return snapshot.primary;
+    }
+
+    @Override
+    public byte[] keyBytes(String keyId) {
+        byte[] key = snapshot.keys.get(keyId);
+        if (key == null) {
+            throw new IllegalArgumentException("알 수 없는 키 ID: " + keyId);
+        }
+        return key.clone();
+    }
+
+    /**
+     * 키 파일을 다시 읽습니다. 읽기에 실패하면 기존 키 목록을 유지하고 예외를 던집니다.
+     */
+    @Override
+    public void refresh() {
+        snapshot = load(path);
+    }
+
+    private static Snapshot load(Path path) {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new RuntimeException("키 파일을 읽을 수 없습니다: " + path, e);
+        }
+        Map<String, byte[]> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                String keyId = name.substring(KEY_PREFIX.length());
+                try {
+                    keys.put(keyId, Base64.getDecoder().decode(properties.getProperty(name).trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("키가 Base64 형식이 아닙니다: " + keyId, e);
+                }
+            }
+        }
+        String primary = properties.getProperty(PRIMARY, "").trim();
+        if (!keys.containsKey(primary)) {
+            throw new IllegalArgumentException("primary 키가 키 목록에 없습니다: " + primary);
+        }
+        return new Snapshot(primary, Collections.unmodifiableMap(keys));
+    }
+
+    private static final class Snapshot {
+        final String primary;
+        final Map<String, byte[]> keys;
+
+        Snapshot(String primary, Map<String, byte[]> keys) {
+            this.primary = primary;
+            this.keys = keys;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.masking.strategy.encrypt;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+
+/**
+ * FF1/FF3-1 공통 부분: AES 블록 암호, 기수(radix) 연산, 스레드별 작업 버퍼
+ *
+ * 키 스케줄이 확장된 AES/ECB/NoPadding Cipher와 블록/숫자 버퍼를 스레드마다 한 번만 만들고,
+ * radix^m이 2^47 미만인 길이는 BigInteger 없이 long으로 계산합니다. (숫자 28자리까지)
+ */
+abstract class FpeCipher {
+    // acc * 256 + 255가 long을 넘지 않도록 radix^m < 2^47 까지만 long으로 계산
+    private static final long FAST_LIMIT = 1L << 47;
+
+    final int radix;
+    final BigInteger bigRadix;
+    private final int minLength;
+    private final SecretKeySpec key;
+    private final long[] powers; // powers[m] = radix^m (radix^m < 2^47)
+    private final ThreadLocal<Work> works = ThreadLocal.withInitial(this::newWork);
+
+    FpeCipher(byte[] aesKey, int radix) {
+        if (aesKey == null || (aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32)) {
+            throw new IllegalArgumentException("AES 키는 16, 24, 32바이트여야 합니다");
+        }
+        if (radix < 2 || radix > 65536) {
+            throw new IllegalArgumentException("radix는 2 이상 65536 이하여야 합니다: " + radix);
+        }
+        this.radix = radix;
+        this.bigRadix = BigInteger.valueOf(radix);
+        this.key = new SecretKeySpec(aesKey, "AES");
+        int count = 1;
+        for (long p = radix; p < FAST_LIMIT; p *= radix) {
+            count++;
+        }
+        this.powers = new long[count];
+        powers[0] = 1;
+        for (int m = 1; m < count; m++) {
+            powers[m] = powers[m - 1] * radix;
+        }
+        int n = 1;
+        for (BigInteger p = bigRadix; p.compareTo(BigInteger.valueOf(1_000_000)) < 0; p = p.multiply(bigRadix)) {
+            n++;
+        }
+        this.minLength = Math.max(2, n);
+    }
+
+    /**
+     * 입력 숫자열의 최소 길이 (radix^minlen ≥ 1,000,000, SP 800-38G Rev.1)
+     */
+    int minLength() {
+        return minLength;
+    }
+
+    abstract int maxLength();
+
+    /**
+     * x[0..n)의 숫자열을 제자리에서 암호화 또는 복호화합니다.
+     */
+    abstract void transform(Work w, int[] x, int n, boolean encrypt) throws GeneralSecurityException;
+
+    Work work() {
+        return works.get();
+    }
+
+    /** 연산이 실패하면 Cipher 상태를 알 수 없으므로 현재 스레드의 작업 버퍼를 폐기합니다. */
+    void discard() {
+        works.remove();
+    }
+
+    private Work newWork() {
+        try {
+            Cipher aes = Cipher.getInstance("AES/ECB/NoPadding");
+            aes.init(Cipher.ENCRYPT_MODE, key);
+            return new Work(aes);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES Cipher 초기화 실패", e);
+        }
+    }
+
+    boolean fits(int m) {
+        return m < powers.length;
+    }
+
+    long pow(int m) {
+        return powers[m];
+    }
+
+    /** 앞쪽이 최상위인 숫자열의 값 */
+    long numBE(int[] x, int off, int len) {
+        long acc = 0;
+        for (int i = off; i < off + len; i++) {
+            acc = acc * radix + x[i];
+        }
+        return acc;
+    }
+
+    void strBE(long value, int[] x, int off, int len) {
+        for (int i = off + len - 1; i >= off; i--) {
+            x[i] = (int) (value % radix);
+            value /= radix;
+        }
+    }
+
+    /** 앞쪽이 최하위인 숫자열의 값 (FF3-1의 NUM(REV(X))) */
+    long numLE(int[] x, int off, int len) {
+        long acc = 0;
+        for (int i = off + len - 1; i >= off; i--) {
+            acc = acc * radix + x[i];
+        }
+        return acc;
+    }
+
+    void strLE(long value, int[] x, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            x[i] = (int) (value % radix);
+            value /= radix;
+        }
+    }
+
+    BigInteger bigNumBE(int[] x, int off, int len) {
+        BigInteger acc = BigInteger.ZERO;
+        for (int i = off; i < off + len; i++) {
+            acc = acc.multiply(bigRadix).add(BigInteger.valueOf(x[i]));
+        }
+        return acc;
+    }
+
+    void bigStrBE(BigInteger value, int[] x, int off, int len) {
+        for (int i = off + len - 1; i >= off; i--) {
+            BigInteger[] qr = value.divideAndRemainder(bigRadix);
+            x[i] = qr[1].intValue();
+            value = qr[0];
+        }
+    }
+
+    BigInteger bigNumLE(int[] x, int off, int len) {
+        BigInteger acc = BigInteger.ZERO;
+        for (int i = off + len - 1; i >= off; i--) {
+            acc = acc.multiply(bigRadix).add(BigInteger.valueOf(x[i]));
+        }
+        return acc;
+    }
+
+    void bigStrLE(BigInteger value, int[] x, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            BigInteger[] qr = value.divideAndRemainder(bigRadix);
+            x[i] = qr[1].intValue();
+            value = qr[0];
+        }
+    }
+
+    /** value를 out[off..off+len)에 빅 엔디언으로 기록 */
+    static void putLong(long value, byte[] out, int off, int len) {
+        for (int i = off + len - 1; i >= off; i--) {
+            out[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    static void putBig(BigInteger value, byte[] out, int off, int len) {
+        byte[] raw = value.toByteArray(); // 부호 바이트가 앞에 붙을 수 있음
+        int copy = Math.min(raw.length, len);
+        for (int i = off; i < off + len - copy; i++) {
+            out[i] = 0;
+        }
+        System.arraycopy(raw, raw.length - copy, out, off + len - copy, copy);
+    }
+
+    /** 빅 엔디언 바이트열 s[off..off+len)를 modulus로 나눈 나머지 (modulus < 2^47) */
+    static long mod(byte[] s, int off, int len, long modulus) {
+        long acc = 0;
+        for (int i = off; i < off + len; i++) {
+            acc = ((acc << 8) | (s[i] & 0xff)) % modulus;
+        }
+        return acc;
+    }
+
+    /**
+     * 스레드별 작업 상태: 초기화된 AES Cipher와 재사용 버퍼
+     */
+    static final class Work {
+        final Cipher aes;
+        final byte[] block = new byte[16];
+        final byte[] y = new byte[16];
+        byte[] bytes = new byte[64];
+        int[] numerals = new int[64];
+        char[] chars = new char[64];
+        // FF1: 길이 n에 대해 미리 계산한 CBC-MAC 상태 (P와 트윅의 완전한 블록까지)
+        int cachedLength = -1;
+        final byte[] prefix = new byte[16];
+
+        private Work(Cipher aes) {
+            this.aes = aes;
+        }
+
+        void encryptBlock(byte[] in, byte[] out) throws GeneralSecurityException {
+            aes.doFinal(in, 0, 16, out, 0);
+        }
+
+        int[] numerals(int length) {
+            if (numerals.length < length) {
+                numerals = new int[Math.max(length, numerals.length * 2)];
+            }
+            return numerals;
+        }
+
+        char[] chars(int length) {
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            return chars;
+        }
+
+        byte[] bytes(int length) {
+            if (bytes.length < length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+            return bytes;
+        }
+    }
+}
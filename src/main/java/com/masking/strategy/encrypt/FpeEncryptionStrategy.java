@@ -0,0 +1,136 @@
+package com.masking.strategy.encrypt;
+
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * 형식 보존 암호화(FPE) 전략 - NIST SP 800-38G FF1 / FF3-1
+ *
+ * 알파벳에 속한 문자만 같은 알파벳의 문자로 암호화하고, 나머지 문자(하이픈, 공백 등)는 제자리에 둡니다.
+ * 길이와 구분자가 그대로 남으므로 카드번호, 전화번호, 주민등록번호 컬럼의 형식 검증을 통과하며
+ * 같은 키/트윅이면 결과가 항상 같아 조인할 수 있고, {@link #decrypt(String)}로 복호화할 수 있습니다.
+ *
+ * AES 키 스케줄과 작업 버퍼는 스레드마다 한 번만 만들고, 숫자 28자리(radix^m &lt; 2^47)까지는 long 연산만 사용합니다.
+ * 알파벳 문자 수는 radix^n ≥ 1,000,000을 만족해야 합니다. (숫자는 6자리 이상)
+ *
+ * 사용법:
+ * <pre>
+ * FpeEncryptionStrategy fpe = FpeEncryptionStrategy.ff1(key, "rrn".getBytes(StandardCharsets.UTF_8), FpeEncryptionStrategy.DIGITS);
+ * String encrypted = fpe.encrypt("900101-1234567"); // 길이와 하이픈 위치 유지
+ * String rrn = fpe.decrypt(encrypted);
+ * </pre>
+ */
+public class FpeEncryptionStrategy implements DecryptionStrategy {
+    /** 숫자 (radix 10) */
+    public static final String DIGITS = "0123456789";
+    /** 숫자 + 영문 소문자 (radix 36) */
+    public static final String LOWER_ALPHANUMERIC = "0123456789abcdefghijklmnopqrstuvwxyz";
+    /** 숫자 + 영문 대소문자 (radix 62) */
+    public static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private final FpeCipher cipher;
+    private final char[] alphabet;
+    private final int[] indexOf; // 문자 → 숫자, 알파벳이 아니면 -1
+
+    private FpeEncryptionStrategy(FpeCipher cipher, String alphabet) {
+        this.cipher = cipher;
+        this.alphabet = alphabet.toCharArray();
+        char max = 0;
+        for (char c : this.alphabet) {
+            max = (char) Math.max(max, c);
+        }
+        this.indexOf = new int[max + 1];
+        Arrays.fill(indexOf, -1);
+        for (int i = 0; i < this.alphabet.length; i++) {
+            if (indexOf[this.alphabet[i]] >= 0) {
+                throw new IllegalArgumentException("알파벳에 중복 문자가 있습니다: " + this.alphabet[i]);
+            }
+            indexOf[this.alphabet[i]] = i;
+        }
+    }
+
+    /**
+     * FF1 전략을 생성합니다.
+     * @param key AES 키 (16, 24, 32바이트)
+     * @param tweak 트윅 (길이 제한 없음, null이면 빈 트윅). 컬럼마다 다르게 주면 컬럼 간 같은 값이 다르게 암호화됩니다
+     * @param alphabet 암호화할 문자 집합 (2자 이상, 중복 없음)
+     * @return FpeEncryptionStrategy 인스턴스
+     */
+    public static FpeEncryptionStrategy ff1(byte[] key, byte[] tweak, String alphabet) {
+        return new FpeEncryptionStrategy(new FF1Cipher(key, tweak, radixOf(alphabet)), alphabet);
+    }
+
+    /**
+     * FF3-1 전략을 생성합니다. 입력 길이는 2⌊log_radix(2^96)⌋ 이하로 제한됩니다. (숫자 56자리)
+     * @param key AES 키 (16, 24, 32바이트)
+     * @param tweak 7바이트(56비트) 트윅
+     * @param alphabet 암호화할 문자 집합 (2자 이상, 중복 없음)
+     * @return FpeEncryptionStrategy 인스턴스
+     */
+    public static FpeEncryptionStrategy ff3_1(byte[] key, byte[] tweak, String alphabet) {
+        return new FpeEncryptionStrategy(new FF3Cipher(key, tweak, radixOf(alphabet)), alphabet);
+    }
+
+    private static int radixOf(String alphabet) {
+        if (alphabet == null || alphabet.length() < 2) {
+            throw new IllegalArgumentException("알파벳은 2자 이상이어야 합니다");
+        }
+        return alphabet.length();
+    }
+
+    @Override
+    public String encrypt(String input) {
+        return transform(input, true);
+    }
+
+    /**
+     * 키와 트윅이 같으면 같은 평문은 항상 같은 암호문이 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    /**
+     * {@link #encrypt(String)}로 암호화한 값을 복호화합니다.
+     * @param input 암호문
+     * @return 평문
+     */
+    @Override
+    public String decrypt(String input) {
+        return transform(input, false);
+    }
+
+    private String transform(String input, boolean encrypt) {
+        if (input == null) return null;
+        int length = input.length();
+        try {
+            FpeCipher.Work w = cipher.work();
+            int[] x = w.numerals(length);
+            char[] chars = w.chars(length);
+            input.getChars(0, length, chars, 0);
+            int n = 0;
+            for (int i = 0; i < length; i++) {
+                int index = chars[i] < indexOf.length ? indexOf[chars[i]] : -1;
+                if (index >= 0) {
+                    x[n++] = index;
+                }
+            }
+            if (n < cipher.minLength() || n > cipher.maxLength()) {
+                throw new IllegalArgumentException("FPE 대상 문자 수는 " + cipher.minLength() + " 이상 "
+                    + cipher.maxLength() + " 이하여야 합니다: " + n);
+            }
+            cipher.transform(w, x, n, encrypt);
+            for (int i = 0, k = 0; k < n; i++) {
+                if (chars[i] < indexOf.length && indexOf[chars[i]] >= 0) {
+                    chars[i] = alphabet[x[k++]];
+                }
+            }
+            return new String(chars, 0, length);
+        } catch (GeneralSecurityException e) {
+            cipher.discard();
+            throw new RuntimeException("FPE " + (encrypt ? "암호화" : "복호화") + " 실패", e);
+        }
+    }
+}
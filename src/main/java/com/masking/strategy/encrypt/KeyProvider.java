@@ -0,0 +1,31 @@
+package com.masking.strategy.encrypt;
+
+/**
+ * 키 ID로 데이터 암호화 키를 내주는 키 관리 SPI
+ *
+ * KMS, HSM, 비밀 저장소 등과 연동하려면 이 인터페이스를 구현해 {@link Keyring}에 넘깁니다.
+ * 로컬 개발/테스트용 구현으로 {@link FileKeyProvider}가 있습니다.
+ * {@link Keyring}이 키 ID별로 초기화된 Cipher를 캐시하므로 {@link #keyBytes(String)}는 키마다 한 번만 호출됩니다.
+ */
+public interface KeyProvider {
+
+    /**
+     * 새 값을 암호화할 때 쓸 현재(primary) 키 ID를 반환합니다.
+     * @return 키 ID
+     */
+    String primaryKeyId();
+
+    /**
+     * 키 ID에 해당하는 키 바이트를 반환합니다. 호출자가 사용 후 지울 수 있도록 복사본을 반환해야 합니다.
+     * @param keyId 키 ID
+     * @return 키 바이트
+     * @throws IllegalArgumentException 알 수 없는 키 ID인 경우
+     */
+    byte[] keyBytes(String keyId);
+
+    /**
+     * 키 목록과 primary 키 ID를 다시 읽습니다. 키 교체 시 {@link Keyring#refresh()}가 호출합니다.
+     */
+    default void refresh() {
+    }
+}
@@ -0,0 +1,129 @@
+package com.masking.strategy.encrypt;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link KeyProvider}의 키를 알고리즘별로 초기화된 전략(스레드별 Cipher 포함)으로 캐시하는 키링
+ *
+ * 키 바이트는 (알고리즘, 키 ID)마다 처음 쓰일 때 한 번만 받아 전략을 만들고 바로 지웁니다.
+ * 복호화는 암호문 헤더의 키 ID로 전략을 찾으므로 primary 키를 바꾼 뒤에도 이전 키로 만든 값을 읽을 수 있습니다.
+ * 여러 {@link EnvelopeEncryptionStrategy}가 같은 키링을 공유할 수 있습니다.
+ */
+public final class Keyring {
+    private final KeyProvider provider;
+    private final Map<EnvelopeAlgorithm, Map<String, Entry>> entries = new EnumMap<>(EnvelopeAlgorithm.class);
+    private final List<Consumer<String>> evictionListeners = new CopyOnWriteArrayList<>();
+    private volatile String primaryKeyId;
+
+    private Keyring(KeyProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("provider는 필수입니다");
+        }
+        this.provider = provider;
+        for (EnvelopeAlgorithm algorithm : EnvelopeAlgorithm.values()) {
+            entries.put(algorithm, new ConcurrentHashMap<>());
+        }
+        this.primaryKeyId = provider.primaryKeyId();
+    }
+
+    /**
+     * 키링을 생성합니다.
+     * @param provider 키 제공자
+     * @return Keyring 인스턴스
+     */
+    public static Keyring of(KeyProvider provider) {
+        return new Keyring(provider);
+    }
+
+    /**
+     * 새 값 암호화에 쓰는 현재 키 ID를 반환합니다.
+     * @return 키 ID
+     */
+    public String primaryKeyId() {
+        return primaryKeyId;
+    }
+
+    /**
+     * 키 제공자를 새로 읽어 primary 키 ID를 갱신합니다. 이미 초기화된 이전 키는 복호화용으로 남겨 둡니다.
+     */
+    public void refresh() {
+        provider.refresh();
+        primaryKeyId = provider.primaryKeyId();
+    }
+
+    /**
+     * 초기화된 키를 캐시에서 제거합니다. 폐기한 키를 더 이상 쓰지 않게 할 때 키 제공자에서 지운 뒤 호출합니다.
+     * 등록된 제거 리스너에도 알려 그 키로 복호화한 평문 캐시 등을 비우게 합니다.
+     * @param keyId 키 ID
+     */
+    public void evict(String keyId) {
+        for (Map<String, Entry> byKey : entries.values()) {
+            byKey.remove(keyId);
+        }
+        for (Consumer<String> listener : evictionListeners) {
+            listener.accept(keyId);
+        }
+    }
+
+    /**
+     * 키를 제거({@link #evict(String)})할 때 호출할 리스너를 등록합니다.
+     * @param listener 제거된 키 ID를 받는 리스너
+     */
+    public void addEvictionListener(Consumer<String> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener는 null일 수 없습니다");
+        }
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * 캐시된 (알고리즘, 키 ID) 수를 반환합니다.
+     * @return 초기화된 키 수
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, Entry> byKey : entries.values()) {
+            size += byKey.size();
+        }
+        return size;
+    }
+
+    Entry entry(EnvelopeAlgorithm algorithm, String keyId) {
+        Map<String, Entry> byKey = entries.get(algorithm);
+        Entry entry = byKey.get(keyId);
+        if (entry != null) {
+            return entry;
+        }
+        return byKey.computeIfAbsent(keyId, id -> {
+            byte[] header = EnvelopeEncryptionStrategy.header(algorithm, id);
+            byte[] key = provider.keyBytes(id);
+            try {
+                // 헤더를 연관 데이터로 묶어 알고리즘/키 ID 변조를 탐지
+                return new Entry(id, header, algorithm.create(key, header));
+            } finally {
+                Arrays.fill(key, (byte) 0);
+            }
+        });
+    }
+
+    /**
+     * 키 하나에 대한 암호문 헤더와 초기화된 전략
+     */
+    static final class Entry {
+        final String keyId;
+        final byte[] header;
+        final BinaryEncryptionStrategy strategy;
+
+        Entry(String keyId, byte[] header, BinaryEncryptionStrategy strategy) {
+            this.keyId = keyId;
+            this.header = header;
+            this.strategy = strategy;
+        }
+    }
+}
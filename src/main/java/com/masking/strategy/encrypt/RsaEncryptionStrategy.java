@@ -2,29 +2,67 @@ package com.masking.strategy.encrypt;
 
 import com.masking.strategy.encrypt.EncryptionStrategy;
 import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
 import java.util.Base64;
 
+/**
+ * RSA 공개키 암호화 전략
+ *
+ * 스레드마다 공개키로 초기화된 Cipher를 재사용합니다. PKCS#1 패딩의 난수는 doFinal마다 새로 생성됩니다.
+ */
 public class RsaEncryptionStrategy implements EncryptionStrategy {
     private static final String ALGORITHM = "RSA/ECB/PKCS1Padding";
     private final PublicKey publicKey;
+    private final ThreadLocalCipher cipher;
 
     private RsaEncryptionStrategy(PublicKey publicKey) {
         this.publicKey = publicKey;
+        this.cipher = new ThreadLocalCipher(ALGORITHM, Cipher.ENCRYPT_MODE, publicKey);
     }
 
     public static RsaEncryptionStrategy of(PublicKey publicKey) {
         return new RsaEncryptionStrategy(publicKey);
     }
 
+    /**
+     * PKCS#1 v1.5 패딩에 난수가 들어가므로 같은 평문도 매번 다른 암호문이 됩니다.
+     * @return false
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
     @Override
     public String encrypt(String input) {
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);     // Cipher 객체 획득
-            cipher.init(Cipher.ENCRYPT_MODE, publicKey);      // 암호화 모드, 공개키 설정
-            byte[] encrypted = cipher.doFinal(input.getBytes("UTF-8")); // 암호화 수행
-            return Base64.getEncoder().encodeToString(encrypted);        // Base64로 결과 인코딩
+            byte[] encrypted = cipher.doFinal(input.getBytes(StandardCharsets.UTF_8)); // 스레드 로컬 Cipher로 암호화 수행
+            return Base64.getEncoder().encodeToString(encrypted);                     // Base64로 결과 인코딩
+        } catch (Exception e) {
+            throw new RuntimeException("RSA 암호화 실패", e);
+        }
+    }
+
+    /**
+     * 스레드 로컬 Cipher를 배치 전체에 재사용하여 여러 값을 암호화합니다.
+     * @param inputs 평문 배열
+     * @return 입력과 같은 순서의 암호문 배열
+     */
+    @Override
+    public String[] encryptBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        try {
+            Cipher c = cipher.get();
+            Base64.Encoder encoder = Base64.getEncoder();
+            for (int i = 0; i < inputs.length; i++) {
+                if (inputs[i] != null) {
+                    results[i] = encoder.encodeToString(c.doFinal(inputs[i].getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            return results;
         } catch (Exception e) {
+            cipher.reset();
             throw new RuntimeException("RSA 암호화 실패", e);
         }
     }
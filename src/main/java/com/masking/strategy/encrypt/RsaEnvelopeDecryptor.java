@@ -0,0 +1,95 @@
+package com.masking.strategy.encrypt;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.masking.strategy.encrypt.RsaEnvelopeEncryptionStrategy.*;
+
+/**
+ * RsaEnvelopeEncryptionStrategy 암호문 복호화기
+ *
+ * register()로 등록한 래핑된 데이터 키를 처음 사용할 때 RSA 개인키로 한 번만 언래핑하고 캐시합니다.
+ * 사용법: RsaEnvelopeDecryptor.of(privateKey).register(wrappedKey).decrypt(cipherText)
+ */
+public class RsaEnvelopeDecryptor {
+    private final PrivateKey privateKey;
+    private final Map<String, WrappedDataKey> wrappedKeys = new ConcurrentHashMap<>();
+    private final Map<String, SecretKey> unwrappedKeys = new ConcurrentHashMap<>();
+
+    private RsaEnvelopeDecryptor(PrivateKey privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    /**
+     * RsaEnvelopeDecryptor 인스턴스를 생성합니다.
+     * @param privateKey RSA 개인키
+     * @return RsaEnvelopeDecryptor 인스턴스
+     */
+    public static RsaEnvelopeDecryptor of(PrivateKey privateKey) {
+        return new RsaEnvelopeDecryptor(privateKey);
+    }
+
+    /**
+     * 래핑된 데이터 키를 등록합니다. 암호화 전략의 keyListener로 바로 넘길 수 있습니다.
+     * @param key 래핑된 데이터 키
+     * @return RsaEnvelopeDecryptor
+     */
+    public RsaEnvelopeDecryptor register(WrappedDataKey key) {
+        wrappedKeys.put(key.getKeyId(), key);
+        return this;
+    }
+
+    /**
+     * 엔벨로프 암호문을 복호화합니다.
+     * @param cipherText RsaEnvelopeEncryptionStrategy가 만든 Base64 암호문
+     * @return 평문
+     */
+    public String decrypt(String cipherText) {
+        byte[] data = Base64.getDecoder().decode(cipherText);
+        if (data.length < HEADER_LENGTH + TAG_BITS / 8 || data[0] != VERSION) {
+            throw new IllegalArgumentException("RSA 엔벨로프 암호문 형식이 아닙니다");
+        }
+        String keyId = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Arrays.copyOfRange(data, 1, 1 + WrappedDataKey.KEY_ID_LENGTH));
+        try {
+            Cipher cipher = Cipher.getInstance(DATA_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, dataKey(keyId),
+                new GCMParameterSpec(TAG_BITS, data, 1 + WrappedDataKey.KEY_ID_LENGTH, NONCE_LENGTH));
+            cipher.updateAAD(data, 0, 1 + WrappedDataKey.KEY_ID_LENGTH);
+            byte[] plain = cipher.doFinal(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("RSA 엔벨로프 복호화 실패", e);
+        }
+    }
+
+    private SecretKey dataKey(String keyId) {
+        SecretKey key = unwrappedKeys.get(keyId);
+        if (key != null) {
+            return key;
+        }
+        WrappedDataKey wrapped = wrappedKeys.get(keyId);
+        if (wrapped == null) {
+            throw new IllegalArgumentException("등록되지 않은 데이터 키: " + keyId);
+        }
+        try {
+            Cipher unwrapper = Cipher.getInstance(WRAP_ALGORITHM);
+            unwrapper.init(Cipher.UNWRAP_MODE, privateKey, OAEP_SPEC);
+            Key unwrapped = unwrapper.unwrap(wrapped.wrappedKeyBytes(), "AES", Cipher.SECRET_KEY);
+            key = (SecretKey) unwrapped;
+            unwrappedKeys.put(keyId, key);
+            return key;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("RSA 데이터 키 언래핑 실패: " + keyId, e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.masking.strategy.encrypt;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * RSA 엔벨로프(하이브리드) 암호화 전략
+ *
+ * AES-256 데이터 키를 RSA-OAEP(SHA-256)로 한 번만 래핑하고, 각 값은 그 데이터 키로 AES-GCM 암호화합니다.
+ * RSA 연산은 데이터 키 교체 시에만 일어나므로 대량 데이터에도 사용할 수 있고 입력 길이 제한도 없습니다.
+ *
+ * 출력은 Base64(버전 1B | 키 ID 8B | nonce 12B | 암호문+태그)이며, 래핑된 키는 키 ID로만 참조합니다.
+ * 새 데이터 키가 만들어질 때마다 keyListener로 WrappedDataKey가 전달되므로 이를 보관해 두어야
+ * RsaEnvelopeDecryptor로 복호화할 수 있습니다. 리스너가 예외를 던지면 키 교체가 취소되고
+ * 그 키로는 아무것도 암호화하지 않으며, 예외는 암호화 호출자에게 전달됩니다.
+ *
+ * nonce는 데이터 키별 난수 4바이트 + 8바이트 카운터로 구성되어 같은 키에서 절대 반복되지 않습니다.
+ * 데이터 키는 maxValuesPerKey개를 암호화했거나 keyTtlMillis가 지나면 교체됩니다.
+ */
+public class RsaEnvelopeEncryptionStrategy implements EncryptionStrategy {
+    static final byte VERSION = 1;
+    static final int NONCE_LENGTH = 12;
+    static final int TAG_BITS = 128;
+    static final int HEADER_LENGTH = 1 + WrappedDataKey.KEY_ID_LENGTH + NONCE_LENGTH;
+    static final String DATA_ALGORITHM = "AES/GCM/NoPadding";
+    static final String WRAP_ALGORITHM = "RSA/ECB/OAEPPadding";
+    static final OAEPParameterSpec OAEP_SPEC =
+        new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+    /** 데이터 키 하나로 암호화할 기본 최대 값 개수 */
+    public static final long DEFAULT_MAX_VALUES_PER_KEY = 1L << 24;
+    /** 데이터 키 기본 교체 주기 */
+    public static final long DEFAULT_KEY_TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final ThreadLocal<Cipher> GCM = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(DATA_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(DATA_ALGORITHM + " Cipher 생성 실패", e);
+        }
+    });
+
+    private final PublicKey publicKey;
+    private final long maxValuesPerKey;
+    private final long keyTtlMillis;
+    private final Consumer<WrappedDataKey> keyListener;
+    private volatile DataKey current;
+
+    private RsaEnvelopeEncryptionStrategy(PublicKey publicKey, long maxValuesPerKey, long keyTtlMillis,
+                                          Consumer<WrappedDataKey> keyListener) {
+        if (maxValuesPerKey <= 0 || keyTtlMillis <= 0) {
+            throw new IllegalArgumentException("maxValuesPerKey와 keyTtlMillis는 0보다 커야 합니다");
+        }
+        if (keyListener == null) {
+            // 래핑된 키는 리스너로만 전달되므로 없으면 어떤 암호문도 복호화할 수 없음
+            throw new IllegalArgumentException("keyListener는 필수입니다");
+        }
+        this.publicKey = publicKey;
+        this.maxValuesPerKey = maxValuesPerKey;
+        this.keyTtlMillis = keyTtlMillis;
+        this.keyListener = keyListener;
+    }
+
+    /**
+     * 기본 교체 정책으로 엔벨로프 암호화 전략을 생성합니다.
+     * @param publicKey RSA 공개키
+     * @param keyListener 새 데이터 키가 생성될 때마다 사용 전에 호출되는 리스너 (필수, 키를 영구 보관해야 함)
+     * @return RsaEnvelopeEncryptionStrategy 인스턴스
+     */
+    public static RsaEnvelopeEncryptionStrategy of(PublicKey publicKey, Consumer<WrappedDataKey> keyListener) {
+        return of(publicKey, DEFAULT_MAX_VALUES_PER_KEY, DEFAULT_KEY_TTL_MILLIS, keyListener);
+    }
+
+    /**
+     * 데이터 키 교체 정책을 지정하여 엔벨로프 암호화 전략을 생성합니다.
+     * 배치 단위로 키를 교체하려면 maxValuesPerKey를 배치 크기로 지정합니다.
+     * @param publicKey RSA 공개키
+     * @param maxValuesPerKey 데이터 키 하나로 암호화할 최대 값 개수
+     * @param keyTtlMillis 데이터 키 교체 주기(밀리초)
+     * @param keyListener 새 데이터 키가 생성될 때마다 사용 전에 호출되는 리스너 (필수, 키를 영구 보관해야 함)
+     * @return RsaEnvelopeEncryptionStrategy 인스턴스
+     */
+    public static RsaEnvelopeEncryptionStrategy of(PublicKey publicKey, long maxValuesPerKey, long keyTtlMillis,
+                                                   Consumer<WrappedDataKey> keyListener) {
+        return new RsaEnvelopeEncryptionStrategy(publicKey, maxValuesPerKey, keyTtlMillis, keyListener);
+    }
+
+    /**
+     * 논스와 데이터 키가 계속 바뀌므로 같은 평문도 매번 다른 암호문이 됩니다.
+     * @return false
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
+    @Override
+    public String encrypt(String input) {
+        DataKey key = acquire(1);
+        return seal(GCM.get(), key, key.counter.getAndIncrement(), input);
+    }
+
+    /**
+     * 배치 크기만큼 nonce 카운터를 한 번에 예약하여 같은 데이터 키로 여러 값을 암호화합니다.
+     * @param inputs 평문 배열
+     * @return 입력과 같은 순서의 암호문 배열
+     */
+    @Override
+    public String[] encryptBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        Cipher cipher = GCM.get();
+        int i = 0;
+        while (i < inputs.length) {
+            // 키 교체 한도를 넘지 않는 범위에서 카운터 구간을 예약
+            int count = (int) Math.min(inputs.length - i, maxValuesPerKey);
+            DataKey key = acquire(count);
+            long start = key.counter.getAndAdd(count);
+            for (int j = 0; j < count; j++, i++) {
+                if (inputs[i] != null) {
+                    results[i] = seal(cipher, key, start + j, inputs[i]);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 현재 사용 중인 데이터 키를 반환합니다. 아직 암호화한 값이 없으면 새로 생성합니다.
+     * @return 래핑된 현재 데이터 키
+     */
+    public WrappedDataKey currentKey() {
+        return acquire(0).wrapped;
+    }
+
+    private String seal(Cipher cipher, DataKey key, long counter, String input) {
+        try {
+            byte[] plain = input.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer out = ByteBuffer.allocate(HEADER_LENGTH + plain.length + TAG_BITS / 8);
+            out.put(VERSION).put(key.wrapped.keyIdBytes()).putInt(key.noncePrefix).putLong(counter);
+            cipher.init(Cipher.ENCRYPT_MODE, key.secret,
+                new GCMParameterSpec(TAG_BITS, out.array(), 1 + WrappedDataKey.KEY_ID_LENGTH, NONCE_LENGTH));
+            // 버전과 키 ID를 AAD로 묶어 헤더 변조를 탐지
+            cipher.updateAAD(out.array(), 0, 1 + WrappedDataKey.KEY_ID_LENGTH);
+            cipher.doFinal(plain, 0, plain.length, out.array(), HEADER_LENGTH);
+            return Base64.getEncoder().encodeToString(out.array());
+        } catch (GeneralSecurityException e) {
+            GCM.remove();
+            throw new RuntimeException("RSA 엔벨로프 암호화 실패", e);
+        }
+    }
+
+    /**
+     * count개의 nonce를 쓸 수 있는 데이터 키를 반환하며, 한도나 주기를 넘으면 새 키로 교체합니다.
+     */
+    private DataKey acquire(int count) {
+        DataKey key = current;
+        if (key != null && key.usable(count, maxValuesPerKey, keyTtlMillis)) {
+            return key;
+        }
+        synchronized (this) {
+            key = current;
+            if (key == null || !key.usable(count, maxValuesPerKey, keyTtlMillis)) {
+                key = newDataKey();
+                // 래핑된 키가 보관된 뒤에만 다른 스레드가 이 키를 쓸 수 있도록 공개
+                keyListener.accept(key.wrapped);
+                current = key;
+            }
+            return key;
+        }
+    }
+
+    private DataKey newDataKey() {
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256, RANDOM);
+            SecretKey secret = generator.generateKey();
+
+            Cipher wrapper = Cipher.getInstance(WRAP_ALGORITHM);
+            wrapper.init(Cipher.WRAP_MODE, publicKey, OAEP_SPEC, RANDOM);
+            byte[] wrapped = wrapper.wrap(secret);
+
+            byte[] keyId = new byte[WrappedDataKey.KEY_ID_LENGTH];
+            RANDOM.nextBytes(keyId);
+            return new DataKey(secret, WrappedDataKey.of(keyId, wrapped, System.currentTimeMillis()), RANDOM.nextInt());
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("RSA 엔벨로프 데이터 키 생성 실패", e);
+        }
+    }
+
+    private static final class DataKey {
+        final SecretKey secret;
+        final WrappedDataKey wrapped;
+        final int noncePrefix;
+        final AtomicLong counter = new AtomicLong();
+
+        DataKey(SecretKey secret, WrappedDataKey wrapped, int noncePrefix) {
+            this.secret = secret;
+            this.wrapped = wrapped;
+            this.noncePrefix = noncePrefix;
+        }
+
+        boolean usable(int count, long maxValues, long ttlMillis) {
+            // 카운터는 예약 후 증가하므로 경합 시 한도를 조금 넘을 수 있으나 nonce 유일성에는 영향이 없음
+            return counter.get() + count <= maxValues
+                && System.currentTimeMillis() - wrapped.getCreatedAt() < ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.masking.strategy.encrypt;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * 대용량 값/파일용 분할(segmented) AES-GCM 스트리밍 암호화
+ *
+ * 입력을 segmentSize 바이트씩 잘라 세그먼트마다 따로 AES-GCM으로 암호화하므로
+ * 값 전체를 메모리에 올리지 않고 세그먼트 두 개 크기의 버퍼만으로 처리하며, 특정 위치만 복호화할 수도 있습니다. ({@link #openReader})
+ *
+ * 출력 형식: 헤더 28B(버전 1B | segmentSize 4B | salt 16B | nonce 접두사 7B) | 세그먼트 0 | 세그먼트 1 | ...
+ * 각 세그먼트는 평문 segmentSize 바이트(마지막은 그 이하) + 태그 16B 이며,
+ * nonce는 접두사 7B | 세그먼트 번호 4B | 마지막 여부 1B 입니다. 헤더는 모든 세그먼트의 연관 데이터로 인증되고,
+ * 마지막 표시 덕분에 세그먼트를 잘라내거나 순서를 바꾸면 복호화가 실패합니다.
+ *
+ * 스트림마다 무작위 salt로 마스터 키에서 HKDF-SHA256으로 스트림 키를 유도하므로
+ * {@link AesEncryptionStrategy}와 같은 16/24/32바이트 키를 그대로 쓸 수 있고 스트림 간 nonce 충돌을 걱정하지 않아도 됩니다.
+ * 채널 경로는 세그먼트 크기의 direct 버퍼를 재사용하므로 채널 읽기/쓰기에서 JDK가 임시 direct 버퍼로 복사하지 않습니다.
+ * 다만 Cipher가 direct 버퍼를 어떻게 처리하는지는 프로바이더에 달려 있어, Java 8의 SunJCE AES-GCM은
+ * 세그먼트를 내부 힙 배열로 복사해 암호화합니다. (할당은 세그먼트 크기로 제한됨)
+ *
+ * 사용법:
+ * <pre>
+ * StreamingAesGcm streaming = StreamingAesGcm.of(key);
+ * streaming.encrypt(Paths.get("contract.pdf"), Paths.get("contract.pdf.enc"));
+ * try (StreamingAesGcm.SegmentReader reader = streaming.openReader(FileChannel.open(Paths.get("contract.pdf.enc")))) {
+ *     reader.read(10_000_000L, buffer); // 해당 세그먼트만 복호화
+ * }
+ * </pre>
+ * 인스턴스는 스레드 간에 공유할 수 있으며, 호출마다 Cipher와 버퍼를 새로 만듭니다.
+ */
+public class StreamingAesGcm {
+    /** 기본 세그먼트 크기 (평문 64KB) */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 16;
+    static final byte VERSION = 1;
+    static final int SALT_LENGTH = 16;
+    static final int PREFIX_LENGTH = 7;
+    static final int HEADER_LENGTH = 1 + 4 + SALT_LENGTH + PREFIX_LENGTH;
+    static final int TAG_LENGTH = 16;
+    private static final int MIN_SEGMENT_SIZE = 256;
+    private static final int MAX_SEGMENT_SIZE = 64 << 20;
+    private static final long MAX_SEGMENTS = 1L << 32;
+    private static final byte[] HKDF_INFO = "masking-streaming-aes-gcm-v1".getBytes(StandardCharsets.US_ASCII);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final byte[] key;
+    private final int segmentSize;
+
+    private StreamingAesGcm(byte[] key, int segmentSize) {
+        if (key == null || (key.length != 16 && key.length != 24 && key.length != 32)) {
+            throw new IllegalArgumentException("AES 키는 16, 24, 32바이트여야 합니다");
+        }
+        checkSegmentSize(segmentSize);
+        this.key = key.clone();
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * 기본 세그먼트 크기(64KB)로 스트리밍 암호화기를 생성합니다.
+     * @param key AES 키 (16, 24, 32바이트)
+     * @return StreamingAesGcm 인스턴스
+     */
+    public static StreamingAesGcm of(byte[] key) {
+        return new StreamingAesGcm(key, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * 세그먼트 크기를 지정하여 스트리밍 암호화기를 생성합니다.
+     * 작을수록 임의 위치 읽기가 싸지고, 클수록 세그먼트당 태그(16B)와 Cipher 초기화 비용이 줄어듭니다.
+     * @param key AES 키 (16, 24, 32바이트)
+     * @param segmentSize 세그먼트당 평문 바이트 수 (256B ~ 64MB)
+     * @return StreamingAesGcm 인스턴스
+     */
+    public static StreamingAesGcm of(byte[] key, int segmentSize) {
+        return new StreamingAesGcm(key, segmentSize);
+    }
+
+    /**
+     * 평문 크기에 대한 암호문 크기를 반환합니다.
+     * @param plaintextSize 평문 바이트 수
+     * @return 암호문 바이트 수
+     */
+    public long ciphertextSize(long plaintextSize) {
+        long segments = Math.max(1, (plaintextSize + segmentSize - 1) / segmentSize);
+        return HEADER_LENGTH + plaintextSize + segments * TAG_LENGTH;
+    }
+
+    /**
+     * 채널에서 끝까지 읽어 암호화한 결과를 out에 씁니다. 채널은 닫지 않습니다.
+     * @param in 평문 채널
+     * @param out 암호문 채널
+     * @return 쓴 바이트 수
+     * @throws IOException 입출력 실패 시
+     */
+    public long encrypt(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        header[0] = VERSION;
+        putInt(header, 1, segmentSize);
+        byte[] random = new byte[SALT_LENGTH + PREFIX_LENGTH];
+        RANDOM.nextBytes(random);
+        System.arraycopy(random, 0, header, 5, random.length);
+        SegmentCipher cipher = new SegmentCipher(header, Cipher.ENCRYPT_MODE);
+
+        long written = writeFully(out, ByteBuffer.wrap(header));
+        ByteBuffer current = ByteBuffer.allocateDirect(segmentSize);
+        ByteBuffer next = ByteBuffer.allocateDirect(segmentSize);
+        ByteBuffer sealed = ByteBuffer.allocateDirect(segmentSize + TAG_LENGTH);
+        boolean eof = fill(in, current);
+        for (long index = 0; ; index++) {
+            boolean last = eof;
+            if (!eof) {
+                // 꽉 찬 세그먼트가 마지막인지 알려면 다음 세그먼트를 미리 읽어야 함
+                next.clear();
+                eof = fill(in, next);
+                last = eof && next.position() == 0;
+            }
+            current.flip();
+            sealed.clear();
+            cipher.process(index, last, current, sealed);
+            sealed.flip();
+            written += writeFully(out, sealed);
+            if (last) {
+                return written;
+            }
+            ByteBuffer swap = current;
+            current = next;
+            next = swap;
+        }
+    }
+
+    /**
+     * {@link #encrypt(ReadableByteChannel, WritableByteChannel)}로 만든 암호문을 복호화하여 out에 씁니다.
+     * 세그먼트 단위로 인증하므로, 변조가 발견되면 그 앞 세그먼트까지의 평문은 이미 out에 쓰였을 수 있습니다.
+     * @param in 암호문 채널
+     * @param out 평문 채널
+     * @return 쓴 바이트 수
+     * @throws IOException 입출력 실패 또는 암호문 변조/절단 시
+     */
+    public long decrypt(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
+        if (fill(in, headerBuffer)) {
+            throw new IOException("스트리밍 암호문 헤더가 잘렸습니다");
+        }
+        byte[] header = headerBuffer.array();
+        int size = readHeader(header);
+        SegmentCipher cipher = new SegmentCipher(header, Cipher.DECRYPT_MODE);
+
+        ByteBuffer current = ByteBuffer.allocateDirect(size + TAG_LENGTH);
+        ByteBuffer next = ByteBuffer.allocateDirect(size + TAG_LENGTH);
+        ByteBuffer opened = ByteBuffer.allocateDirect(size);
+        long written = 0;
+        boolean eof = fill(in, current);
+        for (long index = 0; ; index++) {
+            boolean last = eof;
+            if (!eof) {
+                next.clear();
+                eof = fill(in, next);
+                last = eof && next.position() == 0;
+            }
+            current.flip();
+            opened.clear();
+            cipher.process(index, last, current, opened);
+            opened.flip();
+            written += writeFully(out, opened);
+            if (last) {
+                return written;
+            }
+            ByteBuffer swap = current;
+            current = next;
+            next = swap;
+        }
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 암호화합니다. 스트림은 닫지 않습니다.
+     * @param in 평문 스트림
+     * @param out 암호문 스트림
+     * @return 쓴 바이트 수
+     * @throws IOException 입출력 실패 시
+     */
+    public long encrypt(InputStream in, OutputStream out) throws IOException {
+        return encrypt(Channels.newChannel(in), Channels.newChannel(out));
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 복호화합니다. 스트림은 닫지 않습니다.
+     * @param in 암호문 스트림
+     * @param out 평문 스트림
+     * @return 쓴 바이트 수
+     * @throws IOException 입출력 실패 또는 암호문 변조/절단 시
+     */
+    public long decrypt(InputStream in, OutputStream out) throws IOException {
+        return decrypt(Channels.newChannel(in), Channels.newChannel(out));
+    }
+
+    /**
+     * 파일을 암호화하여 target에 씁니다. (FileChannel + direct 버퍼)
+     * @param source 평문 파일
+     * @param target 암호문 파일 (있으면 덮어씀)
+     * @return 쓴 바이트 수
+     * @throws IOException 입출력 실패 시
+     */
+    public long encrypt(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                 StandardOpenOption.TRUNCATE_EXISTING)) {
+            return encrypt(in, out);
+        }
+    }
+
+    /**
+     * 암호문 파일을 복호화하여 target에 씁니다. (FileChannel + direct 버퍼)
+     * @param source 암호문 파일
+     * @param target 평문 파일 (있으면 덮어씀)
+     * @return 쓴 바이트 수
+     * @throws IOException 입출력 실패 또는 암호문 변조/절단 시
+     */
+    public long decrypt(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                 StandardOpenOption.TRUNCATE_EXISTING)) {
+            return decrypt(in, out);
+        }
+    }
+
+    /**
+     * 임의 위치 읽기용 리더를 엽니다. 리더를 닫으면 채널도 닫힙니다.
+     * @param ciphertext 암호문 전체를 담은 채널 (FileChannel 등)
+     * @return SegmentReader
+     * @throws IOException 헤더를 읽을 수 없거나 형식이 맞지 않는 경우
+     */
+    public SegmentReader openReader(SeekableByteChannel ciphertext) throws IOException {
+        return new SegmentReader(ciphertext);
+    }
+
+    /**
+     * 필요한 세그먼트만 복호화하여 평문의 임의 위치를 읽는 리더
+     *
+     * 마지막으로 복호화한 세그먼트를 보관하므로 가까운 위치를 연속으로 읽으면 다시 복호화하지 않습니다.
+     * 스레드 간에 공유하면 안 됩니다.
+     */
+    public final class SegmentReader implements Closeable {
+        private final SeekableByteChannel channel;
+        private final SegmentCipher cipher;
+        private final int size;
+        private final long segmentCount;
+        private final long plaintextSize;
+        private final ByteBuffer sealed;
+        private final ByteBuffer opened;
+        private long openedIndex = -1;
+
+        private SegmentReader(SeekableByteChannel channel) throws IOException {
+            this.channel = channel;
+            ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
+            channel.position(0);
+            if (fill(channel, headerBuffer)) {
+                throw new IOException("스트리밍 암호문 헤더가 잘렸습니다");
+            }
+            byte[] header = headerBuffer.array();
+            this.size = readHeader(header);
+            this.cipher = new SegmentCipher(header, Cipher.DECRYPT_MODE);
+            long body = channel.size() - HEADER_LENGTH;
+            this.segmentCount = (body + size + TAG_LENGTH - 1) / (size + TAG_LENGTH);
+            long lastSealed = body - (segmentCount - 1) * (size + TAG_LENGTH);
+            if (segmentCount == 0 || lastSealed < TAG_LENGTH) {
+                throw new IOException("스트리밍 암호문이 잘렸습니다");
+            }
+            this.plaintextSize = body - segmentCount * TAG_LENGTH;
+            this.sealed = ByteBuffer.allocateDirect(size + TAG_LENGTH);
+            this.opened = ByteBuffer.allocateDirect(size);
+        }
+
+        /**
+         * 평문 전체 크기를 반환합니다.
+         * @return 바이트 수
+         */
+        public long size() {
+            return plaintextSize;
+        }
+
+        /**
+         * 평문의 position 위치부터 dst에 남은 공간만큼(또는 평문 끝까지) 읽습니다.
+         * @param position 평문 위치
+         * @param dst 대상 버퍼
+         * @return 읽은 바이트 수, position이 평문 끝 이상이면 -1
+         * @throws IOException 입출력 실패 또는 세그먼트 변조 시
+         */
+        public int read(long position, ByteBuffer dst) throws IOException {
+            if (position < 0) {
+                throw new IllegalArgumentException("position은 0 이상이어야 합니다: " + position);
+            }
+            if (position >= plaintextSize) {
+                return -1;
+            }
+            int total = 0;
+            while (dst.hasRemaining() && position < plaintextSize) {
+                long index = position / size;
+                open(index);
+                ByteBuffer view = opened.duplicate();
+                view.position((int) (position - index * size));
+                if (view.remaining() > dst.remaining()) {
+                    view.limit(view.position() + dst.remaining());
+                }
+                int n = view.remaining();
+                dst.put(view);
+                position += n;
+                total += n;
+            }
+            return total;
+        }
+
+        private void open(long index) throws IOException {
+            if (index == openedIndex) {
+                return;
+            }
+            openedIndex = -1;
+            channel.position(HEADER_LENGTH + index * (size + TAG_LENGTH));
+            sealed.clear();
+            fill(channel, sealed);
+            sealed.flip();
+            opened.clear();
+            cipher.process(index, index == segmentCount - 1, sealed, opened);
+            opened.flip();
+            openedIndex = index;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * 스트림 키로 초기화한 세그먼트 암호기. nonce는 헤더의 접두사 + 세그먼트 번호 + 마지막 여부입니다.
+     */
+    private final class SegmentCipher {
+        private final byte[] header;
+        private final int mode;
+        private final SecretKeySpec streamKey;
+        private final Cipher cipher;
+        private final byte[] nonce = new byte[PREFIX_LENGTH + 5];
+
+        SegmentCipher(byte[] header, int mode) throws IOException {
+            this.header = header;
+            this.mode = mode;
+            System.arraycopy(header, 5 + SALT_LENGTH, nonce, 0, PREFIX_LENGTH);
+            try {
+                this.streamKey = new SecretKeySpec(hkdf(Arrays.copyOfRange(header, 5, 5 + SALT_LENGTH)), "AES");
+                this.cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("스트리밍 AES-GCM 초기화 실패", e);
+            }
+        }
+
+        void process(long index, boolean last, ByteBuffer in, ByteBuffer out) throws IOException {
+            if (index >= MAX_SEGMENTS) {
+                throw new IOException("세그먼트 수가 한도(2^32)를 넘었습니다");
+            }
+            putInt(nonce, PREFIX_LENGTH, (int) index);
+            nonce[PREFIX_LENGTH + 4] = (byte) (last ? 1 : 0);
+            try {
+                cipher.init(mode, streamKey, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+                cipher.updateAAD(header);
+                cipher.doFinal(in, out);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("스트리밍 AES-GCM " + (mode == Cipher.ENCRYPT_MODE ? "암호화" : "복호화")
+                    + " 실패 (세그먼트 " + index + ")", e);
+            }
+        }
+
+        // HKDF-SHA256 (RFC 5869): 마스터 키와 스트림 salt로 마스터 키와 같은 길이의 스트림 키 유도
+        private byte[] hkdf(byte[] salt) throws GeneralSecurityException {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(salt, "HmacSHA256"));
+            byte[] prk = mac.doFinal(key);
+            mac.init(new SecretKeySpec(prk, "HmacSHA256"));
+            mac.update(HKDF_INFO);
+            mac.update((byte) 1);
+            byte[] okm = Arrays.copyOf(mac.doFinal(), key.length);
+            Arrays.fill(prk, (byte) 0);
+            return okm;
+        }
+    }
+
+    private static int readHeader(byte[] header) throws IOException {
+        if (header[0] != VERSION) {
+            throw new IOException("지원하지 않는 스트리밍 암호문 버전: " + header[0]);
+        }
+        int size = ((header[1] & 0xff) << 24) | ((header[2] & 0xff) << 16) | ((header[3] & 0xff) << 8) | (header[4] & 0xff);
+        if (size < MIN_SEGMENT_SIZE || size > MAX_SEGMENT_SIZE) {
+            throw new IOException("잘못된 세그먼트 크기: " + size);
+        }
+        return size;
+    }
+
+    private static void checkSegmentSize(int segmentSize) {
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > MAX_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("segmentSize는 " + MIN_SEGMENT_SIZE + " 이상 " + MAX_SEGMENT_SIZE
+                + " 이하여야 합니다: " + segmentSize);
+        }
+    }
+
+    private static void putInt(byte[] b, int off, int value) {
+        b[off] = (byte) (value >>> 24);
+        b[off + 1] = (byte) (value >>> 16);
+        b[off + 2] = (byte) (value >>> 8);
+        b[off + 3] = (byte) value;
+    }
+
+    /** buffer가 가득 차거나 입력이 끝날 때까지 읽습니다. 입력이 끝났으면 true */
+    private static boolean fill(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += out.write(buffer);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,65 @@
+package com.masking.strategy.encrypt;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+
+/**
+ * 스레드마다 한 번만 생성·초기화한 Cipher를 재사용하는 내부 헬퍼
+ *
+ * Cipher.getInstance의 프로바이더 조회와 init의 키 스케줄 확장을 스레드당 한 번으로 줄입니다.
+ * ECB/RSA처럼 doFinal 이후 초기화 직후 상태로 돌아가는 변환에만 사용해야 하며,
+ * 연산이 실패하면 상태를 알 수 없으므로 해당 스레드의 Cipher를 폐기합니다.
+ */
+final class ThreadLocalCipher {
+    private final String transformation;
+    private final int mode;
+    private final Key key;
+    private final ThreadLocal<Cipher> local = ThreadLocal.withInitial(this::create);
+
+    ThreadLocalCipher(String transformation, int mode, Key key) {
+        this.transformation = transformation;
+        this.mode = mode;
+        this.key = key;
+    }
+
+    private Cipher create() {
+        try {
+            Cipher cipher = Cipher.getInstance(transformation);
+            cipher.init(mode, key);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(transformation + " Cipher 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 현재 스레드의 초기화된 Cipher를 반환합니다.
+     * @return Cipher
+     */
+    Cipher get() {
+        return local.get();
+    }
+
+    /**
+     * 현재 스레드의 Cipher로 단일 연산을 수행합니다.
+     * @param input 입력 바이트
+     * @return 출력 바이트
+     * @throws GeneralSecurityException 연산 실패 시 (해당 스레드의 Cipher는 폐기됨)
+     */
+    byte[] doFinal(byte[] input) throws GeneralSecurityException {
+        try {
+            return local.get().doFinal(input);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            local.remove();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 스레드의 Cipher를 폐기합니다. 다음 호출 시 새로 초기화됩니다.
+     */
+    void reset() {
+        local.remove();
+    }
+}
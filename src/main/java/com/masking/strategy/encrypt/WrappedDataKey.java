@@ -0,0 +1,103 @@
+package com.masking.strategy.encrypt;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * RSA 공개키로 래핑된 AES 데이터 키
+ *
+ * 엔벨로프 암호문은 이 키를 8바이트 키 ID로만 참조하므로, 복호화하려면
+ * 암호문과 별도로 래핑된 키를 보관해야 합니다. encode()/decode()로 문자열 형태로 저장할 수 있습니다.
+ */
+public final class WrappedDataKey {
+    static final int KEY_ID_LENGTH = 8;
+
+    private final byte[] keyId;
+    private final byte[] wrappedKey;
+    private final long createdAt;
+
+    private WrappedDataKey(byte[] keyId, byte[] wrappedKey, long createdAt) {
+        this.keyId = keyId;
+        this.wrappedKey = wrappedKey;
+        this.createdAt = createdAt;
+    }
+
+    static WrappedDataKey of(byte[] keyId, byte[] wrappedKey, long createdAt) {
+        return new WrappedDataKey(keyId.clone(), wrappedKey.clone(), createdAt);
+    }
+
+    /**
+     * "keyId:createdAt:wrappedKey" 형식 문자열에서 래핑된 키를 복원합니다.
+     * @param encoded encode()로 만든 문자열
+     * @return WrappedDataKey 인스턴스
+     */
+    public static WrappedDataKey decode(String encoded) {
+        String[] parts = encoded.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("잘못된 데이터 키 형식: " + encoded);
+        }
+        byte[] keyId = Base64.getUrlDecoder().decode(parts[0]);
+        if (keyId.length != KEY_ID_LENGTH) {
+            throw new IllegalArgumentException("잘못된 데이터 키 ID: " + parts[0]);
+        }
+        return new WrappedDataKey(keyId, Base64.getDecoder().decode(parts[2]), Long.parseLong(parts[1]));
+    }
+
+    /**
+     * 저장용 문자열로 인코딩합니다.
+     * @return "keyId:createdAt:wrappedKey" 형식 문자열
+     */
+    public String encode() {
+        return getKeyId() + ":" + createdAt + ":" + Base64.getEncoder().encodeToString(wrappedKey);
+    }
+
+    /**
+     * 암호문 헤더에 기록되는 키 ID를 반환합니다.
+     * @return URL-safe Base64 키 ID
+     */
+    public String getKeyId() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(keyId);
+    }
+
+    byte[] keyIdBytes() {
+        return keyId;
+    }
+
+    /**
+     * RSA-OAEP로 래핑된 데이터 키를 반환합니다.
+     * @return 래핑된 키 바이트 (복사본)
+     */
+    public byte[] getWrappedKey() {
+        return wrappedKey.clone();
+    }
+
+    byte[] wrappedKeyBytes() {
+        return wrappedKey;
+    }
+
+    /**
+     * 데이터 키 생성 시각을 반환합니다.
+     * @return epoch 밀리초
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WrappedDataKey)) return false;
+        WrappedDataKey that = (WrappedDataKey) o;
+        return Arrays.equals(keyId, that.keyId) && Arrays.equals(wrappedKey, that.wrappedKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keyId);
+    }
+
+    @Override
+    public String toString() {
+        return "WrappedDataKey{keyId=" + getKeyId() + ", createdAt=" + createdAt + "}";
+    }
+}
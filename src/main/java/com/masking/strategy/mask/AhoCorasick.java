@@ -0,0 +1,118 @@
+package com.masking.strategy.mask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번의 스캔으로 찾는 Aho-Corasick 오토마톤
+ *
+ * 노드별 자식은 정렬된 char 배열로 저장하여 이진 탐색하고, 각 노드에는 그 위치에서 끝나는
+ * 가장 긴 키워드 길이(실패 링크를 따라 전파)를 미리 계산해 둡니다.
+ * 생성 후에는 불변이므로 여러 스레드에서 공유할 수 있습니다.
+ */
+final class AhoCorasick {
+    static final int ROOT = 0;
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[] matchLength;
+
+    private AhoCorasick(char[][] labels, int[][] targets, int[] fail, int[] matchLength) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.matchLength = matchLength;
+    }
+
+    static AhoCorasick of(Collection<String> keywords) {
+        // 1) 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> depthEnds = new ArrayList<>();
+        children.add(new TreeMap<>());
+        depthEnds.add(0);
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = children.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    depthEnds.add(0);
+                    children.get(node).put(keyword.charAt(i), next);
+                }
+                node = next;
+            }
+            depthEnds.set(node, keyword.length());
+        }
+
+        int size = children.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> map = children.get(node);
+            labels[node] = new char[map.size()];
+            targets[node] = new int[map.size()];
+            int k = 0;
+            for (Map.Entry<Character, Integer> e : map.entrySet()) {
+                labels[node][k] = e.getKey();
+                targets[node][k] = e.getValue();
+                k++;
+            }
+        }
+
+        // 2) BFS로 실패 링크와 최장 매치 길이 계산
+        int[] fail = new int[size];
+        int[] matchLength = new int[size];
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = ROOT;
+        AhoCorasick ac = new AhoCorasick(labels, targets, fail, matchLength);
+        while (head < tail) {
+            int node = queue[head++];
+            matchLength[node] = Math.max(depthEnds.get(node), matchLength[fail[node]]);
+            for (int k = 0; k < labels[node].length; k++) {
+                int child = targets[node][k];
+                fail[child] = node == ROOT ? ROOT : ac.step(fail[node], labels[node][k]);
+                queue[tail++] = child;
+            }
+        }
+        return ac;
+    }
+
+    /**
+     * 상태에서 문자 하나를 읽은 다음 상태를 반환합니다.
+     */
+    int step(int state, char c) {
+        while (true) {
+            char[] l = labels[state];
+            int k = l.length == 0 ? -1 : Arrays.binarySearch(l, c);
+            if (k >= 0) {
+                return targets[state][k];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    /**
+     * 상태에 도달했을 때 현재 위치에서 끝나는 가장 긴 키워드 길이 (없으면 0)
+     */
+    int matchLength(int state) {
+        return matchLength[state];
+    }
+
+    int size() {
+        return fail.length;
+    }
+}
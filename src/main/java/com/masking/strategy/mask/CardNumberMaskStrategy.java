@@ -0,0 +1,115 @@
+package com.masking.strategy.mask;
+
+/**
+ * 카드 번호(PAN) 마스킹 (정규식 없는 단일 패스 스캐너 + Luhn 검사)
+ *
+ * 숫자 사이에 공백이나 '-'가 하나씩 올 수 있는 13~19자리 숫자열 중 Luhn 검사를 통과한 것만
+ * 앞 6자리(BIN)와 뒤 4자리를 남기고 나머지 숫자를 마스킹합니다. 구분자는 그대로 둡니다.
+ * (4111-1111-1111-1111 → 4111-11**-****-1111)
+ *
+ * 다음 정규식으로 찾은 매치 중 Luhn 검사를 통과한 것을 마스킹하는 것과 같은 결과를 냅니다.
+ * <pre>
+ * (?&lt;![0-9A-Za-z]|[0-9][ -])[0-9](?:[ -]?[0-9]){12,18}(?![0-9A-Za-z]|[ -][0-9])
+ * </pre>
+ */
+public class CardNumberMaskStrategy implements MaskStrategy {
+    private static final int MIN_DIGITS = 13;
+    private static final int MAX_DIGITS = 19;
+    private static final int KEEP_PREFIX = 6;
+    private static final int KEEP_SUFFIX = 4;
+
+    private final char maskChar;
+
+    private CardNumberMaskStrategy(char maskChar) {
+        this.maskChar = maskChar;
+    }
+
+    public static CardNumberMaskStrategy of(char maskChar) {
+        return new CardNumberMaskStrategy(maskChar);
+    }
+
+    @Override
+    public String mask(String input) {
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        int base = out.length() - start;
+        out.append(in, start, end);
+        boolean masked = false;
+        int i = start;
+        while (i < end) {
+            if (!MaskChars.isDigit(in.charAt(i))) {
+                i++;
+                continue;
+            }
+            // 숫자열 끝까지 확장: 숫자 또는 "구분자 1개 + 숫자"
+            int chainStart = i;
+            int digits = 1;
+            int chainEnd = i + 1;
+            while (true) {
+                if (chainEnd < end && MaskChars.isDigit(in.charAt(chainEnd))) {
+                    chainEnd++;
+                } else if (chainEnd + 1 < end && isSeparator(in.charAt(chainEnd)) && MaskChars.isDigit(in.charAt(chainEnd + 1))) {
+                    chainEnd += 2;
+                } else {
+                    break;
+                }
+                digits++;
+            }
+            if (digits >= MIN_DIGITS && digits <= MAX_DIGITS
+                    && (chainStart == start || !MaskChars.isAsciiAlnum(in.charAt(chainStart - 1)))
+                    && (chainEnd == end || !MaskChars.isAsciiAlnum(in.charAt(chainEnd)))
+                    && luhn(in, chainStart, chainEnd)) {
+                int index = 0;
+                for (int k = chainStart; k < chainEnd; k++) {
+                    if (MaskChars.isDigit(in.charAt(k))) {
+                        if (index >= KEEP_PREFIX && index < digits - KEEP_SUFFIX) {
+                            out.setCharAt(base + k, maskChar);
+                        }
+                        index++;
+                    }
+                }
+                masked = true;
+            }
+            i = chainEnd;
+        }
+        return masked;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '-';
+    }
+
+    /**
+     * Luhn(mod 10) 검사. 구분자는 건너뜁니다.
+     */
+    static boolean luhn(CharSequence s, int start, int end) {
+        int sum = 0;
+        boolean doubled = false;
+        for (int k = end - 1; k >= start; k--) {
+            char c = s.charAt(k);
+            if (!MaskChars.isDigit(c)) {
+                continue;
+            }
+            int d = c - '0';
+            if (doubled) {
+                d *= 2;
+                if (d > 9) d -= 9;
+            }
+            sum += d;
+            doubled = !doubled;
+        }
+        return sum % 10 == 0;
+    }
+}
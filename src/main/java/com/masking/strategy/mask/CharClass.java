@@ -1,14 +1,55 @@
 package com.masking.strategy.mask;
 
+/**
+ * 문자 분류
+ *
+ * 모든 char(0x0000~0xFFFF)에 대한 분류 결과를 클래스 로딩 시 64K 바이트 테이블로 미리 계산해 두므로,
+ * {@link #of(char)}는 배열 조회 한 번으로 끝나며 객체를 할당하지 않습니다.
+ * 분류 우선순위는 LETTER → DIGIT → HANGUL(U+AC00~U+D7AF) → SPACE → OTHER 입니다.
+ */
 public enum CharClass {
     LETTER, DIGIT, HANGUL, SPACE, OTHER;
 
-    public static CharClass of(char ch) {
+    private static final CharClass[] VALUES = values();
+    private static final byte[] TABLE = new byte[Character.MAX_VALUE + 1];
+
+    static {
+        for (int ch = 0; ch <= Character.MAX_VALUE; ch++) {
+            TABLE[ch] = (byte) classify((char) ch).ordinal();
+        }
+    }
+
+    private static CharClass classify(char ch) {
         if (Character.isLetter(ch)) return LETTER;
         if (Character.isDigit(ch)) return DIGIT;
-        if (String.valueOf(ch).matches("[\\uac00-\\ud7af]")) return HANGUL;
+        if (ch >= '\uac00' && ch <= '\ud7af') return HANGUL;
         if (Character.isWhitespace(ch)) return SPACE;
         return OTHER;
     }
-}
 
+    public static CharClass of(char ch) {
+        return VALUES[TABLE[ch]];
+    }
+
+    /**
+     * 문자의 분류 ordinal을 반환합니다. 비트마스크 검사용입니다.
+     * @param ch 문자
+     * @return 분류 ordinal
+     */
+    static int ordinalOf(char ch) {
+        return TABLE[ch];
+    }
+
+    /**
+     * 분류 집합을 ordinal 비트마스크로 변환합니다.
+     * @param classes 분류 집합
+     * @return 비트마스크
+     */
+    static int maskOf(Iterable<CharClass> classes) {
+        int mask = 0;
+        for (CharClass c : classes) {
+            mask |= 1 << c.ordinal();
+        }
+        return mask;
+    }
+}
@@ -2,12 +2,20 @@ package com.masking.strategy.mask;
 
 import java.util.*;
 
+/**
+ * 문자 분류 기반 마스킹
+ *
+ * 대상 분류를 ordinal 비트마스크로 미리 변환하고, 입력을 한 번 순회하며 출력 버퍼에 바로 씁니다.
+ */
 public class CharClassMaskStrategy implements MaskStrategy {
     private final Set<CharClass> targetClasses;
+    private final int targetMask;
     private final char maskChar;
 
     private CharClassMaskStrategy(Set<CharClass> targetClasses, char maskChar) {
-        this.targetClasses = targetClasses;
+        this.targetClasses = targetClasses.isEmpty()
+            ? EnumSet.noneOf(CharClass.class) : EnumSet.copyOf(targetClasses);
+        this.targetMask = CharClass.maskOf(this.targetClasses);
         this.maskChar = maskChar;
     }
 
@@ -17,16 +25,33 @@ public class CharClassMaskStrategy implements MaskStrategy {
 
     @Override
     public String mask(String input) {
-        if (input == null) return null;
-        StringBuilder sb = new StringBuilder();
-        for (char ch : input.toCharArray()) {
-            if (targetClasses.contains(CharClass.of(ch))) {
-                sb.append(maskChar);
-            } else {
-                sb.append(ch);
-            }
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        int i = start;
+        // 첫 치환 대상까지는 그대로 복사
+        while (i < end && (targetMask & (1 << CharClass.ordinalOf(in.charAt(i)))) == 0) {
+            i++;
+        }
+        out.append(in, start, i);
+        if (i == end) {
+            return false;
         }
-        return sb.toString();
+        for (; i < end; i++) {
+            char c = in.charAt(i);
+            out.append((targetMask & (1 << CharClass.ordinalOf(c))) != 0 ? maskChar : c);
+        }
+        return true;
     }
 }
-
@@ -0,0 +1,86 @@
+package com.masking.strategy.mask;
+
+/**
+ * 사전에 등록된 값(고객명, 계좌번호 등)이 텍스트 안에 나타나면 마스킹하는 전략
+ *
+ * 사전은 {@link MappedDictionary}(메모리 매핑 트라이 + 블룸 필터)를 사용하므로 수천만 건도 힙을 거의 쓰지 않습니다.
+ * 각 위치에서 시작하는 가장 긴 사전 값을 찾고, 겹치는 매치는 합집합으로 마스킹합니다.
+ * wholeWords 모드에서는 앞뒤가 영문/숫자로 이어지는 부분 일치를 무시합니다. (한글 조사는 경계로 취급: "홍길동님" 매치)
+ *
+ * 사용법:
+ * <pre>
+ * MappedDictionary names = MappedDictionary.open(Paths.get("names.dict"));
+ * MaskStrategy strategy = DictionaryMaskStrategy.of(names, '*');
+ * </pre>
+ */
+public class DictionaryMaskStrategy implements MaskStrategy {
+    private final MappedDictionary dictionary;
+    private final char maskChar;
+    private final boolean wholeWords;
+
+    private DictionaryMaskStrategy(MappedDictionary dictionary, char maskChar, boolean wholeWords) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("dictionary는 필수입니다");
+        }
+        this.dictionary = dictionary;
+        this.maskChar = maskChar;
+        this.wholeWords = wholeWords;
+    }
+
+    /**
+     * 텍스트의 어느 위치든 사전 값과 일치하면 마스킹하는 전략을 생성합니다.
+     * @param dictionary 사전
+     * @param maskChar 마스킹 문자
+     * @return DictionaryMaskStrategy 인스턴스
+     */
+    public static DictionaryMaskStrategy of(MappedDictionary dictionary, char maskChar) {
+        return new DictionaryMaskStrategy(dictionary, maskChar, false);
+    }
+
+    /**
+     * 앞뒤가 영문/숫자가 아닌 위치에서 사전 값과 일치할 때만 마스킹하는 전략을 생성합니다.
+     * @param dictionary 사전
+     * @param maskChar 마스킹 문자
+     * @return DictionaryMaskStrategy 인스턴스
+     */
+    public static DictionaryMaskStrategy wholeWords(MappedDictionary dictionary, char maskChar) {
+        return new DictionaryMaskStrategy(dictionary, maskChar, true);
+    }
+
+    @Override
+    public String mask(String input) {
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 사전이 바뀌지 않는 한 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        int base = out.length() - start;
+        out.append(in, start, end);
+        boolean masked = false;
+        int coveredUntil = start;
+        for (int i = start; i + DictionaryWriter.MIN_LENGTH <= end; i++) {
+            if (wholeWords && i > start && MaskChars.isAsciiAlnum(in.charAt(i - 1))) {
+                continue;
+            }
+            int matched = dictionary.longestMatch(in, i, end, wholeWords);
+            if (matched == 0) {
+                continue;
+            }
+            for (int k = Math.max(i, coveredUntil); k < i + matched; k++) {
+                out.setCharAt(base + k, maskChar);
+            }
+            masked = true;
+            coveredUntil = Math.max(coveredUntil, i + matched);
+        }
+        return masked;
+    }
+}
@@ -0,0 +1,248 @@
+package com.masking.strategy.mask;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link MappedDictionary}가 읽는 사전 파일(직렬화된 트라이 + 블룸 필터)을 생성합니다.
+ *
+ * 정렬된 입력을 한 번 훑으면서 끝난 노드부터 자식 → 부모 순서로 바로 파일에 기록하므로,
+ * 수천만 건의 사전도 현재 경로의 노드만 메모리에 두고 만들 수 있습니다.
+ *
+ * 파일 구조 (리틀 엔디언)
+ * <pre>
+ *   header : magic, version, entryCount, rootOffset, maxLength, bloomOffset, bloomWords (32 bytes)
+ *   nodes  : [int (childCount &lt;&lt; 1 | terminal)][int childOffset * n][char label * n][padding]
+ *   bloom  : long[bloomWords] - 사전 값의 앞 두 글자에 대한 블룸 필터
+ * </pre>
+ *
+ * 사용법:
+ * <pre>
+ * // 이미 정렬된 대용량 목록 (String.compareTo 순서)
+ * try (Stream&lt;String&gt; lines = Files.lines(sortedNames)) {
+ *     DictionaryWriter.writeSorted(lines.iterator(), Paths.get("names.dict"));
+ * }
+ * </pre>
+ */
+public final class DictionaryWriter {
+    static final int MAGIC = 0x4D444943; // "MDIC"
+    static final int VERSION = 1;
+    static final int HEADER_LENGTH = 32;
+    static final int BLOOM_HASHES = 4;
+    static final int BLOOM_BITS_PER_PREFIX = 16;
+    static final int MIN_LENGTH = 2;
+
+    private static final int NODE_TERMINAL = 1;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    private long position = HEADER_LENGTH;
+
+    // 현재 경로의 열린 노드들 (깊이별로 재사용)
+    private final List<OpenNode> path = new ArrayList<>();
+    private int depth;
+    private int leafOffset = -1;
+
+    private int[] prefixes = new int[1024];
+    private int prefixCount;
+    private long entryCount;
+    private int maxLength;
+    private String previous;
+
+    private DictionaryWriter(FileChannel channel) {
+        this.channel = channel;
+        this.path.add(new OpenNode());
+    }
+
+    /**
+     * 정렬되지 않은 값 목록을 정렬해 사전 파일을 생성합니다. 중복 값은 한 번만 기록합니다.
+     * @param values 사전 값 목록 (각 2자 이상)
+     * @param target 생성할 사전 파일 경로
+     * @return 기록한 값 수
+     * @throws IOException 파일 쓰기 실패 시
+     */
+    public static long write(Collection<String> values, Path target) throws IOException {
+        String[] sorted = values.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return writeSorted(Arrays.asList(sorted).iterator(), target);
+    }
+
+    /**
+     * String.compareTo 순서로 정렬된 값을 스트리밍으로 읽어 사전 파일을 생성합니다.
+     * 연속된 중복 값은 한 번만 기록하며, 정렬 순서가 어긋나면 IllegalArgumentException을 던집니다.
+     * @param sortedValues 정렬된 사전 값 (각 2자 이상)
+     * @param target 생성할 사전 파일 경로
+     * @return 기록한 값 수
+     * @throws IOException 파일 쓰기 실패 시
+     */
+    public static long writeSorted(Iterator<? extends CharSequence> sortedValues, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_LENGTH);
+            DictionaryWriter writer = new DictionaryWriter(channel);
+            while (sortedValues.hasNext()) {
+                writer.add(sortedValues.next().toString());
+            }
+            return writer.finish();
+        }
+    }
+
+    private void add(String value) throws IOException {
+        if (value.length() < MIN_LENGTH) {
+            throw new IllegalArgumentException("사전 값은 " + MIN_LENGTH + "자 이상이어야 합니다: " + value);
+        }
+        int common = 0;
+        if (previous != null) {
+            int order = previous.compareTo(value);
+            if (order == 0) {
+                return;
+            }
+            if (order > 0) {
+                throw new IllegalArgumentException("사전 값이 정렬되어 있지 않습니다: " + previous + " > " + value);
+            }
+            int limit = Math.min(previous.length(), value.length());
+            while (common < limit && previous.charAt(common) == value.charAt(common)) {
+                common++;
+            }
+        }
+        // 공통 접두사보다 깊은 노드는 더 이상 자식이 생기지 않으므로 기록
+        closeTo(common);
+        for (int d = common; d < value.length(); d++) {
+            path.get(depth).pendingLabel = value.charAt(d);
+            depth++;
+            if (path.size() <= depth) {
+                path.add(new OpenNode());
+            }
+            path.get(depth).reset();
+        }
+        path.get(depth).terminal = true;
+
+        int prefix = (value.charAt(0) << 16) | value.charAt(1);
+        if (prefixCount == 0 || prefixes[prefixCount - 1] != prefix) {
+            if (prefixCount == prefixes.length) {
+                prefixes = Arrays.copyOf(prefixes, prefixCount * 2);
+            }
+            prefixes[prefixCount++] = prefix;
+        }
+        entryCount++;
+        maxLength = Math.max(maxLength, value.length());
+        previous = value;
+    }
+
+    private void closeTo(int targetDepth) throws IOException {
+        while (depth > targetDepth) {
+            int offset = writeNode(path.get(depth));
+            depth--;
+            path.get(depth).addChild(offset);
+        }
+    }
+
+    private long finish() throws IOException {
+        closeTo(0);
+        int root = writeNode(path.get(0));
+
+        // 블룸 필터: 앞 두 글자 접두사 집합 (스캔 중 트라이를 건드리기 전에 걸러냄)
+        long[] bloom = new long[bloomWords(prefixCount)];
+        for (int i = 0; i < prefixCount; i++) {
+            MappedDictionary.bloomAdd(bloom, prefixes[i]);
+        }
+        while (position % Long.BYTES != 0) {
+            put(1).put((byte) 0);
+        }
+        long bloomOffset = position;
+        for (long word : bloom) {
+            put(Long.BYTES).putLong(word);
+        }
+        flush();
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("사전 파일이 2GB를 넘습니다 (" + position + " bytes)");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putLong(entryCount)
+              .putInt(root).putInt(maxLength).putInt((int) bloomOffset).putInt(bloom.length);
+        header.flip();
+        channel.write(header, 0);
+        return entryCount;
+    }
+
+    private static int bloomWords(int prefixCount) {
+        long bits = Math.max(64L, (long) prefixCount * BLOOM_BITS_PER_PREFIX);
+        int words = (int) (Long.highestOneBit(bits - 1) << 1 >>> 6);
+        return Math.max(1, words);
+    }
+
+    private int writeNode(OpenNode node) throws IOException {
+        int count = node.childCount;
+        if (count == 0 && node.terminal && leafOffset >= 0) {
+            return leafOffset; // 자식 없는 끝 노드는 모두 같은 내용이므로 하나만 기록
+        }
+        if (position > Integer.MAX_VALUE - 8L - 6L * count) {
+            throw new IOException("사전 파일이 2GB를 넘습니다");
+        }
+        int offset = (int) position;
+        put(Integer.BYTES).putInt((count << 1) | (node.terminal ? NODE_TERMINAL : 0));
+        for (int i = 0; i < count; i++) {
+            put(Integer.BYTES).putInt(node.offsets[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            put(Character.BYTES).putChar(node.labels[i]);
+        }
+        if ((count & 1) != 0) {
+            put(Character.BYTES).putChar((char) 0);
+        }
+        if (count == 0 && node.terminal) {
+            leafOffset = offset;
+        }
+        return offset;
+    }
+
+    private ByteBuffer put(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+        position += bytes;
+        return buffer;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** 아직 기록하지 않은 노드: 완료된 자식들과 현재 열린 자식의 라벨 */
+    private static final class OpenNode {
+        char[] labels = new char[4];
+        int[] offsets = new int[4];
+        int childCount;
+        boolean terminal;
+        char pendingLabel;
+
+        void reset() {
+            childCount = 0;
+            terminal = false;
+        }
+
+        void addChild(int offset) {
+            if (childCount == labels.length) {
+                labels = Arrays.copyOf(labels, childCount * 2);
+                offsets = Arrays.copyOf(offsets, childCount * 2);
+            }
+            labels[childCount] = pendingLabel;
+            offsets[childCount] = offset;
+            childCount++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.masking.strategy.mask;
+
+/**
+ * 이메일 로컬 파트 마스킹 (정규식 없는 단일 패스 스캐너)
+ *
+ * {@code RegexMaskStrategy.of("(?<=.).(?=[^@]+@)", maskChar)}와 항상 같은 결과를 냅니다.
+ * 첫 글자와 '@' 바로 앞 글자를 남기고 그 사이를 마스킹합니다. (user@example.com → u**r@example.com)
+ *
+ * 위치 i의 문자는 다음 조건을 모두 만족할 때 마스킹됩니다.
+ * <ul>
+ *   <li>앞 문자가 있고 줄바꿈 문자가 아님 (lookbehind)</li>
+ *   <li>i의 코드 포인트가 줄바꿈 문자가 아님</li>
+ *   <li>바로 다음 문자가 '@'가 아니고, 그 뒤 어딘가에 '@'가 있음 (마지막 '@' 위치로 O(1) 판정)</li>
+ * </ul>
+ */
+public class EmailMaskStrategy implements MaskStrategy {
+    private final char maskChar;
+
+    private EmailMaskStrategy(char maskChar) {
+        this.maskChar = maskChar;
+    }
+
+    public static EmailMaskStrategy of(char maskChar) {
+        return new EmailMaskStrategy(maskChar);
+    }
+
+    @Override
+    public String mask(String input) {
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        int base = out.length() - start;
+        out.append(in, start, end);
+        int lastAt = end - 1;
+        while (lastAt >= start && in.charAt(lastAt) != '@') {
+            lastAt--;
+        }
+        boolean masked = false;
+        int i = start + 1;
+        // 마스킹 다음 위치(p)가 마지막 '@'보다 앞이어야 하므로 i < lastAt - 1
+        while (i < lastAt - 1) {
+            int cp = MaskChars.codePointAt(in, i, end);
+            int p = i + Character.charCount(cp);
+            if (p < lastAt && in.charAt(p) != '@'
+                    && !MaskChars.isLineTerminator(cp) && MaskChars.isSingleDot(in, i - 1, end)) {
+                for (int k = i; k < p; k++) {
+                    out.setCharAt(base + k, maskChar);
+                }
+                masked = true;
+                i = p;
+            } else {
+                i++;
+            }
+        }
+        return masked;
+    }
+}
@@ -0,0 +1,178 @@
+package com.masking.strategy.mask;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑한 사전 파일 ({@link DictionaryWriter}로 생성)
+ *
+ * 트라이는 힙 밖(mmap)에 그대로 두고 읽기만 하므로 수천만 건의 사전도 String을 만들지 않고 조회합니다.
+ * 힙에는 앞 두 글자 접두사에 대한 작은 블룸 필터만 올려, 사전에 없는 위치는 대부분 트라이를 읽지 않고 건너뜁니다.
+ * 읽기 전용이므로 여러 스레드에서 공유할 수 있습니다.
+ *
+ * 사용법:
+ * <pre>
+ * MappedDictionary names = MappedDictionary.open(Paths.get("names.dict"));
+ * boolean known = names.contains("홍길동");
+ * </pre>
+ */
+public final class MappedDictionary {
+    private final ByteBuffer trie;
+    private final long[] bloom;
+    private final int bloomMask;
+    private final int root;
+    private final long size;
+    private final int maxLength;
+
+    private MappedDictionary(ByteBuffer trie, long[] bloom, int root, long size, int maxLength) {
+        this.trie = trie;
+        this.bloom = bloom;
+        this.bloomMask = bloom.length * Long.SIZE - 1;
+        this.root = root;
+        this.size = size;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 사전 파일을 읽기 전용으로 매핑합니다.
+     * @param file 사전 파일 경로
+     * @return MappedDictionary 인스턴스
+     * @throws IOException 파일을 읽을 수 없거나 사전 파일 형식이 아닌 경우
+     */
+    public static MappedDictionary open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < DictionaryWriter.HEADER_LENGTH || length > Integer.MAX_VALUE) {
+                throw new IOException("사전 파일 크기가 올바르지 않습니다: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (buffer.getInt(0) != DictionaryWriter.MAGIC || buffer.getInt(4) != DictionaryWriter.VERSION) {
+            throw new IOException("사전 파일 형식이 아닙니다: " + file);
+        }
+        long size = buffer.getLong(8);
+        int root = buffer.getInt(16);
+        int maxLength = buffer.getInt(20);
+        int bloomOffset = buffer.getInt(24);
+        int bloomWords = buffer.getInt(28);
+        if (Integer.bitCount(bloomWords) != 1 || (long) bloomOffset + (long) bloomWords * Long.BYTES > buffer.capacity()) {
+            throw new IOException("사전 파일이 손상되었습니다: " + file);
+        }
+        long[] bloom = new long[bloomWords];
+        for (int i = 0; i < bloomWords; i++) {
+            bloom[i] = buffer.getLong(bloomOffset + i * Long.BYTES);
+        }
+        return new MappedDictionary(buffer, bloom, root, size, maxLength);
+    }
+
+    /**
+     * 사전에 등록된 값 수를 반환합니다.
+     * @return 값 수
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 가장 긴 사전 값의 길이를 반환합니다.
+     * @return 최대 길이 (char 단위)
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * 값이 사전에 정확히 등록되어 있는지 확인합니다.
+     * @param value 확인할 값
+     * @return 등록 여부
+     */
+    public boolean contains(CharSequence value) {
+        return value != null && value.length() >= DictionaryWriter.MIN_LENGTH
+            && longestMatch(value, 0, value.length(), false) == value.length();
+    }
+
+    /**
+     * text[start..end) 범위에서 start에서 시작하는 가장 긴 사전 값의 길이를 찾습니다.
+     * wholeWord이면 end이거나 바로 뒤가 영문/숫자가 아닌 곳에서 끝나는 값만 인정합니다.
+     * @return 일치한 길이, 없으면 0
+     */
+    int longestMatch(CharSequence text, int start, int end, boolean wholeWord) {
+        if (end - start < DictionaryWriter.MIN_LENGTH
+                || !bloomMightContain(bloom, bloomMask, (text.charAt(start) << 16) | text.charAt(start + 1))) {
+            return 0;
+        }
+        int node = root;
+        int longest = 0;
+        for (int i = start; i < end; i++) {
+            node = child(node, text.charAt(i));
+            if (node < 0) {
+                break;
+            }
+            if ((trie.getInt(node) & 1) != 0
+                    && (!wholeWord || i + 1 == end || !MaskChars.isAsciiAlnum(text.charAt(i + 1)))) {
+                longest = i + 1 - start;
+            }
+        }
+        return longest;
+    }
+
+    private int child(int node, char label) {
+        int header = trie.getInt(node);
+        int count = header >>> 1;
+        int labels = node + Integer.BYTES + count * Integer.BYTES;
+        int lo = 0;
+        int hi = count - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char c = trie.getChar(labels + mid * Character.BYTES);
+            if (c < label) {
+                lo = mid + 1;
+            } else if (c > label) {
+                hi = mid - 1;
+            } else {
+                return trie.getInt(node + Integer.BYTES + mid * Integer.BYTES);
+            }
+        }
+        return -1;
+    }
+
+    static void bloomAdd(long[] bloom, int prefix) {
+        int mask = bloom.length * Long.SIZE - 1;
+        long h = mix(prefix);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32) | 1;
+        for (int i = 0; i < DictionaryWriter.BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & mask;
+            bloom[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private static boolean bloomMightContain(long[] bloom, int mask, int prefix) {
+        long h = mix(prefix);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32) | 1;
+        for (int i = 0; i < DictionaryWriter.BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(int value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87c3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,42 @@
+package com.masking.strategy.mask;
+
+/**
+ * 기본 제공 전략의 mask(String)이 공유하는 스레드별 출력 버퍼
+ *
+ * mask(String)을 maskTo로 구현하면서 결과 String 하나만 새로 만들도록 StringBuilder를 재사용합니다.
+ * 중첩 호출 중에는 새 버퍼를 쓰고, 너무 커진 버퍼는 보관하지 않습니다.
+ */
+final class MaskBuffers {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+    private static final ThreadLocal<MaskBuffers> BUFFERS = ThreadLocal.withInitial(MaskBuffers::new);
+
+    private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+    private boolean inUse;
+
+    private MaskBuffers() {
+    }
+
+    /**
+     * strategy.maskTo로 input 전체를 마스킹합니다. 마스킹한 문자가 없으면 input을 그대로 반환합니다.
+     */
+    static String mask(MaskStrategy strategy, String input) {
+        if (input == null) return null;
+        MaskBuffers buffers = BUFFERS.get();
+        if (buffers.inUse) {
+            StringBuilder out = new StringBuilder(input.length());
+            return strategy.maskTo(input, 0, input.length(), out) ? out.toString() : input;
+        }
+        buffers.inUse = true;
+        StringBuilder out = buffers.buffer;
+        try {
+            out.setLength(0);
+            return strategy.maskTo(input, 0, input.length(), out) ? out.toString() : input;
+        } finally {
+            if (out.capacity() > MAX_RETAINED_CAPACITY) {
+                buffers.buffer = new StringBuilder(INITIAL_CAPACITY);
+            }
+            buffers.inUse = false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.masking.strategy.mask;
+
+/**
+ * 정규식 없는 스캐너들이 공유하는 문자 판별 헬퍼
+ *
+ * java.util.regex의 '.'과 같은 판정을 하도록 줄바꿈 문자 정의를 Pattern과 맞춥니다.
+ */
+final class MaskChars {
+
+    private MaskChars() {
+    }
+
+    /**
+     * Pattern의 '.'이 매칭하지 않는 줄바꿈 문자인지 확인합니다. (LF, CR, NEL, LS, PS)
+     * @param cp 코드 포인트
+     * @return 줄바꿈 문자이면 true
+     */
+    static boolean isLineTerminator(int cp) {
+        return cp == '\n' || cp == '\r' || cp == '\u0085' || cp == '\u2028' || cp == '\u2029';
+    }
+
+    /**
+     * 인덱스 i에서 시작하는 코드 포인트가 한 char로 이루어지고 '.'에 매칭되는지 확인합니다.
+     * 서로게이트 쌍의 상위 문자는 한 char 길이의 '.'으로 볼 수 없으므로 false입니다.
+     * @param limit 입력 범위의 끝 (제외)
+     */
+    static boolean isSingleDot(CharSequence s, int i, int limit) {
+        char c = s.charAt(i);
+        if (Character.isHighSurrogate(c) && i + 1 < limit && Character.isLowSurrogate(s.charAt(i + 1))) {
+            return false;
+        }
+        return !isLineTerminator(c);
+    }
+
+    /**
+     * limit을 넘지 않는 범위에서 인덱스 i의 코드 포인트를 반환합니다.
+     */
+    static int codePointAt(CharSequence s, int i, int limit) {
+        char c = s.charAt(i);
+        if (Character.isHighSurrogate(c) && i + 1 < limit) {
+            char low = s.charAt(i + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(c, low);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * out 뒤에 마스킹 문자를 count개 붙입니다.
+     */
+    static void appendMask(StringBuilder out, char maskChar, int count) {
+        for (int k = 0; k < count; k++) {
+            out.append(maskChar);
+        }
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isAsciiAlnum(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+}
@@ -2,5 +2,47 @@ package com.masking.strategy.mask;
 
 public interface MaskStrategy {
     String mask(String input);
-}
 
+    /**
+     * 같은 입력에 항상 같은 결과를 내는지 여부를 반환합니다.
+     * 결정적 전략만 캐시({@link com.masking.cache.CachingMaskStrategy})로 감쌀 수 있습니다.
+     * 기본값은 false이며, 같은 입력에 같은 결과를 보장하는 구현체만 true로 재정의합니다.
+     * (false이면 배치의 중복 값 제거와 캐시가 꺼질 뿐 결과는 같습니다)
+     * @return 결정적이면 true
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
+
+    /**
+     * in[start..end)를 하나의 입력으로 보고 마스킹한 결과를 out 뒤에 이어 씁니다.
+     * 호출자가 out을 재사용하면 중간 String, char[]를 만들지 않고 마스킹할 수 있습니다.
+     * 기본 구현은 {@link #mask(String)} 결과를 붙이는 어댑터이며, 기본 제공 전략은 모두 직접 구현합니다.
+     * @param in 원본 문자열
+     * @param start 시작 인덱스 (포함)
+     * @param end 끝 인덱스 (제외)
+     * @param out 결과를 이어 쓸 버퍼
+     * @return 마스킹한 문자가 있으면 true, 입력을 그대로 썼으면 false
+     */
+    default boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        String input = in.subSequence(start, end).toString();
+        String masked = mask(input);
+        out.append(masked);
+        return masked != input && !masked.equals(input);
+    }
+
+    /**
+     * 여러 값을 한 번에 마스킹합니다. null 값은 그대로 null로 남습니다.
+     * @param inputs 원본 값 배열
+     * @return 입력과 같은 순서의 마스킹 결과 배열
+     */
+    default String[] maskBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null) {
+                results[i] = mask(inputs[i]);
+            }
+        }
+        return results;
+    }
+}
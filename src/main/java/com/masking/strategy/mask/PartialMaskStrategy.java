@@ -1,7 +1,5 @@
 package com.masking.strategy.mask;
 
-import java.util.Arrays;
-
 /**
  * 고정된 길이 마스킹화
  */
@@ -23,20 +21,28 @@ public class PartialMaskStrategy implements MaskStrategy {
 
     @Override
     public String mask(String input) {
-        if (input == null) return null;
-        int length = input.length();
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        int length = end - start;
         if (length <= prefixKeep + suffixKeep) {
-            char[] fullMask = new char[length];
-            Arrays.fill(fullMask, maskChar);
-            return new String(fullMask);
+            MaskChars.appendMask(out, maskChar, length);
+            return length > 0;
         }
-        StringBuilder sb = new StringBuilder();
-        sb.append(input, 0, prefixKeep);
-        int maskLen = length - prefixKeep - suffixKeep;
-        char[] maskArr = new char[maskLen];
-        Arrays.fill(maskArr, maskChar);
-        sb.append(maskArr);
-        sb.append(input, length - suffixKeep, length);
-        return sb.toString();
+        out.append(in, start, start + prefixKeep);
+        MaskChars.appendMask(out, maskChar, length - prefixKeep - suffixKeep);
+        out.append(in, end - suffixKeep, end);
+        return true;
     }
 }
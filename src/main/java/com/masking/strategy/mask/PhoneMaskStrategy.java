@@ -0,0 +1,111 @@
+package com.masking.strategy.mask;
+
+/**
+ * 전화번호 마스킹 (정규식 없는 단일 패스 스캐너)
+ *
+ * {@code RegexMaskStrategy.of("(?<=.{3}).(?=.{4})", maskChar)}와 항상 같은 결과를 냅니다.
+ * 앞 3글자와 뒤 4글자를 남기고 가운데를 마스킹합니다. (010-1234-5678 → 010******5678)
+ *
+ * 서로게이트나 줄바꿈 문자가 없는 일반적인 입력은 범위 채우기 한 번으로 처리하고,
+ * 그 외에는 Pattern과 같은 코드 포인트 규칙으로 위치마다 판정합니다.
+ */
+public class PhoneMaskStrategy implements MaskStrategy {
+    private static final int KEEP_PREFIX = 3;
+    private static final int KEEP_SUFFIX = 4;
+
+    private final char maskChar;
+
+    private PhoneMaskStrategy(char maskChar) {
+        this.maskChar = maskChar;
+    }
+
+    public static PhoneMaskStrategy of(char maskChar) {
+        return new PhoneMaskStrategy(maskChar);
+    }
+
+    @Override
+    public String mask(String input) {
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        int length = end - start;
+        if (length <= KEEP_PREFIX + KEEP_SUFFIX) {
+            out.append(in, start, end);
+            return false;
+        }
+        if (isSimple(in, start, end)) {
+            out.append(in, start, start + KEEP_PREFIX);
+            MaskChars.appendMask(out, maskChar, length - KEEP_PREFIX - KEEP_SUFFIX);
+            out.append(in, end - KEEP_SUFFIX, end);
+            return true;
+        }
+        return maskGeneral(in, start, end, out);
+    }
+
+    private static boolean isSimple(CharSequence in, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = in.charAt(i);
+            if (Character.isSurrogate(c) || MaskChars.isLineTerminator(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean maskGeneral(CharSequence in, int start, int end, StringBuilder out) {
+        int base = out.length() - start;
+        out.append(in, start, end);
+        boolean masked = false;
+        int i = start + KEEP_PREFIX;
+        while (i < end) {
+            int cp = MaskChars.codePointAt(in, i, end);
+            int p = i + Character.charCount(cp);
+            if (!MaskChars.isLineTerminator(cp) && behind(in, i, end) && ahead(in, p, end)) {
+                for (int k = i; k < p; k++) {
+                    out.setCharAt(base + k, maskChar);
+                }
+                masked = true;
+                i = p;
+            } else {
+                i++;
+            }
+        }
+        return masked;
+    }
+
+    /** (?<=.{3}): 바로 앞 3개 char가 각각 한 char짜리 '.'이어야 함 */
+    private static boolean behind(CharSequence in, int i, int end) {
+        for (int k = i - KEEP_PREFIX; k < i; k++) {
+            if (!MaskChars.isSingleDot(in, k, end)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** (?=.{4}): p부터 줄바꿈이 아닌 코드 포인트 4개가 있어야 함 */
+    private static boolean ahead(CharSequence in, int p, int end) {
+        for (int n = 0; n < KEEP_SUFFIX; n++) {
+            if (p >= end) {
+                return false;
+            }
+            int cp = MaskChars.codePointAt(in, p, end);
+            if (MaskChars.isLineTerminator(cp)) {
+                return false;
+            }
+            p += Character.charCount(cp);
+        }
+        return true;
+    }
+}
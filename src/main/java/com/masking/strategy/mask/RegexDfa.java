@@ -0,0 +1,749 @@
+package com.masking.strategy.mask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 여러 정규식을 하나로 합친 DFA 쌍 (정방향 + 역방향)
+ *
+ * 정규식들을 Glushkov 위치 오토마타(ε 전이 없는 NFA)로 합치고, 부분집합 구성으로 두 DFA를 지연 생성합니다.
+ * <ul>
+ *   <li>정방향 DFA: 임의 위치에서 시작하는 매치를 추적 (.*R). i까지 읽었을 때 활성 위치 집합 F[i]</li>
+ *   <li>역방향 DFA: i 이후를 읽어 수락 상태에 도달할 수 있는 위치 집합 B[i]</li>
+ * </ul>
+ * 문자 i는 (F[i+1] ∩ B[i+1])이 비어 있지 않을 때, 즉 i를 덮는 비어 있지 않은 매치가 하나라도 있을 때 마스킹 대상입니다.
+ * 모든 매치의 합집합을 덮으므로 겹치는 매치도 빠짐없이 처리됩니다.
+ *
+ * 지원 구문: 리터럴, 이스케이프(\d \w \s \D \W \S \t \n \r \f \xhh \\uhhhh), '.', 문자 클래스([a-z], [^...]),
+ * 그룹((...), (?:...), (?&lt;name&gt;...)), '|', 수량자(* + ? {m} {m,} {m,n}, lazy 접미사 허용).
+ * 앵커, 전후방 탐색, 역참조, 인라인 플래그는 지원하지 않으며 IllegalArgumentException을 던집니다.
+ * '.'은 줄바꿈 문자를 제외한 모든 UTF-16 char 하나에 매칭합니다.
+ *
+ * 컴파일 결과는 불변이고 DFA 상태 캐시는 스레드마다 따로 두므로 여러 스레드에서 공유할 수 있습니다.
+ */
+final class RegexDfa {
+    static final int MAX_POSITIONS = 4096;
+    /** 스레드별 DFA 캐시가 이 상태 수를 넘으면 다음 스캔 전에 비웁니다. */
+    static final int MAX_CACHED_STATES = 10_000;
+    static final int START = 0;
+
+    private final char[] classOf;
+    private final int numClasses;
+    private final int words;
+    private final long[][] follow;
+    private final long[][] precede;
+    private final long[][] members;
+    private final long[] last;
+    private final ThreadLocal<Cache> caches = ThreadLocal.withInitial(Cache::new);
+
+    private RegexDfa(char[] classOf, int numClasses, int words, long[][] follow, long[][] precede,
+                     long[][] members, long[] last) {
+        this.classOf = classOf;
+        this.numClasses = numClasses;
+        this.words = words;
+        this.follow = follow;
+        this.precede = precede;
+        this.members = members;
+        this.last = last;
+    }
+
+    /**
+     * 현재 스레드의 DFA 상태 캐시를 반환합니다. 캐시가 너무 커졌으면 비우고 새로 시작합니다.
+     * 반환된 캐시의 상태 번호는 다음 cache() 호출 전까지만 유효합니다.
+     * @return 스레드 로컬 캐시
+     */
+    Cache cache() {
+        Cache cache = caches.get();
+        if (cache.forward.size() + cache.backward.size() > MAX_CACHED_STATES) {
+            cache = new Cache();
+            caches.set(cache);
+        }
+        return cache;
+    }
+
+    /**
+     * 정방향/역방향 DFA 상태를 필요할 때만 만드는 지연 DFA 캐시 (스레드 전용)
+     *
+     * .*R 형태의 DFA는 반복 수량자가 겹치면 상태 수가 지수적으로 늘 수 있으므로,
+     * 미리 모두 만들지 않고 실제 입력에서 도달한 상태와 전이만 만들어 재사용합니다.
+     */
+    final class Cache {
+        final Subsets forward;
+        final Subsets backward;
+        private long[][] forwardBits = new long[16][];
+        private boolean[] forwardAccepts = new boolean[16];
+
+        private Cache() {
+            long[] start = new long[words];
+            start[0] = 1L;
+            forward = new Subsets(start, numClasses);
+            backward = new Subsets(last.clone(), numClasses);
+            describeForward(START);
+        }
+
+        int nextForward(int state, char c) {
+            int cls = classOf[c];
+            int next = forward.transition(state, cls);
+            if (next < 0) {
+                // 정방향: 활성 위치의 follow 중 이 문자를 받는 위치 + 항상 초기 위치 0 (.* 접두사)
+                long[] bits = new long[words];
+                long[] mask = members[cls];
+                forEachBit(forward.states.get(state), p -> {
+                    long[] f = follow[p];
+                    for (int w = 0; w < words; w++) {
+                        bits[w] |= f[w] & mask[w];
+                    }
+                });
+                bits[0] |= 1L;
+                int before = forward.size();
+                next = forward.setTransition(state, cls, bits);
+                if (next == before) {
+                    describeForward(next);
+                }
+            }
+            return next;
+        }
+
+        int nextBackward(int state, char c) {
+            int cls = classOf[c];
+            int next = backward.transition(state, cls);
+            if (next < 0) {
+                // 역방향: 이 문자를 받는 활성 위치의 precede + 항상 수락 위치
+                long[] bits = last.clone();
+                long[] mask = members[cls];
+                long[] current = backward.states.get(state);
+                for (int w = 0; w < words; w++) {
+                    long word = current[w] & mask[w];
+                    while (word != 0) {
+                        orInto(bits, precede[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                        word &= word - 1;
+                    }
+                }
+                next = backward.setTransition(state, cls, bits);
+            }
+            return next;
+        }
+
+        /** 정방향 상태에서 끝나는 매치가 있는지 */
+        boolean accepts(int forwardState) {
+            return forwardAccepts[forwardState];
+        }
+
+        /** 직전 문자를 덮는 매치가 있는지: F[i+1] ∩ B[i+1] ≠ ∅ */
+        boolean covers(int forwardState, int backwardState) {
+            long[] f = forwardBits[forwardState];
+            if (f == null) {
+                return false;
+            }
+            long[] b = backward.states.get(backwardState);
+            for (int w = 0; w < f.length; w++) {
+                if ((f[w] & b[w]) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void describeForward(int state) {
+            if (state >= forwardBits.length) {
+                forwardBits = Arrays.copyOf(forwardBits, forwardBits.length * 2);
+                forwardAccepts = Arrays.copyOf(forwardAccepts, forwardAccepts.length * 2);
+            }
+            long[] bits = forward.states.get(state).clone();
+            bits[0] &= ~1L;
+            boolean any = false;
+            boolean accepts = false;
+            for (int w = 0; w < words; w++) {
+                any |= bits[w] != 0;
+                accepts |= (bits[w] & last[w]) != 0;
+            }
+            forwardBits[state] = any ? bits : null;
+            forwardAccepts[state] = accepts;
+        }
+    }
+
+    // ---------------------------------------------------------------- 컴파일
+
+    static RegexDfa compile(List<String> regexes) {
+        Glushkov g = new Glushkov();
+        BitSet first = new BitSet();
+        BitSet last = new BitSet();
+        for (String regex : regexes) {
+            Node node = new Parser(regex).parse();
+            Info info = g.visit(node);
+            first.or(info.first);
+            last.or(info.last);
+        }
+        g.follow.get(0).or(first);
+
+        int m = g.charSets.size();
+        int words = (m + 63) >>> 6;
+
+        // 알파벳 압축: 모든 문자 클래스 경계로 구간을 나누고, 같은 위치 집합에 속하는 구간끼리 합침
+        TreeSet<Integer> bounds = new TreeSet<>();
+        bounds.add(0);
+        bounds.add(Character.MAX_VALUE + 1);
+        for (int p = 1; p < m; p++) {
+            int[] r = g.charSets.get(p).ranges;
+            for (int k = 0; k < r.length; k += 2) {
+                bounds.add(r[k]);
+                bounds.add(r[k + 1] + 1);
+            }
+        }
+        char[] classOf = new char[Character.MAX_VALUE + 1];
+        Map<Key, Integer> classIds = new HashMap<>();
+        List<long[]> members = new ArrayList<>();
+        Integer prev = null;
+        for (Integer bound : bounds) {
+            if (prev != null) {
+                long[] sig = new long[words];
+                for (int p = 1; p < m; p++) {
+                    if (g.charSets.get(p).contains(prev)) {
+                        sig[p >>> 6] |= 1L << p;
+                    }
+                }
+                Integer id = classIds.get(new Key(sig));
+                if (id == null) {
+                    id = members.size();
+                    if (id > Character.MAX_VALUE) {
+                        throw new IllegalArgumentException("문자 클래스가 너무 많습니다");
+                    }
+                    classIds.put(new Key(sig), id);
+                    members.add(sig);
+                }
+                Arrays.fill(classOf, prev, bound, (char) id.intValue());
+            }
+            prev = bound;
+        }
+
+        long[][] follow = new long[m][];
+        long[][] precede = new long[m][];
+        for (int p = 0; p < m; p++) {
+            follow[p] = toWords(g.follow.get(p), words);
+            precede[p] = new long[words];
+        }
+        for (int p = 0; p < m; p++) {
+            for (int q = g.follow.get(p).nextSetBit(0); q >= 0; q = g.follow.get(p).nextSetBit(q + 1)) {
+                precede[q][p >>> 6] |= 1L << p;
+            }
+        }
+        return new RegexDfa(classOf, members.size(), words, follow, precede,
+            members.toArray(new long[0][]), toWords(last, words));
+    }
+
+    private static long[] toWords(BitSet set, int words) {
+        return Arrays.copyOf(set.toLongArray(), words);
+    }
+
+    private static void orInto(long[] target, long[] src) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] |= src[w];
+        }
+    }
+
+    private interface BitConsumer {
+        void accept(int bit);
+    }
+
+    private static void forEachBit(long[] bits, BitConsumer consumer) {
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                consumer.accept((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /** 부분집합 구성 DFA의 상태와 전이 테이블 (-1은 아직 계산하지 않은 전이) */
+    private static final class Subsets {
+        final List<long[]> states = new ArrayList<>();
+        final Map<Key, Integer> ids = new HashMap<>();
+        final int numClasses;
+        int[] transitions;
+
+        Subsets(long[] start, int numClasses) {
+            this.numClasses = numClasses;
+            this.transitions = new int[numClasses * 16];
+            Arrays.fill(transitions, -1);
+            idOf(start);
+        }
+
+        int size() {
+            return states.size();
+        }
+
+        int transition(int state, int cls) {
+            return transitions[state * numClasses + cls];
+        }
+
+        int idOf(long[] bits) {
+            Key key = new Key(bits);
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = states.size();
+                ids.put(key, id);
+                states.add(bits);
+                if (transitions.length < states.size() * numClasses) {
+                    int old = transitions.length;
+                    transitions = Arrays.copyOf(transitions, Math.max(old * 2, states.size() * numClasses));
+                    Arrays.fill(transitions, old, transitions.length, -1);
+                }
+            }
+            return id;
+        }
+
+        int setTransition(int state, int cls, long[] next) {
+            int target = idOf(next);
+            transitions[state * numClasses + cls] = target;
+            return target;
+        }
+    }
+
+    private static final class Key {
+        final long[] bits;
+        final int hash;
+
+        Key(long[] bits) {
+            this.bits = bits;
+            this.hash = Arrays.hashCode(bits);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(bits, ((Key) o).bits);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // ---------------------------------------------------------------- Glushkov 구성
+
+    private static final class Info {
+        final boolean nullable;
+        final BitSet first;
+        final BitSet last;
+
+        Info(boolean nullable, BitSet first, BitSet last) {
+            this.nullable = nullable;
+            this.first = first;
+            this.last = last;
+        }
+    }
+
+    private static final class Glushkov {
+        final List<CharSet> charSets = new ArrayList<>();
+        final List<BitSet> follow = new ArrayList<>();
+
+        Glushkov() {
+            charSets.add(null); // 위치 0은 초기 상태
+            follow.add(new BitSet());
+        }
+
+        Info visit(Node node) {
+            switch (node.type) {
+                case CHAR: {
+                    if (charSets.size() >= MAX_POSITIONS) {
+                        throw new IllegalArgumentException("정규식이 너무 큽니다 (위치 " + MAX_POSITIONS + "개 초과)");
+                    }
+                    int p = charSets.size();
+                    charSets.add(node.charSet);
+                    follow.add(new BitSet());
+                    BitSet set = new BitSet();
+                    set.set(p);
+                    return new Info(false, set, (BitSet) set.clone());
+                }
+                case CONCAT: {
+                    Info acc = new Info(true, new BitSet(), new BitSet());
+                    for (Node child : node.children) {
+                        acc = concat(acc, visit(child));
+                    }
+                    return acc;
+                }
+                case ALT: {
+                    boolean nullable = false;
+                    BitSet first = new BitSet();
+                    BitSet last = new BitSet();
+                    for (Node child : node.children) {
+                        Info info = visit(child);
+                        nullable |= info.nullable;
+                        first.or(info.first);
+                        last.or(info.last);
+                    }
+                    return new Info(nullable, first, last);
+                }
+                default:
+                    return repeat(node);
+            }
+        }
+
+        private Info repeat(Node node) {
+            Node child = node.children.get(0);
+            Info acc = new Info(true, new BitSet(), new BitSet());
+            int required = node.max < 0 ? Math.max(node.min - 1, 0) : node.min;
+            for (int i = 0; i < required; i++) {
+                acc = concat(acc, visit(child));
+            }
+            if (node.max < 0) {
+                // 마지막 복사본에 루프를 추가: {0,} → a*, {m,} → a^(m-1) a+
+                Info loop = visit(child);
+                link(loop.last, loop.first);
+                boolean nullable = node.min == 0 || loop.nullable;
+                return concat(acc, new Info(nullable, loop.first, loop.last));
+            }
+            for (int i = node.min; i < node.max; i++) {
+                Info opt = visit(child);
+                acc = concat(acc, new Info(true, opt.first, opt.last));
+            }
+            return acc;
+        }
+
+        private Info concat(Info a, Info b) {
+            link(a.last, b.first);
+            BitSet first = (BitSet) a.first.clone();
+            if (a.nullable) {
+                first.or(b.first);
+            }
+            BitSet last = (BitSet) b.last.clone();
+            if (b.nullable) {
+                last.or(a.last);
+            }
+            return new Info(a.nullable && b.nullable, first, last);
+        }
+
+        private void link(BitSet from, BitSet to) {
+            for (int p = from.nextSetBit(0); p >= 0; p = from.nextSetBit(p + 1)) {
+                follow.get(p).or(to);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- 파서
+
+    private enum NodeType { CHAR, CONCAT, ALT, REPEAT }
+
+    private static final class Node {
+        final NodeType type;
+        final CharSet charSet;
+        final List<Node> children;
+        final int min;
+        final int max;
+
+        private Node(NodeType type, CharSet charSet, List<Node> children, int min, int max) {
+            this.type = type;
+            this.charSet = charSet;
+            this.children = children;
+            this.min = min;
+            this.max = max;
+        }
+
+        static Node chars(CharSet set) {
+            return new Node(NodeType.CHAR, set, null, 0, 0);
+        }
+
+        static Node of(NodeType type, List<Node> children) {
+            return children.size() == 1 ? children.get(0) : new Node(type, null, children, 0, 0);
+        }
+
+        static Node repeat(Node child, int min, int max) {
+            List<Node> children = new ArrayList<>(1);
+            children.add(child);
+            return new Node(NodeType.REPEAT, null, children, min, max);
+        }
+    }
+
+    private static final class Parser {
+        private final String regex;
+        private int pos;
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() {
+            Node node = alternation();
+            if (pos < regex.length()) {
+                throw error("짝이 맞지 않는 ')'");
+            }
+            return node;
+        }
+
+        private Node alternation() {
+            List<Node> alts = new ArrayList<>();
+            alts.add(concatenation());
+            while (peek() == '|') {
+                pos++;
+                alts.add(concatenation());
+            }
+            return Node.of(NodeType.ALT, alts);
+        }
+
+        private Node concatenation() {
+            List<Node> items = new ArrayList<>();
+            while (pos < regex.length() && peek() != '|' && peek() != ')') {
+                items.add(quantified(atom()));
+            }
+            if (items.isEmpty()) {
+                return new Node(NodeType.CONCAT, null, items, 0, 0);
+            }
+            return Node.of(NodeType.CONCAT, items);
+        }
+
+        private Node quantified(Node atom) {
+            while (pos < regex.length()) {
+                char c = peek();
+                int min;
+                int max;
+                if (c == '*') {
+                    min = 0; max = -1; pos++;
+                } else if (c == '+') {
+                    min = 1; max = -1; pos++;
+                } else if (c == '?') {
+                    min = 0; max = 1; pos++;
+                } else if (c == '{') {
+                    pos++;
+                    min = number();
+                    max = min;
+                    if (peek() == ',') {
+                        pos++;
+                        max = peek() == '}' ? -1 : number();
+                    }
+                    expect('}');
+                    if (max >= 0 && max < min) {
+                        throw error("잘못된 반복 범위");
+                    }
+                } else {
+                    return atom;
+                }
+                if (pos < regex.length() && peek() == '?') {
+                    pos++; // lazy 수량자: 매치 집합이 같으므로 그대로 허용
+                } else if (pos < regex.length() && peek() == '+') {
+                    throw error("소유 수량자는 지원하지 않습니다");
+                }
+                atom = Node.repeat(atom, min, max);
+            }
+            return atom;
+        }
+
+        private Node atom() {
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case '(':
+                    if (peek() == '?') {
+                        pos++;
+                        char kind = pos < regex.length() ? regex.charAt(pos++) : 0;
+                        if (kind == '<' && pos < regex.length() && Character.isLetter(peek())) {
+                            while (pos < regex.length() && peek() != '>') {
+                                pos++;
+                            }
+                            expect('>');
+                        } else if (kind != ':') {
+                            throw error("전후방 탐색과 인라인 플래그는 지원하지 않습니다");
+                        }
+                    }
+                    Node inner = alternation();
+                    expect(')');
+                    return inner;
+                case '[':
+                    return Node.chars(charClass());
+                case '.':
+                    return Node.chars(CharSet.DOT);
+                case '\\':
+                    return Node.chars(escape(false));
+                case '^':
+                case '$':
+                    throw error("앵커는 지원하지 않습니다");
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw error("수량자 앞에 대상이 없습니다");
+                default:
+                    return Node.chars(CharSet.of(c));
+            }
+        }
+
+        private CharSet charClass() {
+            boolean negate = false;
+            if (peek() == '^') {
+                negate = true;
+                pos++;
+            }
+            List<int[]> ranges = new ArrayList<>();
+            boolean firstItem = true;
+            while (true) {
+                if (pos >= regex.length()) {
+                    throw error("닫히지 않은 문자 클래스");
+                }
+                char c = regex.charAt(pos);
+                if (c == ']' && !firstItem) {
+                    pos++;
+                    break;
+                }
+                if (c == '[' || (c == '&' && pos + 1 < regex.length() && regex.charAt(pos + 1) == '&')) {
+                    throw error("중첩 문자 클래스와 교집합은 지원하지 않습니다");
+                }
+                pos++;
+                CharSet item = c == '\\' ? escape(true) : CharSet.of(c);
+                if (item.isSingle() && peek() == '-' && pos + 1 < regex.length() && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    char hiChar = regex.charAt(pos++);
+                    CharSet hi = hiChar == '\\' ? escape(true) : CharSet.of(hiChar);
+                    if (!hi.isSingle() || hi.ranges[0] < item.ranges[0]) {
+                        throw error("잘못된 문자 범위");
+                    }
+                    ranges.add(new int[]{item.ranges[0], hi.ranges[0]});
+                } else {
+                    for (int k = 0; k < item.ranges.length; k += 2) {
+                        ranges.add(new int[]{item.ranges[k], item.ranges[k + 1]});
+                    }
+                }
+                firstItem = false;
+            }
+            CharSet set = CharSet.of(ranges);
+            return negate ? set.negate() : set;
+        }
+
+        private CharSet escape(boolean inClass) {
+            if (pos >= regex.length()) {
+                throw error("끝나지 않은 이스케이프");
+            }
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case 'd': return CharSet.DIGIT;
+                case 'D': return CharSet.DIGIT.negate();
+                case 'w': return CharSet.WORD;
+                case 'W': return CharSet.WORD.negate();
+                case 's': return CharSet.SPACE;
+                case 'S': return CharSet.SPACE.negate();
+                case 't': return CharSet.of('\t');
+                case 'n': return CharSet.of('\n');
+                case 'r': return CharSet.of('\r');
+                case 'f': return CharSet.of('\f');
+                case 'e': return CharSet.of('\u001B');
+                case 'a': return CharSet.of('\u0007');
+                case 'x': return CharSet.of((char) hex(2));
+                case 'u': return CharSet.of((char) hex(4));
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw error("지원하지 않는 이스케이프 \\" + c + (inClass ? " (문자 클래스 안)" : ""));
+                    }
+                    return CharSet.of(c);
+            }
+        }
+
+        private int hex(int digits) {
+            if (pos + digits > regex.length()) {
+                throw error("잘못된 16진수 이스케이프");
+            }
+            try {
+                int value = Integer.parseInt(regex.substring(pos, pos + digits), 16);
+                pos += digits;
+                return value;
+            } catch (NumberFormatException e) {
+                throw error("잘못된 16진수 이스케이프");
+            }
+        }
+
+        private int number() {
+            int start = pos;
+            while (pos < regex.length() && Character.isDigit(peek())) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("반복 횟수가 필요합니다");
+            }
+            return Integer.parseInt(regex.substring(start, pos));
+        }
+
+        private void expect(char c) {
+            if (pos >= regex.length() || regex.charAt(pos) != c) {
+                throw error("'" + c + "'가 필요합니다");
+            }
+            pos++;
+        }
+
+        private char peek() {
+            return pos < regex.length() ? regex.charAt(pos) : 0;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + ": " + regex + " (위치 " + pos + ")");
+        }
+    }
+
+    /** 정렬·병합된 [lo, hi] char 구간 집합 */
+    private static final class CharSet {
+        static final CharSet DIGIT = of(Arrays.asList(new int[]{'0', '9'}));
+        static final CharSet WORD = of(Arrays.asList(new int[]{'0', '9'}, new int[]{'A', 'Z'},
+            new int[]{'_', '_'}, new int[]{'a', 'z'}));
+        static final CharSet SPACE = of(Arrays.asList(new int[]{'\t', '\r'}, new int[]{' ', ' '}));
+        static final CharSet DOT = of(Arrays.asList(new int[]{'\n', '\n'}, new int[]{'\r', '\r'},
+            new int[]{'\u0085', '\u0085'}, new int[]{'\u2028', '\u2029'})).negate();
+
+        final int[] ranges;
+
+        private CharSet(int[] ranges) {
+            this.ranges = ranges;
+        }
+
+        static CharSet of(char c) {
+            return new CharSet(new int[]{c, c});
+        }
+
+        static CharSet of(List<int[]> list) {
+            List<int[]> sorted = new ArrayList<>(list);
+            sorted.sort((a, b) -> Integer.compare(a[0], b[0]));
+            int[] out = new int[sorted.size() * 2];
+            int n = 0;
+            for (int[] r : sorted) {
+                if (n > 0 && r[0] <= out[n - 1] + 1) {
+                    out[n - 1] = Math.max(out[n - 1], r[1]);
+                } else {
+                    out[n++] = r[0];
+                    out[n++] = r[1];
+                }
+            }
+            return new CharSet(Arrays.copyOf(out, n));
+        }
+
+        CharSet negate() {
+            List<int[]> out = new ArrayList<>();
+            int next = 0;
+            for (int k = 0; k < ranges.length; k += 2) {
+                if (ranges[k] > next) {
+                    out.add(new int[]{next, ranges[k] - 1});
+                }
+                next = ranges[k + 1] + 1;
+            }
+            if (next <= Character.MAX_VALUE) {
+                out.add(new int[]{next, Character.MAX_VALUE});
+            }
+            return of(out);
+        }
+
+        boolean isSingle() {
+            return ranges.length == 2 && ranges[0] == ranges[1];
+        }
+
+        boolean contains(int c) {
+            for (int k = 0; k < ranges.length; k += 2) {
+                if (c < ranges[k]) {
+                    return false;
+                }
+                if (c <= ranges[k + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.masking.strategy.mask;
 
-import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,17 +18,30 @@ public class RegexMaskStrategy implements MaskStrategy {
 
     @Override
     public String mask(String input) {
-        if (input == null) return null;
-        Matcher matcher = pattern.matcher(input);
-        StringBuffer sb = new StringBuffer();
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        Matcher matcher = pattern.matcher(in).region(start, end);
+        boolean masked = false;
+        int copied = start;
         while (matcher.find()) {
-            String group = matcher.group();
-            char[] maskArr = new char[group.length()];
-            Arrays.fill(maskArr, maskChar);
-            String replacement = Matcher.quoteReplacement(new String(maskArr));
-            matcher.appendReplacement(sb, replacement);
+            out.append(in, copied, matcher.start());
+            MaskChars.appendMask(out, maskChar, matcher.end() - matcher.start());
+            masked |= matcher.end() > matcher.start();
+            copied = matcher.end();
         }
-        matcher.appendTail(sb);
-        return sb.toString();
+        out.append(in, copied, end);
+        return masked;
     }
 }
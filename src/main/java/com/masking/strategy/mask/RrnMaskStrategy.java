@@ -0,0 +1,97 @@
+package com.masking.strategy.mask;
+
+/**
+ * 주민등록번호 마스킹 (정규식 없는 단일 패스 스캐너)
+ *
+ * 생년월일 6자리, 선택적 '-', 성별 자리(1~8) 뒤의 6자리를 마스킹합니다. (900101-1234567 → 900101-1******)
+ * 앞뒤가 숫자로 이어지는 긴 숫자열 안의 부분은 주민등록번호로 보지 않습니다.
+ *
+ * {@code RegexMaskStrategy.of(RrnMaskStrategy.REGEX, maskChar)}와 항상 같은 결과를 냅니다.
+ */
+public class RrnMaskStrategy implements MaskStrategy {
+    /** 같은 결과를 내는 정규식 */
+    public static final String REGEX = "(?<=(?<![0-9])[0-9]{6}-?[1-8])[0-9]{6}(?![0-9])";
+
+    private static final int MASKED_DIGITS = 6;
+
+    private final char maskChar;
+
+    private RrnMaskStrategy(char maskChar) {
+        this.maskChar = maskChar;
+    }
+
+    public static RrnMaskStrategy of(char maskChar) {
+        return new RrnMaskStrategy(maskChar);
+    }
+
+    @Override
+    public String mask(String input) {
+        return MaskBuffers.mask(this, input);
+    }
+
+    /**
+     * 같은 입력은 항상 같은 마스킹 결과가 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    @Override
+    public boolean maskTo(CharSequence in, int start, int end, StringBuilder out) {
+        int base = out.length() - start;
+        out.append(in, start, end);
+        boolean masked = false;
+        int i = start + 7;
+        while (i + MASKED_DIGITS <= end) {
+            if (isTail(in, i, end) && (isHead(in, i, start, false) || isHead(in, i, start, true))) {
+                for (int k = i; k < i + MASKED_DIGITS; k++) {
+                    out.setCharAt(base + k, maskChar);
+                }
+                masked = true;
+                i += MASKED_DIGITS;
+            } else {
+                i++;
+            }
+        }
+        return masked;
+    }
+
+    /** [0-9]{6}(?![0-9]) */
+    private static boolean isTail(CharSequence in, int i, int end) {
+        for (int k = i; k < i + MASKED_DIGITS; k++) {
+            if (!MaskChars.isDigit(in.charAt(k))) {
+                return false;
+            }
+        }
+        int tailEnd = i + MASKED_DIGITS;
+        return tailEnd == end || !MaskChars.isDigit(in.charAt(tailEnd));
+    }
+
+    /** (?<![0-9])[0-9]{6}-?[1-8] 가 i 바로 앞에서 끝나는지 확인 */
+    private static boolean isHead(CharSequence in, int i, int start, boolean hyphen) {
+        int gender = i - 1;
+        char g = in.charAt(gender);
+        if (g < '1' || g > '8') {
+            return false;
+        }
+        int birthEnd = gender;
+        if (hyphen) {
+            if (gender < start + 7 || in.charAt(gender - 1) != '-') {
+                return false;
+            }
+            birthEnd--;
+        }
+        int birthStart = birthEnd - 6;
+        if (birthStart < start) {
+            return false;
+        }
+        for (int k = birthStart; k < birthEnd; k++) {
+            if (!MaskChars.isDigit(in.charAt(k))) {
+                return false;
+            }
+        }
+        return birthStart == start || !MaskChars.isDigit(in.charAt(birthStart - 1));
+    }
+}
@@ -1,6 +1,12 @@
 package com.masking.strategy.tokenize;
 
 
+import com.masking.util.CryptoUtil;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -9,32 +15,125 @@ import java.security.NoSuchAlgorithmException;
  *
  * MessageDigest : 자바에서 제공하는 해시 알고리즘(MD5, SHA-1, SHA-256 등)을 쉽게 쓸 수 있도록 래핑해 놓은 클래스
  *
+ * 두 가지 모드를 제공합니다.
+ * <ul>
+ *   <li>{@link #of(String)}: SHA-256(salt || input). 스레드마다 salt를 미리 넣어 둔 MessageDigest를 두고 값마다 clone해서 사용</li>
+ *   <li>{@link #hmac(byte[])}: HMAC-SHA-256(key, input). 키로 초기화한 Mac을 스레드마다 재사용</li>
+ * </ul>
+ * 문자열은 항상 UTF-8로 인코딩하며, 결과는 소문자 16진수 64자입니다.
  */
 public class HashTokenizationStrategy implements TokenizationStrategy {
-    private final String salt;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final byte[] saltBytes;
+    private final SecretKeySpec macKey;
+    private final ThreadLocal<MessageDigest> saltedDigest;
+    private final ThreadLocal<Mac> macs;
 
-    private HashTokenizationStrategy(String salt) {
-        this.salt = salt;
+    private HashTokenizationStrategy(byte[] saltBytes, SecretKeySpec macKey) {
+        this.saltBytes = saltBytes;
+        this.macKey = macKey;
+        this.saltedDigest = macKey == null ? ThreadLocal.withInitial(this::newSaltedDigest) : null;
+        this.macs = macKey == null ? null : ThreadLocal.withInitial(this::newMac);
     }
 
     public static HashTokenizationStrategy of(String salt) {
-        return new HashTokenizationStrategy(salt);
+        return new HashTokenizationStrategy(salt.getBytes(StandardCharsets.UTF_8), null);
+    }
+
+    /**
+     * HMAC-SHA-256 키 기반 토큰화 전략을 생성합니다.
+     * salt 방식과 달리 키를 모르면 후보 값을 해시해 보는 방식으로 토큰을 역추적할 수 없습니다.
+     * @param key HMAC 키 (32바이트 이상 권장)
+     * @return HashTokenizationStrategy 인스턴스
+     */
+    public static HashTokenizationStrategy hmac(byte[] key) {
+        if (key == null || key.length == 0) {
+            throw new IllegalArgumentException("HMAC 키는 비어 있을 수 없습니다");
+        }
+        return new HashTokenizationStrategy(null, new SecretKeySpec(key, MAC_ALGORITHM));
     }
 
     @Override
     public String tokenize(String input) {
         if (input == null) return null;
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            md.update(salt.getBytes()); // 해시 입력 데이터를 버퍼에 추가
-            byte[] digest = md.digest(input.getBytes()); // 버퍼 + 주어진 입력을 합쳐 최종 해시(바이트 배열) 생성
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
+        return CryptoUtil.encodeHex(hash(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 같은 입력(과 salt)은 항상 같은 토큰이 됩니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    /**
+     * 스레드 로컬 상태를 배치당 한 번만 조회하여 여러 값을 해시합니다.
+     * @param inputs 원본 문자열 배열
+     * @return 입력과 같은 순서의 토큰 배열
+     */
+    @Override
+    public String[] tokenizeBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        if (macs != null) {
+            Mac mac = macs.get();
+            for (int i = 0; i < inputs.length; i++) {
+                if (inputs[i] == null) continue;
+                results[i] = CryptoUtil.encodeHex(hmac(mac, inputs[i].getBytes(StandardCharsets.UTF_8)));
             }
-            return sb.toString();
+        } else {
+            MessageDigest salted = saltedDigest.get();
+            for (int i = 0; i < inputs.length; i++) {
+                if (inputs[i] == null) continue;
+                results[i] = CryptoUtil.encodeHex(digest(salted, inputs[i].getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        return results;
+    }
+
+    private byte[] hash(byte[] input) {
+        return macs != null ? hmac(macs.get(), input) : digest(saltedDigest.get(), input);
+    }
+
+    private byte[] hmac(Mac mac, byte[] input) {
+        try {
+            return mac.doFinal(input); // doFinal 후 키로 초기화된 상태로 돌아감
+        } catch (RuntimeException e) {
+            macs.remove();
+            throw e;
+        }
+    }
+
+    private byte[] digest(MessageDigest salted, byte[] input) {
+        MessageDigest md;
+        try {
+            md = (MessageDigest) salted.clone(); // salt까지 처리된 상태를 복사
+        } catch (CloneNotSupportedException e) {
+            md = newSaltedDigest();
+        }
+        return md.digest(input);
+    }
+
+    private MessageDigest newSaltedDigest() {
+        try {
+            MessageDigest md = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            md.update(saltBytes); // 해시 입력 데이터를 버퍼에 추가
+            return md;
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("SHA-256 algorithm not available", e);
         }
     }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(macKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("HMAC-SHA256 초기화 실패", e);
+        }
+    }
 }
@@ -0,0 +1,213 @@
+package com.masking.strategy.tokenize;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * 발급한 숫자 토큰을 기록하는 정확한(오탐 없는) 집합. 힙 밖(direct buffer)에 저장합니다.
+ *
+ * 토큰 공간(10^length)과 예상 발급 수 중 더 작게 드는 구조를 고릅니다.
+ * <ul>
+ *   <li>{@link Bitmap}: 토큰 공간 전체를 토큰당 1비트로 표시 (10자리 = 1.25GB, 발급 수와 무관)</li>
+ *   <li>{@link LongHashSet}: 선형 탐사 해시 집합, 토큰당 8바이트 / 적재율 0.75 이하 (수십억 건은 수십 GB)</li>
+ * </ul>
+ * 두 구조 모두 세그먼트마다 잠금을 따로 두어 무작위 토큰을 여러 스레드가 동시에 추가해도 경합이 분산됩니다.
+ * direct 메모리 한도(-XX:MaxDirectMemorySize)가 필요한 크기보다 커야 합니다.
+ */
+abstract class IssuedTokenSet {
+    private static final int SEGMENTS = 256;
+
+    /**
+     * @param range 토큰 공간 크기 (0 이상 range 미만의 값만 추가)
+     * @param expectedTokens 예상 최대 발급 수
+     */
+    static IssuedTokenSet create(long range, long expectedTokens) {
+        if (expectedTokens <= 0) {
+            throw new IllegalArgumentException("expectedTokens는 0보다 커야 합니다");
+        }
+        long bitmapBytes = (range + 7) / 8;
+        long hashBytes = LongHashSet.slotsFor(expectedTokens) * Long.BYTES;
+        return bitmapBytes <= hashBytes ? new Bitmap(range) : new LongHashSet(Math.min(expectedTokens, range));
+    }
+
+    /**
+     * @return 새로 추가했으면 true, 이미 있었으면 false
+     */
+    abstract boolean add(long token);
+
+    abstract boolean contains(long token);
+
+    abstract long size();
+
+    /** 힙 밖에 할당한 바이트 수 */
+    abstract long allocatedBytes();
+
+    // MurmurHash3 fmix64
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87c3L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 토큰 공간 전체에 대한 비트맵. 세그먼트는 연속된 토큰 구간을 나눠 맡습니다.
+     */
+    static final class Bitmap extends IssuedTokenSet {
+        private final long wordsPerSegment;
+        private final LongBuffer[] segments;
+        private final long[] counts;
+
+        Bitmap(long range) {
+            long words = Math.max(1, (range + 63) / 64);
+            this.wordsPerSegment = (words + SEGMENTS - 1) / SEGMENTS;
+            if (wordsPerSegment * Long.BYTES > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("토큰 공간이 너무 큽니다: " + range);
+            }
+            int count = (int) ((words + wordsPerSegment - 1) / wordsPerSegment);
+            this.segments = new LongBuffer[count];
+            this.counts = new long[count];
+            for (int i = 0; i < count; i++) {
+                segments[i] = ByteBuffer.allocateDirect((int) (wordsPerSegment * Long.BYTES)).asLongBuffer();
+            }
+        }
+
+        @Override
+        boolean add(long token) {
+            long word = token >>> 6;
+            int s = (int) (word / wordsPerSegment);
+            int index = (int) (word % wordsPerSegment);
+            long bit = 1L << token;
+            LongBuffer segment = segments[s];
+            synchronized (segment) {
+                long current = segment.get(index);
+                if ((current & bit) != 0) {
+                    return false;
+                }
+                segment.put(index, current | bit);
+                counts[s]++;
+                return true;
+            }
+        }
+
+        @Override
+        boolean contains(long token) {
+            long word = token >>> 6;
+            LongBuffer segment = segments[(int) (word / wordsPerSegment)];
+            synchronized (segment) {
+                return (segment.get((int) (word % wordsPerSegment)) & (1L << token)) != 0;
+            }
+        }
+
+        @Override
+        long size() {
+            long total = 0;
+            for (int i = 0; i < segments.length; i++) {
+                synchronized (segments[i]) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        @Override
+        long allocatedBytes() {
+            return (long) segments.length * wordsPerSegment * Long.BYTES;
+        }
+    }
+
+    /**
+     * 선형 탐사 해시 집합. 해시 상위 비트로 세그먼트를, 하위 비트로 슬롯을 고릅니다.
+     * 빈 슬롯을 0으로 표시하기 위해 토큰 + 1을 저장합니다.
+     */
+    static final class LongHashSet extends IssuedTokenSet {
+        private static final int MAX_SEGMENT_SLOTS = 1 << 28; // 세그먼트당 2GB
+        private static final int MIN_SEGMENT_SLOTS = 1 << 12;
+        private static final double MAX_LOAD = 0.75;
+
+        private final LongBuffer[] segments;
+        private final long[] counts;
+        private final int slotMask;
+        private final long maxPerSegment;
+
+        LongHashSet(long expectedTokens) {
+            long slots = slotsFor(expectedTokens);
+            int segmentSlots = (int) Math.min(MAX_SEGMENT_SLOTS, Math.max(MIN_SEGMENT_SLOTS, slots / SEGMENTS));
+            int segmentCount = (int) (slots / segmentSlots);
+            this.segments = new LongBuffer[segmentCount];
+            this.counts = new long[segmentCount];
+            this.slotMask = segmentSlots - 1;
+            // 세그먼트별 편차를 감안해 전체 적재율(0.75)보다 조금 높게 허용
+            this.maxPerSegment = (long) (segmentSlots * 0.9);
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = ByteBuffer.allocateDirect(segmentSlots * Long.BYTES).asLongBuffer();
+            }
+        }
+
+        // 적재율 0.75 이하가 되는 2의 거듭제곱 슬롯 수
+        static long slotsFor(long expectedTokens) {
+            long needed = (long) Math.ceil(expectedTokens / MAX_LOAD);
+            return Math.max(MIN_SEGMENT_SLOTS, Long.highestOneBit(Math.max(1, needed - 1)) << 1);
+        }
+
+        @Override
+        boolean add(long token) {
+            long h = mix(token);
+            int s = (int) ((h >>> 32) % segments.length);
+            LongBuffer segment = segments[s];
+            long stored = token + 1;
+            synchronized (segment) {
+                for (int i = (int) h & slotMask; ; i = (i + 1) & slotMask) {
+                    long current = segment.get(i);
+                    if (current == stored) {
+                        return false;
+                    }
+                    if (current == 0) {
+                        if (counts[s] >= maxPerSegment) {
+                            throw new IllegalStateException("발급 토큰 집합이 가득 찼습니다. expectedTokens를 늘려 주세요");
+                        }
+                        segment.put(i, stored);
+                        counts[s]++;
+                        return true;
+                    }
+                }
+            }
+        }
+
+        @Override
+        boolean contains(long token) {
+            long h = mix(token);
+            LongBuffer segment = segments[(int) ((h >>> 32) % segments.length)];
+            long stored = token + 1;
+            synchronized (segment) {
+                for (int i = (int) h & slotMask; ; i = (i + 1) & slotMask) {
+                    long current = segment.get(i);
+                    if (current == stored) {
+                        return true;
+                    }
+                    if (current == 0) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        @Override
+        long size() {
+            long total = 0;
+            for (int i = 0; i < segments.length; i++) {
+                synchronized (segments[i]) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        @Override
+        long allocatedBytes() {
+            return (long) segments.length * (slotMask + 1) * Long.BYTES;
+        }
+    }
+}
@@ -1,28 +1,164 @@
 package com.masking.strategy.tokenize;
 
-import java.util.Random;
+import com.masking.util.ThreadLocalDrbg;
 
 /**
  * 짧고 숫자만으로 된 임시 ID나 코드(예: 6자리 인증번호) 용도로 쓸 때
+ *
+ * 난수는 스레드별 생성기({@link ThreadLocalDrbg})에서 받으므로 여러 스레드가 동시에 호출해도 경합하지 않습니다.
+ * {@link #unique(int, long)}로 만들면 발급한 토큰을 힙 밖 정확 집합에 기록해 이미 나간 번호는 다시 뽑습니다.
+ * 대리 키처럼 DB 유니크 제약에 걸리면 안 되는 번호에 사용하고, 기존 번호는 {@link #register(String)}로 미리 등록합니다.
  */
 public class NumericTokenizationStrategy implements TokenizationStrategy {
+    private static final int MAX_UNIQUE_LENGTH = 18;
+    private static final int MAX_ATTEMPTS = 64;
+    private static final int CHUNK_DIGITS = 9;
+    private static final int CHUNK_BOUND = 1_000_000_000;
+
     private final int length;
-    private final Random random = new Random();
+    private final long range;          // 10^length (length ≤ 18), 그보다 길면 0
+    private final IssuedTokenSet issued; // null이면 중복 검사 안 함
 
-    private NumericTokenizationStrategy(int length) {
+    private NumericTokenizationStrategy(int length, IssuedTokenSet issued) {
         this.length = length;
+        this.range = length <= MAX_UNIQUE_LENGTH ? pow10(length) : 0;
+        this.issued = issued;
     }
 
     public static NumericTokenizationStrategy of(int length) {
-        return new NumericTokenizationStrategy(length);
+        // 기존 동작 유지: 0 이하면 빈 문자열을 발급
+        return new NumericTokenizationStrategy(Math.max(0, length), null);
+    }
+
+    /**
+     * 한 번 발급한 번호를 다시 발급하지 않는 전략을 생성합니다.
+     * 발급 기록은 힙 밖에 두며, 토큰 공간 전체의 비트맵(10^length / 8바이트)과 expectedTokens를 적재율 0.75 이하로
+     * 담는 해시 집합(2의 거듭제곱 슬롯 × 8바이트, 토큰당 약 11~21바이트) 중 작은 쪽을 고릅니다.
+     * 예: 8자리는 12.5MB 비트맵, 10자리 100만 건은 16MB 해시 집합 (비트맵이면 1.25GB), 16자리 10억 건은 16GB 해시 집합
+     * @param length 자릿수 (1~18)
+     * @param expectedTokens 이 인스턴스로 발급할 최대 토큰 수 (등록 포함)
+     * @return NumericTokenizationStrategy 인스턴스
+     */
+    public static NumericTokenizationStrategy unique(int length, long expectedTokens) {
+        if (length <= 0 || length > MAX_UNIQUE_LENGTH) {
+            throw new IllegalArgumentException("unique 모드의 length는 1~" + MAX_UNIQUE_LENGTH + "이어야 합니다: " + length);
+        }
+        return new NumericTokenizationStrategy(length, IssuedTokenSet.create(pow10(length), expectedTokens));
+    }
+
+    /**
+     * 매번 무작위 숫자를 생성하므로 결정적이지 않습니다.
+     * @return false
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
+    }
+
+    /**
+     * unique 모드에서 이미 있는 번호에 같은 토큰을 발급하지 않도록 집합에 등록합니다.
+     * @param token length자리 숫자 문자열
+     * @return 새로 등록했으면 true, 이미 발급/등록된 번호면 false
+     */
+    public boolean register(String token) {
+        if (issued == null) {
+            throw new IllegalStateException("unique 모드에서만 등록할 수 있습니다");
+        }
+        return issued.add(parse(token));
+    }
+
+    /**
+     * unique 모드에서 번호가 이미 발급/등록되었는지 확인합니다.
+     * @param token length자리 숫자 문자열
+     * @return 발급 여부
+     */
+    public boolean isIssued(String token) {
+        if (issued == null) {
+            throw new IllegalStateException("unique 모드에서만 조회할 수 있습니다");
+        }
+        return issued.contains(parse(token));
+    }
+
+    /**
+     * unique 모드에서 지금까지 발급/등록한 번호 수를 반환합니다. 일반 모드는 0입니다.
+     * @return 발급 수
+     */
+    public long issuedCount() {
+        return issued == null ? 0 : issued.size();
     }
 
     @Override
     public String tokenize(String input) {
-        StringBuilder sb = new StringBuilder();
+        ThreadLocalDrbg rng = ThreadLocalDrbg.current();
+        if (range == 0) {
+            return randomDigits(rng);
+        }
+        if (issued == null) {
+            return format(nextBelow(rng, range));
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long value = nextBelow(rng, range);
+            if (issued.add(value)) {
+                return format(value);
+            }
+        }
+        throw new IllegalStateException("고유 숫자 토큰을 발급하지 못했습니다. 토큰 공간이 거의 찼습니다 (발급 "
+            + issued.size() + " / " + range + ")");
+    }
+
+    // 0 이상 bound 미만 균등 난수 (63비트 난수에서 거부 샘플링)
+    private static long nextBelow(ThreadLocalDrbg rng, long bound) {
+        long limit = Long.MAX_VALUE - Long.MAX_VALUE % bound;
+        while (true) {
+            long r = rng.nextLong() >>> 1;
+            if (r < limit) {
+                return r % bound;
+            }
+        }
+    }
+
+    // 18자리를 넘는 길이: 9자리씩 채움
+    private String randomDigits(ThreadLocalDrbg rng) {
+        char[] chars = new char[length];
+        for (int end = length; end > 0; end -= CHUNK_DIGITS) {
+            int chunk = rng.nextInt(CHUNK_BOUND);
+            for (int i = end - 1; i >= Math.max(0, end - CHUNK_DIGITS); i--) {
+                chars[i] = (char) ('0' + chunk % 10);
+                chunk /= 10;
+            }
+        }
+        return new String(chars);
+    }
+
+    private String format(long value) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(chars);
+    }
+
+    private long parse(String token) {
+        if (token == null || token.length() != length) {
+            throw new IllegalArgumentException(length + "자리 숫자 토큰이 아닙니다: " + token);
+        }
+        long value = 0;
         for (int i = 0; i < length; i++) {
-            sb.append(random.nextInt(10));
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException(length + "자리 숫자 토큰이 아닙니다: " + token);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static long pow10(int n) {
+        long value = 1;
+        for (int i = 0; i < n; i++) {
+            value *= 10;
         }
-        return sb.toString();
+        return value;
     }
 }
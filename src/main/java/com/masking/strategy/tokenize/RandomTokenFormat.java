@@ -0,0 +1,104 @@
+package com.masking.strategy.tokenize;
+
+import com.masking.util.ThreadLocalDrbg;
+
+/**
+ * 무작위 토큰 형식
+ *
+ * 난수는 {@link ThreadLocalDrbg}(스레드별 CSPRNG)에서 받고, 16진수/Base32 문자를 char 버퍼에 바로 기록합니다.
+ * UUID_V7, ULID는 앞부분이 밀리초 타임스탬프라 발급 순서대로 정렬되므로 B-트리 인덱스 삽입 위치가 몰려 페이지 분할이 적습니다.
+ * (같은 밀리초 안의 순서는 무작위)
+ */
+public enum RandomTokenFormat {
+    /** 무작위 UUID (RFC 9562 버전 4), 36자 */
+    UUID_V4(36) {
+        @Override
+        public void format(char[] out, int off) {
+            ThreadLocalDrbg rng = ThreadLocalDrbg.current();
+            long msb = (rng.nextLong() & ~0xF000L) | 0x4000L;
+            formatUuid(msb, variant(rng.nextLong()), out, off);
+        }
+    },
+    /** 시간 순서 UUID (RFC 9562 버전 7: 48비트 유닉스 밀리초 + 74비트 난수), 36자 */
+    UUID_V7(36) {
+        @Override
+        public void format(char[] out, int off) {
+            ThreadLocalDrbg rng = ThreadLocalDrbg.current();
+            long msb = (System.currentTimeMillis() << 16) | 0x7000L | (rng.nextLong() & 0x0FFFL);
+            formatUuid(msb, variant(rng.nextLong()), out, off);
+        }
+    },
+    /** ULID (48비트 유닉스 밀리초 + 80비트 난수, Crockford Base32), 26자 */
+    ULID(26) {
+        @Override
+        public void format(char[] out, int off) {
+            ThreadLocalDrbg rng = ThreadLocalDrbg.current();
+            long hi = (System.currentTimeMillis() << 16) | (rng.nextLong() & 0xFFFFL);
+            long lo = rng.nextLong();
+            for (int i = off + 25; i >= off; i--) {
+                out[i] = CROCKFORD[(int) (lo & 31)];
+                lo = (lo >>> 5) | (hi << 59);
+                hi >>>= 5;
+            }
+        }
+    };
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final int length;
+
+    RandomTokenFormat(int length) {
+        this.length = length;
+    }
+
+    /**
+     * 토큰 길이를 반환합니다.
+     * @return 문자 수
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 새 토큰을 out[off..off+length())에 기록합니다.
+     * @param out 대상 버퍼
+     * @param off 시작 위치
+     */
+    public abstract void format(char[] out, int off);
+
+    /**
+     * 새 토큰을 생성합니다.
+     * @return 토큰 문자열
+     */
+    public String next() {
+        char[] chars = new char[length];
+        format(chars, 0);
+        return new String(chars);
+    }
+
+    // 상위 2비트를 RFC 4122/9562 variant(10)로 설정
+    private static long variant(long lsb) {
+        return (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+
+    private static void formatUuid(long msb, long lsb, char[] out, int off) {
+        hex(msb >>> 32, 8, out, off);
+        out[off + 8] = '-';
+        hex(msb >>> 16, 4, out, off + 9);
+        out[off + 13] = '-';
+        hex(msb, 4, out, off + 14);
+        out[off + 18] = '-';
+        hex(lsb >>> 48, 4, out, off + 19);
+        out[off + 23] = '-';
+        hex(lsb, 12, out, off + 24);
+    }
+
+    // value의 하위 digits개 16진수 자리를 out[off..off+digits)에 기록
+    private static void hex(long value, int digits, char[] out, int off) {
+        for (int i = off + digits - 1; i >= off; i--) {
+            out[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.masking.strategy.tokenize;
+
+/**
+ * 토큰을 원래 값으로 되돌릴 수 있는 토큰화 전략 (권한 있는 사용자의 원본 조회용)
+ */
+public interface ReversibleTokenizationStrategy extends TokenizationStrategy {
+    /**
+     * @param token 토큰 문자열
+     * @return 원본 문자열, 발급한 적 없는 토큰이면 null
+     */
+    String detokenize(String token);
+
+    /**
+     * 여러 토큰을 한 번에 원래 값으로 되돌립니다. null 토큰은 그대로 null로 남습니다.
+     * @param tokens 토큰 배열
+     * @return 입력과 같은 순서의 원본 값 배열
+     */
+    default String[] detokenizeBatch(String[] tokens) {
+        String[] results = new String[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i] != null) {
+                results[i] = detokenize(tokens[i]);
+            }
+        }
+        return results;
+    }
+}
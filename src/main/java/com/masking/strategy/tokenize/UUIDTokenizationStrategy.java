@@ -1,20 +1,77 @@
 package com.masking.strategy.tokenize;
 
-import java.util.UUID;
-
 /**
  * 고유 식별자(로그 추적용 등)가 필요할 때
+ *
+ * UUID.randomUUID() 대신 스레드별 난수 생성기({@link com.masking.util.ThreadLocalDrbg})와 직접 포맷팅을 사용하므로
+ * 여러 스레드가 동시에 호출해도 공유 SecureRandom 잠금에서 대기하지 않습니다.
+ * 인덱스에 넣을 토큰이면 시간 순서 형식({@link RandomTokenFormat#UUID_V7}, {@link RandomTokenFormat#ULID})을 권장합니다.
  */
 public class UUIDTokenizationStrategy implements TokenizationStrategy {
+    private final RandomTokenFormat format;
 
-    private UUIDTokenizationStrategy() {}
+    private UUIDTokenizationStrategy(RandomTokenFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("format은 필수입니다");
+        }
+        this.format = format;
+    }
 
+    /**
+     * 무작위 UUID(버전 4) 토큰 전략을 생성합니다.
+     * @return UUIDTokenizationStrategy 인스턴스
+     */
     public static UUIDTokenizationStrategy of() {
-        return new UUIDTokenizationStrategy();
+        return new UUIDTokenizationStrategy(RandomTokenFormat.UUID_V4);
+    }
+
+    /**
+     * 지정한 형식의 무작위 토큰 전략을 생성합니다.
+     * @param format 토큰 형식 (UUID_V4, UUID_V7, ULID)
+     * @return UUIDTokenizationStrategy 인스턴스
+     */
+    public static UUIDTokenizationStrategy of(RandomTokenFormat format) {
+        return new UUIDTokenizationStrategy(format);
+    }
+
+    /**
+     * 매번 새로운 UUID를 발급하므로 결정적이지 않습니다.
+     * @return false
+     */
+    @Override
+    public boolean isDeterministic() {
+        return false;
     }
 
     @Override
     public String tokenize(String input) {
-        return UUID.randomUUID().toString();
+        return format.next();
+    }
+
+    /**
+     * 배치 동안 char 버퍼 하나를 재사용해 포맷팅합니다. null 값은 그대로 null로 남습니다.
+     * @param inputs 원본 문자열 배열
+     * @return 입력과 같은 순서의 토큰 배열
+     */
+    @Override
+    public String[] tokenizeBatch(String[] inputs) {
+        String[] results = new String[inputs.length];
+        int length = format.length();
+        char[] chars = new char[length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null) {
+                format.format(chars, 0);
+                results[i] = new String(chars, 0, length);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 토큰 형식을 반환합니다.
+     * @return 토큰 형식
+     */
+    public RandomTokenFormat getFormat() {
+        return format;
     }
 }
@@ -0,0 +1,534 @@
+package com.masking.strategy.tokenize;
+
+import com.masking.cache.BoundedCache;
+import com.masking.strategy.encrypt.AesSivEncryptionStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 값 ↔ 토큰 매핑을 DB(볼트)에 저장하는 되돌릴 수 있는 토큰화 전략
+ *
+ * 처음 보는 값에는 무작위 토큰(128비트, URL-safe Base64 22자)을 발급하고, 이후에는 같은 값에 항상 같은 토큰을 돌려주므로
+ * 토큰화된 데이터끼리 조인할 수 있고 {@link #detokenize(String)}로 원본을 조회할 수 있습니다.
+ *
+ * 조회 순서: 메모리 캐시({@link BoundedCache}, 방향별 1개) → 아직 기록 전인 매핑 → DB.
+ * 새 매핑은 메모리에 먼저 두고 batchSize 또는 flushIntervalMillis 기준으로 모아 배치 INSERT 합니다(write-behind).
+ * 기록 전 매핑은 캐시에서 밀려나지 않으므로 flush 전에도 tokenize/detokenize 결과가 일관됩니다.
+ * 기록 대기 매핑이 maxPending에 도달하면 먼저 기록을 시도하고, 실패하면 새 토큰을 발급하지 않고 예외를 던집니다.
+ *
+ * 원본 값은 AES-SIV({@link AesSivEncryptionStrategy})로 결정적 암호화하여 저장하므로 볼트 테이블이 유출되어도
+ * 원본이 드러나지 않으면서 동등 검색과 UNIQUE 제약은 그대로 동작합니다. (메모리 캐시에는 평문이 남습니다)
+ *
+ * 한 볼트 테이블에는 하나의 프로세스만 쓰는 것을 전제로 합니다. 다른 프로세스가 같은 값을 먼저 기록했다면
+ * flush 시 저장소의 토큰으로 맞추며, 그 전에 발급된 토큰은 되돌릴 수 없게 됩니다(경고 로그).
+ * 종료 시 {@link #close()}를 호출해야 남은 매핑이 기록됩니다.
+ *
+ * 테이블 schema (createTable(true)이면 자동 생성)
+ *   CREATE TABLE token_vault (
+ *     token       VARCHAR(64) PRIMARY KEY,
+ *     token_value VARCHAR NOT NULL UNIQUE   -- 원본 값의 AES-SIV 암호문 (Base64)
+ *   );
+ *
+ * 사용법:
+ * <pre>
+ * try (VaultTokenizationStrategy vault = VaultTokenizationStrategy.newBuilder()
+ *         .dataSource(DataSourceConfig.createH2DataSource())
+ *         .encryptionKey(keyProvider.keyBytes("vault"))
+ *         .build()) {
+ *     String token = vault.tokenize("900101-1234567");
+ *     String ssn = vault.detokenize(token);
+ * }
+ * </pre>
+ */
+public class VaultTokenizationStrategy implements ReversibleTokenizationStrategy, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(VaultTokenizationStrategy.class);
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]{0,62}");
+    private static final int TOKEN_BYTES = 16;
+    private static final int LOCK_STRIPES = 64;
+
+    private final DataSource dataSource;
+    private final String insertSql;
+    private final String selectTokenSql;
+    private final String selectValueSql;
+    private final int batchSize;
+    private final int maxPending;
+    private final AesSivEncryptionStrategy valueCipher;
+
+    private final BoundedCache<String, String> tokens;  // 값 → 토큰
+    private final BoundedCache<String, String> values;  // 토큰 → 값
+    // 아직 DB에 기록하지 않은 매핑 (기록 후 캐시로 옮긴 다음 제거)
+    private final ConcurrentHashMap<String, String> pendingTokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> pendingValues = new ConcurrentHashMap<>();
+    // 같은 값에 토큰을 두 번 발급하지 않도록 값의 해시로 나눈 잠금
+    private final Object[] stripes = new Object[LOCK_STRIPES];
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService flusher;
+    // 발급한 토큰 수: batchSize건마다 정확히 한 번 기록을 시도하도록 원자적으로 셈
+    private final AtomicLong issued = new AtomicLong();
+    private volatile boolean closed;
+
+    // 기록에 재사용하는 연결과 statement (writeLock으로 보호)
+    private final Object writeLock = new Object();
+    private Connection connection;
+    private PreparedStatement statement;
+
+    private VaultTokenizationStrategy(Builder builder, AesSivEncryptionStrategy valueCipher) {
+        this.dataSource = builder.dataSource;
+        this.insertSql = "INSERT INTO " + builder.table + "(token, token_value) VALUES (?,?)";
+        this.selectTokenSql = "SELECT token FROM " + builder.table + " WHERE token_value = ?";
+        this.selectValueSql = "SELECT token_value FROM " + builder.table + " WHERE token = ?";
+        this.batchSize = builder.batchSize;
+        this.maxPending = builder.maxPending > 0 ? builder.maxPending : builder.batchSize * 10;
+        this.valueCipher = valueCipher;
+        this.tokens = BoundedCache.<String, String>newBuilder().maximumWeightBytes(builder.cacheBytes).build();
+        this.values = BoundedCache.<String, String>newBuilder().maximumWeightBytes(builder.cacheBytes).build();
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "masking-token-vault-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly,
+            builder.flushIntervalMillis, builder.flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * 값을 토큰으로 바꿉니다. 처음 보는 값이면 새 토큰을 발급합니다.
+     * @param input 원본 값
+     * @return 토큰
+     * @throws IllegalStateException {@link #close()} 뒤에 새 토큰을 발급해야 하는 경우
+     */
+    @Override
+    public String tokenize(String input) {
+        if (input == null) return null;
+        String token = tokens.getIfPresent(input);
+        if (token == null) {
+            token = pendingTokens.get(input);
+        }
+        if (token != null) {
+            return token;
+        }
+        synchronized (stripes[(input.hashCode() & 0x7fffffff) % LOCK_STRIPES]) {
+            // flush는 커밋한 뒤에 pending에서 지우므로, pending → DB 순서로 보면 기록 중인 매핑도 놓치지 않음
+            token = pendingTokens.get(input);
+            if (token != null) {
+                return token;
+            }
+            token = select(selectTokenSql, valueCipher.encrypt(input));
+            if (token != null) {
+                remember(input, token);
+                return token;
+            }
+            if (closed) {
+                // close()는 모든 stripe 잠금을 한 번씩 거친 뒤 마지막 flush를 하므로 이후 발급분은 기록되지 않음
+                throw new IllegalStateException("VaultTokenizationStrategy가 이미 종료되었습니다");
+            }
+            if (pendingTokens.size() >= maxPending) {
+                // 기록하지 못한 매핑이 한도에 달하면 토큰을 발급하기 전에 실패 (flush가 예외를 던짐)
+                flush();
+            }
+            token = issue(input);
+        }
+        if (issued.incrementAndGet() % batchSize == 0) {
+            // 발급한 토큰은 대기 목록에 남아 다음 flush에서 다시 기록되므로 호출자에게 예외를 넘기지 않음
+            // (기록이 계속 실패해도 batchSize건마다 한 번만 재시도)
+            flushQuietly();
+        }
+        return token;
+    }
+
+    /**
+     * 이미 발급한 값에는 저장소의 같은 토큰을 돌려주므로 결정적입니다.
+     * @return true
+     */
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+
+    /**
+     * 토큰을 원래 값으로 되돌립니다.
+     * @param token 토큰
+     * @return 원본 값, 볼트에 없는 토큰이면 null
+     */
+    @Override
+    public String detokenize(String token) {
+        if (token == null) return null;
+        String value = values.getIfPresent(token);
+        if (value == null) {
+            value = pendingValues.get(token);
+        }
+        if (value == null) {
+            value = valueCipher.decrypt(select(selectValueSql, token));
+            if (value != null) {
+                remember(value, token);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 아직 기록하지 않은 매핑을 즉시 DB에 기록합니다.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            if (pendingTokens.isEmpty()) {
+                return;
+            }
+            List<Map.Entry<String, String>> entries = new ArrayList<>(pendingTokens.size());
+            for (Map.Entry<String, String> e : pendingTokens.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue()));
+            }
+            try {
+                Connection conn = connection();
+                if (!insertBatch(conn, entries)) {
+                    // 어느 행이 실패했는지 알 수 없으므로 한 건씩 다시 기록
+                    insertEach(conn, entries);
+                }
+            } catch (SQLException e) {
+                // 연결 상태를 알 수 없으므로 다음 flush에서 새로 연결
+                closeConnection();
+                throw new RuntimeException("토큰 볼트 쓰기 실패 (" + entries.size() + "건)", e);
+            }
+        }
+    }
+
+    /**
+     * 남은 매핑을 기록하고 주기적 flush를 중단한 뒤 연결을 반환합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // 진행 중인 발급이 끝나기를 기다림: 이후의 tokenize는 closed를 보고 발급하지 않음
+        for (Object stripe : stripes) {
+            synchronized (stripe) {
+                // 잠금을 얻었다 놓는 것만으로 충분
+            }
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } finally {
+            synchronized (writeLock) {
+                closeConnection();
+            }
+        }
+    }
+
+    /**
+     * 아직 DB에 기록하지 않은 매핑 수를 반환합니다.
+     * @return 기록 대기 중인 매핑 수
+     */
+    public int pendingCount() {
+        return pendingTokens.size();
+    }
+
+    /**
+     * 값 → 토큰 캐시를 반환합니다. (적중률 등 통계 조회용)
+     * @return 토큰화 캐시
+     */
+    public BoundedCache<String, String> getTokenCache() {
+        return tokens;
+    }
+
+    /**
+     * 토큰 → 값 캐시를 반환합니다. (적중률 등 통계 조회용)
+     * @return 역토큰화 캐시
+     */
+    public BoundedCache<String, String> getValueCache() {
+        return values;
+    }
+
+    // stripe 잠금 안에서 호출: 기록 대기 중이거나 이미 저장된 토큰과 겹치지 않는 토큰을 만들어 기록 대기 목록에 추가
+    private String issue(String value) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        while (true) {
+            random.nextBytes(bytes);
+            String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+            if (pendingValues.putIfAbsent(token, value) != null) {
+                continue;
+            }
+            if (values.getIfPresent(token) != null || select(selectValueSql, token) != null) {
+                pendingValues.remove(token, value);
+                continue;
+            }
+            pendingTokens.put(value, token);
+            return token;
+        }
+    }
+
+    private void remember(String value, String token) {
+        tokens.put(value, token);
+        values.put(token, value);
+    }
+
+    private void persisted(String value, String token) {
+        remember(value, token);
+        pendingTokens.remove(value, token);
+        pendingValues.remove(token, value);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.error("토큰 볼트 flush 실패 (다음 flush에서 재시도): {}", e.getMessage());
+        }
+    }
+
+    private String select(String sql, String key) {
+        try (Connection conn = dataSource.getConnection()) {
+            return select(conn, sql, key);
+        } catch (SQLException e) {
+            throw new RuntimeException("토큰 볼트 조회 실패", e);
+        }
+    }
+
+    private static String select(Connection conn, String sql, String key) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, key);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private boolean insertBatch(Connection conn, List<Map.Entry<String, String>> entries) throws SQLException {
+        try {
+            for (Map.Entry<String, String> entry : entries) {
+                statement.setString(1, entry.getValue());
+                statement.setString(2, valueCipher.encrypt(entry.getKey()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            statement.clearBatch();
+            conn.rollback();
+            logger.warn("토큰 볼트 배치 쓰기 실패, 한 건씩 다시 기록합니다: {}", e.getMessage());
+            return false;
+        }
+        for (Map.Entry<String, String> entry : entries) {
+            persisted(entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+
+    private void insertEach(Connection conn, List<Map.Entry<String, String>> entries) throws SQLException {
+        for (Map.Entry<String, String> entry : entries) {
+            String value = entry.getKey();
+            String token = entry.getValue();
+            try {
+                statement.setString(1, token);
+                statement.setString(2, valueCipher.encrypt(value));
+                statement.executeUpdate();
+                conn.commit();
+                persisted(value, token);
+            } catch (SQLException e) {
+                conn.rollback();
+                // 쓰기 연결을 쥔 채로 풀에서 연결을 하나 더 빌리면 풀 크기가 1일 때 교착되므로 같은 연결로 조회
+                String stored = select(conn, selectTokenSql, valueCipher.encrypt(value));
+                if (stored == null) {
+                    throw e; // 남은 매핑은 다음 flush에서 다시 시도
+                }
+                logger.warn("다른 프로세스가 먼저 기록한 값이어서 토큰 {}을(를) 저장소의 토큰으로 교체합니다", token);
+                remember(value, stored);
+                pendingTokens.remove(value, token);
+                pendingValues.remove(token, value);
+            }
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            closeConnection();
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(insertSql);
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            logger.warn("PreparedStatement 닫기 실패: {}", e.getMessage());
+        }
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            logger.warn("DB 연결 닫기 실패: {}", e.getMessage());
+        }
+        statement = null;
+        connection = null;
+    }
+
+    /**
+     * VaultTokenizationStrategy 빌더
+     */
+    public static final class Builder {
+        private DataSource dataSource;
+        private byte[] encryptionKey;
+        private String table = "token_vault";
+        private boolean createTable = true;
+        private long cacheBytes = 32L * 1024 * 1024;
+        private int batchSize = 1000;
+        private long flushIntervalMillis = 100;
+        private int maxPending;
+
+        private Builder() {
+        }
+
+        /**
+         * 매핑을 저장할 데이터소스를 지정합니다. (필수)
+         * @param dataSource 데이터소스 ({@link com.masking.config.DataSourceConfig}의 HikariCP 풀 권장)
+         * @return Builder
+         */
+        public Builder dataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        /**
+         * 원본 값을 AES-SIV로 암호화해 저장할 키를 지정합니다. (필수)
+         * 같은 볼트 테이블을 쓰는 동안 바꾸면 기존 매핑을 찾을 수 없습니다.
+         * @param encryptionKey 64바이트(AES-256-SIV), 48바이트, 32바이트 키
+         * @return Builder
+         */
+        public Builder encryptionKey(byte[] encryptionKey) {
+            this.encryptionKey = encryptionKey == null ? null : encryptionKey.clone();
+            return this;
+        }
+
+        /**
+         * 볼트 테이블 이름을 지정합니다. 기본값은 token_vault입니다.
+         * @param table 테이블 이름 (영문, 숫자, _)
+         * @return Builder
+         */
+        public Builder table(String table) {
+            this.table = table;
+            return this;
+        }
+
+        /**
+         * 테이블이 없으면 생성할지 지정합니다. 기본값은 true입니다.
+         * @param createTable 생성 여부
+         * @return Builder
+         */
+        public Builder createTable(boolean createTable) {
+            this.createTable = createTable;
+            return this;
+        }
+
+        /**
+         * 방향별(값 → 토큰, 토큰 → 값) 캐시의 최대 추정 바이트 수를 지정합니다. 기본값은 32MB입니다.
+         * @param cacheBytes 캐시 하나의 최대 바이트 수
+         * @return Builder
+         */
+        public Builder cacheBytes(long cacheBytes) {
+            this.cacheBytes = cacheBytes;
+            return this;
+        }
+
+        /**
+         * 기록 대기 매핑이 이 수에 도달하면 호출한 스레드에서 바로 기록합니다. 기본값은 1000입니다.
+         * @param batchSize 한 번에 기록할 매핑 수
+         * @return Builder
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * 기록 대기 매핑을 비우는 주기를 지정합니다. 기본값은 100ms입니다.
+         * @param flushIntervalMillis 주기(밀리초)
+         * @return Builder
+         */
+        public Builder flushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+            return this;
+        }
+
+        /**
+         * 기록 대기 매핑의 상한을 지정합니다. 기본값은 batchSize의 10배입니다.
+         * 상한에 도달하면 새 토큰을 발급하기 전에 기록을 시도하고, 실패하면 tokenize가 예외를 던집니다.
+         * @param maxPending 기록 대기 매핑의 최대 수 (batchSize 이상)
+         * @return Builder
+         */
+        public Builder maxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         * VaultTokenizationStrategy를 생성합니다. createTable이 true이면 테이블을 먼저 만듭니다.
+         * @return VaultTokenizationStrategy 인스턴스
+         */
+        public VaultTokenizationStrategy build() {
+            if (dataSource == null) {
+                throw new IllegalArgumentException("dataSource는 필수입니다");
+            }
+            if (encryptionKey == null) {
+                throw new IllegalArgumentException("encryptionKey는 필수입니다");
+            }
+            if (table == null || !TABLE_NAME.matcher(table).matches()) {
+                throw new IllegalArgumentException("테이블 이름이 올바르지 않습니다: " + table);
+            }
+            if (cacheBytes <= 0 || batchSize <= 0 || flushIntervalMillis <= 0) {
+                throw new IllegalArgumentException("cacheBytes, batchSize, flushIntervalMillis는 0보다 커야 합니다");
+            }
+            if (maxPending != 0 && maxPending < batchSize) {
+                throw new IllegalArgumentException("maxPending은 batchSize 이상이어야 합니다");
+            }
+            AesSivEncryptionStrategy valueCipher = AesSivEncryptionStrategy.of(encryptionKey);
+            if (createTable) {
+                try (Connection conn = dataSource.getConnection();
+                     Statement s = conn.createStatement()) {
+                    s.executeUpdate("CREATE TABLE IF NOT EXISTS " + table + " ("
+                        + " token VARCHAR(64) PRIMARY KEY,"
+                        + " token_value VARCHAR NOT NULL UNIQUE" // AES-SIV 암호문
+                        + ")");
+                } catch (SQLException e) {
+                    throw new RuntimeException("토큰 볼트 테이블 생성 실패: " + table, e);
+                }
+            }
+            return new VaultTokenizationStrategy(this, valueCipher);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Base64;
  *  암호화를 위한 메서드
  */
 public class CryptoUtil {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
     /**
      * AES 128-bit 키를 생성해 Base64 인코딩 문자열로 반환
@@ -44,6 +45,21 @@ public class CryptoUtil {
         return Base64.getEncoder().encodeToString(data);
     }
 
+    /**
+     * 바이트 배열을 소문자 16진수 문자열로 인코딩해 반환 (조회 테이블 사용)
+     * @param data 인코딩할 바이트 배열
+     * @return 16진수 문자열 (길이 = data.length * 2)
+     */
+    public static String encodeHex(byte[] data) {
+        char[] chars = new char[data.length * 2];
+        for (int i = 0, j = 0; i < data.length; i++) {
+            int b = data[i] & 0xff;
+            chars[j++] = HEX[b >>> 4];
+            chars[j++] = HEX[b & 0x0f];
+        }
+        return new String(chars);
+    }
+
     /**
      * RSA 키 페어 생성 (기본 2048비트)
      * @return 생성된 RSA KeyPair
@@ -0,0 +1,139 @@
+package com.masking.util;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드마다 독립된 AES-128-CTR 기반 암호학적 난수 생성기
+ *
+ * UUID.randomUUID()처럼 모든 스레드가 공유 SecureRandom(내부 잠금)을 거치지 않고,
+ * 스레드별 키스트림을 1KB씩 한 번에 만들어 버퍼에서 꺼내 씁니다.
+ * 1MB를 생성했거나 1분이 지나면 시스템 SecureRandom에서 새 키/카운터를 받아 재시드합니다. (공유 자원 접근은 재시드 때만)
+ *
+ * 사용법:
+ * <pre>
+ * long bits = ThreadLocalDrbg.current().nextLong();
+ * </pre>
+ * 반환된 인스턴스는 현재 스레드 전용이므로 다른 스레드에 넘기면 안 됩니다.
+ */
+public final class ThreadLocalDrbg {
+    private static final int BUFFER_BYTES = 1024;
+    private static final long RESEED_BYTES = 1L << 20;
+    private static final long RESEED_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+    private static final ThreadLocal<ThreadLocalDrbg> LOCAL = ThreadLocal.withInitial(ThreadLocalDrbg::new);
+
+    private final Cipher ctr;
+    private final byte[] zeros = new byte[BUFFER_BYTES];
+    private final byte[] buffer = new byte[BUFFER_BYTES];
+    private int position = BUFFER_BYTES;
+    private long generated;
+    private long seededAt;
+
+    private ThreadLocalDrbg() {
+        try {
+            this.ctr = Cipher.getInstance("AES/CTR/NoPadding");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/CTR Cipher 생성 실패", e);
+        }
+        reseed();
+    }
+
+    /**
+     * 현재 스레드의 난수 생성기를 반환합니다.
+     * @return 현재 스레드 전용 ThreadLocalDrbg
+     */
+    public static ThreadLocalDrbg current() {
+        return LOCAL.get();
+    }
+
+    /**
+     * 64비트 난수를 반환합니다.
+     * @return 난수
+     */
+    public long nextLong() {
+        if (position > BUFFER_BYTES - Long.BYTES) {
+            refill();
+        }
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (buffer[position++] & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * 0 이상 bound 미만의 균등 분포 정수를 반환합니다. (거부 샘플링으로 편향 없음)
+     * @param bound 상한 (양수)
+     * @return 난수
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound는 0보다 커야 합니다: " + bound);
+        }
+        long limit = (1L << 32) - (1L << 32) % bound; // limit 이상은 버려야 모든 값의 확률이 같음
+        while (true) {
+            if (position > BUFFER_BYTES - Integer.BYTES) {
+                refill();
+            }
+            long value = ((buffer[position] & 0xffL) << 24) | ((buffer[position + 1] & 0xff) << 16)
+                | ((buffer[position + 2] & 0xff) << 8) | (buffer[position + 3] & 0xff);
+            position += Integer.BYTES;
+            if (value < limit) {
+                return (int) (value % bound);
+            }
+        }
+    }
+
+    /**
+     * out[off..off+len)을 난수 바이트로 채웁니다.
+     * @param out 대상 배열
+     * @param off 시작 위치
+     * @param len 바이트 수
+     */
+    public void nextBytes(byte[] out, int off, int len) {
+        while (len > 0) {
+            if (position == BUFFER_BYTES) {
+                refill();
+            }
+            int n = Math.min(len, BUFFER_BYTES - position);
+            System.arraycopy(buffer, position, out, off, n);
+            position += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    private void refill() {
+        if (generated >= RESEED_BYTES || System.nanoTime() - seededAt >= RESEED_NANOS) {
+            reseed();
+        }
+        try {
+            ctr.update(zeros, 0, BUFFER_BYTES, buffer, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("난수 생성 실패", e);
+        }
+        position = 0;
+        generated += BUFFER_BYTES;
+    }
+
+    private void reseed() {
+        byte[] seed = new byte[32];
+        SEED_SOURCE.nextBytes(seed);
+        try {
+            ctr.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(seed, 0, 16, "AES"), new IvParameterSpec(seed, 16, 16));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("난수 생성기 재시드 실패", e);
+        } finally {
+            Arrays.fill(seed, (byte) 0);
+        }
+        generated = 0;
+        seededAt = System.nanoTime();
+        position = BUFFER_BYTES; // 이전 키로 만든 남은 바이트는 버림
+    }
+}
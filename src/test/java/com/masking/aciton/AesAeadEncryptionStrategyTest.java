@@ -0,0 +1,101 @@
+package com.masking.aciton;
+
+import com.masking.strategy.encrypt.AesGcmEncryptionStrategy;
+import com.masking.strategy.encrypt.AesSivEncryptionStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AesAeadEncryptionStrategyTest {
+
+    @Test
+    void siv_shouldMatchRfc5297Vectors() {
+        // A.1 결정적 인증 암호화
+        AesSivEncryptionStrategy a1 = AesSivEncryptionStrategy.of(
+            hex("fffefdfcfbfaf9f8f7f6f5f4f3f2f1f0f0f1f2f3f4f5f6f7f8f9fafbfcfdfeff"),
+            hex("101112131415161718191a1b1c1d1e1f2021222324252627"));
+        byte[] plain = hex("112233445566778899aabbccddee");
+        byte[] expected = hex("85632d07c6e8f37f950acd320a2ecc9340c02b9690c4dc04daef7f6afe5c");
+        assertArrayEquals(expected, a1.encryptBytes(plain));
+        assertArrayEquals(plain, a1.decryptBytes(expected));
+
+        // A.2 연관 데이터 2개 + 논스
+        AesSivEncryptionStrategy a2 = AesSivEncryptionStrategy.of(
+            hex("7f7e7d7c7b7a79787776757473727170404142434445464748494a4b4c4d4e4f"),
+            hex("00112233445566778899aabbccddeeffdeaddadadeaddadaffeeddccbbaa99887766554433221100"),
+            hex("102030405060708090a0"),
+            hex("09f911029d74e35bd84156c5635688c0"));
+        byte[] plain2 = hex("7468697320697320736f6d6520706c61696e7465787420746f20656e6372797074207573696e67205349562d414553");
+        byte[] expected2 = hex("7bdb6e3b432667eb06f4d14bff2fbd0fcb900f2fddbe404326601965c889bf17"
+            + "dba77ceb094fa663b7a3f748ba8af829ea64ad544a272e9c485b62a3fd5c0d");
+        assertArrayEquals(expected2, a2.encryptBytes(plain2));
+        assertArrayEquals(plain2, a2.decryptBytes(expected2));
+    }
+
+    @Test
+    void siv_shouldBeDeterministicAndDetectTampering() {
+        byte[] key = new byte[64];
+        Arrays.fill(key, (byte) 7);
+        AesSivEncryptionStrategy siv = AesSivEncryptionStrategy.of(key);
+        AesSivEncryptionStrategy otherColumn = AesSivEncryptionStrategy.of(key, "email".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(siv.isDeterministic());
+        for (String value : new String[]{"", "a", "123-45-6789", "user@example.com", "한글 이름 😀", "0123456789abcdef0123456789abcdef!"}) {
+            String encrypted = siv.encrypt(value);
+            assertEquals(encrypted, siv.encrypt(value));
+            assertEquals(value, siv.decrypt(encrypted));
+            assertArrayEquals(Base64.getDecoder().decode(encrypted), siv.encryptBytes(value.getBytes(StandardCharsets.UTF_8)));
+            assertNotEquals(encrypted, otherColumn.encrypt(value));
+        }
+
+        byte[] tampered = siv.encryptBytes("123-45-6789".getBytes(StandardCharsets.UTF_8));
+        tampered[tampered.length - 1] ^= 1;
+        assertThrows(RuntimeException.class, () -> siv.decryptBytes(tampered));
+        assertThrows(IllegalArgumentException.class, () -> AesSivEncryptionStrategy.of(new byte[16]));
+        assertNull(siv.encrypt(null));
+    }
+
+    @Test
+    void gcm_shouldDecryptReferenceVectorAndUseUniqueNonces() {
+        // GCM 명세 Test Case 2: 키/IV/평문 모두 0
+        AesGcmEncryptionStrategy zero = AesGcmEncryptionStrategy.of(new byte[16]);
+        byte[] reference = hex("000000000000000000000000" + "0388dace60b6a392f328c2b971b2fe78" + "ab6e47d42cec13bdf53a67b21257bddf");
+        assertArrayEquals(new byte[16], zero.decryptBytes(reference));
+
+        AesGcmEncryptionStrategy gcm = AesGcmEncryptionStrategy.of(hex("000102030405060708090a0b0c0d0e0f"),
+            "ssn".getBytes(StandardCharsets.UTF_8));
+        assertFalse(gcm.isDeterministic());
+        Set<String> nonces = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String encrypted = gcm.encrypt("123-45-6789");
+            byte[] bytes = Base64.getDecoder().decode(encrypted);
+            assertEquals(gcm.ciphertextLength(11), bytes.length);
+            assertTrue(nonces.add(Base64.getEncoder().encodeToString(Arrays.copyOf(bytes, 12))));
+            assertEquals("123-45-6789", gcm.decrypt(encrypted));
+        }
+
+        byte[] out = new byte[64];
+        int written = gcm.encryptBytes("abc".getBytes(StandardCharsets.UTF_8), 0, 3, out, 5);
+        assertEquals(gcm.ciphertextLength(3), written);
+        assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), gcm.decryptBytes(Arrays.copyOfRange(out, 5, 5 + written)));
+
+        // 연관 데이터가 다르면 복호화 실패
+        AesGcmEncryptionStrategy otherColumn = AesGcmEncryptionStrategy.of(hex("000102030405060708090a0b0c0d0e0f"),
+            "phone".getBytes(StandardCharsets.UTF_8));
+        assertThrows(RuntimeException.class, () -> otherColumn.decrypt(gcm.encrypt("123-45-6789")));
+    }
+
+    private static byte[] hex(String s) {
+        byte[] bytes = new byte[s.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(s.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
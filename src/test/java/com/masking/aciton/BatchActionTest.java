@@ -0,0 +1,132 @@
+package com.masking.aciton;
+
+import com.masking.action.CompositeAuditAction;
+import com.masking.action.MaskAction;
+import com.masking.action.TokenizeAction;
+import com.masking.pipeline.MaskPipeline;
+import com.masking.pipeline.MaskPipelineBuilder;
+import com.masking.strategy.mask.PartialMaskStrategy;
+import com.masking.strategy.mask.RegexMaskStrategy;
+import com.masking.strategy.tokenize.HashTokenizationStrategy;
+import com.masking.strategy.tokenize.TokenizationStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchActionTest {
+
+    private List<Map<String, String>> records(int size) {
+        List<Map<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Map<String, String> record = new HashMap<>();
+            record.put("email", "user" + i + "@example.com");
+            record.put("username", "maskingUser" + i);
+            record.put("ssn", i % 3 == 0 ? null : "123-45-" + i);
+            records.add(record);
+        }
+        return records;
+    }
+
+    private MaskPipeline pipeline() {
+        return MaskPipelineBuilder.newBuilder()
+                .mask("email", RegexMaskStrategy.of("(?<=.).(?=[^@]+@)", '*'))
+                .tokenize("username", HashTokenizationStrategy.of("salt"))
+                .encryptAes("ssn", "1234567812345678".getBytes())
+                .build();
+    }
+
+    @Test
+    void applyBatch_shouldMatchPerRecordApply() {
+        List<Map<String, String>> expected = records(50);
+        List<Map<String, String>> actual = records(50);
+        MaskPipeline pipeline = pipeline();
+
+        expected.forEach(pipeline::apply);
+        pipeline.applyBatch(actual);
+
+        assertEquals(expected, actual);
+        assertNull(actual.get(0).get("ssn"));
+        assertFalse(actual.get(0).containsKey("missing"));
+    }
+
+    @Test
+    void applyBatch_shouldWorkOnCompiledPipelineAndLinkedList() {
+        List<Map<String, String>> expected = records(10);
+        List<Map<String, String>> actual = new LinkedList<>(records(10));
+
+        pipeline().applyBatch(expected);
+        MaskPipelineBuilder.newBuilder()
+                .mask("email", RegexMaskStrategy.of("(?<=.).(?=[^@]+@)", '*'))
+                .tokenize("username", HashTokenizationStrategy.of("salt"))
+                .encryptAes("ssn", "1234567812345678".getBytes())
+                .buildCompiled()
+                .applyBatch(actual);
+
+        assertEquals(expected, new ArrayList<>(actual));
+    }
+
+    @Test
+    void compositeAuditBatch_shouldAuditEachRecord() {
+        List<String> calls = new ArrayList<>();
+        CompositeAuditAction action = CompositeAuditAction.of("username",
+                (field, before, after) -> calls.add(before + "->" + after),
+                MaskAction.of("username", PartialMaskStrategy.of(2, 2, '*')));
+
+        List<Map<String, String>> batch = records(3);
+        action.applyBatch(batch);
+
+        assertEquals(3, calls.size());
+        assertEquals("maskingUser0->ma********r0", calls.get(0));
+        assertEquals("ma********r2", batch.get(2).get("username"));
+    }
+
+    @Test
+    void deterministicBatch_shouldTransformEachDistinctValueOnce() {
+        List<Integer> batchSizes = new ArrayList<>();
+        TokenizeAction action = TokenizeAction.of("country", countingStrategy(batchSizes, true));
+        List<Map<String, String>> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Map<String, String> record = new HashMap<>();
+            record.put("country", i % 7 == 0 ? null : "C" + (i % 3));
+            batch.add(record);
+        }
+
+        action.applyBatch(batch);
+
+        assertEquals(Arrays.asList(3), batchSizes);
+        assertEquals("tok-C1", batch.get(1).get("country"));
+        assertEquals("tok-C1", batch.get(4).get("country"));
+        assertNull(batch.get(0).get("country"));
+
+        List<Integer> randomSizes = new ArrayList<>();
+        TokenizeAction.of("country", countingStrategy(randomSizes, false)).applyBatch(batch);
+        assertEquals(Arrays.asList(100), randomSizes);
+    }
+
+    private static TokenizationStrategy countingStrategy(List<Integer> batchSizes, boolean deterministic) {
+        return new TokenizationStrategy() {
+            @Override
+            public String tokenize(String input) {
+                return "tok-" + input;
+            }
+
+            @Override
+            public String[] tokenizeBatch(String[] inputs) {
+                batchSizes.add(inputs.length);
+                return TokenizationStrategy.super.tokenizeBatch(inputs);
+            }
+
+            @Override
+            public boolean isDeterministic() {
+                return deterministic;
+            }
+        };
+    }
+}
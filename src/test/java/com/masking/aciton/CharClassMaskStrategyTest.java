@@ -0,0 +1,47 @@
+package com.masking.aciton;
+
+import com.masking.strategy.mask.CharClass;
+import com.masking.strategy.mask.CharClassMaskStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharClassMaskStrategyTest {
+
+    @Test
+    void lookupTable_shouldMatchOriginalClassification() {
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            char ch = (char) i;
+            CharClass expected;
+            if (Character.isLetter(ch)) expected = CharClass.LETTER;
+            else if (Character.isDigit(ch)) expected = CharClass.DIGIT;
+            else if (String.valueOf(ch).matches("[\\uac00-\\ud7af]")) expected = CharClass.HANGUL;
+            else if (Character.isWhitespace(ch)) expected = CharClass.SPACE;
+            else expected = CharClass.OTHER;
+            assertEquals(expected, CharClass.of(ch), "U+" + Integer.toHexString(i));
+        }
+    }
+
+    @Test
+    void mask_shouldReplaceOnlyTargetClasses() {
+        CharClassMaskStrategy digits = CharClassMaskStrategy.of(EnumSet.of(CharClass.DIGIT), '*');
+        assertEquals("서울시 강남구 테헤란로 ***길 **-*", digits.mask("서울시 강남구 테헤란로 123길 45-6"));
+
+        CharClassMaskStrategy lettersAndDigits =
+            CharClassMaskStrategy.of(new HashSet<>(EnumSet.of(CharClass.LETTER, CharClass.DIGIT)), '#');
+        assertEquals("### ## #-#", lettersAndDigits.mask("서울시 A1 b-2"));
+    }
+
+    @Test
+    void mask_withoutTargetChars_shouldReturnSameInstance() {
+        CharClassMaskStrategy digits = CharClassMaskStrategy.of(EnumSet.of(CharClass.DIGIT), '*');
+        String input = "no digits here";
+        assertSame(input, digits.mask(input));
+        assertSame(input, CharClassMaskStrategy.of(Collections.emptySet(), '*').mask(input));
+        assertNull(digits.mask(null));
+    }
+}
@@ -0,0 +1,100 @@
+package com.masking.aciton;
+
+import com.masking.pipeline.MaskPipeline;
+import com.masking.pipeline.MaskPipelineBuilder;
+import com.masking.strategy.encrypt.AesGcmEncryptionStrategy;
+import com.masking.strategy.encrypt.AesSivEncryptionStrategy;
+import com.masking.strategy.encrypt.ColumnEncryptor;
+import com.masking.strategy.encrypt.EncryptedColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnEncryptorTest {
+    private static final byte[] SIV_KEY = new byte[32];
+    private static final byte[] GCM_KEY = "0123456789abcdef".getBytes();
+
+    @Test
+    void byteColumn_shouldMatchPerValueEncryptionAndReuseArena() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AesSivEncryptionStrategy siv = AesSivEncryptionStrategy.of(SIV_KEY);
+            ColumnEncryptor encryptor = ColumnEncryptor.of(siv, pool, 16);
+            Random random = new Random(7);
+            byte[][] values = new byte[1000][];
+            for (int i = 0; i < values.length; i++) {
+                if (i % 10 != 3) {
+                    values[i] = new byte[random.nextInt(40)];
+                    random.nextBytes(values[i]);
+                }
+            }
+
+            EncryptedColumn column = encryptor.encrypt(values, null);
+            assertEquals(values.length, column.size());
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    assertTrue(column.isNull(i));
+                    assertNull(column.get(i));
+                } else {
+                    assertArrayEquals(siv.encryptBytes(values[i]), column.get(i));
+                    assertArrayEquals(values[i], siv.decryptBytes(column.get(i)));
+                }
+            }
+
+            byte[] arena = column.arena();
+            byte[][] smaller = {new byte[]{1, 2, 3}, null, new byte[0]};
+            assertSame(column, encryptor.encrypt(smaller, column));
+            assertSame(arena, column.arena());
+            assertEquals(3, column.size());
+            assertEquals(16 + 3 + 16, column.byteSize());
+            assertArrayEquals(smaller[0], siv.decryptBytes(column.get(0)));
+            assertArrayEquals(new byte[0], siv.decryptBytes(column.get(2)));
+            assertThrows(IndexOutOfBoundsException.class, () -> column.length(3));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void columnEncryptAction_shouldEncryptBatchInParallel() {
+        AesGcmEncryptionStrategy gcm = AesGcmEncryptionStrategy.of(GCM_KEY);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            String[] values = new String[5000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i % 100 == 0 ? null : "user" + (i % 700) + "@example.com";
+            }
+            String[] encrypted = ColumnEncryptor.of(gcm, pool, 64).encrypt(values);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], gcm.decrypt(encrypted[i]));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        MaskPipeline pipeline = MaskPipelineBuilder.newBuilder()
+            .encryptColumn("email", AesSivEncryptionStrategy.of(SIV_KEY))
+            .build();
+        List<Map<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Map<String, String> record = new HashMap<>();
+            record.put("email", "user" + (i % 50) + "@example.com");
+            records.add(record);
+        }
+        records.get(5).put("email", null);
+        pipeline.applyBatch(records);
+
+        AesSivEncryptionStrategy siv = AesSivEncryptionStrategy.of(SIV_KEY);
+        assertEquals(siv.encrypt("user0@example.com"), records.get(0).get("email"));
+        assertEquals(records.get(1).get("email"), records.get(51).get("email"));
+        assertNull(records.get(5).get("email"));
+        assertEquals("user7@example.com", siv.decrypt(records.get(2007).get("email")));
+    }
+}
@@ -0,0 +1,98 @@
+package com.masking.aciton;
+
+import com.masking.strategy.mask.DictionaryMaskStrategy;
+import com.masking.strategy.mask.DictionaryWriter;
+import com.masking.strategy.mask.MappedDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryMaskStrategyTest {
+
+    @Test
+    void mask_shouldRedactDictionaryValuesInText() throws IOException {
+        MappedDictionary names = dictionary(Arrays.asList("홍길동", "김철수", "110-123-456789", "홍길동전"));
+        DictionaryMaskStrategy strategy = DictionaryMaskStrategy.of(names, '*');
+
+        assertEquals(4, names.size());
+        assertTrue(names.contains("김철수"));
+        assertFalse(names.contains("김철"));
+        assertEquals("고객 ***님이 ***에게 **************로 송금",
+            strategy.mask("고객 홍길동님이 김철수에게 110-123-456789로 송금"));
+        assertEquals("****을 읽었다", strategy.mask("홍길동전을 읽었다"));
+        String clean = "사전에 없는 문장";
+        assertSame(clean, strategy.mask(clean));
+        assertNull(strategy.mask(null));
+    }
+
+    @Test
+    void wholeWords_shouldIgnoreMatchesInsideLongerTokens() throws IOException {
+        MappedDictionary accounts = dictionary(Arrays.asList("12345", "AB12"));
+        DictionaryMaskStrategy strategy = DictionaryMaskStrategy.wholeWords(accounts, '#');
+
+        assertEquals("계좌 #####, 9123456, AB123, ####님", strategy.mask("계좌 12345, 9123456, AB123, AB12님"));
+        assertEquals("#####", strategy.mask("12345"));
+    }
+
+    @Test
+    void writer_shouldRejectUnsortedOrTooShortValues() throws IOException {
+        Path file = Files.createTempFile("dict", ".bin");
+        try {
+            assertThrows(IllegalArgumentException.class,
+                () -> DictionaryWriter.writeSorted(Arrays.asList("나나", "가가").iterator(), file));
+            assertThrows(IllegalArgumentException.class,
+                () -> DictionaryWriter.write(Arrays.asList("가가", "A"), file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void mask_shouldMatchNaiveScanOnRandomText() throws IOException {
+        Random random = new Random(42);
+        TreeSet<String> values = new TreeSet<>();
+        while (values.size() < 2000) {
+            values.add(randomWord(random, 2 + random.nextInt(5)));
+        }
+        MappedDictionary dictionary = dictionary(values);
+        DictionaryMaskStrategy strategy = DictionaryMaskStrategy.of(dictionary, '*');
+
+        for (int n = 0; n < 500; n++) {
+            String text = randomWord(random, random.nextInt(60));
+            char[] expected = text.toCharArray();
+            for (int i = 0; i < text.length(); i++) {
+                for (int j = i + 2; j <= text.length(); j++) {
+                    if (values.contains(text.substring(i, j))) {
+                        Arrays.fill(expected, i, j, '*');
+                    }
+                }
+            }
+            assertEquals(new String(expected), strategy.mask(text), text);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        char[] alphabet = {'a', 'b', 'c', '가', '나', ' '};
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static MappedDictionary dictionary(Collection<String> values) throws IOException {
+        Path file = Files.createTempFile("dict", ".bin");
+        file.toFile().deleteOnExit();
+        DictionaryWriter.write(new ArrayList<>(values), file);
+        return MappedDictionary.open(file);
+    }
+}
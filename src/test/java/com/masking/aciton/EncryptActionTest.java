@@ -1,11 +1,19 @@
 package com.masking.aciton;
 
+import com.masking.action.DecryptAction;
 import com.masking.action.EncryptAction;
+import com.masking.cache.CachingDecryptionStrategy;
 import com.masking.strategy.encrypt.AesEncryptionStrategy;
+import com.masking.strategy.encrypt.AesGcmEncryptionStrategy;
+import com.masking.strategy.encrypt.DecryptionStrategy;
+import com.masking.strategy.encrypt.RsaEncryptionStrategy;
 import org.junit.jupiter.api.Test;
 
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,5 +32,47 @@ class EncryptActionTest {
         assertNotNull(encrypted);
         assertTrue(Base64.getDecoder().decode(encrypted).length > 0);
     }
-}
 
+    @Test
+    void decryptAction_shouldRestoreEncryptedFields() {
+        byte[] key = "1234567812345678".getBytes();
+        AesEncryptionStrategy aes = AesEncryptionStrategy.of(key);
+        List<Map<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, String> record = new HashMap<>();
+            record.put("ssn", "123-45-000" + (i % 3));
+            records.add(record);
+        }
+        records.get(9).put("ssn", null);
+        EncryptAction.of("ssn", aes).applyBatch(records);
+        assertNotEquals("123-45-0000", records.get(0).get("ssn"));
+
+        DecryptAction.of("ssn", aes).applyBatch(records);
+        for (int i = 0; i < 9; i++) {
+            assertEquals("123-45-000" + (i % 3), records.get(i).get("ssn"));
+        }
+        assertNull(records.get(9).get("ssn"));
+    }
+
+    @Test
+    void cachingDecryption_shouldServeRepeatedCiphertextsFromCache() throws Exception {
+        AesGcmEncryptionStrategy gcm = AesGcmEncryptionStrategy.of(new byte[16]);
+        CachingDecryptionStrategy cached = CachingDecryptionStrategy.of(gcm, 1024 * 1024);
+        String encrypted = gcm.encrypt("hot row");
+        DecryptAction action = DecryptAction.of("v", cached);
+        for (int i = 0; i < 5; i++) {
+            Map<String, String> record = new HashMap<>();
+            record.put("v", encrypted);
+            action.apply(record);
+            assertEquals("hot row", record.get("v"));
+        }
+        assertEquals(1, cached.getCache().missCount());
+        assertEquals(4, cached.getCache().hitCount());
+
+        // 공개키만 가진 전략은 DecryptionStrategy가 아니므로 DecryptAction에 넘길 수 없음
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        RsaEncryptionStrategy rsa = RsaEncryptionStrategy.of(generator.generateKeyPair().getPublic());
+        assertFalse(DecryptionStrategy.class.isInstance(rsa));
+    }
+}
@@ -0,0 +1,118 @@
+package com.masking.aciton;
+
+import com.masking.cache.CachingDecryptionStrategy;
+import com.masking.strategy.encrypt.EnvelopeAlgorithm;
+import com.masking.strategy.encrypt.EnvelopeEncryptionStrategy;
+import com.masking.strategy.encrypt.FileKeyProvider;
+import com.masking.strategy.encrypt.Keyring;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnvelopeEncryptionStrategyTest {
+
+    @Test
+    void rotation_shouldKeepOldCiphertextsReadable() throws IOException {
+        Path file = Files.createTempFile("keys", ".properties");
+        try {
+            writeKeys(file, "k1", "k1");
+            Keyring keyring = Keyring.of(FileKeyProvider.of(file));
+            EnvelopeEncryptionStrategy gcm = EnvelopeEncryptionStrategy.of(keyring, EnvelopeAlgorithm.AES_GCM);
+            EnvelopeEncryptionStrategy siv = EnvelopeEncryptionStrategy.of(keyring, EnvelopeAlgorithm.AES_SIV);
+
+            String oldGcm = gcm.encrypt("123-45-6789");
+            String oldSiv = siv.encrypt("123-45-6789");
+            assertEquals("k1", EnvelopeEncryptionStrategy.keyIdOf(oldGcm));
+            assertEquals(oldSiv, siv.encrypt("123-45-6789"));
+            assertNotEquals(oldGcm, gcm.encrypt("123-45-6789"));
+
+            writeKeys(file, "k2", "k1", "k2");
+            keyring.refresh();
+            String newGcm = gcm.encrypt("123-45-6789");
+            String newSiv = siv.encrypt("123-45-6789");
+            assertEquals("k2", EnvelopeEncryptionStrategy.keyIdOf(newGcm));
+            assertNotEquals(oldSiv, newSiv);
+
+            // 어느 전략 인스턴스로든 헤더의 키/알고리즘으로 복호화
+            for (String encrypted : new String[]{oldGcm, oldSiv, newGcm, newSiv}) {
+                assertEquals("123-45-6789", gcm.decrypt(encrypted));
+                assertEquals("123-45-6789", siv.decrypt(encrypted));
+            }
+            assertEquals(4, keyring.size());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void evict_shouldDropCachedPlaintextsOfThatKey() throws IOException {
+        Path file = Files.createTempFile("keys", ".properties");
+        try {
+            writeKeys(file, "k1", "k1", "k2");
+            Keyring keyring = Keyring.of(FileKeyProvider.of(file));
+            EnvelopeEncryptionStrategy gcm = EnvelopeEncryptionStrategy.of(keyring, EnvelopeAlgorithm.AES_GCM);
+            CachingDecryptionStrategy cached = CachingDecryptionStrategy.of(gcm, 1024 * 1024);
+            String old = gcm.encrypt("123-45-6789");
+            writeKeys(file, "k2", "k1", "k2");
+            keyring.refresh();
+            String current = gcm.encrypt("987-65-4321");
+
+            assertEquals("123-45-6789", cached.decrypt(old));
+            assertEquals("987-65-4321", cached.decrypt(current));
+            assertEquals(2, cached.getCache().size());
+
+            keyring.evict("k1");
+            assertEquals(1, cached.getCache().size());
+            assertEquals("987-65-4321", cached.getCache().getIfPresent(current));
+            assertNull(cached.getCache().getIfPresent(old));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void tamperedHeaderOrUnknownKey_shouldFail() throws IOException {
+        Path file = Files.createTempFile("keys", ".properties");
+        try {
+            writeKeys(file, "k1", "k1", "k2");
+            Keyring keyring = Keyring.of(FileKeyProvider.of(file));
+            EnvelopeEncryptionStrategy gcm = EnvelopeEncryptionStrategy.of(keyring, EnvelopeAlgorithm.AES_GCM);
+            byte[] data = Base64.getDecoder().decode(gcm.encrypt("secret"));
+
+            // 키 ID를 k1 → k2로 바꾸면 헤더 인증 실패
+            data[4] = '2';
+            String swapped = Base64.getEncoder().encodeToString(data);
+            assertThrows(RuntimeException.class, () -> gcm.decrypt(swapped));
+
+            data[4] = '9';
+            String unknown = Base64.getEncoder().encodeToString(data);
+            assertThrows(IllegalArgumentException.class, () -> gcm.decrypt(unknown));
+            assertThrows(IllegalArgumentException.class, () -> gcm.decrypt("AAAA"));
+            assertNull(gcm.decrypt(null));
+
+            writeKeys(file, "missing", "k1");
+            assertThrows(IllegalArgumentException.class, () -> FileKeyProvider.of(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void writeKeys(Path file, String primary, String... keyIds) throws IOException {
+        StringBuilder sb = new StringBuilder("primary=").append(primary).append('\n');
+        for (String keyId : keyIds) {
+            byte[] key = new byte[32];
+            byte[] seed = keyId.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) (seed[i % seed.length] + i);
+            }
+            sb.append("key.").append(keyId).append('=').append(Base64.getEncoder().encodeToString(key)).append('\n');
+        }
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
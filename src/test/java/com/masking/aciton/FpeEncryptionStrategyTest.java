@@ -0,0 +1,97 @@
+package com.masking.aciton;
+
+import com.masking.strategy.encrypt.FpeEncryptionStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FpeEncryptionStrategyTest {
+    private static final byte[] NIST_KEY = hex("2B7E151628AED2A6ABF7158809CF4F3C");
+    private static final byte[] NIST_KEY_256 = hex("2B7E151628AED2A6ABF7158809CF4F3CEF4359D8D580AA4F7F036D6F04FC6A94");
+
+    @Test
+    void ff1_shouldMatchNistSamples() {
+        assertVector(FpeEncryptionStrategy.ff1(NIST_KEY, null, FpeEncryptionStrategy.DIGITS),
+            "0123456789", "2433477484");
+        assertVector(FpeEncryptionStrategy.ff1(NIST_KEY, hex("39383736353433323130"), FpeEncryptionStrategy.DIGITS),
+            "0123456789", "6124200773");
+        assertVector(FpeEncryptionStrategy.ff1(NIST_KEY, hex("3737373770717273373737"), FpeEncryptionStrategy.LOWER_ALPHANUMERIC),
+            "0123456789abcdefghi", "a9tv40mll9kdu509eum");
+        assertVector(FpeEncryptionStrategy.ff1(NIST_KEY_256, hex("3737373770717273373737"), FpeEncryptionStrategy.LOWER_ALPHANUMERIC),
+            "0123456789abcdefghi", "xs8a0azh2avyalyzuwd");
+    }
+
+    @Test
+    void ff3_1_shouldMatchReferenceVector() {
+        assertVector(FpeEncryptionStrategy.ff3_1(hex("2DE79D232DF5585D68CE47882AE256D6"), hex("CBD09280979564"),
+            FpeEncryptionStrategy.DIGITS), "3992520240", "8901801106");
+    }
+
+    @Test
+    void encrypt_shouldPreserveFormatAndRoundTrip() {
+        byte[] key = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+        FpeEncryptionStrategy rrn = FpeEncryptionStrategy.ff1(key, "rrn".getBytes(StandardCharsets.UTF_8), FpeEncryptionStrategy.DIGITS);
+        FpeEncryptionStrategy card = FpeEncryptionStrategy.ff3_1(key, hex("00010203040506"), FpeEncryptionStrategy.DIGITS);
+        FpeEncryptionStrategy code = FpeEncryptionStrategy.ff1(key, null, FpeEncryptionStrategy.ALPHANUMERIC);
+
+        String[][] cases = {
+            {"900101-1234567", "\\d{6}-\\d{7}"},
+            {"010-1234-5678", "\\d{3}-\\d{4}-\\d{4}"},
+            {"4111 1111 1111 1111", "\\d{4} \\d{4} \\d{4} \\d{4}"},
+            {"12345678901234567890123456789012345678901234567890", "\\d{50}"}, // BigInteger 경로
+        };
+        for (FpeEncryptionStrategy fpe : new FpeEncryptionStrategy[]{rrn, card}) {
+            for (String[] c : cases) {
+                String encrypted = fpe.encrypt(c[0]);
+                assertTrue(encrypted.matches(c[1]), encrypted);
+                assertNotEquals(c[0], encrypted);
+                assertEquals(encrypted, fpe.encrypt(c[0]));
+                assertEquals(c[0], fpe.decrypt(encrypted));
+            }
+        }
+        assertNotEquals(rrn.encrypt("900101-1234567"),
+            FpeEncryptionStrategy.ff1(key, "card".getBytes(StandardCharsets.UTF_8), FpeEncryptionStrategy.DIGITS).encrypt("900101-1234567"));
+
+        String encrypted = code.encrypt("AB12-cd34-EF56");
+        assertTrue(encrypted.matches("[0-9A-Za-z]{4}-[0-9A-Za-z]{4}-[0-9A-Za-z]{4}"), encrypted);
+        assertEquals("AB12-cd34-EF56", code.decrypt(encrypted));
+        assertNull(code.encrypt(null));
+    }
+
+    @Test
+    void shouldRejectInvalidParametersAndInputs() {
+        byte[] key = new byte[16];
+        FpeEncryptionStrategy digits = FpeEncryptionStrategy.ff3_1(key, new byte[7], FpeEncryptionStrategy.DIGITS);
+
+        assertThrows(IllegalArgumentException.class, () -> digits.encrypt("12-345")); // 5자리 < 최소 6자리
+        assertThrows(IllegalArgumentException.class, () -> digits.encrypt(repeat('7', 57))); // FF3-1 최대 56자리
+        assertEquals(56, digits.encrypt(repeat('7', 56)).length());
+        assertThrows(IllegalArgumentException.class, () -> FpeEncryptionStrategy.ff3_1(key, new byte[8], FpeEncryptionStrategy.DIGITS));
+        assertThrows(IllegalArgumentException.class, () -> FpeEncryptionStrategy.ff1(new byte[10], null, FpeEncryptionStrategy.DIGITS));
+        assertThrows(IllegalArgumentException.class, () -> FpeEncryptionStrategy.ff1(key, null, "0120"));
+        assertThrows(IllegalArgumentException.class, () -> FpeEncryptionStrategy.ff1(key, null, "0"));
+    }
+
+    private static void assertVector(FpeEncryptionStrategy fpe, String plain, String cipher) {
+        assertEquals(cipher, fpe.encrypt(plain));
+        assertEquals(plain, fpe.decrypt(cipher));
+    }
+
+    private static String repeat(char c, int n) {
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static byte[] hex(String s) {
+        byte[] bytes = new byte[s.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(s.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
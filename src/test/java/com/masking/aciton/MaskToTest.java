@@ -0,0 +1,86 @@
+package com.masking.aciton;
+
+import com.masking.strategy.mask.CardNumberMaskStrategy;
+import com.masking.strategy.mask.CharClass;
+import com.masking.strategy.mask.CharClassMaskStrategy;
+import com.masking.strategy.mask.EmailMaskStrategy;
+import com.masking.strategy.mask.MaskStrategy;
+import com.masking.strategy.mask.MultiPatternMaskStrategy;
+import com.masking.strategy.mask.PartialMaskStrategy;
+import com.masking.strategy.mask.PhoneMaskStrategy;
+import com.masking.strategy.mask.RegexMaskStrategy;
+import com.masking.strategy.mask.RrnMaskStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * maskTo(CharSequence, start, end, StringBuilder)가 부분 문자열에 mask(String)을 적용한 것과 같은지 검증
+ */
+class MaskToTest {
+    private static final String[] ALPHABET = {
+        "a", "Z", "홍", "0", "1", "4", "9", "@", "-", " ", ".", "\n", "😀", "\uD83D", "\uDE00"
+    };
+
+    @Test
+    void maskTo_shouldMatchMaskOfSubstring() {
+        List<MaskStrategy> strategies = Arrays.asList(
+            PartialMaskStrategy.of(2, 2, '*'),
+            RegexMaskStrategy.of("(?<=.)[0-9]", '*'),
+            CharClassMaskStrategy.of(EnumSet.of(CharClass.DIGIT, CharClass.HANGUL), '*'),
+            EmailMaskStrategy.of('*'),
+            PhoneMaskStrategy.of('*'),
+            CardNumberMaskStrategy.of('*'),
+            RrnMaskStrategy.of('*'),
+            MultiPatternMaskStrategy.newBuilder().regex("\\d{2}-\\d").keyword("홍a").build());
+        Random random = new Random(7);
+        StringBuilder out = new StringBuilder();
+        for (int n = 0; n < 3000; n++) {
+            String text = randomText(random, random.nextInt(40));
+            int start = random.nextInt(text.length() + 1);
+            int end = start + random.nextInt(text.length() - start + 1);
+            String expected = text.substring(start, end);
+            for (MaskStrategy strategy : strategies) {
+                String masked = strategy.mask(expected);
+                out.setLength(0);
+                out.append('[');
+                boolean changed = strategy.maskTo(text, start, end, out);
+                assertEquals("[" + masked, out.toString(), () -> strategy.getClass().getSimpleName() + " " + text);
+                if (!changed) {
+                    assertEquals(expected, masked);
+                }
+            }
+        }
+    }
+
+    @Test
+    void defaultMaskTo_shouldAdaptMask() {
+        MaskStrategy upper = input -> input.toUpperCase();
+        StringBuilder out = new StringBuilder("값=");
+        assertTrue(upper.maskTo("xabcx", 1, 4, out));
+        assertEquals("값=ABC", out.toString());
+        assertFalse(upper.maskTo("x12x", 1, 3, out));
+        assertEquals("값=ABC12", out.toString());
+    }
+
+    @Test
+    void mask_shouldReturnSameInstanceWhenNothingMasked() {
+        String clean = "no digits here";
+        assertSame(clean, CharClassMaskStrategy.of(EnumSet.of(CharClass.DIGIT), '*').mask(clean));
+        assertSame(clean, RegexMaskStrategy.of("[0-9]+", '*').mask(clean));
+        assertSame(clean, RrnMaskStrategy.of('*').mask(clean));
+    }
+
+    private static String randomText(Random random, int tokens) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokens; i++) {
+            sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return sb.toString();
+    }
+}
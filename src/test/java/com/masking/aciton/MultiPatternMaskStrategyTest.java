@@ -0,0 +1,115 @@
+package com.masking.aciton;
+
+import com.masking.strategy.mask.MultiPatternMaskStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiPatternMaskStrategyTest {
+
+    @Test
+    void mask_shouldRedactAllPatternsInOnePass() {
+        MultiPatternMaskStrategy strategy = MultiPatternMaskStrategy.newBuilder()
+            .regex("01[016789]-?\\d{3,4}-?\\d{4}")
+            .regex("[\\w.+-]+@[\\w-]+\\.[\\w.]+")
+            .keyword("홍길동")
+            .build();
+
+        String text = "고객 홍길동님(010-1234-5678, hong@example.com) 문의";
+        assertEquals("고객 ***님(*************, ****************) 문의", strategy.mask(text));
+        String clean = "개인정보 없음";
+        assertSame(clean, strategy.mask(clean));
+        assertNull(strategy.mask(null));
+    }
+
+    @Test
+    void mask_shouldHandleInputsLargerThanRetainedScratch() {
+        MultiPatternMaskStrategy strategy = MultiPatternMaskStrategy.newBuilder()
+            .regex("01[016789]-?\\d{3,4}-?\\d{4}")
+            .keyword("홍길동")
+            .build();
+        StringBuilder sb = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        while (sb.length() < 200_000) {
+            sb.append("홍길동 010-1234-5678 문의 ");
+            expected.append("*** ************* 문의 ");
+        }
+        assertEquals(expected.toString(), strategy.mask(sb.toString()));
+        // 큰 입력 뒤에도 스레드별 버퍼로 작은 입력을 그대로 처리
+        assertEquals("*** *************", strategy.mask("홍길동 010-1234-5678"));
+    }
+
+    @Test
+    void overlappingMatches_shouldBeMaskedAsUnion() {
+        MultiPatternMaskStrategy strategy = MultiPatternMaskStrategy.newBuilder()
+            .keyword("abc")
+            .keyword("cde")
+            .regex("e+f")
+            .maskChar('#')
+            .build();
+        assertEquals("x######y", strategy.mask("xabcdefy"));
+    }
+
+    @Test
+    void unsupportedSyntax_shouldBeRejected() {
+        for (String regex : Arrays.asList("^abc", "a(?=b)", "(a)\\1", "(?i)abc", "a++", "[a-")) {
+            assertThrows(IllegalArgumentException.class,
+                () -> MultiPatternMaskStrategy.newBuilder().regex(regex).build(), regex);
+        }
+    }
+
+    @Test
+    void mask_shouldCoverExactlyTheUnionOfAllMatches() {
+        String[] regexes = {"\\d{3}-\\d{2,4}", "(ab|a)c*", "x.y", "[^ab\\s]{3}z", "b(?:ca)+", "q?w{2,}"};
+        String[] keywords = {"cab", "bb", "abca", "z"};
+        MultiPatternMaskStrategy strategy = MultiPatternMaskStrategy.newBuilder()
+            .regex(regexes[0]).regex(regexes[1]).regex(regexes[2])
+            .regex(regexes[3]).regex(regexes[4]).regex(regexes[5])
+            .keywords(Arrays.asList(keywords))
+            .build();
+        List<Pattern> patterns = new ArrayList<>();
+        for (String regex : regexes) {
+            patterns.add(Pattern.compile(regex));
+        }
+
+        String alphabet = "abcxyzqw1234- \n.";
+        Random random = new Random(7L);
+        for (int n = 0; n < 3000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String input = sb.toString();
+            assertEquals(bruteForce(input, patterns, keywords), strategy.mask(input), input);
+        }
+    }
+
+    /** 모든 (start, end) 구간을 정규식/키워드로 검사한 합집합 마스킹 */
+    private static String bruteForce(String input, List<Pattern> patterns, String[] keywords) {
+        char[] chars = input.toCharArray();
+        for (int s = 0; s < input.length(); s++) {
+            for (int e = s + 1; e <= input.length(); e++) {
+                boolean hit = false;
+                for (Pattern p : patterns) {
+                    Matcher m = p.matcher(input).region(s, e);
+                    hit |= m.matches();
+                }
+                for (String k : keywords) {
+                    hit |= input.substring(s, e).equals(k);
+                }
+                if (hit) {
+                    Arrays.fill(chars, s, e, '*');
+                }
+            }
+        }
+        return new String(chars);
+    }
+}
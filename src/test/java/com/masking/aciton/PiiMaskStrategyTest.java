@@ -0,0 +1,130 @@
+package com.masking.aciton;
+
+import com.masking.strategy.mask.CardNumberMaskStrategy;
+import com.masking.strategy.mask.EmailMaskStrategy;
+import com.masking.strategy.mask.MaskStrategy;
+import com.masking.strategy.mask.PhoneMaskStrategy;
+import com.masking.strategy.mask.RegexMaskStrategy;
+import com.masking.strategy.mask.RrnMaskStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 정규식 없는 PII 스캐너가 대응하는 정규식과 같은 결과를 내는지 검증
+ */
+class PiiMaskStrategyTest {
+    private static final Pattern CARD_PATTERN =
+        Pattern.compile("(?<![0-9A-Za-z]|[0-9][ -])[0-9](?:[ -]?[0-9]){12,18}(?![0-9A-Za-z]|[ -][0-9])");
+
+    // 경계 조건을 자주 만들도록 구분자, 줄바꿈, 서로게이트를 섞은 알파벳
+    private static final String[] ALPHABET = {
+        "a", "Z", "홍", "0", "1", "4", "7", "9", "@", "@", "-", "-", " ", ".", "\n", "\r", "\u0085", " ",
+        "😀", "\uD83D", "\uDE00"
+    };
+
+    @Test
+    void email_shouldMatchRegex() {
+        assertEquals("u**r@example.com", EmailMaskStrategy.of('*').mask("user@example.com"));
+        assertSame("invalid", EmailMaskStrategy.of('*').mask("invalid"));
+        assertEquivalent(EmailMaskStrategy.of('*'), RegexMaskStrategy.of("(?<=.).(?=[^@]+@)", '*'));
+    }
+
+    @Test
+    void phone_shouldMatchRegex() {
+        assertEquals("010******5678", PhoneMaskStrategy.of('*').mask("010-1234-5678"));
+        assertEquivalent(PhoneMaskStrategy.of('*'), RegexMaskStrategy.of("(?<=.{3}).(?=.{4})", '*'));
+    }
+
+    @Test
+    void rrn_shouldMatchRegex() {
+        assertEquals("900101-1******", RrnMaskStrategy.of('*').mask("900101-1234567"));
+        assertEquals("주민번호 9001012****** 입니다", RrnMaskStrategy.of('*').mask("주민번호 9001012345678 입니다"));
+        assertEquals("19900101-1234567", RrnMaskStrategy.of('*').mask("19900101-1234567"));
+        assertEquivalent(RrnMaskStrategy.of('*'), RegexMaskStrategy.of(RrnMaskStrategy.REGEX, '*'));
+    }
+
+    @Test
+    void card_shouldMaskLuhnValidNumbersOnly() {
+        CardNumberMaskStrategy card = CardNumberMaskStrategy.of('*');
+        assertEquals("4111-11**-****-1111", card.mask("4111-1111-1111-1111"));
+        assertEquals("카드 411111******1111 결제", card.mask("카드 4111111111111111 결제"));
+        assertEquals("5500 00** **** 0004", card.mask("5500 0000 0000 0004"));
+        assertEquals("4111-1111-1111-1112", card.mask("4111-1111-1111-1112")); // Luhn 실패
+        assertEquals("A4111111111111111", card.mask("A4111111111111111"));
+        assertEquivalent(card, new MaskStrategy() {
+            @Override
+            public String mask(String input) {
+                return maskCardByRegex(input);
+            }
+        });
+    }
+
+    private static void assertEquivalent(MaskStrategy scanner, MaskStrategy reference) {
+        Random random = new Random(20240601L);
+        for (int n = 0; n < 20000; n++) {
+            String input = randomInput(random);
+            assertEquals(reference.mask(input), scanner.mask(input), () -> "input=" + escape(input));
+        }
+        assertNull(scanner.mask(null));
+    }
+
+    private static String randomInput(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(24);
+        boolean digitsOnly = random.nextInt(3) == 0; // 카드/주민번호 형태가 나오도록 숫자 위주 입력도 생성
+        for (int i = 0; i < length; i++) {
+            if (digitsOnly && random.nextInt(8) != 0) {
+                sb.append((char) ('0' + random.nextInt(10)));
+            } else {
+                sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String maskCardByRegex(String input) {
+        Matcher matcher = CARD_PATTERN.matcher(input);
+        char[] chars = input.toCharArray();
+        while (matcher.find()) {
+            String digits = matcher.group().replaceAll("[ -]", "");
+            if (!luhn(digits)) {
+                continue;
+            }
+            int index = 0;
+            for (int k = matcher.start(); k < matcher.end(); k++) {
+                if (Character.isDigit(chars[k])) {
+                    if (index >= 6 && index < digits.length() - 4) {
+                        chars[k] = '*';
+                    }
+                    index++;
+                }
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean luhn(String digits) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int d = digits.charAt(digits.length() - 1 - i) - '0';
+            if (i % 2 == 1) {
+                d = d * 2 > 9 ? d * 2 - 9 : d * 2;
+            }
+            sum += d;
+        }
+        return sum % 10 == 0;
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : s.toCharArray()) {
+            sb.append(c < 0x20 || c > 0x7e ? String.format("\\u%04x", (int) c) : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.masking.aciton;
+
+import com.masking.strategy.encrypt.RsaEnvelopeDecryptor;
+import com.masking.strategy.encrypt.RsaEnvelopeEncryptionStrategy;
+import com.masking.strategy.encrypt.WrappedDataKey;
+import com.masking.util.CryptoUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RsaEnvelopeEncryptionStrategyTest {
+    private static KeyPair keyPair;
+
+    @BeforeAll
+    static void setUp() {
+        keyPair = CryptoUtil.generateRsaKeyPair();
+    }
+
+    @Test
+    void envelopeEncrypt_decrypt_roundTrip() {
+        RsaEnvelopeDecryptor decryptor = RsaEnvelopeDecryptor.of(keyPair.getPrivate());
+        RsaEnvelopeEncryptionStrategy enc = RsaEnvelopeEncryptionStrategy.of(keyPair.getPublic(), decryptor::register);
+
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longValue.append("RSA 단독으로는 불가능한 긴 입력 ");
+        }
+        String[] inputs = {"secretData", "", longValue.toString()};
+        for (String input : inputs) {
+            assertEquals(input, decryptor.decrypt(enc.encrypt(input)));
+        }
+    }
+
+    @Test
+    void encryptBatch_rotatesKeyAfterLimit() {
+        List<WrappedDataKey> keys = new ArrayList<>();
+        RsaEnvelopeEncryptionStrategy enc = RsaEnvelopeEncryptionStrategy.of(keyPair.getPublic(), 4, 60_000, keys::add);
+
+        String[] inputs = new String[10];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = i == 5 ? null : "value" + i;
+        }
+        String[] encrypted = enc.encryptBatch(inputs);
+        assertEquals(3, keys.size());
+        assertNull(encrypted[5]);
+
+        // 저장된 문자열 형태의 키로도 복호화 가능해야 함
+        RsaEnvelopeDecryptor decryptor = RsaEnvelopeDecryptor.of(keyPair.getPrivate());
+        for (WrappedDataKey key : keys) {
+            decryptor.register(WrappedDataKey.decode(key.encode()));
+        }
+        Set<String> unique = new HashSet<>();
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null) {
+                assertEquals(inputs[i], decryptor.decrypt(encrypted[i]));
+                assertTrue(unique.add(encrypted[i]));
+            }
+        }
+    }
+
+    @Test
+    void sameInput_producesDistinctCipherTexts() {
+        RsaEnvelopeEncryptionStrategy enc = RsaEnvelopeEncryptionStrategy.of(keyPair.getPublic(), key -> { });
+        assertNotEquals(enc.encrypt("same"), enc.encrypt("same"));
+    }
+
+    @Test
+    void decrypt_rejectsTamperedOrUnknownKey() {
+        RsaEnvelopeEncryptionStrategy enc = RsaEnvelopeEncryptionStrategy.of(keyPair.getPublic(), key -> { });
+        String encrypted = enc.encrypt("secretData");
+
+        RsaEnvelopeDecryptor empty = RsaEnvelopeDecryptor.of(keyPair.getPrivate());
+        assertThrows(IllegalArgumentException.class, () -> empty.decrypt(encrypted));
+
+        RsaEnvelopeDecryptor decryptor = RsaEnvelopeDecryptor.of(keyPair.getPrivate()).register(enc.currentKey());
+        byte[] data = Base64.getDecoder().decode(encrypted);
+        data[data.length - 1] ^= 1;
+        String tampered = Base64.getEncoder().encodeToString(data);
+        assertThrows(RuntimeException.class, () -> decryptor.decrypt(tampered));
+    }
+
+    @Test
+    void failingKeyListener_shouldAbortRotation() {
+        assertThrows(IllegalArgumentException.class, () -> RsaEnvelopeEncryptionStrategy.of(keyPair.getPublic(), null));
+
+        List<WrappedDataKey> stored = new ArrayList<>();
+        boolean[] storeDown = {true};
+        RsaEnvelopeEncryptionStrategy enc = RsaEnvelopeEncryptionStrategy.of(keyPair.getPublic(), key -> {
+            if (storeDown[0]) {
+                throw new IllegalStateException("key store unavailable");
+            }
+            stored.add(key);
+        });
+        // 보관하지 못한 키로는 암호화하지 않음
+        assertThrows(IllegalStateException.class, () -> enc.encrypt("secretData"));
+        assertThrows(IllegalStateException.class, () -> enc.encryptBatch(new String[]{"a", "b"}));
+
+        storeDown[0] = false;
+        String encrypted = enc.encrypt("secretData");
+        assertEquals(1, stored.size());
+        RsaEnvelopeDecryptor decryptor = RsaEnvelopeDecryptor.of(keyPair.getPrivate()).register(stored.get(0));
+        assertEquals("secretData", decryptor.decrypt(encrypted));
+    }
+}
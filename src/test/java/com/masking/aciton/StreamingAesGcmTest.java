@@ -0,0 +1,100 @@
+package com.masking.aciton;
+
+import com.masking.strategy.encrypt.AesEncryptionStrategy;
+import com.masking.strategy.encrypt.StreamingAesGcm;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingAesGcmTest {
+    private static final byte[] KEY = "0123456789abcdef".getBytes();
+
+    @Test
+    void streams_shouldRoundTripAtSegmentBoundaries() throws IOException {
+        StreamingAesGcm streaming = StreamingAesGcm.of(KEY, 1024);
+        for (int size : new int[]{0, 1, 1023, 1024, 1025, 3 * 1024, 5000}) {
+            byte[] plain = random(size);
+            byte[] sealed = encrypt(streaming, plain);
+            assertEquals(streaming.ciphertextSize(size), sealed.length);
+
+            ByteArrayOutputStream opened = new ByteArrayOutputStream();
+            assertEquals(size, streaming.decrypt(new ByteArrayInputStream(sealed), opened));
+            assertArrayEquals(plain, opened.toByteArray());
+        }
+        // 같은 평문도 스트림마다 다른 salt/nonce
+        byte[] plain = random(100);
+        assertFalse(Arrays.equals(encrypt(streaming, plain), encrypt(streaming, plain)));
+    }
+
+    @Test
+    void tamperedOrTruncatedCiphertext_shouldFail() throws IOException {
+        StreamingAesGcm streaming = StreamingAesGcm.of(KEY, 1024);
+        byte[] sealed = encrypt(streaming, random(3 * 1024));
+
+        byte[] flipped = sealed.clone();
+        flipped[flipped.length / 2] ^= 1;
+        assertThrows(IOException.class, () -> streaming.decrypt(new ByteArrayInputStream(flipped), new ByteArrayOutputStream()));
+
+        // 세그먼트 경계에서 잘라내면 마지막 표시가 맞지 않아 실패
+        byte[] truncated = Arrays.copyOf(sealed, sealed.length - (1024 + 16));
+        assertThrows(IOException.class, () -> streaming.decrypt(new ByteArrayInputStream(truncated), new ByteArrayOutputStream()));
+
+        byte[] wrongKey = encrypt(StreamingAesGcm.of("fedcba9876543210".getBytes(), 1024), random(10));
+        assertThrows(IOException.class, () -> streaming.decrypt(new ByteArrayInputStream(wrongKey), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void files_shouldSupportRandomAccessReads() throws IOException {
+        StreamingAesGcm streaming = AesEncryptionStrategy.of(KEY).streaming();
+        byte[] plain = random(200_000);
+        Path source = Files.createTempFile("plain", ".bin");
+        Path sealed = Files.createTempFile("sealed", ".bin");
+        Path opened = Files.createTempFile("opened", ".bin");
+        try {
+            Files.write(source, plain);
+            assertEquals(streaming.ciphertextSize(plain.length), streaming.encrypt(source, sealed));
+            assertEquals(plain.length, streaming.decrypt(sealed, opened));
+            assertArrayEquals(plain, Files.readAllBytes(opened));
+
+            try (StreamingAesGcm.SegmentReader reader = streaming.openReader(FileChannel.open(sealed))) {
+                assertEquals(plain.length, reader.size());
+                // 세그먼트(64KB) 경계를 가로지르는 읽기
+                ByteBuffer dst = ByteBuffer.allocate(1000);
+                assertEquals(1000, reader.read(65_000, dst));
+                assertArrayEquals(Arrays.copyOfRange(plain, 65_000, 66_000), dst.array());
+
+                ByteBuffer tail = ByteBuffer.allocate(1000);
+                assertEquals(500, reader.read(plain.length - 500, tail));
+                assertArrayEquals(Arrays.copyOfRange(plain, plain.length - 500, plain.length),
+                    Arrays.copyOf(tail.array(), 500));
+                assertEquals(-1, reader.read(plain.length, tail));
+            }
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(sealed);
+            Files.deleteIfExists(opened);
+        }
+    }
+
+    private static byte[] encrypt(StreamingAesGcm streaming, byte[] plain) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streaming.encrypt(new ByteArrayInputStream(plain), out);
+        return out.toByteArray();
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
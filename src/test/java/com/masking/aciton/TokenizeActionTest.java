@@ -1,13 +1,17 @@
 package com.masking.aciton;
 
 import com.masking.action.TokenizeAction;
+import com.masking.strategy.tokenize.RandomTokenFormat;
 import com.masking.strategy.tokenize.UUIDTokenizationStrategy;
 import com.masking.strategy.tokenize.HashTokenizationStrategy;
 import com.masking.strategy.tokenize.NumericTokenizationStrategy;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +29,35 @@ public class TokenizeActionTest {
         assertDoesNotThrow(() -> UUID.fromString(record.get("id")));
     }
 
+    @Test
+    void randomTokenFormats_shouldFollowUuidAndUlidLayouts() {
+        long before = System.currentTimeMillis();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID v4 = UUID.fromString(RandomTokenFormat.UUID_V4.next());
+            assertEquals(4, v4.version());
+            assertEquals(2, v4.variant());
+            assertTrue(seen.add(v4.toString()));
+        }
+
+        String[] v7 = UUIDTokenizationStrategy.of(RandomTokenFormat.UUID_V7).tokenizeBatch(new String[]{"a", null, "b"});
+        assertNull(v7[1]);
+        UUID uuid = UUID.fromString(v7[0]);
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long v7Millis = uuid.getMostSignificantBits() >>> 16;
+
+        String ulid = UUIDTokenizationStrategy.of(RandomTokenFormat.ULID).tokenize("a");
+        assertTrue(ulid.matches("[0-7][0-9A-HJKMNP-TV-Z]{25}"), ulid);
+        long ulidMillis = 0;
+        for (int i = 0; i < 10; i++) {
+            ulidMillis = ulidMillis * 32 + "0123456789ABCDEFGHJKMNPQRSTVWXYZ".indexOf(ulid.charAt(i));
+        }
+        long after = System.currentTimeMillis();
+        assertTrue(v7Millis >= before && v7Millis <= after);
+        assertTrue(ulidMillis >= before && ulidMillis <= after);
+    }
+
     @Test
     void hashTokenize_shouldHashWithSalt() {
         String salt = "salt";
@@ -39,6 +72,22 @@ public class TokenizeActionTest {
         assertEquals(64, hashed.length());
     }
 
+    @Test
+    void hashTokenize_shouldMatchKnownDigests() {
+        HashTokenizationStrategy sha = HashTokenizationStrategy.of("salt");
+        assertEquals("d430a1da30afe1a9d07b3b36042151ebaf53c4882af1609733c04930de318e33", sha.tokenize("value"));
+        // 플랫폼 문자셋과 관계없이 UTF-8
+        assertEquals("2b794cb14c573cc452f4717f25513d0aa9529f34cd9e84cde7efd870fe7fc3a2", sha.tokenize("홍길동"));
+        assertArrayEquals(new String[]{sha.tokenize("value"), null, sha.tokenize("value")},
+            sha.tokenizeBatch(new String[]{"value", null, "value"}));
+
+        // RFC 4231 테스트 케이스 2
+        HashTokenizationStrategy hmac = HashTokenizationStrategy.hmac("Jefe".getBytes(StandardCharsets.UTF_8));
+        assertEquals("5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843",
+            hmac.tokenize("what do ya want for nothing?"));
+        assertThrows(IllegalArgumentException.class, () -> HashTokenizationStrategy.hmac(new byte[0]));
+    }
+
     @Test
     void numericTokenize_shouldGenerateFixedLengthNumber() {
         TokenizeAction action = TokenizeAction.of("num", NumericTokenizationStrategy.of(6));
@@ -50,5 +99,35 @@ public class TokenizeActionTest {
         assertNotNull(token);
         assertEquals(6, token.length());
         assertTrue(token.matches("\\d{6}"));
+        assertEquals("", NumericTokenizationStrategy.of(0).tokenize("any"));
+    }
+
+    @Test
+    void numericTokenize_uniqueModeShouldNeverReissue() {
+        NumericTokenizationStrategy strategy = NumericTokenizationStrategy.unique(4, 10_000);
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(tokens.add(strategy.tokenize("any")));
+        }
+        assertEquals(5000, strategy.issuedCount());
+
+        // 기존 번호 등록 후 공간이 모두 차면 발급 실패
+        NumericTokenizationStrategy small = NumericTokenizationStrategy.unique(2, 100);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(small.register(String.format("%02d", i)));
+        }
+        assertFalse(small.register("07"));
+        assertTrue(small.isIssued("99"));
+        assertThrows(IllegalStateException.class, () -> small.tokenize("any"));
+        assertThrows(IllegalArgumentException.class, () -> small.register("7"));
+
+        // 토큰 공간이 커서 해시 집합을 쓰는 경우
+        NumericTokenizationStrategy wide = NumericTokenizationStrategy.unique(16, 20_000);
+        Set<String> wideTokens = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            String token = wide.tokenize("any");
+            assertTrue(token.matches("\\d{16}"));
+            assertTrue(wideTokens.add(token));
+        }
     }
 }
@@ -0,0 +1,174 @@
+package com.masking.aciton;
+
+import com.masking.config.DataSourceConfig;
+import com.masking.strategy.tokenize.VaultTokenizationStrategy;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VaultTokenizationStrategyIT {
+    private static final byte[] KEY = new byte[32];
+    private static DataSource ds;
+
+    @BeforeAll
+    static void setup() {
+        ds = DataSourceConfig.createH2DataSource();
+    }
+
+    @Test
+    void tokenize_shouldReturnSameTokenAndDetokenizeAcrossRestarts() {
+        String token;
+        try (VaultTokenizationStrategy vault = vault("vault_restart", 1000)) {
+            token = vault.tokenize("900101-1234567");
+            assertEquals(token, vault.tokenize("900101-1234567"));
+            assertNotEquals(token, vault.tokenize("800101-2345678"));
+            assertEquals("900101-1234567", vault.detokenize(token)); // flush 전에도 조회 가능
+            assertNull(vault.detokenize("unknown-token"));
+            assertNull(vault.tokenize(null));
+        }
+        assertEquals(2, count("vault_restart"));
+
+        try (VaultTokenizationStrategy reopened = vault("vault_restart", 1000)) {
+            assertEquals("900101-1234567", reopened.detokenize(token));
+            assertEquals(token, reopened.tokenize("900101-1234567"));
+            assertEquals(0, reopened.pendingCount());
+        }
+    }
+
+    @Test
+    void tokenize_shouldWriteBehindInBatches() throws Exception {
+        try (VaultTokenizationStrategy vault = vault("vault_batch", 10)) {
+            for (int i = 0; i < 25; i++) {
+                vault.tokenize("user" + i + "@bar.com");
+            }
+            assertEquals(20, count("vault_batch")); // 10건 단위로 두 번 기록, 5건은 대기
+            assertEquals(5, vault.pendingCount());
+        }
+        assertEquals(25, count("vault_batch"));
+    }
+
+    @Test
+    void tokenize_shouldIssueOneTokenPerValueUnderConcurrency() throws Exception {
+        ConcurrentHashMap<String, String> issued = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try (VaultTokenizationStrategy vault = vault("vault_concurrent", 100)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String value = "010-0000-" + (i % 1000);
+                        String token = vault.tokenize(value);
+                        String previous = issued.putIfAbsent(value, token);
+                        assertEquals(previous == null ? token : previous, token);
+                        assertEquals(value, vault.detokenize(token));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1000, issued.size());
+        assertEquals(1000, count("vault_concurrent"));
+    }
+
+    @Test
+    void vault_shouldNotStorePlainValues() throws Exception {
+        String token;
+        try (VaultTokenizationStrategy vault = vault("vault_sealed", 10)) {
+            token = vault.tokenize("900101-1234567");
+        }
+        try (Connection c = ds.getConnection();
+             Statement s = c.createStatement();
+             ResultSet rs = s.executeQuery("SELECT token, token_value FROM vault_sealed")) {
+            assertTrue(rs.next());
+            assertEquals(token, rs.getString(1));
+            assertNotEquals("900101-1234567", rs.getString(2));
+            assertFalse(rs.getString(2).contains("1234567"));
+        }
+        try (VaultTokenizationStrategy reopened = vault("vault_sealed", 10)) {
+            assertEquals(token, reopened.tokenize("900101-1234567")); // 암호문으로 동등 검색
+        }
+    }
+
+    @Test
+    void flush_shouldResolveConflictsWithSingleConnectionPool() {
+        HikariConfig cfg = new HikariConfig();
+        cfg.setJdbcUrl("jdbc:h2:mem:masking;DB_CLOSE_DELAY=-1");
+        cfg.setUsername("sa");
+        cfg.setMaximumPoolSize(1);
+        cfg.setConnectionTimeout(2000);
+        try (HikariDataSource single = new HikariDataSource(cfg);
+             VaultTokenizationStrategy first = VaultTokenizationStrategy.newBuilder()
+                 .dataSource(single)
+                 .encryptionKey(KEY)
+                 .table("vault_conflict")
+                 .flushIntervalMillis(60_000)
+                 .build()) {
+            String mine = first.tokenize("900101-1234567");
+            String theirs;
+            try (VaultTokenizationStrategy other = vault("vault_conflict", 1000)) {
+                theirs = other.tokenize("900101-1234567"); // 다른 인스턴스가 먼저 기록
+            }
+            assertNotEquals(mine, theirs);
+            first.flush(); // 일괄 기록이 실패해 건별로 다시 기록하며 같은 연결로 기존 토큰을 조회
+            assertEquals(theirs, first.tokenize("900101-1234567"));
+            assertEquals(0, first.pendingCount());
+        }
+        assertEquals(1, count("vault_conflict"));
+    }
+
+    @Test
+    void tokenize_shouldRejectNewValuesAfterClose() {
+        VaultTokenizationStrategy vault = vault("vault_closed", 10);
+        String token = vault.tokenize("900101-1234567");
+        vault.close();
+        assertThrows(IllegalStateException.class, () -> vault.tokenize("800101-2345678"));
+        assertEquals(1, count("vault_closed"));
+        assertEquals("900101-1234567", vault.detokenize(token));
+    }
+
+    @Test
+    void build_shouldRequireEncryptionKey() {
+        assertThrows(IllegalArgumentException.class, () -> VaultTokenizationStrategy.newBuilder()
+            .dataSource(ds)
+            .build());
+    }
+
+    private static VaultTokenizationStrategy vault(String table, int batchSize) {
+        return VaultTokenizationStrategy.newBuilder()
+            .dataSource(ds)
+            .encryptionKey(KEY)
+            .table(table)
+            .batchSize(batchSize)
+            .flushIntervalMillis(60_000)
+            .build();
+    }
+
+    private static int count(String table) {
+        try (Connection c = ds.getConnection();
+             Statement s = c.createStatement();
+             ResultSet rs = s.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
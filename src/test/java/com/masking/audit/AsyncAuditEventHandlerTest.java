@@ -0,0 +1,240 @@
+package com.masking.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncAuditEventHandlerTest {
+
+    /** latch가 열릴 때까지 전달을 막는 느린 싱크 */
+    static class GatedHandler implements AuditEventHandler {
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch gate = new CountDownLatch(1);
+
+        @Override
+        public void handle(String field, String before, String after) throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(before);
+        }
+    }
+
+    /** 첫 이벤트에서 latch를 기다리고, down인 동안에는 실패하는 싱크 */
+    static class FlakyHandler extends GatedHandler {
+        final AtomicInteger replayAttempts = new AtomicInteger();
+        volatile boolean down;
+
+        @Override
+        public void handleBatch(List<AuditEvent> events) throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (down) {
+                if (!"v0".equals(events.get(0).getBefore()) && !"v1".equals(events.get(0).getBefore())) {
+                    replayAttempts.incrementAndGet();
+                }
+                throw new IOException("sink down");
+            }
+            for (AuditEvent event : events) {
+                received.add(event.getBefore());
+            }
+        }
+    }
+
+    @Test
+    void handle_shouldNotWaitForSlowSink() throws Exception {
+        GatedHandler slow = new GatedHandler();
+        try (AsyncAuditEventHandler async = AsyncAuditEventHandler.of(slow)) {
+            try {
+                long start = System.nanoTime();
+                for (int i = 0; i < 100; i++) {
+                    async.handle("email", "v" + i, "masked");
+                }
+                assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+            } finally {
+                slow.gate.countDown(); // 단언이 실패해도 close()가 막히지 않도록
+            }
+            assertTrue(async.flush(5, TimeUnit.SECONDS));
+            assertEquals(100, slow.received.size());
+            assertEquals(100, async.getProcessedCount());
+        }
+    }
+
+    @Test
+    void dropOldest_shouldKeepNewestEvents() throws Exception {
+        GatedHandler slow = new GatedHandler();
+        try (AsyncAuditEventHandler async = AsyncAuditEventHandler.newBuilder()
+                .sink(slow)
+                .queueCapacity(2)
+                .overflowPolicy(AsyncAuditEventHandler.OverflowPolicy.DROP_OLDEST)
+                .build()) {
+            try {
+                async.handle("email", "v0", "masked");
+                awaitEmptyQueue(async); // 소비자가 v0을 꺼내 싱크에서 대기 중
+
+                for (int i = 1; i <= 5; i++) {
+                    async.handle("email", "v" + i, "masked");
+                }
+                assertEquals(2, async.getQueueDepth());
+                assertEquals(3, async.getDroppedCount());
+            } finally {
+                slow.gate.countDown();
+            }
+            assertTrue(async.flush(5, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("v0", "v4", "v5"), slow.received);
+        }
+    }
+
+    @Test
+    void spillToDisk_shouldEventuallyDeliverAllEvents() throws Exception {
+        Path dir = Files.createTempDirectory("audit-spill");
+        GatedHandler slow = new GatedHandler();
+        try (AsyncAuditEventHandler async = AsyncAuditEventHandler.newBuilder()
+                .sink(slow)
+                .queueCapacity(2)
+                .overflowPolicy(AsyncAuditEventHandler.OverflowPolicy.SPILL_TO_DISK)
+                .spillDirectory(dir)
+                .build()) {
+            try {
+                async.handle("email", "v0", "masked");
+                awaitEmptyQueue(async);
+
+                for (int i = 1; i <= 5; i++) {
+                    async.handle("email", "v" + i, null);
+                }
+                assertEquals(3, async.getSpilledCount());
+            } finally {
+                slow.gate.countDown();
+            }
+            assertTrue(async.flush(5, TimeUnit.SECONDS));
+            assertEquals(6, slow.received.size());
+            assertEquals(0, async.getDroppedCount());
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void spillToDisk_shouldKeepEventsWhileSinkFailsDuringReplay() throws Exception {
+        Path dir = Files.createTempDirectory("audit-spill");
+        FlakyHandler sink = new FlakyHandler();
+        try (AsyncAuditEventHandler async = AsyncAuditEventHandler.newBuilder()
+                .sink(sink)
+                .queueCapacity(2)
+                .batchSize(2)
+                .overflowPolicy(AsyncAuditEventHandler.OverflowPolicy.SPILL_TO_DISK)
+                .spillDirectory(dir)
+                .build()) {
+            try {
+                async.handle("email", "v0", "masked");
+                awaitEmptyQueue(async);
+                for (int i = 1; i <= 5; i++) {
+                    async.handle("email", "v" + i, null);
+                }
+                assertEquals(3, async.getSpilledCount());
+                sink.down = true;
+            } finally {
+                sink.gate.countDown();
+            }
+            // 큐의 v0~v2는 실패로 집계되고, 디스크의 v3~v5는 싱크가 복구될 때까지 남음
+            for (int i = 0; i < 500 && sink.replayAttempts.get() < 2; i++) {
+                Thread.sleep(10);
+            }
+            assertTrue(sink.replayAttempts.get() >= 2);
+            assertFalse(async.flush(100, TimeUnit.MILLISECONDS));
+            assertTrue(Files.exists(dir.resolve("audit-spill-FlakyHandler-0.log")));
+
+            sink.down = false;
+            assertTrue(async.flush(5, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("v3", "v4", "v5"), sink.received);
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void spillToDisk_shouldRequireSpillDirectory() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncAuditEventHandler.newBuilder()
+            .sink(new GatedHandler())
+            .overflowPolicy(AsyncAuditEventHandler.OverflowPolicy.SPILL_TO_DISK)
+            .build());
+    }
+
+    @Test
+    void spillDirectory_shouldReplayLeftoverFileOnStartup() throws Exception {
+        Path dir = Files.createTempDirectory("audit-spill");
+        // 이전 실행이 전달 도중 종료되어 남긴 파일 (마지막 줄은 쓰다 만 상태)
+        Files.write(dir.resolve("audit-spill-GatedHandler-0.log.replay"), Arrays.asList(
+            "{\"field\":\"email\",\"before\":\"v0\",\"after\":\"m\",\"timestamp\":1}",
+            "{\"field\":\"email\",\"before\":\"v1\",\"af"));
+        Files.write(dir.resolve("audit-spill-GatedHandler-0.log"), Collections.singletonList(
+            "{\"field\":\"email\",\"before\":\"v2\",\"after\":\"m\",\"timestamp\":2}"));
+        GatedHandler sink = new GatedHandler();
+        sink.gate.countDown();
+        try (AsyncAuditEventHandler async = AsyncAuditEventHandler.newBuilder()
+                .sink(sink)
+                .overflowPolicy(AsyncAuditEventHandler.OverflowPolicy.SPILL_TO_DISK)
+                .spillDirectory(dir)
+                .build()) {
+            assertTrue(async.flush(5, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("v0", "v2"), sink.received);
+            assertEquals(1, async.getFailedCount());
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void block_shouldDeliverEverythingWithTinyQueue() {
+        List<AuditEvent> received = Collections.synchronizedList(new ArrayList<>());
+        AuditEventHandler batchSink = new AuditEventHandler() {
+            @Override
+            public void handle(String field, String before, String after) {
+                received.add(AuditEvent.of(field, before, after));
+            }
+
+            @Override
+            public void handleBatch(List<AuditEvent> events) {
+                received.addAll(events);
+            }
+        };
+        AsyncAuditEventHandler async = AsyncAuditEventHandler.newBuilder()
+            .sink(batchSink)
+            .queueCapacity(1)
+            .build();
+        for (int i = 0; i < 1000; i++) {
+            async.handle("phone", "010-0000-" + i, "***");
+        }
+        async.close(); // 남은 이벤트를 모두 전달한 뒤 종료
+        assertEquals(1000, received.size());
+        assertEquals(0, async.getDroppedCount());
+        assertThrows(IllegalStateException.class, () -> async.handle("phone", "x", "y"));
+    }
+
+    private static void awaitEmptyQueue(AsyncAuditEventHandler async) throws InterruptedException {
+        for (int i = 0; i < 500 && async.getQueueDepth() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, async.getQueueDepth());
+    }
+}
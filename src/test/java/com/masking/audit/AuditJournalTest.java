@@ -0,0 +1,197 @@
+package com.masking.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditJournalTest {
+
+    /** 받은 이벤트를 모으고, failuresLeft만큼 배치 전달에 실패하는 싱크 */
+    static class CollectingHandler implements AuditEventHandler {
+        final List<AuditEvent> received = Collections.synchronizedList(new ArrayList<>());
+        int failuresLeft;
+
+        @Override
+        public void handle(String field, String before, String after) {
+            received.add(AuditEvent.of(field, before, after));
+        }
+
+        @Override
+        public void handleBatch(List<AuditEvent> events) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("sink down");
+            }
+            received.addAll(events);
+        }
+    }
+
+    @Test
+    void replayer_shouldDeliverAcrossSegmentsAndResumeFromCheckpoint() throws Exception {
+        Path dir = Files.createTempDirectory("audit-journal");
+        CollectingHandler sink = new CollectingHandler();
+        try (AuditJournal journal = AuditJournal.newBuilder().directory(dir).segmentSize(4096).build()) {
+            for (int i = 0; i < 300; i++) {
+                journal.handle("email", i % 7 == 0 ? null : "user" + i + "@예시.com", "u***" + i);
+            }
+            assertTrue(segmentCount(dir) > 1);
+
+            AuditJournalReplayer replayer = AuditJournalReplayer.newBuilder().directory(dir).sink(sink).batchSize(64).build();
+            assertEquals(300, replayer.replayAvailable());
+            assertEquals(0, replayer.replayAvailable());
+            for (int i = 0; i < 300; i++) {
+                AuditEvent event = sink.received.get(i);
+                assertEquals("email", event.getField());
+                assertEquals(i % 7 == 0 ? null : "user" + i + "@예시.com", event.getBefore());
+                assertEquals("u***" + i, event.getAfter());
+            }
+            // 다 읽은 세그먼트는 삭제, 쓰는 중인 마지막 세그먼트만 남음
+            assertEquals(1, segmentCount(dir));
+
+            journal.handleBatch(Collections.singletonList(AuditEvent.of("ssn", "900101-1234567", "900101-*******", 42L)));
+            journal.sync();
+            assertEquals(journal.getAppendedCount(), journal.getSyncedCount());
+        }
+
+        // 새 리플레이어는 체크포인트 이후만 전달
+        CollectingHandler next = new CollectingHandler();
+        AuditJournalReplayer resumed = AuditJournalReplayer.newBuilder().directory(dir).sink(next).build();
+        assertEquals(1, resumed.replayAvailable());
+        assertEquals(42L, next.received.get(0).getTimestamp());
+        assertEquals("900101-*******", next.received.get(0).getAfter());
+        deleteRecursively(dir);
+    }
+
+    @Test
+    void replayer_shouldRetryFailedBatchesAndSkipTornTail() throws Exception {
+        Path dir = Files.createTempDirectory("audit-journal");
+        try (AuditJournal journal = AuditJournal.of(dir)) {
+            for (int i = 0; i < 10; i++) {
+                journal.handle("phone", "010-0000-000" + i, "010-****-000" + i);
+            }
+        }
+        // 비정상 종료로 마지막 레코드 뒤에 반쯤 기록된 레코드가 남은 상황
+        Path first;
+        try (Stream<Path> files = Files.list(dir)) {
+            first = files.filter(p -> p.toString().endsWith(".journal")).findFirst().get();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(first.toFile(), "rw")) {
+            long end = 8;
+            while (true) {
+                file.seek(end);
+                int length = file.readInt();
+                if (length == 0) break;
+                end += 8 + length;
+            }
+            file.seek(end);
+            file.writeInt(40);
+            file.writeInt(12345);
+            file.write(new byte[]{1, 2, 3});
+        }
+
+        CollectingHandler sink = new CollectingHandler();
+        sink.failuresLeft = 1;
+        AuditJournalReplayer replayer = AuditJournalReplayer.newBuilder()
+            .directory(dir).sink(sink).pollInterval(10, TimeUnit.MILLISECONDS).build();
+        assertEquals(0, replayer.replayAvailable()); // 싱크 장애: 체크포인트 유지
+        assertEquals(10, replayer.getFailedCount());
+        assertEquals(10, replayer.replayAvailable()); // 손상된 끝은 다음 세그먼트가 없으니 기다림
+        assertEquals(0, replayer.getCorruptedCount());
+
+        try (AuditJournal reopened = AuditJournal.of(dir)) {
+            reopened.handle("phone", "010-1111-2222", "010-****-2222");
+            replayer.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sink.received.size() < 11 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            replayer.close();
+        }
+        assertEquals(11, sink.received.size());
+        assertEquals("010-****-0009", sink.received.get(9).getAfter());
+        assertEquals("010-1111-2222", sink.received.get(10).getBefore());
+        assertEquals(1, replayer.getCorruptedCount());
+        deleteRecursively(dir);
+    }
+
+    @Test
+    void replayer_shouldSkipRecordsItCannotDecode() throws Exception {
+        Path dir = Files.createTempDirectory("audit-journal");
+        try (AuditJournal journal = AuditJournal.of(dir)) {
+            for (int i = 0; i < 3; i++) {
+                journal.handle("phone", "010-0000-000" + i, "010-****-000" + i);
+            }
+        }
+        Path first;
+        try (Stream<Path> files = Files.list(dir)) {
+            first = files.filter(p -> p.toString().endsWith(".journal")).findFirst().get();
+        }
+        // CRC는 맞지만 페이로드 형식이 다른 레코드 뒤에 첫 레코드를 한 번 더 기록
+        try (RandomAccessFile file = new RandomAccessFile(first.toFile(), "rw")) {
+            file.seek(8);
+            int firstLength = file.readInt();
+            byte[] firstRecord = new byte[8 + firstLength];
+            file.seek(8);
+            file.readFully(firstRecord);
+            long end = 8;
+            while (true) {
+                file.seek(end);
+                int length = file.readInt();
+                if (length == 0) break;
+                end += 8 + length;
+            }
+            byte[] garbage = {0, 0, 0, 0};
+            CRC32 crc = new CRC32();
+            crc.update(garbage, 0, garbage.length);
+            file.seek(end);
+            file.writeInt(garbage.length);
+            file.writeInt((int) crc.getValue());
+            file.write(garbage);
+            file.write(firstRecord);
+        }
+
+        CollectingHandler sink = new CollectingHandler();
+        AuditJournalReplayer replayer = AuditJournalReplayer.newBuilder().directory(dir).sink(sink).build();
+        assertEquals(4, replayer.replayAvailable());
+        assertEquals(1, replayer.getCorruptedCount());
+        assertEquals("010-0000-0000", sink.received.get(3).getBefore());
+        deleteRecursively(dir);
+    }
+
+    @Test
+    void closedJournal_shouldRejectEvents() throws Exception {
+        Path dir = Files.createTempDirectory("audit-journal");
+        AuditJournal journal = AuditJournal.newBuilder().directory(dir).segmentSize(4096).build();
+        assertThrows(IllegalArgumentException.class, () -> journal.handle("big", new String(new char[5000]), null));
+        journal.close();
+        assertThrows(IllegalStateException.class, () -> journal.handle("email", "a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> AuditJournal.newBuilder().segmentSize(100));
+        deleteRecursively(dir);
+    }
+
+    private static long segmentCount(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".journal")).count();
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,109 @@
+package com.masking.audit;
+
+import com.masking.config.DataSourceConfig;
+import org.junit.jupiter.api.*;
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseAuditEventHandlerBatchIT {
+    private static DataSource ds;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        ds = DataSourceConfig.createH2DataSource();
+        try (Connection c = ds.getConnection();
+             Statement s = c.createStatement()) {
+            s.executeUpdate(
+                    "CREATE TABLE IF NOT EXISTS audit_log (" +
+                            " id BIGINT AUTO_INCREMENT PRIMARY KEY," +
+                            " field VARCHAR(100)," +
+                            " before_val VARCHAR(4000)," +
+                            " after_val VARCHAR(4000)," +
+                            " evt_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP()" +
+                            ");"
+            );
+        }
+    }
+
+    @BeforeEach
+    void clear() throws Exception {
+        try (Connection c = ds.getConnection();
+             Statement s = c.createStatement()) {
+            s.executeUpdate("DELETE FROM audit_log");
+        }
+    }
+
+    @Test
+    void buffered_shouldFlushBySizeAndOnClose() throws Exception {
+        DatabaseAuditEventHandler handler = DatabaseAuditEventHandler.buffered(ds, 10, 60_000);
+        for (int i = 0; i < 25; i++) {
+            handler.handle("email", "user" + i + "@bar.com", "u***@bar.com");
+        }
+        assertEquals(20, count()); // 10건 단위로 두 번 기록, 5건은 버퍼에 남음
+
+        handler.close();
+        assertEquals(25, count());
+        assertThrows(IllegalStateException.class, () -> handler.handle("email", "late@bar.com", "l***@bar.com"));
+        assertEquals(25, count());
+    }
+
+    @Test
+    void buffered_shouldFlushByTime() throws Exception {
+        try (DatabaseAuditEventHandler handler = DatabaseAuditEventHandler.buffered(ds, 1000, 50)) {
+            handler.handle("phone", "010-1234-5678", null); // null 값도 허용
+            for (int i = 0; i < 100 && count() == 0; i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, count());
+        }
+    }
+
+    @Test
+    void buffered_shouldRetainEventsWhenWriteFails() throws Exception {
+        try (DatabaseAuditEventHandler handler = DatabaseAuditEventHandler.buffered(ds, 10, 60_000)) {
+            execute("ALTER TABLE audit_log RENAME TO audit_log_offline");
+            try {
+                for (int i = 0; i < 15; i++) {
+                    handler.handle("email", "user" + i + "@bar.com", "u***@bar.com");
+                }
+            } finally {
+                execute("ALTER TABLE audit_log_offline RENAME TO audit_log");
+            }
+            assertEquals(0, count());
+
+            handler.flush(); // 실패했던 10건과 이후 5건을 함께 기록
+            assertEquals(15, count());
+            assertEquals(0, handler.getDroppedCount());
+        }
+    }
+
+    @Test
+    void handleBatch_shouldInsertAllRowsInOneTransaction() throws Exception {
+        List<AuditEvent> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            events.add(AuditEvent.of("ssn", "900101-123456" + (i % 10), "******"));
+        }
+        new DatabaseAuditEventHandler(ds).handleBatch(events);
+        assertEquals(50, count());
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection c = ds.getConnection();
+             Statement s = c.createStatement()) {
+            s.executeUpdate(sql);
+        }
+    }
+
+    private static int count() throws SQLException {
+        try (Connection c = ds.getConnection();
+             Statement s = c.createStatement();
+             ResultSet rs = s.executeQuery("SELECT COUNT(*) FROM audit_log")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.masking.cache;
+
+import com.masking.strategy.encrypt.AesEncryptionStrategy;
+import com.masking.strategy.tokenize.HashTokenizationStrategy;
+import com.masking.strategy.tokenize.TokenizationStrategy;
+import com.masking.strategy.tokenize.UUIDTokenizationStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    void get_shouldLoadOnceAndCountHitsAndMisses() {
+        BoundedCache<String, String> cache = BoundedCache.<String, String>newBuilder().maximumSize(100).build();
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("SEOUL", cache.get("seoul", key -> {
+                loads.incrementAndGet();
+                return key.toUpperCase();
+            }));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(9, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.9, cache.hitRate(), 1e-9);
+    }
+
+    @Test
+    void eviction_shouldRespectEntryAndByteBounds() {
+        BoundedCache<Integer, Integer> bySize = BoundedCache.<Integer, Integer>newBuilder().maximumSize(50).build();
+        for (int i = 0; i < 1000; i++) {
+            bySize.get(i, k -> k);
+        }
+        assertEquals(50, bySize.size());
+        assertEquals(950, bySize.evictionCount());
+
+        long maxBytes = 64 * 1024;
+        BoundedCache<String, String> byBytes = BoundedCache.<String, String>newBuilder().maximumWeightBytes(maxBytes).build();
+        for (int i = 0; i < 10_000; i++) {
+            byBytes.get("value-" + i, k -> k + "-token-0123456789");
+        }
+        assertTrue(byBytes.weightedSize() <= maxBytes, "바이트 한도 초과: " + byBytes.weightedSize());
+        assertTrue(byBytes.size() > 100);
+    }
+
+    @Test
+    void frequentKeys_shouldSurviveScan() {
+        BoundedCache<Integer, Integer> cache = BoundedCache.<Integer, Integer>newBuilder().maximumSize(100).build();
+        Random random = new Random(1);
+        // 0~49는 자주 쓰는 값, 그 외는 한 번만 등장하는 값
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(3) == 0 ? 1000 + i : random.nextInt(50);
+            cache.get(key, k -> k);
+        }
+        int retained = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.getIfPresent(key) != null) {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 45, "자주 쓰는 값이 밀려남: " + retained);
+    }
+
+    @Test
+    void concurrentAccess_shouldStayWithinBounds() throws Exception {
+        BoundedCache<Integer, Integer> cache = BoundedCache.<Integer, Integer>newBuilder().maximumSize(256).build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50_000; i++) {
+                        int key = random.nextInt(2000);
+                        assertEquals(Integer.valueOf(key * 2), cache.get(key, k -> k * 2));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 256, "size=" + cache.size());
+        assertEquals(8 * 50_000, cache.hitCount() + cache.missCount());
+    }
+
+    @Test
+    void cachingStrategies_shouldMatchDelegateAndRejectNonDeterministic() {
+        TokenizationStrategy hash = HashTokenizationStrategy.of("salt");
+        CachingTokenizationStrategy cached = CachingTokenizationStrategy.of(hash, 1024 * 1024);
+        String[] inputs = {"seoul", null, "busan", "seoul", "seoul"};
+        assertArrayEquals(hash.tokenizeBatch(inputs), cached.tokenizeBatch(inputs));
+        assertEquals(hash.tokenize("busan"), cached.tokenize("busan"));
+        assertNull(cached.tokenize(null));
+        assertTrue(cached.getCache().hitCount() > 0);
+
+        AesEncryptionStrategy aes = AesEncryptionStrategy.of("0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+        assertEquals(aes.encrypt("plan-a"), CachingEncryptionStrategy.of(aes, 1024 * 1024).encrypt("plan-a"));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> CachingTokenizationStrategy.of(UUIDTokenizationStrategy.of(), 1024 * 1024));
+    }
+}
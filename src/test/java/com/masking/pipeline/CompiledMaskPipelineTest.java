@@ -0,0 +1,106 @@
+package com.masking.pipeline;
+
+import com.masking.action.Action;
+import com.masking.action.Actions;
+import com.masking.record.RecordSchema;
+import com.masking.record.SlotRecord;
+import com.masking.strategy.mask.PartialMaskStrategy;
+import com.masking.strategy.mask.RegexMaskStrategy;
+import com.masking.strategy.tokenize.HashTokenizationStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledMaskPipelineTest {
+
+    private MaskPipelineBuilder newBuilder(List<String> audits) {
+        return MaskPipelineBuilder.newBuilder()
+                .maskWithAudit("email", RegexMaskStrategy.of("(?<=.).(?=[^@]+@)", '*'),
+                        (field, before, after) -> audits.add(field + ":" + before + "->" + after))
+                .mask("username", PartialMaskStrategy.of(2, 2, '*'))
+                .tokenize("userId", HashTokenizationStrategy.of("salt"));
+    }
+
+    @Test
+    void compiledPipeline_shouldMatchInterpretedPipeline() {
+        List<String> audits = new ArrayList<>();
+        MaskPipeline interpreted = newBuilder(audits).build();
+        CompiledMaskPipeline compiled = newBuilder(audits).buildCompiled();
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("email", "dahee@example.com");
+        expected.put("username", "maskingUser");
+        expected.put("userId", "42");
+        expected.put("extra", "untouched");
+        Map<String, String> actual = new HashMap<>(expected);
+
+        interpreted.apply(expected);
+        compiled.apply(actual);
+
+        assertEquals(expected, actual);
+        assertEquals("d***e@example.com", actual.get("email"));
+        assertEquals(2, audits.size());
+        assertEquals(audits.get(0), audits.get(1));
+    }
+
+    @Test
+    void slotRecord_shouldBeReusableAcrossRows() {
+        CompiledMaskPipeline compiled = newBuilder(new ArrayList<>()).buildCompiled();
+        RecordSchema schema = compiled.getSchema();
+        assertEquals(3, schema.size());
+
+        SlotRecord record = compiled.newRecord();
+        int username = schema.slotOf("username");
+        for (String name : new String[]{"maskingUser", "anotherUser"}) {
+            record.clear();
+            record.set(username, name);
+            compiled.apply(record);
+            assertEquals(name.substring(0, 2) + "*******" + name.substring(9), record.get(username));
+            assertNull(record.get("email"));
+        }
+    }
+
+    @Test
+    void customAction_shouldRunThroughMapView() {
+        Action upper = r -> r.put("name", r.get("name").toUpperCase());
+        CompiledMaskPipeline compiled = CompiledMaskPipeline.of(Actions.of(upper), RecordSchema.of("name"));
+
+        SlotRecord record = compiled.newRecord();
+        record.set("name", "kim");
+        compiled.apply(record);
+
+        assertEquals("KIM", record.get("name"));
+        assertEquals("{name=KIM}", record.asMap().toString());
+    }
+
+    @Test
+    void customAction_shouldRemoveFieldsFromMapRecord() {
+        Action drop = r -> {
+            r.remove("ssn");
+            r.put("phone", null);
+        };
+        CompiledMaskPipeline compiled = CompiledMaskPipeline.of(Actions.of(drop), RecordSchema.of("ssn", "phone", "name"));
+
+        Map<String, String> record = new HashMap<>();
+        record.put("ssn", "900101-1234567");
+        record.put("phone", "010-1234-5678");
+        record.put("name", "kim");
+        compiled.apply(record);
+
+        assertEquals("{name=kim}", record.toString());
+    }
+
+    @Test
+    void unknownField_shouldFailAtCompileTime() {
+        MaskPipeline pipeline = MaskPipelineBuilder.newBuilder()
+                .mask("email", PartialMaskStrategy.of(1, 1, '*'))
+                .build();
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledMaskPipeline.of(pipeline, RecordSchema.of("username")));
+    }
+}
@@ -0,0 +1,84 @@
+package com.masking.pipeline;
+
+import com.masking.strategy.mask.PartialMaskStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaskPipelineStreamTest {
+
+    private final MaskPipeline pipeline = MaskPipelineBuilder.newBuilder()
+            .mask("name", PartialMaskStrategy.of(1, 1, '*'))
+            .build();
+
+    private Stream<Map<String, String>> source(int size, AtomicInteger pulled) {
+        return IntStream.range(0, size).mapToObj(i -> {
+            pulled.incrementAndGet();
+            Map<String, String> record = new HashMap<>();
+            record.put("name", "name" + i);
+            return record;
+        });
+    }
+
+    @Test
+    void stream_shouldMaskLazily() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Map<String, String>> masked = pipeline.stream(source(1_000_000, pulled));
+        assertEquals(0, pulled.get());
+
+        List<String> first = masked.limit(3).map(r -> r.get("name")).collect(Collectors.toList());
+
+        assertEquals(3, pulled.get());
+        assertEquals("n***0", first.get(0));
+        assertEquals("n***2", first.get(2));
+    }
+
+    @Test
+    void batchedStream_shouldPullOneBatchAtATime() {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        List<String> names;
+        try (Stream<Map<String, String>> masked =
+                     pipeline.stream(source(1000, pulled).onClose(closed::incrementAndGet), 64)) {
+            names = masked.limit(10).map(r -> r.get("name")).collect(Collectors.toList());
+        }
+
+        assertEquals(64, pulled.get());
+        assertEquals(1, closed.get());
+        assertEquals("n***9", names.get(9));
+    }
+
+    @Test
+    void iterator_shouldMaskEachRecordOnNext() {
+        List<Map<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, String> record = new HashMap<>();
+            record.put("name", "value" + i);
+            records.add(record);
+        }
+
+        Iterator<Map<String, String>> it = pipeline.iterator(records.iterator());
+        assertEquals("v****0", it.next().get("name"));
+        assertEquals("value1", records.get(1).get("name"));
+
+        Iterator<Map<String, String>> batched = pipeline.iterator(records.subList(1, 5).iterator(), 2);
+        int count = 0;
+        while (batched.hasNext()) {
+            assertTrue(batched.next().get("name").startsWith("v****"));
+            count++;
+        }
+        assertEquals(4, count);
+        assertFalse(pipeline.iterator(Collections.emptyIterator(), 8).hasNext());
+    }
+}
@@ -0,0 +1,72 @@
+package com.masking.pipeline;
+
+import com.masking.strategy.mask.RegexMaskStrategy;
+import com.masking.strategy.tokenize.HashTokenizationStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMaskPipelineTest {
+
+    private List<Map<String, String>> records(int size) {
+        List<Map<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Map<String, String> record = new HashMap<>();
+            record.put("email", "user" + i + "@example.com");
+            record.put("username", "user" + i);
+            records.add(record);
+        }
+        return records;
+    }
+
+    private MaskPipeline pipeline() {
+        return MaskPipelineBuilder.newBuilder()
+                .mask("email", RegexMaskStrategy.of("(?<=.).(?=[^@]+@)", '*'))
+                .tokenize("username", HashTokenizationStrategy.of("salt"))
+                .build();
+    }
+
+    @Test
+    void parallelApply_shouldMatchSequentialApply() {
+        List<Map<String, String>> expected = records(5000);
+        List<Map<String, String>> actual = records(5000);
+
+        expected.forEach(pipeline()::apply);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelMaskPipeline.of(pipeline(), pool, 100).apply(actual);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void applyParallel_shouldAcceptNonListCollections() {
+        Set<Map<String, String>> records = new HashSet<>(records(100));
+        pipeline().applyParallel(records, 2);
+
+        for (Map<String, String> record : records) {
+            assertTrue(record.get("email").contains("*"));
+            assertEquals(64, record.get("username").length());
+        }
+    }
+
+    @Test
+    void failures_shouldPropagateToCaller() {
+        MaskPipeline failing = MaskPipeline.of(r -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThrows(IllegalStateException.class,
+                () -> ParallelMaskPipeline.of(failing).apply(records(10)));
+    }
+}